@@ -0,0 +1,39 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.iceaxe;
+
+/**
+ * End-point selection type of {@link TsurugiMultiEndpointConnector}.
+ *
+ * @since 1.17.0
+ */
+public enum TgEndpointSelectionType {
+
+    /**
+     * select end-points in turn.
+     */
+    ROUND_ROBIN,
+
+    /**
+     * select the end-point which has the fewest open sessions.
+     */
+    LEAST_IN_FLIGHT,
+
+    /**
+     * select end-points randomly, weighted by the inverse of the connect latency.
+     */
+    LATENCY_WEIGHTED,
+}
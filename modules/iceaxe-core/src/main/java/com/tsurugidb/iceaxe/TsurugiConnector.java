@@ -17,8 +17,6 @@ package com.tsurugidb.iceaxe;
 
 import java.io.IOException;
 import java.net.URI;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Optional;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
@@ -34,6 +32,7 @@ import com.tsurugidb.iceaxe.session.TgSessionOption;
 import com.tsurugidb.iceaxe.session.TsurugiSession;
 import com.tsurugidb.iceaxe.session.event.logging.file.TsurugiSessionTxFileLogConfig;
 import com.tsurugidb.iceaxe.session.event.logging.file.TsurugiSessionTxFileLogger;
+import com.tsurugidb.iceaxe.util.IceaxeEventListenerList;
 import com.tsurugidb.tsubakuro.channel.common.connection.Connector;
 import com.tsurugidb.tsubakuro.channel.common.connection.Credential;
 import com.tsurugidb.tsubakuro.channel.common.connection.NullCredential;
@@ -212,7 +211,7 @@ public class TsurugiConnector {
     private final TgSessionOption defaultSessionOption;
     private String defaultApplicationName = null;
     private BiFunction<FutureResponse<? extends Session>, TgSessionOption, ? extends TsurugiSession> sessionGenerator = null;
-    private List<Consumer<TsurugiSession>> eventListenerList = null;
+    private volatile IceaxeEventListenerList<Consumer<TsurugiSession>> eventListenerList = IceaxeEventListenerList.none();
     private TsurugiSessionTxFileLogConfig txFileLogConfig = TsurugiSessionTxFileLogConfig.DEFAULT;
 
     /**
@@ -309,10 +308,9 @@ public class TsurugiConnector {
      * @return this
      */
     public TsurugiConnector addEventListener(Consumer<TsurugiSession> listener) {
-        if (this.eventListenerList == null) {
-            this.eventListenerList = new ArrayList<>();
+        synchronized (this) {
+            this.eventListenerList = eventListenerList.add(listener);
         }
-        eventListenerList.add(listener);
         return this;
     }
 
@@ -324,24 +322,11 @@ public class TsurugiConnector {
      * @since 1.3.0
      */
     public Optional<Consumer<TsurugiSession>> findEventListener(Predicate<Consumer<TsurugiSession>> predicate) {
-        var listenerList = this.eventListenerList;
-        if (listenerList != null) {
-            for (var listener : listenerList) {
-                if (predicate.test(listener)) {
-                    return Optional.of(listener);
-                }
-            }
-        }
-        return Optional.empty();
+        return eventListenerList.find(predicate);
     }
 
     private void event(Consumer<Consumer<TsurugiSession>> action) {
-        var listenerList = this.eventListenerList;
-        if (listenerList != null) {
-            for (var listener : listenerList) {
-                action.accept(listener);
-            }
-        }
+        eventListenerList.event(null, action);
     }
 
     /**
@@ -459,7 +444,9 @@ public class TsurugiConnector {
             session.addEventListener(new TsurugiSessionTxFileLogger(txFileLogConfig));
         }
 
-        event(listener -> listener.accept(session));
+        if (eventListenerList.exists()) {
+            event(listener -> listener.accept(session));
+        }
         return session;
     }
 
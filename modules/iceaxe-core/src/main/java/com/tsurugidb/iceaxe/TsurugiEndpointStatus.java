@@ -0,0 +1,239 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.iceaxe;
+
+import java.net.URI;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.Nullable;
+
+import com.tsurugidb.iceaxe.session.TsurugiSession;
+
+/**
+ * Status of an end-point of {@link TsurugiMultiEndpointConnector}.
+ *
+ * @since 1.17.0
+ */
+public class TsurugiEndpointStatus {
+
+    /** weight of the newest sample for connect latency. */
+    private static final double LATENCY_ALPHA = 0.2;
+
+    private final TsurugiConnector connector;
+    private final Set<TsurugiSession> sessionSet = ConcurrentHashMap.newKeySet();
+    private final Set<TsurugiSession> deadSessionSet = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean trial = new AtomicBoolean(false);
+    private final AtomicLong selectCount = new AtomicLong();
+    private final AtomicLong successCount = new AtomicLong();
+    private final AtomicLong failureCount = new AtomicLong();
+    private final AtomicInteger consecutiveFailureCount = new AtomicInteger();
+    private final AtomicLong ejectCount = new AtomicLong();
+    private volatile double latencyNanos = 0;
+    private volatile long ejectedUntilNanos = 0;
+    private volatile boolean ejected = false;
+    private volatile Throwable lastFailure = null;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param connector connector
+     */
+    TsurugiEndpointStatus(TsurugiConnector connector) {
+        this.connector = connector;
+    }
+
+    /**
+     * get connector.
+     *
+     * @return connector
+     */
+    public TsurugiConnector getConnector() {
+        return this.connector;
+    }
+
+    /**
+     * get end-point.
+     *
+     * @return end-point URI
+     */
+    public URI getEndpoint() {
+        return connector.getEndpoint();
+    }
+
+    /**
+     * get number of open sessions.
+     *
+     * @return number of open sessions
+     */
+    public int getInFlightCount() {
+        return sessionSet.size();
+    }
+
+    /**
+     * get number of times this end-point was selected.
+     *
+     * @return select count
+     */
+    public long getSelectCount() {
+        return selectCount.get();
+    }
+
+    /**
+     * get number of successful connections.
+     *
+     * @return success count
+     */
+    public long getSuccessCount() {
+        return successCount.get();
+    }
+
+    /**
+     * get number of failures (connect failures and dead sessions).
+     *
+     * @return failure count
+     */
+    public long getFailureCount() {
+        return failureCount.get();
+    }
+
+    /**
+     * get number of consecutive failures.
+     *
+     * @return consecutive failure count
+     */
+    public int getConsecutiveFailureCount() {
+        return consecutiveFailureCount.get();
+    }
+
+    /**
+     * get number of times this end-point was ejected.
+     *
+     * @return eject count
+     */
+    public long getEjectCount() {
+        return ejectCount.get();
+    }
+
+    /**
+     * get smoothed connect latency.
+     *
+     * @return latency [nanoseconds]. 0 if unknown
+     */
+    public long getLatencyNanos() {
+        return (long) this.latencyNanos;
+    }
+
+    /**
+     * get whether this end-point is ejected.
+     *
+     * @return {@code true} if ejected
+     */
+    public boolean isEjected() {
+        return this.ejected;
+    }
+
+    /**
+     * get last failure.
+     *
+     * @return exception
+     */
+    public @Nullable Throwable getLastFailure() {
+        return this.lastFailure;
+    }
+
+    boolean isAvailable(long now) {
+        if (!this.ejected) {
+            return true;
+        }
+        return now - this.ejectedUntilNanos >= 0 && !trial.get();
+    }
+
+    // an ejected end-point admits only one trial connection at a time
+    boolean startTrial() {
+        return trial.compareAndSet(false, true);
+    }
+
+    void endTrial() {
+        trial.set(false);
+    }
+
+    long getEjectedUntilNanos() {
+        return this.ejectedUntilNanos;
+    }
+
+    void select() {
+        selectCount.incrementAndGet();
+    }
+
+    void open(TsurugiSession session) {
+        sessionSet.add(session);
+    }
+
+    void close(TsurugiSession session) {
+        sessionSet.remove(session);
+        deadSessionSet.remove(session);
+    }
+
+    /**
+     * check open sessions.
+     *
+     * @return number of sessions newly found dead (a dead session is counted only once)
+     */
+    int checkDeadSession() {
+        int count = 0;
+        for (var session : sessionSet) {
+            if (!session.isClosed() && !session.isAlive() && deadSessionSet.add(session)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    synchronized void success(long elapsedNanos) {
+        successCount.incrementAndGet();
+        consecutiveFailureCount.set(0);
+        this.ejected = false;
+
+        double latency = this.latencyNanos;
+        if (latency == 0) {
+            this.latencyNanos = Math.max(elapsedNanos, 1);
+        } else {
+            this.latencyNanos = latency + LATENCY_ALPHA * (elapsedNanos - latency);
+        }
+    }
+
+    synchronized void failure(Throwable e, int ejectThreshold, long ejectNanos, long now) {
+        failureCount.incrementAndGet();
+        this.lastFailure = e;
+        int count = consecutiveFailureCount.incrementAndGet();
+        // a re-admitted end-point is ejected again by a single failure
+        if (count >= ejectThreshold || this.ejected) {
+            this.ejected = true;
+            this.ejectedUntilNanos = now + ejectNanos;
+            ejectCount.incrementAndGet();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "TsurugiEndpointStatus(endpoint=" + getEndpoint() + ", inFlight=" + getInFlightCount() + ", select=" + getSelectCount() + ", success=" + getSuccessCount() + ", failure="
+                + getFailureCount() + ", latencyNanos=" + getLatencyNanos() + ", ejected=" + isEjected() + ")";
+    }
+}
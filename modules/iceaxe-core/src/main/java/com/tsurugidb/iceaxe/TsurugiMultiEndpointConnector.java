@@ -0,0 +1,444 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.iceaxe;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.tsurugidb.iceaxe.exception.IceaxeErrorCode;
+import com.tsurugidb.iceaxe.exception.IceaxeIOException;
+import com.tsurugidb.iceaxe.session.TgSessionOption;
+import com.tsurugidb.iceaxe.session.TsurugiSession;
+import com.tsurugidb.iceaxe.session.event.TsurugiSessionEventListener;
+import com.tsurugidb.tsubakuro.channel.common.connection.Credential;
+import com.tsurugidb.tsubakuro.common.Session;
+import com.tsurugidb.tsubakuro.util.FutureResponse;
+
+/**
+ * Tsurugi Connector over multiple end-points.
+ *
+ * <p>
+ * Selects an end-point for each session and connects to it. If the connection fails, the other end-points are tried in turn. An end-point which failed
+ * {@link #setEjectThreshold(int) consecutively} is ejected, and is re-admitted (for one trial connection) after the {@link #setEjectDuration(long, TimeUnit)
+ * eject duration}.
+ * </p>
+ * <p>
+ * The open sessions are not checked automatically. To detect dead servers, call {@link #checkHealth()} periodically, or schedule it by
+ * {@link #scheduleHealthCheck(ScheduledExecutorService, long, TimeUnit)}.
+ * </p>
+ *
+ * @since 1.17.0
+ */
+public class TsurugiMultiEndpointConnector {
+    private static final Logger LOG = LoggerFactory.getLogger(TsurugiMultiEndpointConnector.class);
+
+    /**
+     * create connector.
+     *
+     * @param endpoints the end-point URIs
+     * @return connector
+     */
+    public static TsurugiMultiEndpointConnector of(@Nonnull String... endpoints) {
+        var list = new ArrayList<URI>(endpoints.length);
+        for (String endpoint : endpoints) {
+            list.add(URI.create(endpoint));
+        }
+        return of(list, null, null);
+    }
+
+    /**
+     * create connector.
+     *
+     * @param endpoints     the end-point URIs
+     * @param credential    credential. if null, use NullCredential
+     * @param sessionOption session option. if null, use new SessionOption instance
+     * @return connector
+     */
+    public static TsurugiMultiEndpointConnector of(@Nonnull List<URI> endpoints, @Nullable Credential credential, @Nullable TgSessionOption sessionOption) {
+        var list = new ArrayList<TsurugiConnector>(endpoints.size());
+        for (URI endpoint : endpoints) {
+            list.add(TsurugiConnector.of(endpoint, credential, sessionOption));
+        }
+        return new TsurugiMultiEndpointConnector(list);
+    }
+
+    @FunctionalInterface
+    private interface SessionFactory {
+        TsurugiSession create(TsurugiConnector connector) throws IOException;
+    }
+
+    private final List<TsurugiEndpointStatus> endpointList;
+    private final AtomicInteger counter = new AtomicInteger();
+    private TgEndpointSelectionType selectionType = TgEndpointSelectionType.ROUND_ROBIN;
+    private int ejectThreshold = 3;
+    private long ejectNanos = TimeUnit.SECONDS.toNanos(30);
+
+    /**
+     * Creates a new instance.
+     *
+     * @param connectors connectors (one per end-point)
+     */
+    public TsurugiMultiEndpointConnector(@Nonnull List<? extends TsurugiConnector> connectors) {
+        if (connectors.isEmpty()) {
+            throw new IllegalArgumentException("connectors is empty");
+        }
+        var list = new ArrayList<TsurugiEndpointStatus>(connectors.size());
+        for (var connector : connectors) {
+            list.add(new TsurugiEndpointStatus(Objects.requireNonNull(connector)));
+        }
+        this.endpointList = Collections.unmodifiableList(list);
+    }
+
+    /**
+     * set end-point selection type.
+     *
+     * @param selectionType selection type
+     * @return this
+     */
+    public TsurugiMultiEndpointConnector setSelectionType(@Nonnull TgEndpointSelectionType selectionType) {
+        this.selectionType = Objects.requireNonNull(selectionType);
+        return this;
+    }
+
+    /**
+     * get end-point selection type.
+     *
+     * @return selection type
+     */
+    public TgEndpointSelectionType getSelectionType() {
+        return this.selectionType;
+    }
+
+    /**
+     * set number of consecutive failures to eject an end-point.
+     *
+     * @param threshold number of consecutive failures
+     * @return this
+     */
+    public TsurugiMultiEndpointConnector setEjectThreshold(int threshold) {
+        if (threshold <= 0) {
+            throw new IllegalArgumentException("threshold must be positive. threshold=" + threshold);
+        }
+        this.ejectThreshold = threshold;
+        return this;
+    }
+
+    /**
+     * get number of consecutive failures to eject an end-point.
+     *
+     * @return number of consecutive failures
+     */
+    public int getEjectThreshold() {
+        return this.ejectThreshold;
+    }
+
+    /**
+     * set duration until an ejected end-point is re-admitted.
+     *
+     * @param time duration
+     * @param unit unit of duration
+     * @return this
+     */
+    public TsurugiMultiEndpointConnector setEjectDuration(long time, @Nonnull TimeUnit unit) {
+        this.ejectNanos = unit.toNanos(time);
+        return this;
+    }
+
+    /**
+     * get duration until an ejected end-point is re-admitted.
+     *
+     * @return duration [nanoseconds]
+     */
+    public long getEjectDurationNanos() {
+        return this.ejectNanos;
+    }
+
+    /**
+     * get end-point status list.
+     *
+     * @return end-point status list
+     */
+    public List<TsurugiEndpointStatus> getEndpointStatusList() {
+        return this.endpointList;
+    }
+
+    /**
+     * set session generator.
+     *
+     * @param generator session generator
+     * @see TsurugiConnector#setSesionGenerator(BiFunction)
+     */
+    public void setSesionGenerator(BiFunction<FutureResponse<? extends Session>, TgSessionOption, ? extends TsurugiSession> generator) {
+        for (var status : endpointList) {
+            status.getConnector().setSesionGenerator(generator);
+        }
+    }
+
+    /**
+     * add event listener.
+     *
+     * @param listener event listener
+     * @return this
+     * @see TsurugiConnector#addEventListener(Consumer)
+     */
+    public TsurugiMultiEndpointConnector addEventListener(Consumer<TsurugiSession> listener) {
+        for (var status : endpointList) {
+            status.getConnector().addEventListener(listener);
+        }
+        return this;
+    }
+
+    /**
+     * create session.
+     *
+     * @return session
+     * @throws IOException          if an I/O error occurs during connection to all end-points
+     * @throws InterruptedException if interrupted during connection
+     */
+    public TsurugiSession createSession() throws IOException, InterruptedException {
+        return connect(TsurugiConnector::createSession);
+    }
+
+    /**
+     * create session.
+     *
+     * @param label session label
+     * @return session
+     * @throws IOException          if an I/O error occurs during connection to all end-points
+     * @throws InterruptedException if interrupted during connection
+     */
+    public TsurugiSession createSession(String label) throws IOException, InterruptedException {
+        return connect(connector -> connector.createSession(label));
+    }
+
+    /**
+     * create session.
+     *
+     * @param sessionOption session option
+     * @return session
+     * @throws IOException          if an I/O error occurs during connection to all end-points
+     * @throws InterruptedException if interrupted during connection
+     */
+    public TsurugiSession createSession(TgSessionOption sessionOption) throws IOException, InterruptedException {
+        return connect(connector -> connector.createSession(sessionOption));
+    }
+
+    /**
+     * create session.
+     *
+     * @param label         session label
+     * @param credential    credential
+     * @param sessionOption session option
+     * @return session
+     * @throws IOException          if an I/O error occurs during connection to all end-points
+     * @throws InterruptedException if interrupted during connection
+     */
+    public TsurugiSession createSession(String label, Credential credential, TgSessionOption sessionOption) throws IOException, InterruptedException {
+        return connect(connector -> connector.createSession(label, credential, sessionOption));
+    }
+
+    private TsurugiSession connect(SessionFactory factory) throws IOException, InterruptedException {
+        IOException occurred = null;
+        for (var status : selectEndpoints()) {
+            boolean trial = status.isEjected();
+            if (trial && !status.startTrial()) {
+                LOG.trace("trial connection is in progress. endpoint={}", status.getEndpoint());
+                continue;
+            }
+            try {
+                return connect(status, factory);
+            } catch (IOException e) {
+                if (occurred == null) {
+                    occurred = e;
+                } else {
+                    occurred.addSuppressed(e);
+                }
+            } finally {
+                if (trial) {
+                    status.endTrial();
+                }
+            }
+        }
+        if (occurred == null) {
+            throw new IceaxeIOException(IceaxeErrorCode.SESSION_ALL_ENDPOINT_FAILED);
+        }
+        throw new IceaxeIOException(IceaxeErrorCode.SESSION_ALL_ENDPOINT_FAILED, occurred);
+    }
+
+    private TsurugiSession connect(TsurugiEndpointStatus status, SessionFactory factory) throws IOException, InterruptedException {
+        status.select();
+        long start = System.nanoTime();
+        TsurugiSession session = null;
+        try {
+            session = factory.create(status.getConnector());
+            session.getLowSession(); // connect
+        } catch (Throwable e) {
+            LOG.debug("connect failed. endpoint={}", status.getEndpoint(), e);
+            // interruption is not a failure of the end-point
+            if (!(e instanceof InterruptedException)) {
+                status.failure(e, ejectThreshold, ejectNanos, System.nanoTime());
+            }
+            if (session != null) {
+                try {
+                    session.close();
+                } catch (Exception ce) {
+                    e.addSuppressed(ce);
+                }
+            }
+            throw e;
+        }
+        status.success(System.nanoTime() - start);
+
+        status.open(session);
+        session.addEventListener(new TsurugiSessionEventListener() {
+            @Override
+            public void closeSession(TsurugiSession session, long timeoutNanos, Throwable occurred) {
+                status.close(session);
+            }
+        });
+        return session;
+    }
+
+    /**
+     * select end-points.
+     *
+     * @return end-points in the order of trial
+     */
+    protected List<TsurugiEndpointStatus> selectEndpoints() {
+        long now = System.nanoTime();
+        int size = endpointList.size();
+        int start = Math.floorMod(counter.getAndIncrement(), size);
+
+        var list = new ArrayList<TsurugiEndpointStatus>(size);
+        for (int i = 0; i < size; i++) {
+            var status = endpointList.get((start + i) % size);
+            if (status.isAvailable(now)) {
+                list.add(status);
+            }
+        }
+        if (list.isEmpty()) {
+            // all end-points are ejected. try them in the order of re-admission
+            list.addAll(endpointList);
+            list.sort(Comparator.comparingLong(status -> status.getEjectedUntilNanos() - now));
+            return list;
+        }
+
+        switch (selectionType) {
+        case LEAST_IN_FLIGHT:
+            list.sort(Comparator.comparingInt(TsurugiEndpointStatus::getInFlightCount));
+            break;
+        case LATENCY_WEIGHTED:
+            Collections.swap(list, 0, selectByLatency(list));
+            break;
+        case ROUND_ROBIN:
+        default:
+            break;
+        }
+        return list;
+    }
+
+    private static int selectByLatency(List<TsurugiEndpointStatus> list) {
+        int size = list.size();
+        double known = 0;
+        int knownCount = 0;
+        for (var status : list) {
+            long latency = status.getLatencyNanos();
+            if (latency > 0) {
+                known += latency;
+                knownCount++;
+            }
+        }
+        // unknown latency is regarded as the average
+        double average = (knownCount == 0) ? 1 : known / knownCount;
+
+        var weights = new double[size];
+        double total = 0;
+        for (int i = 0; i < size; i++) {
+            long latency = list.get(i).getLatencyNanos();
+            weights[i] = 1 / ((latency > 0) ? latency : average);
+            total += weights[i];
+        }
+
+        double r = ThreadLocalRandom.current().nextDouble(total);
+        for (int i = 0; i < size; i++) {
+            r -= weights[i];
+            if (r < 0) {
+                return i;
+            }
+        }
+        return size - 1;
+    }
+
+    /**
+     * check whether the servers of open sessions are alive.
+     *
+     * <p>
+     * Each dead session is regarded as one failure of its end-point. A dead session which is already counted is not counted again.
+     * </p>
+     */
+    public void checkHealth() {
+        for (var status : endpointList) {
+            int count = status.checkDeadSession();
+            for (int i = 0; i < count; i++) {
+                LOG.debug("session is not alive. endpoint={}", status.getEndpoint());
+                var e = new IOException("session is not alive. endpoint=" + status.getEndpoint());
+                status.failure(e, ejectThreshold, ejectNanos, System.nanoTime());
+            }
+        }
+    }
+
+    /**
+     * schedule {@link #checkHealth()} periodically.
+     *
+     * @param executor executor
+     * @param interval interval
+     * @param unit     unit of interval
+     * @return future (cancel to stop)
+     */
+    public ScheduledFuture<?> scheduleHealthCheck(@Nonnull ScheduledExecutorService executor, long interval, @Nonnull TimeUnit unit) {
+        return executor.scheduleWithFixedDelay(() -> {
+            try {
+                checkHealth();
+            } catch (Throwable e) {
+                // a thrown exception would stop the schedule
+                LOG.warn("checkHealth error", e);
+            }
+        }, interval, interval, unit);
+    }
+
+    @Override
+    public String toString() {
+        return "TsurugiMultiEndpointConnector(" + endpointList + ")";
+    }
+}
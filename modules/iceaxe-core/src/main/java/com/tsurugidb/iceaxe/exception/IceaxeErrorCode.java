@@ -15,6 +15,7 @@
  */
 package com.tsurugidb.iceaxe.exception;
 
+import com.tsurugidb.iceaxe.TsurugiMultiEndpointConnector;
 import com.tsurugidb.iceaxe.lob.TsurugiLargeObjectHelper;
 import com.tsurugidb.iceaxe.metadata.TsurugiTableListHelper;
 import com.tsurugidb.iceaxe.metadata.TsurugiTableMetadataHelper;
@@ -29,6 +30,7 @@ import com.tsurugidb.iceaxe.sql.type.TgBlobReference;
 import com.tsurugidb.iceaxe.sql.type.TgClob;
 import com.tsurugidb.iceaxe.sql.type.TgClobReference;
 import com.tsurugidb.iceaxe.system.TsurugiSystemHelper;
+import com.tsurugidb.iceaxe.transaction.TsurugiCommitFuture;
 import com.tsurugidb.iceaxe.transaction.TsurugiTransaction;
 import com.tsurugidb.iceaxe.transaction.manager.TsurugiTransactionManager;
 import com.tsurugidb.iceaxe.transaction.status.TsurugiTransactionStatusHelper;
@@ -48,6 +50,12 @@ public enum IceaxeErrorCode implements DiagnosticCode {
     SESSION_CONNECT_TIMEOUT(IceaxeErrorCodeBlock.SESSION + 1, "session connect timeout"),
     /** low session error. */
     SESSION_LOW_ERROR(IceaxeErrorCodeBlock.SESSION + 2, "low session error"),
+    /**
+     * {@link TsurugiMultiEndpointConnector} could not connect to any end-point.
+     *
+     * @since 1.17.0
+     */
+    SESSION_ALL_ENDPOINT_FAILED(IceaxeErrorCodeBlock.SESSION + 3, "could not connect to any end-point"),
     /**
      * {@link TsurugiSession#getUserName()} timeout.
      *
@@ -100,6 +108,12 @@ public enum IceaxeErrorCode implements DiagnosticCode {
     SESSION_ALREADY_CLOSED(IceaxeErrorCodeBlock.SESSION + 909, "session already closed"),
 
     // transaction manager
+    /**
+     * {@link TsurugiTransactionManager} deadline exceeded.
+     *
+     * @since 1.17.0
+     */
+    TM_DEADLINE_EXCEEDED(IceaxeErrorCodeBlock.TRANSACTION_MANAGER + 711, "transactionManager deadline exceeded"),
     /**
      * {@link TsurugiTransactionManager} rollback error.
      *
@@ -147,6 +161,18 @@ public enum IceaxeErrorCode implements DiagnosticCode {
      * @since 1.3.0
      */
     TX_COMMIT_TIMEOUT(IceaxeErrorCodeBlock.TRANSACTION + 711, "transaction commit timeout"),
+    /**
+     * {@link TsurugiCommitFuture#getFuture(com.tsurugidb.iceaxe.transaction.TgCommitType)} timeout.
+     *
+     * @since 1.17.0
+     */
+    TX_COMMIT_DURABILITY_TIMEOUT(IceaxeErrorCodeBlock.TRANSACTION + 712, "transaction commit durability timeout"),
+    /**
+     * transaction aborted before {@link TsurugiCommitFuture#getFuture(com.tsurugidb.iceaxe.transaction.TgCommitType)} reached.
+     *
+     * @since 1.17.0
+     */
+    TX_COMMIT_DURABILITY_ABORTED(IceaxeErrorCodeBlock.TRANSACTION + 713, "transaction aborted before commit durability reached"),
     /**
      * {@link TsurugiTransaction#commit(com.tsurugidb.iceaxe.transaction.TgCommitOption)} close timeout.
      *
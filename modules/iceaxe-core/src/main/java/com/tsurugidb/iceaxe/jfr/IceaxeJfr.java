@@ -0,0 +1,36 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.iceaxe.jfr;
+
+/**
+ * Iceaxe JFR constants.
+ *
+ * @since 1.17.0
+ */
+public final class IceaxeJfr {
+
+    /** event name prefix. */
+    public static final String NAME_PREFIX = "com.tsurugidb.iceaxe.";
+
+    /** category: Tsurugi. */
+    public static final String CATEGORY_TSURUGI = "Tsurugi";
+    /** category: Iceaxe. */
+    public static final String CATEGORY_ICEAXE = "Iceaxe";
+
+    private IceaxeJfr() {
+        // don't instantiate
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.iceaxe.jfr;
+
+import javax.annotation.Nullable;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event: large object download.
+ *
+ * @since 1.17.0
+ */
+@Name(IceaxeJfr.NAME_PREFIX + "LobDownload")
+@Label("Tsurugi LOB Download")
+@Category({ IceaxeJfr.CATEGORY_TSURUGI, IceaxeJfr.CATEGORY_ICEAXE })
+@Description("Large object download")
+@StackTrace(false)
+public final class TsurugiLobDownloadJfrEvent extends Event {
+
+    private static final EventType TYPE = EventType.getEventType(TsurugiLobDownloadJfrEvent.class);
+
+    @Label("LOB Type")
+    String lobType;
+
+    @Label("Method")
+    String method;
+
+    @Label("Size")
+    @Description("Bytes for BLOB, characters for CLOB")
+    long size;
+
+    /**
+     * begin event if recording.
+     *
+     * @return event ({@code null} if not recording)
+     */
+    public static @Nullable TsurugiLobDownloadJfrEvent beginIfEnabled() {
+        if (!TYPE.isEnabled()) {
+            return null;
+        }
+        var event = new TsurugiLobDownloadJfrEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * end and commit event.
+     *
+     * @param event   event ({@code null} if not recording)
+     * @param lobType LOB type (BLOB or CLOB)
+     * @param method  method name
+     * @param size    size (bytes for BLOB, characters for CLOB)
+     */
+    public static void emit(@Nullable TsurugiLobDownloadJfrEvent event, String lobType, String method, long size) {
+        if (event == null) {
+            return;
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.lobType = lobType;
+            event.method = method;
+            event.size = size;
+            event.commit();
+        }
+    }
+}
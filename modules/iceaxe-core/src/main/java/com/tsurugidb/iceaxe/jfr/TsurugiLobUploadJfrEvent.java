@@ -0,0 +1,72 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.iceaxe.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR event: large object upload (staging or stream).
+ *
+ * @since 1.17.0
+ */
+@Name(IceaxeJfr.NAME_PREFIX + "LobUpload")
+@Label("Tsurugi LOB Upload")
+@Category({ IceaxeJfr.CATEGORY_TSURUGI, IceaxeJfr.CATEGORY_ICEAXE })
+@Description("Large object upload (staging or stream)")
+@StackTrace(false)
+public final class TsurugiLobUploadJfrEvent extends Event {
+
+    private static final EventType TYPE = EventType.getEventType(TsurugiLobUploadJfrEvent.class);
+
+    @Label("Staged")
+    boolean staged;
+
+    @DataAmount
+    @Label("Bytes")
+    long bytes;
+
+    @Timespan
+    @Label("Stage Time")
+    long stageTime;
+
+    /**
+     * commit event.
+     *
+     * @param staged     {@code true} if staged to file, {@code false} if uploaded by stream
+     * @param bytes      size
+     * @param stageNanos staging time
+     */
+    public static void emit(boolean staged, long bytes, long stageNanos) {
+        if (!TYPE.isEnabled()) {
+            return;
+        }
+        var event = new TsurugiLobUploadJfrEvent();
+        if (event.shouldCommit()) {
+            event.staged = staged;
+            event.bytes = bytes;
+            event.stageTime = stageNanos;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.iceaxe.jfr;
+
+import javax.annotation.Nullable;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import com.tsurugidb.iceaxe.sql.result.TsurugiQueryResult;
+
+/**
+ * JFR event: fetch of query result (from the first fetch to the end of records).
+ *
+ * @since 1.17.0
+ */
+@Name(IceaxeJfr.NAME_PREFIX + "ResultFetch")
+@Label("Tsurugi Result Fetch")
+@Category({ IceaxeJfr.CATEGORY_TSURUGI, IceaxeJfr.CATEGORY_ICEAXE })
+@Description("Fetch of query result (from the first fetch to the end of records)")
+@StackTrace(false)
+public final class TsurugiResultFetchJfrEvent extends Event {
+
+    private static final EventType TYPE = EventType.getEventType(TsurugiResultFetchJfrEvent.class);
+
+    @Label("Iceaxe Transaction Id")
+    int iceaxeTxId;
+
+    @Label("Iceaxe SQL Execute Id")
+    int iceaxeSqlExecuteId;
+
+    @Label("Read Count")
+    int readCount;
+
+    /**
+     * begin event if recording.
+     *
+     * @return event ({@code null} if not recording)
+     */
+    public static @Nullable TsurugiResultFetchJfrEvent beginIfEnabled() {
+        if (!TYPE.isEnabled()) {
+            return null;
+        }
+        var event = new TsurugiResultFetchJfrEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * end and commit event.
+     *
+     * @param event  event ({@code null} if not recording)
+     * @param result query result
+     */
+    public static void emit(@Nullable TsurugiResultFetchJfrEvent event, TsurugiQueryResult<?> result) {
+        if (event == null) {
+            return;
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.iceaxeTxId = result.getTransaction().getIceaxeTxId();
+            event.iceaxeSqlExecuteId = result.getIceaxeSqlExecuteId();
+            event.readCount = result.getReadCount();
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.iceaxe.jfr;
+
+import javax.annotation.Nullable;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import com.tsurugidb.iceaxe.session.TsurugiSession;
+
+/**
+ * JFR event: session connect (waiting for the connection).
+ *
+ * @since 1.17.0
+ */
+@Name(IceaxeJfr.NAME_PREFIX + "SessionConnect")
+@Label("Tsurugi Session Connect")
+@Category({ IceaxeJfr.CATEGORY_TSURUGI, IceaxeJfr.CATEGORY_ICEAXE })
+@Description("Session connect (waiting for the connection)")
+@StackTrace(false)
+public final class TsurugiSessionConnectJfrEvent extends Event {
+
+    private static final EventType TYPE = EventType.getEventType(TsurugiSessionConnectJfrEvent.class);
+
+    @Label("Session Label")
+    String sessionLabel;
+
+    @Label("Success")
+    boolean success;
+
+    /**
+     * begin event if recording.
+     *
+     * @return event ({@code null} if not recording)
+     */
+    public static @Nullable TsurugiSessionConnectJfrEvent beginIfEnabled() {
+        if (!TYPE.isEnabled()) {
+            return null;
+        }
+        var event = new TsurugiSessionConnectJfrEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * end and commit event.
+     *
+     * @param event   event ({@code null} if not recording)
+     * @param session session
+     * @param success {@code true} if connected
+     */
+    public static void emit(@Nullable TsurugiSessionConnectJfrEvent event, TsurugiSession session, boolean success) {
+        if (event == null) {
+            return;
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.sessionLabel = session.getSessionOption().getLabel();
+            event.success = success;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.iceaxe.jfr;
+
+import javax.annotation.Nullable;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import com.tsurugidb.iceaxe.sql.TsurugiSql;
+import com.tsurugidb.iceaxe.sql.result.TsurugiSqlResult;
+
+/**
+ * JFR event: SQL execution (from execute to the response of the server).
+ *
+ * @since 1.17.0
+ */
+@Name(IceaxeJfr.NAME_PREFIX + "SqlExecute")
+@Label("Tsurugi SQL Execute")
+@Category({ IceaxeJfr.CATEGORY_TSURUGI, IceaxeJfr.CATEGORY_ICEAXE })
+@Description("SQL execution (from execute to the response of the server)")
+@StackTrace(false)
+public final class TsurugiSqlExecuteJfrEvent extends Event {
+
+    private static final EventType TYPE = EventType.getEventType(TsurugiSqlExecuteJfrEvent.class);
+
+    @Label("Iceaxe Transaction Id")
+    int iceaxeTxId;
+
+    @Label("Iceaxe SQL Id")
+    int iceaxeSqlId;
+
+    @Label("Iceaxe SQL Execute Id")
+    int iceaxeSqlExecuteId;
+
+    @Label("SQL")
+    String sql;
+
+    @Label("Result Type")
+    String resultType;
+
+    /**
+     * begin event if recording.
+     *
+     * @return event ({@code null} if not recording)
+     */
+    public static @Nullable TsurugiSqlExecuteJfrEvent beginIfEnabled() {
+        if (!TYPE.isEnabled()) {
+            return null;
+        }
+        var event = new TsurugiSqlExecuteJfrEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * end and commit event.
+     *
+     * @param event  event ({@code null} if not recording)
+     * @param ps     SQL definition
+     * @param result SQL result
+     */
+    public static void emit(@Nullable TsurugiSqlExecuteJfrEvent event, TsurugiSql ps, TsurugiSqlResult result) {
+        if (event == null) {
+            return;
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.iceaxeTxId = result.getTransaction().getIceaxeTxId();
+            event.iceaxeSqlId = ps.getIceaxeSqlId();
+            event.iceaxeSqlExecuteId = result.getIceaxeSqlExecuteId();
+            event.sql = ps.getSql();
+            event.resultType = result.getClass().getSimpleName();
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.iceaxe.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import com.tsurugidb.iceaxe.transaction.TsurugiTransaction;
+import com.tsurugidb.iceaxe.transaction.manager.option.TgTmTxOption;
+
+/**
+ * JFR event: retry by transaction manager.
+ *
+ * @since 1.17.0
+ */
+@Name(IceaxeJfr.NAME_PREFIX + "TmRetry")
+@Label("Tsurugi Transaction Manager Retry")
+@Category({ IceaxeJfr.CATEGORY_TSURUGI, IceaxeJfr.CATEGORY_ICEAXE })
+@Description("Retry by transaction manager")
+@StackTrace(false)
+public final class TsurugiTmRetryJfrEvent extends Event {
+
+    private static final EventType TYPE = EventType.getEventType(TsurugiTmRetryJfrEvent.class);
+
+    @Label("Iceaxe TM Execute Id")
+    int iceaxeTmExecuteId;
+
+    @Label("Iceaxe Transaction Id")
+    int iceaxeTxId;
+
+    @Label("Attempt")
+    int attempt;
+
+    @Label("Retry Code")
+    String retryCode;
+
+    @Label("Reason")
+    String reason;
+
+    @Label("Next Transaction Option")
+    String nextTxOption;
+
+    /**
+     * commit event.
+     *
+     * @param transaction  transaction which failed
+     * @param nextTmOption next transaction option
+     */
+    public static void emit(TsurugiTransaction transaction, TgTmTxOption nextTmOption) {
+        if (!TYPE.isEnabled()) {
+            return;
+        }
+        var event = new TsurugiTmRetryJfrEvent();
+        if (event.shouldCommit()) {
+            event.iceaxeTmExecuteId = transaction.getIceaxeTmExecuteId();
+            event.iceaxeTxId = transaction.getIceaxeTxId();
+            event.attempt = transaction.getAttempt();
+            var instruction = nextTmOption.getRetryInstruction();
+            if (instruction != null) {
+                event.retryCode = String.valueOf(instruction.retryCode());
+                event.reason = instruction.reasonMessage();
+            }
+            event.nextTxOption = String.valueOf(nextTmOption.getTransactionOption());
+            event.commit();
+        }
+    }
+}
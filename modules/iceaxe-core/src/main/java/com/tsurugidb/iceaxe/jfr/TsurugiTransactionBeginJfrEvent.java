@@ -0,0 +1,99 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.iceaxe.jfr;
+
+import javax.annotation.Nullable;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import com.tsurugidb.iceaxe.transaction.TsurugiTransaction;
+
+/**
+ * JFR event: transaction begin (waiting for the transaction).
+ *
+ * @since 1.17.0
+ */
+@Name(IceaxeJfr.NAME_PREFIX + "TransactionBegin")
+@Label("Tsurugi Transaction Begin")
+@Category({ IceaxeJfr.CATEGORY_TSURUGI, IceaxeJfr.CATEGORY_ICEAXE })
+@Description("Transaction begin (waiting for the transaction)")
+@StackTrace(false)
+public final class TsurugiTransactionBeginJfrEvent extends Event {
+
+    private static final EventType TYPE = EventType.getEventType(TsurugiTransactionBeginJfrEvent.class);
+
+    @Label("Iceaxe Transaction Id")
+    int iceaxeTxId;
+
+    @Label("Transaction Label")
+    String label;
+
+    @Label("Transaction Option")
+    String txOption;
+
+    @Label("Attempt")
+    int attempt;
+
+    @Label("Transaction Id")
+    String transactionId;
+
+    @Label("Success")
+    boolean success;
+
+    /**
+     * begin event if recording.
+     *
+     * @return event ({@code null} if not recording)
+     */
+    public static @Nullable TsurugiTransactionBeginJfrEvent beginIfEnabled() {
+        if (!TYPE.isEnabled()) {
+            return null;
+        }
+        var event = new TsurugiTransactionBeginJfrEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * end and commit event.
+     *
+     * @param event         event ({@code null} if not recording)
+     * @param transaction   transaction
+     * @param transactionId transaction id ({@code null} if failed)
+     */
+    public static void emit(@Nullable TsurugiTransactionBeginJfrEvent event, TsurugiTransaction transaction, @Nullable String transactionId) {
+        if (event == null) {
+            return;
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.iceaxeTxId = transaction.getIceaxeTxId();
+            var txOption = transaction.getTransactionOption();
+            event.label = txOption.label();
+            event.txOption = txOption.toString();
+            event.attempt = transaction.getAttempt();
+            event.transactionId = transactionId;
+            event.success = transactionId != null;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.iceaxe.jfr;
+
+import javax.annotation.Nullable;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import com.tsurugidb.iceaxe.transaction.TsurugiTransaction;
+
+/**
+ * JFR event: transaction rollback.
+ *
+ * @since 1.17.0
+ */
+@Name(IceaxeJfr.NAME_PREFIX + "TransactionRollback")
+@Label("Tsurugi Transaction Rollback")
+@Category({ IceaxeJfr.CATEGORY_TSURUGI, IceaxeJfr.CATEGORY_ICEAXE })
+@Description("Transaction rollback")
+@StackTrace(false)
+public final class TsurugiTransactionRollbackJfrEvent extends Event {
+
+    private static final EventType TYPE = EventType.getEventType(TsurugiTransactionRollbackJfrEvent.class);
+
+    @Label("Iceaxe Transaction Id")
+    int iceaxeTxId;
+
+    @Label("Transaction Label")
+    String label;
+
+    @Label("Transaction Option")
+    String txOption;
+
+    @Label("Attempt")
+    int attempt;
+
+    @Label("Success")
+    boolean success;
+
+    /**
+     * begin event if recording.
+     *
+     * @return event ({@code null} if not recording)
+     */
+    public static @Nullable TsurugiTransactionRollbackJfrEvent beginIfEnabled() {
+        if (!TYPE.isEnabled()) {
+            return null;
+        }
+        var event = new TsurugiTransactionRollbackJfrEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * end and commit event.
+     *
+     * @param event       event ({@code null} if not recording)
+     * @param transaction transaction
+     * @param success     {@code true} if rollbacked
+     */
+    public static void emit(@Nullable TsurugiTransactionRollbackJfrEvent event, TsurugiTransaction transaction, boolean success) {
+        if (event == null) {
+            return;
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.iceaxeTxId = transaction.getIceaxeTxId();
+            var txOption = transaction.getTransactionOption();
+            event.label = txOption.label();
+            event.txOption = txOption.toString();
+            event.attempt = transaction.getAttempt();
+            event.success = success;
+            event.commit();
+        }
+    }
+}
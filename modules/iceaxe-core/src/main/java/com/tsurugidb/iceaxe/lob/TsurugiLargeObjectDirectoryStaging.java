@@ -0,0 +1,73 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.iceaxe.lob;
+
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.Nonnull;
+
+import com.tsurugidb.iceaxe.session.TsurugiSession;
+
+/**
+ * Tsurugi large object staging in the specified directory.
+ *
+ * <p>
+ * For example, specify a directory on tmpfs (such as {@code /dev/shm}) to avoid disk writes. The directory must be readable by the server.
+ * </p>
+ *
+ * @since 1.17.0
+ */
+public class TsurugiLargeObjectDirectoryStaging extends TsurugiLargeObjectStaging {
+
+    private final Path directory;
+    private final long pid = ProcessHandle.current().pid();
+    private final AtomicLong fileCounter = new AtomicLong();
+
+    /**
+     * Creates a new instance.
+     *
+     * @param directory staging directory
+     */
+    public TsurugiLargeObjectDirectoryStaging(@Nonnull Path directory) {
+        this.directory = Objects.requireNonNull(directory);
+    }
+
+    /**
+     * Get staging directory.
+     *
+     * @return directory
+     */
+    public Path getDirectory() {
+        return this.directory;
+    }
+
+    @Override
+    protected Path createStagingFile(TsurugiSession session) {
+        return createFilePath();
+    }
+
+    /**
+     * Creates a new file path in the staging directory.
+     *
+     * @return file path
+     */
+    protected Path createFilePath() {
+        String s = "iceaxe-lob-staging-" + pid + "-" + fileCounter.incrementAndGet() + ".dat";
+        return directory.resolve(s);
+    }
+}
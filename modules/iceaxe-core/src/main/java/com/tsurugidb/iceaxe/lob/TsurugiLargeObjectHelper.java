@@ -19,9 +19,15 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
 import java.nio.file.Path;
+import java.util.Objects;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 import com.tsurugidb.iceaxe.exception.IceaxeErrorCode;
 import com.tsurugidb.iceaxe.session.TsurugiSession;
+import com.tsurugidb.iceaxe.sql.type.TgBlob;
+import com.tsurugidb.iceaxe.sql.type.TgClob;
 import com.tsurugidb.iceaxe.sql.type.TgRemoteBlob;
 import com.tsurugidb.iceaxe.sql.type.TgRemoteBlobInfo;
 import com.tsurugidb.iceaxe.sql.type.TgRemoteClob;
@@ -44,6 +50,40 @@ import com.tsurugidb.tsubakuro.util.FutureResponse;
 public abstract class TsurugiLargeObjectHelper implements IceaxeTimeoutCloseable {
 
     private final IceaxeCloseableSet closeableSet = new IceaxeCloseableSet();
+    private TsurugiLargeObjectStaging staging = null;
+
+    /**
+     * Set staging strategy.
+     *
+     * @param staging staging strategy
+     * @since 1.17.0
+     */
+    public synchronized void setStaging(@Nonnull TsurugiLargeObjectStaging staging) {
+        this.staging = Objects.requireNonNull(staging);
+    }
+
+    /**
+     * Get staging strategy.
+     *
+     * @return staging strategy
+     * @since 1.17.0
+     */
+    public synchronized TsurugiLargeObjectStaging getStaging() {
+        if (this.staging == null) {
+            this.staging = createDefaultStaging();
+        }
+        return this.staging;
+    }
+
+    /**
+     * Creates the staging strategy used when {@link #setStaging(TsurugiLargeObjectStaging)} is not called.
+     *
+     * @return staging strategy
+     * @since 1.17.0
+     */
+    protected TsurugiLargeObjectStaging createDefaultStaging() {
+        return new TsurugiLargeObjectTempFileStaging();
+    }
 
     /**
      * Uploads a BLOB.
@@ -117,6 +157,46 @@ public abstract class TsurugiLargeObjectHelper implements IceaxeTimeoutCloseable
      */
     public abstract TgRemoteClob uploadClob(TsurugiSession session, String value, IceaxeTimeout timeout) throws IOException, InterruptedException;
 
+    /**
+     * Starts uploading a BLOB.
+     *
+     * <p>
+     * The default implementation uploads synchronously and returns a completed upload.
+     * </p>
+     *
+     * @param session Tsurugi session
+     * @param value   BLOB to be uploaded
+     * @param timeout Timeout for the upload operation
+     * @return upload in progress
+     * @throws IOException          If an I/O error occurs while starting the upload
+     * @throws InterruptedException If the thread is interrupted while starting the upload
+     * @since 1.17.0
+     */
+    public TsurugiLargeObjectUpload<TgRemoteBlob> startUploadBlob(TsurugiSession session, TgBlob value, IceaxeTimeout timeout) throws IOException, InterruptedException {
+        var blob = value.upload(session, timeout.get());
+        return TsurugiLargeObjectUpload.completed(blob);
+    }
+
+    /**
+     * Starts uploading a CLOB.
+     *
+     * <p>
+     * The default implementation uploads synchronously and returns a completed upload.
+     * </p>
+     *
+     * @param session Tsurugi session
+     * @param value   CLOB to be uploaded
+     * @param timeout Timeout for the upload operation
+     * @return upload in progress
+     * @throws IOException          If an I/O error occurs while starting the upload
+     * @throws InterruptedException If the thread is interrupted while starting the upload
+     * @since 1.17.0
+     */
+    public TsurugiLargeObjectUpload<TgRemoteClob> startUploadClob(TsurugiSession session, TgClob value, IceaxeTimeout timeout) throws IOException, InterruptedException {
+        var clob = value.upload(session, timeout.get());
+        return TsurugiLargeObjectUpload.completed(clob);
+    }
+
     /**
      * Gets the low-level LargeObjectClient from the Tsurugi session.
      *
@@ -163,6 +243,42 @@ public abstract class TsurugiLargeObjectHelper implements IceaxeTimeoutCloseable
         return clob;
     }
 
+    /**
+     * Creates a BLOB upload in progress.
+     *
+     * @param future  Future response containing the LargeObjectInfo for the uploaded BLOB
+     * @param timeout Timeout for waiting for the upload to complete
+     * @param source  upload source (closed when the upload is finished)
+     * @return upload in progress
+     * @since 1.17.0
+     */
+    protected TsurugiLargeObjectUpload<TgRemoteBlob> startUploadBlob(FutureResponse<LargeObjectInfo> future, IceaxeTimeout timeout, @Nullable AutoCloseable source) {
+        return new TsurugiLargeObjectUpload<>(future, timeout, IceaxeErrorCode.BLOB_UPLOAD_TIMEOUT, IceaxeErrorCode.BLOB_CLOSE_TIMEOUT, IceaxeErrorCode.BLOB_CLOSE_ERROR, source,
+                lowLargeObjectInfo -> {
+                    var blob = new TgRemoteBlobInfo(lowLargeObjectInfo);
+                    addChild(blob);
+                    return blob;
+                });
+    }
+
+    /**
+     * Creates a CLOB upload in progress.
+     *
+     * @param future  Future response containing the LargeObjectInfo for the uploaded CLOB
+     * @param timeout Timeout for waiting for the upload to complete
+     * @param source  upload source (closed when the upload is finished)
+     * @return upload in progress
+     * @since 1.17.0
+     */
+    protected TsurugiLargeObjectUpload<TgRemoteClob> startUploadClob(FutureResponse<LargeObjectInfo> future, IceaxeTimeout timeout, @Nullable AutoCloseable source) {
+        return new TsurugiLargeObjectUpload<>(future, timeout, IceaxeErrorCode.CLOB_UPLOAD_TIMEOUT, IceaxeErrorCode.CLOB_CLOSE_TIMEOUT, IceaxeErrorCode.CLOB_CLOSE_ERROR, source,
+                lowLargeObjectInfo -> {
+                    var clob = new TgRemoteClobInfo(lowLargeObjectInfo);
+                    addChild(clob);
+                    return clob;
+                });
+    }
+
     /**
      * Waits for the upload operation to complete and retrieves the LargeObjectInfo.
      *
@@ -28,6 +28,30 @@ import com.tsurugidb.iceaxe.sql.type.TsurugiLobFactory;
  */
 public class TsurugiLargeObjectHelperFactory {
 
+    private TsurugiLargeObjectStaging staging = null;
+
+    /**
+     * Set staging strategy for the created helpers.
+     *
+     * @param staging staging strategy (shared by the created helpers)
+     * @return this
+     * @since 1.17.0
+     */
+    public TsurugiLargeObjectHelperFactory setStaging(TsurugiLargeObjectStaging staging) {
+        this.staging = staging;
+        return this;
+    }
+
+    /**
+     * Get staging strategy for the created helpers.
+     *
+     * @return staging strategy (null if default)
+     * @since 1.17.0
+     */
+    public TsurugiLargeObjectStaging getStaging() {
+        return this.staging;
+    }
+
     /**
      * Create a {@link TsurugiLargeObjectHelper} based on the specified {@link TgLobTransferType}.
      *
@@ -35,6 +59,21 @@ public class TsurugiLargeObjectHelperFactory {
      * @return the created {@link TsurugiLargeObjectHelper}
      */
     public TsurugiLargeObjectHelper createHelper(TgLobTransferType lobTransferType) {
+        var helper = newHelper(lobTransferType);
+        if (this.staging != null) {
+            helper.setStaging(staging);
+        }
+        return helper;
+    }
+
+    /**
+     * Create a new {@link TsurugiLargeObjectHelper} instance.
+     *
+     * @param lobTransferType the large object transfer type
+     * @return the created {@link TsurugiLargeObjectHelper}
+     * @since 1.17.0
+     */
+    protected TsurugiLargeObjectHelper newHelper(TgLobTransferType lobTransferType) {
         switch (lobTransferType) {
         case NOT_USE:
             return new TsurugiNotUseLargeObjectHelper();
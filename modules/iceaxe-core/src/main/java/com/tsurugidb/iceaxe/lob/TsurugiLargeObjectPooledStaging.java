@@ -0,0 +1,329 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.iceaxe.lob;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.tsurugidb.iceaxe.session.TsurugiSession;
+
+/**
+ * Tsurugi large object staging with recycled staging files.
+ *
+ * <p>
+ * Released staging files are kept in the pool (up to the maximum pool size) and reused instead of being deleted. A reused file is overwritten from the
+ * beginning and truncated to the staged size at the end, so the disk space of the previous content (or of {@link #preallocate(int, long)}) is reused.
+ * </p>
+ * <p>
+ * The files are written with direct {@link ByteBuffer}. The buffers are kept in a pool (up to the maximum buffer count) and dropped by {@link #close()}.
+ * </p>
+ *
+ * @since 1.17.0
+ */
+public class TsurugiLargeObjectPooledStaging extends TsurugiLargeObjectDirectoryStaging implements AutoCloseable {
+
+    /** default buffer size. */
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+    /** default maximum number of pooled buffers. */
+    public static final int DEFAULT_MAX_BUFFER_COUNT = 8;
+
+    private final int maxPoolSize;
+    private final int bufferSize;
+    private final ConcurrentLinkedQueue<Path> pool = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger poolSize = new AtomicInteger();
+    private final BlockingQueue<ByteBuffer> bufferPool;
+    private volatile boolean closed = false;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param directory   staging directory
+     * @param maxPoolSize maximum number of pooled files
+     */
+    public TsurugiLargeObjectPooledStaging(Path directory, int maxPoolSize) {
+        this(directory, maxPoolSize, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param directory   staging directory
+     * @param maxPoolSize maximum number of pooled files
+     * @param bufferSize  size of direct buffer
+     */
+    public TsurugiLargeObjectPooledStaging(Path directory, int maxPoolSize, int bufferSize) {
+        this(directory, maxPoolSize, bufferSize, DEFAULT_MAX_BUFFER_COUNT);
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param directory      staging directory
+     * @param maxPoolSize    maximum number of pooled files
+     * @param bufferSize     size of direct buffer
+     * @param maxBufferCount maximum number of pooled direct buffers
+     */
+    public TsurugiLargeObjectPooledStaging(Path directory, int maxPoolSize, int bufferSize, int maxBufferCount) {
+        super(directory);
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("bufferSize must be positive. bufferSize=" + bufferSize);
+        }
+        if (maxBufferCount <= 0) {
+            throw new IllegalArgumentException("maxBufferCount must be positive. maxBufferCount=" + maxBufferCount);
+        }
+        this.maxPoolSize = maxPoolSize;
+        this.bufferSize = bufferSize;
+        this.bufferPool = new ArrayBlockingQueue<>(maxBufferCount);
+    }
+
+    /**
+     * Creates staging files of the specified size in advance.
+     *
+     * <p>
+     * The files are filled with zeros so that the disk space is allocated before staging.
+     * </p>
+     *
+     * @param count    number of files
+     * @param fileSize size of each file
+     * @throws IOException if an I/O error occurs
+     */
+    public void preallocate(int count, long fileSize) throws IOException {
+        for (int i = 0; i < count; i++) {
+            if (poolSize.incrementAndGet() > maxPoolSize) {
+                poolSize.decrementAndGet();
+                break;
+            }
+            var path = createFilePath();
+            try {
+                fill(path, fileSize);
+            } catch (Throwable e) {
+                poolSize.decrementAndGet();
+                try {
+                    Files.deleteIfExists(path);
+                } catch (Throwable t) {
+                    e.addSuppressed(t);
+                }
+                throw e;
+            }
+            pool.offer(path);
+        }
+    }
+
+    private void fill(Path path, long fileSize) throws IOException {
+        var buffer = acquireBuffer();
+        while (buffer.hasRemaining()) {
+            buffer.put((byte) 0);
+        }
+        try (var channel = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.CREATE_NEW)) {
+            long position = 0;
+            while (position < fileSize) {
+                buffer.position(0).limit((int) Math.min(buffer.capacity(), fileSize - position));
+                while (buffer.hasRemaining()) {
+                    position += channel.write(buffer);
+                }
+            }
+        } finally {
+            releaseBuffer(buffer);
+        }
+    }
+
+    /**
+     * Get number of pooled files.
+     *
+     * @return number of pooled files
+     */
+    public int getPoolSize() {
+        return poolSize.get();
+    }
+
+    /**
+     * Get number of pooled direct buffers.
+     *
+     * @return number of pooled buffers
+     */
+    public int getBufferCount() {
+        return bufferPool.size();
+    }
+
+    @Override
+    protected Path createStagingFile(TsurugiSession session) {
+        var path = pool.poll();
+        if (path != null) {
+            poolSize.decrementAndGet();
+            return path;
+        }
+        return createFilePath();
+    }
+
+    // not truncated here, so that the existing disk space is overwritten. truncated to the staged size at the end
+    private FileChannel openChannel(Path path) throws IOException {
+        return FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.CREATE);
+    }
+
+    private ByteBuffer acquireBuffer() {
+        var buffer = bufferPool.poll();
+        if (buffer == null) {
+            buffer = ByteBuffer.allocateDirect(bufferSize);
+        }
+        buffer.clear();
+        return buffer;
+    }
+
+    private void releaseBuffer(ByteBuffer buffer) {
+        if (!this.closed) {
+            bufferPool.offer(buffer);
+        }
+    }
+
+    private static long flush(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        long size = buffer.remaining();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+        return size;
+    }
+
+    @Override
+    protected long write(Path path, byte[] value) throws IOException {
+        var buffer = acquireBuffer();
+        try (var channel = openChannel(path)) {
+            int offset = 0;
+            while (offset < value.length) {
+                int length = Math.min(buffer.remaining(), value.length - offset);
+                buffer.put(value, offset, length);
+                offset += length;
+                flush(channel, buffer);
+            }
+            channel.truncate(value.length);
+        } finally {
+            releaseBuffer(buffer);
+        }
+        return value.length;
+    }
+
+    @Override
+    protected long write(Path path, InputStream is) throws IOException {
+        var buffer = acquireBuffer();
+        var in = Channels.newChannel(is);
+        long size = 0;
+        try (var channel = openChannel(path)) {
+            while (in.read(buffer) >= 0) {
+                if (!buffer.hasRemaining()) {
+                    size += flush(channel, buffer);
+                }
+            }
+            size += flush(channel, buffer);
+            channel.truncate(size);
+        } finally {
+            releaseBuffer(buffer);
+        }
+        return size;
+    }
+
+    @Override
+    protected long write(Path path, Reader reader) throws IOException {
+        var buffer = acquireBuffer();
+        var encoder = StandardCharsets.UTF_8.newEncoder();
+        var chars = CharBuffer.allocate(Math.max(bufferSize / 4, 2));
+        long size = 0;
+        try (var channel = openChannel(path)) {
+            for (;;) {
+                boolean endOfInput = reader.read(chars) < 0;
+                chars.flip();
+                for (;;) {
+                    var result = encoder.encode(chars, buffer, endOfInput);
+                    if (result.isOverflow()) {
+                        size += flush(channel, buffer);
+                        continue;
+                    }
+                    if (result.isError()) {
+                        result.throwException();
+                    }
+                    break;
+                }
+                chars.compact();
+                if (endOfInput) {
+                    break;
+                }
+            }
+            while (encoder.flush(buffer).isOverflow()) {
+                size += flush(channel, buffer);
+            }
+            size += flush(channel, buffer);
+            channel.truncate(size);
+        } finally {
+            releaseBuffer(buffer);
+        }
+        return size;
+    }
+
+    @Override
+    public void release(Path path) throws IOException {
+        if (poolSize.incrementAndGet() <= maxPoolSize) {
+            pool.offer(path);
+            return;
+        }
+        poolSize.decrementAndGet();
+        Files.deleteIfExists(path);
+    }
+
+    /**
+     * Deletes all pooled files and drops the pooled buffers.
+     *
+     * <p>
+     * The memory of a direct buffer is freed when the buffer is garbage collected.
+     * </p>
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    public void close() throws IOException {
+        this.closed = true;
+        bufferPool.clear();
+
+        IOException occurred = null;
+        for (Path path; (path = pool.poll()) != null;) {
+            poolSize.decrementAndGet();
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                if (occurred == null) {
+                    occurred = e;
+                } else {
+                    occurred.addSuppressed(e);
+                }
+            }
+        }
+        if (occurred != null) {
+            throw occurred;
+        }
+    }
+}
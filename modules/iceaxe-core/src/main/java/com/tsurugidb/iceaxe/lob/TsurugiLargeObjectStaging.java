@@ -0,0 +1,301 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.iceaxe.lob;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.tsurugidb.iceaxe.jfr.TsurugiLobUploadJfrEvent;
+import com.tsurugidb.iceaxe.session.TsurugiSession;
+import com.tsurugidb.iceaxe.util.IceaxeFileUtil;
+
+/**
+ * Tsurugi large object staging strategy.
+ *
+ * <p>
+ * In privileged mode, in-memory BLOB/CLOB is written to a staging file before uploading. This class decides where and how the staging file is written.
+ * </p>
+ * <p>
+ * This class is shared by multiple sessions, so the implementation must be thread-safe.
+ * </p>
+ *
+ * @see TsurugiLargeObjectHelper#setStaging(TsurugiLargeObjectStaging)
+ * @since 1.17.0
+ */
+public abstract class TsurugiLargeObjectStaging {
+
+    private final LongAdder stageCount = new LongAdder();
+    private final LongAdder stageBytes = new LongAdder();
+    private final LongAdder stageNanos = new LongAdder();
+    private final LongAdder streamCount = new LongAdder();
+    private final LongAdder streamBytes = new LongAdder();
+
+    /**
+     * Whether to upload by stream instead of staging file.
+     *
+     * @param size data size (bytes for BLOB, characters for CLOB). -1 if unknown
+     * @return {@code true} if upload by stream
+     */
+    public boolean isStream(long size) {
+        return false;
+    }
+
+    /**
+     * Writes the BLOB value to a staging file.
+     *
+     * @param session Tsurugi session
+     * @param value   value
+     * @return staging file
+     * @throws IOException if an I/O error occurs
+     */
+    public Path stageBlob(TsurugiSession session, byte[] value) throws IOException {
+        long start = System.nanoTime();
+        var path = createStagingFile(session);
+        try {
+            long size = write(path, value);
+            recordStage(size, start);
+            return path;
+        } catch (Throwable e) {
+            releaseQuietly(path, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Writes the BLOB value to a staging file.
+     * <p>
+     * This method consumes and closes the provided input stream.
+     * </p>
+     *
+     * @param session Tsurugi session
+     * @param is      value
+     * @return staging file
+     * @throws IOException if an I/O error occurs
+     */
+    public Path stageBlob(TsurugiSession session, InputStream is) throws IOException {
+        long start = System.nanoTime();
+        var path = createStagingFile(session);
+        try (is) {
+            long size = write(path, is);
+            recordStage(size, start);
+            return path;
+        } catch (Throwable e) {
+            releaseQuietly(path, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Writes the CLOB value to a staging file.
+     *
+     * @param session Tsurugi session
+     * @param value   value
+     * @return staging file
+     * @throws IOException if an I/O error occurs
+     */
+    public Path stageClob(TsurugiSession session, String value) throws IOException {
+        return stageBlob(session, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Writes the CLOB value to a staging file.
+     * <p>
+     * This method consumes and closes the provided reader.
+     * </p>
+     *
+     * @param session Tsurugi session
+     * @param reader  value
+     * @return staging file
+     * @throws IOException if an I/O error occurs
+     */
+    public Path stageClob(TsurugiSession session, Reader reader) throws IOException {
+        long start = System.nanoTime();
+        var path = createStagingFile(session);
+        try (reader) {
+            long size = write(path, reader);
+            recordStage(size, start);
+            return path;
+        } catch (Throwable e) {
+            releaseQuietly(path, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Creates a staging file path.
+     *
+     * @param session Tsurugi session
+     * @return staging file
+     * @throws IOException if an I/O error occurs
+     */
+    protected abstract Path createStagingFile(TsurugiSession session) throws IOException;
+
+    /**
+     * Writes bytes to the staging file.
+     *
+     * @param path  staging file
+     * @param value value
+     * @return written size
+     * @throws IOException if an I/O error occurs
+     */
+    protected long write(Path path, byte[] value) throws IOException {
+        Files.write(path, value);
+        return value.length;
+    }
+
+    /**
+     * Writes bytes to the staging file.
+     *
+     * @param path staging file
+     * @param is   value
+     * @return written size
+     * @throws IOException if an I/O error occurs
+     */
+    protected long write(Path path, InputStream is) throws IOException {
+        return Files.copy(is, path);
+    }
+
+    /**
+     * Writes characters to the staging file using UTF-8.
+     *
+     * @param path   staging file
+     * @param reader value
+     * @return written size
+     * @throws IOException if an I/O error occurs
+     */
+    protected long write(Path path, Reader reader) throws IOException {
+        IceaxeFileUtil.write(path, reader);
+        return Files.size(path);
+    }
+
+    /**
+     * Releases the staging file.
+     * <p>
+     * This method is called when the uploaded large object is closed.
+     * </p>
+     *
+     * @param path staging file
+     * @throws IOException if an I/O error occurs
+     */
+    public void release(Path path) throws IOException {
+        Files.deleteIfExists(path);
+    }
+
+    private void releaseQuietly(Path path, Throwable occurred) {
+        try {
+            release(path);
+        } catch (Throwable e) {
+            occurred.addSuppressed(e);
+        }
+    }
+
+    /**
+     * Records staging.
+     *
+     * @param size  staged size
+     * @param start start time (System.nanoTime())
+     */
+    protected void recordStage(long size, long start) {
+        long nanos = System.nanoTime() - start;
+        stageCount.increment();
+        stageBytes.add(size);
+        stageNanos.add(nanos);
+        TsurugiLobUploadJfrEvent.emit(true, size, nanos);
+    }
+
+    /**
+     * Records upload by stream.
+     *
+     * @param size uploaded size
+     */
+    public void recordStream(long size) {
+        streamCount.increment();
+        streamBytes.add(size);
+        TsurugiLobUploadJfrEvent.emit(false, size, 0);
+    }
+
+    /**
+     * Get number of staged files.
+     *
+     * @return count
+     */
+    public long getStageCount() {
+        return stageCount.sum();
+    }
+
+    /**
+     * Get total staged bytes.
+     *
+     * @return bytes
+     */
+    public long getStageBytes() {
+        return stageBytes.sum();
+    }
+
+    /**
+     * Get total time spent for staging.
+     *
+     * @return time [nanoseconds]
+     */
+    public long getStageNanos() {
+        return stageNanos.sum();
+    }
+
+    /**
+     * Get number of uploads by stream.
+     *
+     * @return count
+     */
+    public long getStreamCount() {
+        return streamCount.sum();
+    }
+
+    /**
+     * Get total bytes uploaded by stream.
+     *
+     * @return size (bytes for BLOB, characters for CLOB)
+     */
+    public long getStreamBytes() {
+        return streamBytes.sum();
+    }
+
+    /**
+     * Resets the metrics.
+     */
+    public void resetMetrics() {
+        stageCount.reset();
+        stageBytes.reset();
+        stageNanos.reset();
+        streamCount.reset();
+        streamBytes.reset();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() //
+                + "{stageCount=" + getStageCount() //
+                + ", stageBytes=" + getStageBytes() //
+                + ", stageNanos=" + getStageNanos() //
+                + ", streamCount=" + getStreamCount() //
+                + ", streamBytes=" + getStreamBytes() //
+                + "}";
+    }
+}
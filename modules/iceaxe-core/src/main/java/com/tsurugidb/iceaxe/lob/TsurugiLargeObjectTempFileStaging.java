@@ -0,0 +1,35 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.iceaxe.lob;
+
+import java.nio.file.Path;
+
+import com.tsurugidb.iceaxe.session.TsurugiSession;
+import com.tsurugidb.iceaxe.sql.type.IceaxeObjectFactory;
+
+/**
+ * Tsurugi large object staging using the temporary file of {@link IceaxeObjectFactory}.
+ *
+ * @since 1.17.0
+ */
+public class TsurugiLargeObjectTempFileStaging extends TsurugiLargeObjectStaging {
+
+    @Override
+    protected Path createStagingFile(TsurugiSession session) {
+        var objectFactory = session.getLobFactory().getIceaxeObjectFactory();
+        return objectFactory.createTempFilePath();
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.iceaxe.lob;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.file.Path;
+import java.util.Objects;
+
+import javax.annotation.Nonnull;
+
+import com.tsurugidb.iceaxe.session.TsurugiSession;
+
+/**
+ * Tsurugi large object staging which uploads small data by stream.
+ *
+ * <p>
+ * Data whose size is less than the threshold is uploaded by stream (blob-relay-service must be available). Other data is staged by the delegate staging.
+ * </p>
+ *
+ * @since 1.17.0
+ */
+public class TsurugiLargeObjectThresholdStaging extends TsurugiLargeObjectStaging {
+
+    private final long threshold;
+    private final TsurugiLargeObjectStaging delegate;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param threshold threshold size (bytes for BLOB, characters for CLOB)
+     * @param delegate  staging for data larger than the threshold
+     */
+    public TsurugiLargeObjectThresholdStaging(long threshold, @Nonnull TsurugiLargeObjectStaging delegate) {
+        this.threshold = threshold;
+        this.delegate = Objects.requireNonNull(delegate);
+    }
+
+    /**
+     * Get threshold size.
+     *
+     * @return threshold size
+     */
+    public long getThreshold() {
+        return this.threshold;
+    }
+
+    /**
+     * Get delegate staging.
+     *
+     * @return staging
+     */
+    public TsurugiLargeObjectStaging getDelegate() {
+        return this.delegate;
+    }
+
+    @Override
+    public boolean isStream(long size) {
+        return size >= 0 && size < threshold;
+    }
+
+    @Override
+    protected Path createStagingFile(TsurugiSession session) throws IOException {
+        return delegate.createStagingFile(session);
+    }
+
+    @Override
+    protected long write(Path path, byte[] value) throws IOException {
+        return delegate.write(path, value);
+    }
+
+    @Override
+    protected long write(Path path, InputStream is) throws IOException {
+        return delegate.write(path, is);
+    }
+
+    @Override
+    protected long write(Path path, Reader reader) throws IOException {
+        return delegate.write(path, reader);
+    }
+
+    @Override
+    public void release(Path path) throws IOException {
+        delegate.release(path);
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.iceaxe.lob;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nullable;
+
+import com.tsurugidb.iceaxe.exception.IceaxeErrorCode;
+import com.tsurugidb.iceaxe.util.IceaxeInternal;
+import com.tsurugidb.iceaxe.util.IceaxeIoUtil;
+import com.tsurugidb.iceaxe.util.IceaxeTimeout;
+import com.tsurugidb.iceaxe.util.IceaxeTimeoutCloseable;
+import com.tsurugidb.iceaxe.util.function.IoFunction;
+import com.tsurugidb.tsubakuro.common.LargeObjectInfo;
+import com.tsurugidb.tsubakuro.util.FutureResponse;
+
+/**
+ * Tsurugi large object upload in progress.
+ *
+ * <p>
+ * The upload request has already been sent when this object is created. {@link #get(long)} waits for the completion.
+ * </p>
+ *
+ * @param <L> uploaded large object type
+ * @since 1.17.0
+ */
+@IceaxeInternal
+public class TsurugiLargeObjectUpload<L> implements IceaxeTimeoutCloseable {
+
+    /**
+     * Creates a new instance that has already completed.
+     *
+     * @param <L> uploaded large object type
+     * @param lob uploaded large object
+     * @return upload
+     */
+    public static <L> TsurugiLargeObjectUpload<L> completed(L lob) {
+        return new TsurugiLargeObjectUpload<>(lob);
+    }
+
+    private FutureResponse<LargeObjectInfo> lowFuture;
+    private final IceaxeTimeout timeout;
+    private final IceaxeErrorCode timeoutErrorCode;
+    private final IceaxeErrorCode closeTimeoutErrorCode;
+    private final IceaxeErrorCode closeErrorCode;
+    private final IoFunction<LargeObjectInfo, L> lobGenerator;
+    private AutoCloseable source;
+    private L lob;
+
+    private TsurugiLargeObjectUpload(L lob) {
+        this.lowFuture = null;
+        this.timeout = null;
+        this.timeoutErrorCode = null;
+        this.closeTimeoutErrorCode = null;
+        this.closeErrorCode = null;
+        this.lobGenerator = null;
+        this.source = null;
+        this.lob = lob;
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param lowFuture             future of upload
+     * @param timeout               upload timeout
+     * @param timeoutErrorCode      error code for upload timeout
+     * @param closeTimeoutErrorCode error code for close timeout
+     * @param closeErrorCode        error code for close
+     * @param source                upload source (closed when the upload is finished)
+     * @param lobGenerator          generator of uploaded large object
+     */
+    public TsurugiLargeObjectUpload(FutureResponse<LargeObjectInfo> lowFuture, IceaxeTimeout timeout, IceaxeErrorCode timeoutErrorCode, IceaxeErrorCode closeTimeoutErrorCode,
+            IceaxeErrorCode closeErrorCode, @Nullable AutoCloseable source, IoFunction<LargeObjectInfo, L> lobGenerator) {
+        this.lowFuture = lowFuture;
+        this.timeout = timeout;
+        this.timeoutErrorCode = timeoutErrorCode;
+        this.closeTimeoutErrorCode = closeTimeoutErrorCode;
+        this.closeErrorCode = closeErrorCode;
+        this.source = source;
+        this.lobGenerator = lobGenerator;
+    }
+
+    /**
+     * Whether the upload has been completed.
+     *
+     * @return {@code true} if completed
+     */
+    public synchronized boolean isDone() {
+        return this.lob != null;
+    }
+
+    /**
+     * Waits for the upload to complete and retrieves the uploaded large object.
+     *
+     * @param start start time of waiting (System.nanoTime()). The upload timeout is measured from this time
+     * @return uploaded large object
+     * @throws IOException          if an I/O error occurs while uploading
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public synchronized L get(long start) throws IOException, InterruptedException {
+        if (this.lob != null) {
+            return this.lob;
+        }
+        if (this.lowFuture == null) {
+            throw new IllegalStateException("upload already closed");
+        }
+
+        long timeoutNanos = IceaxeIoUtil.calculateTimeoutNanos(timeout.getNanos(), start);
+        var waitTimeout = new IceaxeTimeout(timeoutNanos, TimeUnit.NANOSECONDS);
+
+        var future = this.lowFuture;
+        this.lowFuture = null;
+        try {
+            var lowLargeObjectInfo = IceaxeIoUtil.getAndCloseFuture(future, waitTimeout, timeoutErrorCode, closeTimeoutErrorCode);
+            this.lob = lobGenerator.apply(lowLargeObjectInfo);
+        } finally {
+            closeSource();
+        }
+        return this.lob;
+    }
+
+    private void closeSource() throws IOException {
+        var s = this.source;
+        if (s != null) {
+            this.source = null;
+            try {
+                s.close();
+            } catch (IOException | RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new IOException(e.getMessage(), e);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException, InterruptedException {
+        close(timeout != null ? timeout.getNanos() : 0);
+    }
+
+    @Override
+    public synchronized void close(long timeoutNanos) throws IOException, InterruptedException {
+        // the uploaded large object is owned by TsurugiLargeObjectHelper
+        var future = this.lowFuture;
+        this.lowFuture = null;
+        try {
+            if (future != null) {
+                IceaxeIoUtil.close(timeoutNanos, closeTimeoutErrorCode, closeErrorCode, future);
+            }
+        } finally {
+            closeSource();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{done=" + (lob != null) + ", lob=" + lob + "}";
+    }
+}
@@ -15,23 +15,28 @@
  */
 package com.tsurugidb.iceaxe.lob;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
-import java.nio.file.Files;
+import java.io.StringReader;
 import java.nio.file.Path;
 
 import com.tsurugidb.iceaxe.exception.IceaxeErrorCode;
 import com.tsurugidb.iceaxe.session.TsurugiSession;
+import com.tsurugidb.iceaxe.sql.type.TgBlob;
+import com.tsurugidb.iceaxe.sql.type.TgClob;
 import com.tsurugidb.iceaxe.sql.type.TgRemoteBlob;
 import com.tsurugidb.iceaxe.sql.type.TgRemoteBlobTempFile;
 import com.tsurugidb.iceaxe.sql.type.TgRemoteClob;
 import com.tsurugidb.iceaxe.sql.type.TgRemoteClobTempFile;
-import com.tsurugidb.iceaxe.util.IceaxeFileUtil;
 import com.tsurugidb.iceaxe.util.IceaxeTimeout;
 
 /**
  * Tsurugi large object helper for privileged mode.
+ * <p>
+ * In-memory BLOB/CLOB is written to a staging file by {@link TsurugiLargeObjectStaging} before uploading.
+ * </p>
  *
  * @since 1.16.0
  */
@@ -54,8 +59,7 @@ public class TsurugiPrivilegedLargeObjectHelper extends TsurugiLargeObjectHelper
             return null;
         }
 
-        var file = createTempFilePath(session);
-        IceaxeFileUtil.write(file, is);
+        var file = getStaging().stageBlob(session, is);
         return uploadBlobTempFile(session, file, timeout);
     }
 
@@ -65,17 +69,52 @@ public class TsurugiPrivilegedLargeObjectHelper extends TsurugiLargeObjectHelper
             return null;
         }
 
-        var file = createTempFilePath(session);
-        Files.write(file, value);
+        var staging = getStaging();
+        if (staging.isStream(value.length)) {
+            staging.recordStream(value.length);
+            var lowLargeObjectClient = getLowLargeObjectClient(session);
+            var future = lowLargeObjectClient.upload(new ByteArrayInputStream(value));
+            return uploadBlob(future, timeout);
+        }
+
+        var file = staging.stageBlob(session, value);
         return uploadBlobTempFile(session, file, timeout);
     }
 
+    @Override
+    public TsurugiLargeObjectUpload<TgRemoteBlob> startUploadBlob(TsurugiSession session, TgBlob value, IceaxeTimeout timeout) throws IOException, InterruptedException {
+        var path = value.getPath();
+        if (path == null) {
+            return super.startUploadBlob(session, value, timeout);
+        }
+
+        var lowLargeObjectClient = getLowLargeObjectClient(session);
+        var future = lowLargeObjectClient.upload(path);
+        return startUploadBlob(future, timeout, null);
+    }
+
+    @Override
+    protected TsurugiLargeObjectStaging createDefaultStaging() {
+        return new TsurugiLargeObjectTempFileStaging() {
+            @Override
+            protected Path createStagingFile(TsurugiSession session) {
+                return createTempFilePath(session);
+            }
+        };
+    }
+
     /**
      * Creates a temporary file path.
      *
+     * <p>
+     * Called by the default staging. Not called if a staging is set by {@link #setStaging(TsurugiLargeObjectStaging)}.
+     * </p>
+     *
      * @param session Tsurugi session
      * @return temporary file path
+     * @deprecated Use {@link TsurugiLargeObjectStaging}
      */
+    @Deprecated(since = "1.17.0")
     protected Path createTempFilePath(TsurugiSession session) {
         var objectFactory = session.getLobFactory().getIceaxeObjectFactory();
         return objectFactory.createTempFilePath();
@@ -95,7 +134,13 @@ public class TsurugiPrivilegedLargeObjectHelper extends TsurugiLargeObjectHelper
         var lowLargeObjectClient = getLowLargeObjectClient(session);
         var future = lowLargeObjectClient.upload(path);
         var lowLargeObjectInfo = getLowLargeObjectInfo(future, timeout, IceaxeErrorCode.BLOB_UPLOAD_TIMEOUT, IceaxeErrorCode.BLOB_CLOSE_TIMEOUT);
-        var blob = new TgRemoteBlobTempFile(lowLargeObjectInfo, path);
+        var staging = getStaging();
+        var blob = new TgRemoteBlobTempFile(lowLargeObjectInfo, path) {
+            @Override
+            protected void deleteTempFile(Path file) throws IOException {
+                staging.release(file);
+            }
+        };
         addChild(blob);
         return blob;
     }
@@ -117,8 +162,7 @@ public class TsurugiPrivilegedLargeObjectHelper extends TsurugiLargeObjectHelper
             return null;
         }
 
-        var file = createTempFilePath(session);
-        IceaxeFileUtil.write(file, reader);
+        var file = getStaging().stageClob(session, reader);
         return uploadClobTempFile(session, file, timeout);
     }
 
@@ -128,11 +172,30 @@ public class TsurugiPrivilegedLargeObjectHelper extends TsurugiLargeObjectHelper
             return null;
         }
 
-        var file = createTempFilePath(session);
-        IceaxeFileUtil.write(file, value);
+        var staging = getStaging();
+        if (staging.isStream(value.length())) {
+            staging.recordStream(value.length());
+            var lowLargeObjectClient = getLowLargeObjectClient(session);
+            var future = lowLargeObjectClient.upload(new StringReader(value));
+            return uploadClob(future, timeout);
+        }
+
+        var file = staging.stageClob(session, value);
         return uploadClobTempFile(session, file, timeout);
     }
 
+    @Override
+    public TsurugiLargeObjectUpload<TgRemoteClob> startUploadClob(TsurugiSession session, TgClob value, IceaxeTimeout timeout) throws IOException, InterruptedException {
+        var path = value.getPath();
+        if (path == null) {
+            return super.startUploadClob(session, value, timeout);
+        }
+
+        var lowLargeObjectClient = getLowLargeObjectClient(session);
+        var future = lowLargeObjectClient.upload(path);
+        return startUploadClob(future, timeout, null);
+    }
+
     /**
      * Upload CLOB using temporary file.
      *
@@ -147,7 +210,13 @@ public class TsurugiPrivilegedLargeObjectHelper extends TsurugiLargeObjectHelper
         var lowLargeObjectClient = getLowLargeObjectClient(session);
         var future = lowLargeObjectClient.upload(path);
         var lowLargeObjectInfo = getLowLargeObjectInfo(future, timeout, IceaxeErrorCode.CLOB_UPLOAD_TIMEOUT, IceaxeErrorCode.CLOB_CLOSE_TIMEOUT);
-        var clob = new TgRemoteClobTempFile(lowLargeObjectInfo, path);
+        var staging = getStaging();
+        var clob = new TgRemoteClobTempFile(lowLargeObjectInfo, path) {
+            @Override
+            protected void deleteTempFile(Path file) throws IOException {
+                staging.release(file);
+            }
+        };
         addChild(clob);
         return clob;
     }
@@ -23,6 +23,8 @@ import java.io.StringReader;
 import java.nio.file.Path;
 
 import com.tsurugidb.iceaxe.session.TsurugiSession;
+import com.tsurugidb.iceaxe.sql.type.TgBlob;
+import com.tsurugidb.iceaxe.sql.type.TgClob;
 import com.tsurugidb.iceaxe.sql.type.TgRemoteBlob;
 import com.tsurugidb.iceaxe.sql.type.TgRemoteClob;
 import com.tsurugidb.iceaxe.util.IceaxeTimeout;
@@ -69,6 +71,30 @@ public class TsurugiRelayLargeObjectHelper extends TsurugiLargeObjectHelper {
         return uploadBlob(future, timeout);
     }
 
+    @Override
+    public TsurugiLargeObjectUpload<TgRemoteBlob> startUploadBlob(TsurugiSession session, TgBlob value, IceaxeTimeout timeout) throws IOException, InterruptedException {
+        var lowLargeObjectClient = getLowLargeObjectClient(session);
+
+        var path = value.getPath();
+        if (path != null) {
+            var future = lowLargeObjectClient.upload(path);
+            return startUploadBlob(future, timeout, null);
+        }
+
+        var is = value.openInputStream();
+        try {
+            var future = lowLargeObjectClient.upload(is);
+            return startUploadBlob(future, timeout, is);
+        } catch (Throwable e) {
+            try {
+                is.close();
+            } catch (Throwable t) {
+                e.addSuppressed(t);
+            }
+            throw e;
+        }
+    }
+
     @Override
     public TgRemoteClob uploadClob(TsurugiSession session, Path path, IceaxeTimeout timeout) throws IOException, InterruptedException {
         if (path == null) {
@@ -103,4 +129,28 @@ public class TsurugiRelayLargeObjectHelper extends TsurugiLargeObjectHelper {
         var future = lowLargeObjectClient.upload(new StringReader(value));
         return uploadClob(future, timeout);
     }
+
+    @Override
+    public TsurugiLargeObjectUpload<TgRemoteClob> startUploadClob(TsurugiSession session, TgClob value, IceaxeTimeout timeout) throws IOException, InterruptedException {
+        var lowLargeObjectClient = getLowLargeObjectClient(session);
+
+        var path = value.getPath();
+        if (path != null) {
+            var future = lowLargeObjectClient.upload(path);
+            return startUploadClob(future, timeout, null);
+        }
+
+        var reader = value.openReader();
+        try {
+            var future = lowLargeObjectClient.upload(reader);
+            return startUploadClob(future, timeout, reader);
+        } catch (Throwable e) {
+            try {
+                reader.close();
+            } catch (Throwable t) {
+                e.addSuppressed(t);
+            }
+            throw e;
+        }
+    }
 }
@@ -43,6 +43,7 @@ import com.tsurugidb.iceaxe.transaction.TgCommitOption;
 import com.tsurugidb.iceaxe.transaction.TgCommitType;
 import com.tsurugidb.iceaxe.transaction.TsurugiTransaction;
 import com.tsurugidb.iceaxe.transaction.status.TsurugiTransactionStatusHelper;
+import com.tsurugidb.iceaxe.util.IceaxeBackgroundDisposer;
 import com.tsurugidb.iceaxe.util.TgTimeValue;
 import com.tsurugidb.tsubakuro.common.BlobPathMapping;
 
@@ -191,6 +192,9 @@ public class TgSessionOption {
     private TgLobTransferType lobTransferType = TgLobTransferType.DEFAULT;
     private BlobPathMapping.Builder blobPathMappingBuilder = null;
     private URI blobRelayServiceEndpoint = null;
+    private boolean lobUploadParallel = false;
+    private IceaxeBackgroundDisposer backgroundDisposer = null;
+    private int closeParallelism = 1;
     private TgCommitOption commitOption = TgCommitOption.of();
     private TgSessionShutdownType closeShutdownType = TgSessionShutdownType.FORCEFUL;
 
@@ -405,6 +409,87 @@ public class TgSessionOption {
         return Optional.ofNullable(this.blobRelayServiceEndpoint);
     }
 
+    /**
+     * Set whether to upload BLOB/CLOB parameters in parallel.
+     *
+     * <p>
+     * When enabled, all BLOB/CLOB uploads of one parameter set are started at once, and then waited for together.
+     * </p>
+     *
+     * @param enabled {@code true} to upload in parallel
+     * @return this
+     * @since 1.17.0
+     */
+    public TgSessionOption setLobUploadParallel(boolean enabled) {
+        this.lobUploadParallel = enabled;
+        return this;
+    }
+
+    /**
+     * Get whether to upload BLOB/CLOB parameters in parallel.
+     *
+     * @return {@code true} to upload in parallel
+     * @since 1.17.0
+     */
+    public boolean isLobUploadParallel() {
+        return this.lobUploadParallel;
+    }
+
+    /**
+     * Set background disposer.
+     *
+     * <p>
+     * When set, the transaction committed with {@link TgCommitOption#autoDispose() autoDispose} is closed by the disposer.
+     * </p>
+     *
+     * @param disposer background disposer ({@code null} if closed by the caller)
+     * @return this
+     * @since 1.17.0
+     */
+    public TgSessionOption setBackgroundDisposer(@Nullable IceaxeBackgroundDisposer disposer) {
+        this.backgroundDisposer = disposer;
+        return this;
+    }
+
+    /**
+     * Get background disposer.
+     *
+     * @return background disposer
+     * @since 1.17.0
+     */
+    public @Nullable IceaxeBackgroundDisposer getBackgroundDisposer() {
+        return this.backgroundDisposer;
+    }
+
+    /**
+     * Set maximum number of child resources closed at the same time on session close/shutdown.
+     *
+     * <p>
+     * When greater than 1, the child resources (transactions, prepared statements, etc.) are closed concurrently under the single close timeout.
+     * </p>
+     *
+     * @param parallelism maximum number of child resources closed at the same time (1 closes sequentially)
+     * @return this
+     * @since 1.17.0
+     */
+    public TgSessionOption setCloseParallelism(int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism must be positive. parallelism=" + parallelism);
+        }
+        this.closeParallelism = parallelism;
+        return this;
+    }
+
+    /**
+     * Get maximum number of child resources closed at the same time on session close/shutdown.
+     *
+     * @return parallelism
+     * @since 1.17.0
+     */
+    public int getCloseParallelism() {
+        return this.closeParallelism;
+    }
+
     /**
      * set commit type.
      *
@@ -16,7 +16,6 @@
 package com.tsurugidb.iceaxe.session;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -34,6 +33,8 @@ import org.slf4j.LoggerFactory;
 import com.tsurugidb.iceaxe.exception.IceaxeErrorCode;
 import com.tsurugidb.iceaxe.exception.IceaxeIOException;
 import com.tsurugidb.iceaxe.exception.IceaxeTimeoutIOException;
+import com.tsurugidb.iceaxe.jfr.TsurugiSessionCloseJfrEvent;
+import com.tsurugidb.iceaxe.jfr.TsurugiSessionConnectJfrEvent;
 import com.tsurugidb.iceaxe.lob.TsurugiLargeObjectHelper;
 import com.tsurugidb.iceaxe.lob.TsurugiLargeObjectHelperFactory;
 import com.tsurugidb.iceaxe.metadata.TgTableMetadata;
@@ -59,6 +60,7 @@ import com.tsurugidb.iceaxe.transaction.option.TgTxOption;
 import com.tsurugidb.iceaxe.transaction.status.TsurugiTransactionStatusHelper;
 import com.tsurugidb.iceaxe.util.IceaxeCloseableSet;
 import com.tsurugidb.iceaxe.util.IceaxeConvertUtil;
+import com.tsurugidb.iceaxe.util.IceaxeEventListenerList;
 import com.tsurugidb.iceaxe.util.IceaxeInternal;
 import com.tsurugidb.iceaxe.util.IceaxeIoUtil;
 import com.tsurugidb.iceaxe.util.IceaxeTimeout;
@@ -67,6 +69,7 @@ import com.tsurugidb.iceaxe.util.TgTimeValue;
 import com.tsurugidb.tsubakuro.common.Session;
 import com.tsurugidb.tsubakuro.common.ShutdownType;
 import com.tsurugidb.tsubakuro.sql.SqlClient;
+import com.tsurugidb.tsubakuro.sql.Transaction;
 import com.tsurugidb.tsubakuro.util.FutureResponse;
 
 /**
@@ -95,9 +98,10 @@ public class TsurugiSession implements IceaxeTimeoutCloseable {
     private final IceaxeTimeout connectTimeout;
     private final IceaxeTimeout closeTimeout;
 
-    private List<TsurugiSessionEventListener> eventListenerList = null;
+    private volatile IceaxeEventListenerList<TsurugiSessionEventListener> eventListenerList = IceaxeEventListenerList.none();
 
     private final IceaxeCloseableSet closeableSet = new IceaxeCloseableSet();
+    private volatile TsurugiTransactionReservoir transactionReservoir = null;
     private TgSessionShutdownType closeShutdownType = null;
     private volatile boolean closed = false;
 
@@ -211,10 +215,9 @@ public class TsurugiSession implements IceaxeTimeoutCloseable {
      * @return this
      */
     public TsurugiSession addEventListener(TsurugiSessionEventListener listener) {
-        if (this.eventListenerList == null) {
-            this.eventListenerList = new ArrayList<>();
+        synchronized (this) {
+            this.eventListenerList = eventListenerList.add(listener);
         }
-        eventListenerList.add(listener);
         return this;
     }
 
@@ -226,31 +229,11 @@ public class TsurugiSession implements IceaxeTimeoutCloseable {
      * @since 1.3.0
      */
     public Optional<TsurugiSessionEventListener> findEventListener(Predicate<TsurugiSessionEventListener> predicate) {
-        var listenerList = this.eventListenerList;
-        if (listenerList != null) {
-            for (var listener : listenerList) {
-                if (predicate.test(listener)) {
-                    return Optional.of(listener);
-                }
-            }
-        }
-        return Optional.empty();
+        return eventListenerList.find(predicate);
     }
 
     private void event(Throwable occurred, Consumer<TsurugiSessionEventListener> action) {
-        var listenerList = this.eventListenerList;
-        if (listenerList != null) {
-            try {
-                for (var listener : listenerList) {
-                    action.accept(listener);
-                }
-            } catch (Throwable e) {
-                if (occurred != null) {
-                    e.addSuppressed(occurred);
-                }
-                throw e;
-            }
-        }
+        eventListenerList.event(occurred, action);
     }
 
     /**
@@ -331,6 +314,7 @@ public class TsurugiSession implements IceaxeTimeoutCloseable {
             }
 
             LOG.trace("lowSession get start");
+            var jfrEvent = TsurugiSessionConnectJfrEvent.beginIfEnabled();
             try {
                 this.lowSession = IceaxeIoUtil.getAndCloseFuture(lowSessionFuture, //
                         timeout, IceaxeErrorCode.SESSION_CONNECT_TIMEOUT, //
@@ -341,12 +325,15 @@ public class TsurugiSession implements IceaxeTimeoutCloseable {
                     e = new IceaxeTimeoutIOException(timeoutErrorCode, e);
                 }
                 this.lowFutureException = e;
+                TsurugiSessionConnectJfrEvent.emit(jfrEvent, this, false);
                 throw e;
             } catch (Throwable e) {
                 this.lowFutureException = e;
+                TsurugiSessionConnectJfrEvent.emit(jfrEvent, this, false);
                 throw e;
             }
             LOG.trace("lowSession get end");
+            TsurugiSessionConnectJfrEvent.emit(jfrEvent, this, true);
 
             this.lowSessionFuture = null;
         }
@@ -544,7 +531,9 @@ public class TsurugiSession implements IceaxeTimeoutCloseable {
         LOG.trace("createQuery. sql={}", sql);
         var ps = new TsurugiSqlQuery<>(this, sql, resultMapping);
         ps.initialize();
-        event(null, listener -> listener.createQuery(ps));
+        if (eventListenerList.exists()) {
+            event(null, listener -> listener.createQuery(ps));
+        }
         return ps;
     }
 
@@ -584,7 +573,9 @@ public class TsurugiSession implements IceaxeTimeoutCloseable {
         LOG.trace("createQuery started");
         var ps = new TsurugiSqlPreparedQuery<>(this, sql, parameterMapping, resultMapping);
         ps.initialize(lowPreparedStatementFuture);
-        event(null, listener -> listener.createQuery(ps));
+        if (eventListenerList.exists()) {
+            event(null, listener -> listener.createQuery(ps));
+        }
         return ps;
     }
 
@@ -601,7 +592,9 @@ public class TsurugiSession implements IceaxeTimeoutCloseable {
         LOG.trace("createStatement. sql={}", sql);
         var ps = new TsurugiSqlStatement(this, sql);
         ps.initialize();
-        event(null, listener -> listener.createStatement(ps));
+        if (eventListenerList.exists()) {
+            event(null, listener -> listener.createStatement(ps));
+        }
         return ps;
     }
 
@@ -624,7 +617,9 @@ public class TsurugiSession implements IceaxeTimeoutCloseable {
         LOG.trace("createStatement started");
         var ps = new TsurugiSqlPreparedStatement<>(this, sql, parameterMapping);
         ps.initialize(lowPreparedStatementFuture);
-        event(null, listener -> listener.createStatement(ps));
+        if (eventListenerList.exists()) {
+            event(null, listener -> listener.createStatement(ps));
+        }
         return ps;
     }
 
@@ -647,7 +642,9 @@ public class TsurugiSession implements IceaxeTimeoutCloseable {
 //  @ThreadSafe
     public TsurugiTransactionManager createTransactionManager(TgTmSetting setting) {
         var tm = new TsurugiTransactionManager(this, setting);
-        event(null, listener -> listener.createTransactionManager(tm));
+        if (eventListenerList.exists()) {
+            event(null, listener -> listener.createTransactionManager(tm));
+        }
         return tm;
     }
 
@@ -690,18 +687,57 @@ public class TsurugiSession implements IceaxeTimeoutCloseable {
         checkClose();
 
         var lowOption = txOption.toLowTransactionOption();
-        LOG.trace("lowTransaction create start. lowOption={}", lowOption);
-        var lowTransactionFuture = getLowSqlClient().createTransaction(lowOption);
-        LOG.trace("lowTransaction create started");
+        FutureResponse<Transaction> lowTransactionFuture = null;
+        var reservoir = this.transactionReservoir;
+        if (reservoir != null) {
+            lowTransactionFuture = reservoir.poll(lowOption);
+        }
+        if (lowTransactionFuture != null) {
+            LOG.trace("lowTransaction taken from reservoir. lowOption={}", lowOption);
+        } else {
+            LOG.trace("lowTransaction create start. lowOption={}", lowOption);
+            lowTransactionFuture = getLowSqlClient().createTransaction(lowOption);
+            LOG.trace("lowTransaction create started");
+        }
         var transaction = newTsurugiTransaction(txOption);
         transaction.initialize(lowTransactionFuture);
         if (initializer != null) {
             initializer.accept(transaction);
         }
-        event(null, listener -> listener.createTransaction(transaction));
+        if (eventListenerList.exists()) {
+            event(null, listener -> listener.createTransaction(transaction));
+        }
         return transaction;
     }
 
+    /**
+     * set transaction reservoir.
+     *
+     * <p>
+     * The reservoir is closed when this session is closed.
+     * </p>
+     *
+     * @param reservoir transaction reservoir (not attached to other sessions)
+     * @throws IOException if already closed
+     * @since 1.17.0
+     */
+    public void setTransactionReservoir(@Nonnull TsurugiTransactionReservoir reservoir) throws IOException {
+        checkClose();
+        reservoir.attach(this);
+        addChild(reservoir);
+        this.transactionReservoir = reservoir;
+    }
+
+    /**
+     * get transaction reservoir.
+     *
+     * @return transaction reservoir. {@code null} if not set
+     * @since 1.17.0
+     */
+    public @Nullable TsurugiTransactionReservoir getTransactionReservoir() {
+        return this.transactionReservoir;
+    }
+
     /**
      * create transaction instance.
      *
@@ -824,7 +860,7 @@ public class TsurugiSession implements IceaxeTimeoutCloseable {
         LOG.trace("session shutdown start. shutdownType={}", shutdownType);
         Throwable occurred = null;
         try {
-            IceaxeIoUtil.close(timeoutNanos, closeableSet, IceaxeErrorCode.SESSION_CHILD_CLOSE_ERROR, t -> {
+            IceaxeIoUtil.close(timeoutNanos, closeableSet, sessionOption.getCloseParallelism(), IceaxeErrorCode.SESSION_CHILD_CLOSE_ERROR, t -> {
                 if (shutdownType == null) {
                     LOG.trace("do not shutdown. shutdownType=null");
                     return;
@@ -850,7 +886,9 @@ public class TsurugiSession implements IceaxeTimeoutCloseable {
             throw e;
         } finally {
             var finalOccurred = occurred;
-            event(occurred, listener -> listener.shutdownSession(this, shutdownType, timeoutNanos, finalOccurred));
+            if (eventListenerList.exists()) {
+                event(occurred, listener -> listener.shutdownSession(this, shutdownType, timeoutNanos, finalOccurred));
+            }
         }
         LOG.trace("session shutdown end");
     }
@@ -878,9 +916,10 @@ public class TsurugiSession implements IceaxeTimeoutCloseable {
         this.closed = true;
 
         LOG.trace("session close start");
+        var jfrEvent = TsurugiSessionCloseJfrEvent.beginIfEnabled();
         Throwable occurred = null;
         try {
-            IceaxeIoUtil.close(timeoutNanos, closeableSet, IceaxeErrorCode.SESSION_CHILD_CLOSE_ERROR, t -> {
+            IceaxeIoUtil.close(timeoutNanos, closeableSet, sessionOption.getCloseParallelism(), IceaxeErrorCode.SESSION_CHILD_CLOSE_ERROR, t -> {
                 IceaxeTimeoutCloseable shutdownCloseable = shutdownTimeout -> {
                     if (this.lowSession != null) {
                         shutdown(getCloseShutdownType(), shutdownTimeout);
@@ -894,8 +933,11 @@ public class TsurugiSession implements IceaxeTimeoutCloseable {
             occurred = e;
             throw e;
         } finally {
+            TsurugiSessionCloseJfrEvent.emit(jfrEvent, this, occurred == null);
             var finalOccurred = occurred;
-            event(occurred, listener -> listener.closeSession(this, timeoutNanos, finalOccurred));
+            if (eventListenerList.exists()) {
+                event(occurred, listener -> listener.closeSession(this, timeoutNanos, finalOccurred));
+            }
         }
         LOG.trace("session close end");
     }
@@ -0,0 +1,338 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.iceaxe.session;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.tsurugidb.iceaxe.transaction.option.TgTxOption;
+import com.tsurugidb.iceaxe.util.IceaxeTimeoutCloseable;
+import com.tsurugidb.sql.proto.SqlRequest.TransactionOption;
+import com.tsurugidb.tsubakuro.sql.Transaction;
+import com.tsurugidb.tsubakuro.util.FutureResponse;
+
+/**
+ * Tsurugi transaction reservoir.
+ *
+ * <p>
+ * Keeps the transactions of the specified OCC options begun in advance, and hands them out by {@link TsurugiSession#createTransaction(TgTxOption)} when the
+ * option matches. Transactions older than the maximum age are discarded, and the reservoir is refilled in a background thread.
+ * </p>
+ *
+ * <pre>
+ * var reservoir = new TsurugiTransactionReservoir(2, 1, TimeUnit.SECONDS).addOption(TgTxOption.ofOCC());
+ * session.setTransactionReservoir(reservoir);
+ * </pre>
+ *
+ * @see TsurugiSession#setTransactionReservoir(TsurugiTransactionReservoir)
+ * @since 1.17.0
+ */
+@ThreadSafe
+public class TsurugiTransactionReservoir implements IceaxeTimeoutCloseable {
+    private static final Logger LOG = LoggerFactory.getLogger(TsurugiTransactionReservoir.class);
+
+    private static final AtomicInteger INSTANCE_COUNT = new AtomicInteger(0);
+
+    private static final class Entry {
+        private final FutureResponse<Transaction> future;
+        private final long createdNanos;
+
+        Entry(FutureResponse<Transaction> future, long createdNanos) {
+            this.future = future;
+            this.createdNanos = createdNanos;
+        }
+    }
+
+    private final int size;
+    private final long maxAgeNanos;
+    private final Map<TransactionOption, ConcurrentLinkedDeque<Entry>> reservoirMap = new ConcurrentHashMap<>();
+    private TsurugiSession ownerSession;
+    private volatile ScheduledExecutorService executor;
+    private final AtomicBoolean refillRequested = new AtomicBoolean();
+    private volatile boolean closed = false;
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong staleCount = new AtomicLong();
+    private final AtomicLong beginCount = new AtomicLong();
+
+    /**
+     * Creates a new instance.
+     *
+     * @param size   number of transactions per option
+     * @param maxAge maximum age of transaction
+     * @param unit   time unit of maximum age
+     */
+    public TsurugiTransactionReservoir(int size, long maxAge, @Nonnull TimeUnit unit) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("size must be positive. size=" + size);
+        }
+        if (maxAge <= 0) {
+            throw new IllegalArgumentException("maxAge must be positive. maxAge=" + maxAge);
+        }
+        this.size = size;
+        this.maxAgeNanos = unit.toNanos(maxAge);
+    }
+
+    /**
+     * add transaction option.
+     *
+     * @param txOption transaction option (OCC)
+     * @return this
+     */
+    public TsurugiTransactionReservoir addOption(@Nonnull TgTxOption txOption) {
+        if (!txOption.isOCC()) {
+            throw new IllegalArgumentException("txOption must be OCC. txOption=" + txOption);
+        }
+        reservoirMap.putIfAbsent(txOption.toLowTransactionOption(), new ConcurrentLinkedDeque<>());
+        requestRefill();
+        return this;
+    }
+
+    /**
+     * get number of transactions per option.
+     *
+     * @return number of transactions
+     */
+    public int getSize() {
+        return this.size;
+    }
+
+    /**
+     * get maximum age.
+     *
+     * @param unit time unit
+     * @return maximum age
+     */
+    public long getMaxAge(TimeUnit unit) {
+        return unit.convert(maxAgeNanos, TimeUnit.NANOSECONDS);
+    }
+
+    synchronized void attach(TsurugiSession session) {
+        if (this.ownerSession != null) {
+            throw new IllegalStateException("already attached to another session");
+        }
+        this.ownerSession = Objects.requireNonNull(session);
+
+        int instanceId = INSTANCE_COUNT.incrementAndGet();
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            var thread = new Thread(runnable, "iceaxe-tx-reservoir-" + instanceId);
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = Math.max(maxAgeNanos / 2, TimeUnit.MILLISECONDS.toNanos(1));
+        executor.scheduleWithFixedDelay(this::refill, 0, interval, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * take transaction.
+     *
+     * @param lowOption transaction option
+     * @return future of transaction. {@code null} if no transaction is available
+     */
+    @Nullable
+    FutureResponse<Transaction> poll(TransactionOption lowOption) {
+        var queue = reservoirMap.get(lowOption);
+        if (queue == null || this.closed) {
+            return null;
+        }
+
+        long now = System.nanoTime();
+        try {
+            for (Entry entry; (entry = queue.pollFirst()) != null;) {
+                if (now - entry.createdNanos > maxAgeNanos) {
+                    discard(entry);
+                    continue;
+                }
+                hitCount.incrementAndGet();
+                return entry.future;
+            }
+            missCount.incrementAndGet();
+            return null;
+        } finally {
+            requestRefill();
+        }
+    }
+
+    private void requestRefill() {
+        var executor = this.executor;
+        if (executor == null || this.closed) {
+            return;
+        }
+        if (refillRequested.compareAndSet(false, true)) {
+            try {
+                executor.execute(this::refill);
+            } catch (RejectedExecutionException e) {
+                refillRequested.set(false);
+            }
+        }
+    }
+
+    /**
+     * discard stale transactions and begin new transactions.
+     */
+    protected void refill() {
+        refillRequested.set(false);
+        var session = this.ownerSession;
+        if (session == null || this.closed) {
+            return;
+        }
+
+        try {
+            for (var entry : reservoirMap.entrySet()) {
+                var lowOption = entry.getKey();
+                var queue = entry.getValue();
+
+                // the oldest transactions are at the head
+                long now = System.nanoTime();
+                for (Entry e; (e = queue.peekFirst()) != null && now - e.createdNanos > maxAgeNanos;) {
+                    if (queue.remove(e)) {
+                        discard(e);
+                    }
+                }
+
+                while (queue.size() < size && !this.closed) {
+                    var future = session.getLowSqlClient().createTransaction(lowOption);
+                    beginCount.incrementAndGet();
+                    queue.addLast(new Entry(future, System.nanoTime()));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Throwable e) {
+            LOG.warn("transaction reservoir refill error. session={}", session, e);
+        }
+        if (this.closed) {
+            clear();
+        }
+    }
+
+    private void discard(Entry entry) {
+        staleCount.incrementAndGet();
+        close(entry);
+    }
+
+    private static void close(Entry entry) {
+        try {
+            entry.future.close();
+        } catch (Throwable e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            LOG.debug("transaction reservoir discard error", e);
+        }
+    }
+
+    private void clear() {
+        for (var queue : reservoirMap.values()) {
+            for (Entry entry; (entry = queue.pollFirst()) != null;) {
+                close(entry);
+            }
+        }
+    }
+
+    /**
+     * get number of transactions handed out from this reservoir.
+     *
+     * @return count
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * get number of transactions which matched the option but were not available.
+     *
+     * @return count
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * get hit ratio.
+     *
+     * @return hit ratio (0 if not requested)
+     */
+    public double getHitRatio() {
+        long hit = hitCount.get();
+        long total = hit + missCount.get();
+        return (total == 0) ? 0 : (double) hit / total;
+    }
+
+    /**
+     * get number of discarded stale transactions.
+     *
+     * @return count
+     */
+    public long getStaleCount() {
+        return staleCount.get();
+    }
+
+    /**
+     * get number of transactions begun by this reservoir.
+     *
+     * @return count
+     */
+    public long getBeginCount() {
+        return beginCount.get();
+    }
+
+    /**
+     * get number of transactions in this reservoir.
+     *
+     * @return number of transactions
+     */
+    public int getAvailableCount() {
+        int count = 0;
+        for (var queue : reservoirMap.values()) {
+            count += queue.size();
+        }
+        return count;
+    }
+
+    @Override
+    public void close(long timeoutNanos) throws InterruptedException {
+        this.closed = true;
+        var executor = this.executor;
+        if (executor != null) {
+            executor.shutdown();
+            executor.awaitTermination(timeoutNanos, TimeUnit.NANOSECONDS);
+        }
+        clear();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[size=" + size + ", options=" + reservoirMap.size() + ", hit=" + hitCount + ", miss=" + missCount + "]";
+    }
+}
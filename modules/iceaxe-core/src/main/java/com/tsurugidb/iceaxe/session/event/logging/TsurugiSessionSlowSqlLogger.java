@@ -0,0 +1,632 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.iceaxe.session.event.logging;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.tsurugidb.iceaxe.exception.TsurugiDiagnosticCodeProvider;
+import com.tsurugidb.iceaxe.session.event.TsurugiSessionEventListener;
+import com.tsurugidb.iceaxe.sql.TsurugiSql;
+import com.tsurugidb.iceaxe.sql.TsurugiSqlDirect;
+import com.tsurugidb.iceaxe.sql.TsurugiSqlPrepared;
+import com.tsurugidb.iceaxe.sql.TsurugiSqlPreparedQuery;
+import com.tsurugidb.iceaxe.sql.TsurugiSqlPreparedStatement;
+import com.tsurugidb.iceaxe.sql.TsurugiSqlQuery;
+import com.tsurugidb.iceaxe.sql.TsurugiSqlStatement;
+import com.tsurugidb.iceaxe.sql.event.TsurugiSqlPreparedQueryResultEventListener;
+import com.tsurugidb.iceaxe.sql.event.TsurugiSqlPreparedStatementResultEventListener;
+import com.tsurugidb.iceaxe.sql.event.TsurugiSqlQueryEventListener;
+import com.tsurugidb.iceaxe.sql.event.TsurugiSqlQueryResultEventListener;
+import com.tsurugidb.iceaxe.sql.event.TsurugiSqlStatementResultEventListener;
+import com.tsurugidb.iceaxe.sql.result.TsurugiQueryResult;
+import com.tsurugidb.iceaxe.sql.result.TsurugiSqlResult;
+import com.tsurugidb.iceaxe.sql.result.TsurugiStatementResult;
+import com.tsurugidb.iceaxe.transaction.TsurugiTransaction;
+import com.tsurugidb.tsubakuro.explain.PlanGraphException;
+
+/**
+ * Tsurugi slow SQL logger.
+ *
+ * <p>
+ * Logs only the SQL executions whose execute time (until the first row or the end of statement) or fetch time (from the first row to the end of query) exceeds
+ * the threshold, and a random sample of the other executions. Each execution is written as one JSON line.
+ * </p>
+ * <p>
+ * The explain of a slow SQL is captured at most once per SQL text and kept in a bounded cache, so the server round trip of explain does not occur for every
+ * execution. The explain is executed in a background thread (not in the thread closing the result), and the record of the execution which triggered it
+ * is written by that thread after the explain. The explain is skipped if the SQL definition is already closed at that time, and retried at the next slow
+ * execution.
+ * </p>
+ *
+ * <pre>
+ * var logger = new TsurugiSessionSlowSqlLogger(100, TimeUnit.MILLISECONDS).sampleRate(0.001);
+ * session.addEventListener(logger);
+ * </pre>
+ *
+ * @since 1.17.0
+ */
+@ThreadSafe
+public class TsurugiSessionSlowSqlLogger implements TsurugiSessionEventListener {
+    private static final Logger LOG = LoggerFactory.getLogger(TsurugiSessionSlowSqlLogger.class);
+
+    /** default explain cache size */
+    public static final int DEFAULT_EXPLAIN_CACHE_SIZE = 256;
+    /** maximum number of pending explains */
+    private static final int EXPLAIN_QUEUE_SIZE = 16;
+
+    private static final AtomicInteger INSTANCE_COUNT = new AtomicInteger(0);
+
+    private static final String EXPLAIN_PENDING = "";
+
+    private static final class Execution {
+        private final TsurugiTransaction transaction;
+        private final TsurugiSql ps;
+        private final Object parameter;
+        private final boolean batch;
+        private final long startNanos;
+        private long firstRowNanos = -1;
+        private long endNanos = -1;
+        private long updateCount = -1;
+        private Throwable occurred = null;
+
+        Execution(TsurugiTransaction transaction, TsurugiSql ps, Object parameter, boolean batch, long startNanos) {
+            this.transaction = transaction;
+            this.ps = ps;
+            this.parameter = parameter;
+            this.batch = batch;
+            this.startNanos = startNanos;
+        }
+
+        void setOccurred(@Nullable Throwable occurred) {
+            if (this.occurred == null) {
+                this.occurred = occurred;
+            }
+        }
+    }
+
+    private final long thresholdNanos;
+    private volatile double sampleRate = 0;
+    private volatile int sqlMaxLength = -1;
+    private final Map<Integer, Execution> executionMap = new ConcurrentHashMap<>();
+    private final Map<String, String> explainCache;
+    private volatile int explainCacheSize = DEFAULT_EXPLAIN_CACHE_SIZE;
+    private final ThreadPoolExecutor explainExecutor;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param threshold threshold of execute time and fetch time
+     * @param unit      time unit of threshold
+     */
+    public TsurugiSessionSlowSqlLogger(long threshold, @Nonnull TimeUnit unit) {
+        this.thresholdNanos = unit.toNanos(threshold);
+        this.explainCache = new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > explainCacheSize;
+            }
+        };
+
+        int instanceId = INSTANCE_COUNT.incrementAndGet();
+        this.explainExecutor = new ThreadPoolExecutor(1, 1, 60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(EXPLAIN_QUEUE_SIZE), runnable -> {
+            var thread = new Thread(runnable, "iceaxe-slow-sql-explain-" + instanceId);
+            thread.setDaemon(true);
+            return thread;
+        });
+        explainExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * get threshold.
+     *
+     * @param unit time unit
+     * @return threshold
+     */
+    public long getThreshold(TimeUnit unit) {
+        return unit.convert(thresholdNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * set sample rate of executions under the threshold.
+     *
+     * @param sampleRate sample rate (0.0 - 1.0)
+     * @return this
+     */
+    public TsurugiSessionSlowSqlLogger sampleRate(double sampleRate) {
+        if (!(0 <= sampleRate && sampleRate <= 1)) {
+            throw new IllegalArgumentException("sampleRate must be between 0 and 1. sampleRate=" + sampleRate);
+        }
+        this.sampleRate = sampleRate;
+        return this;
+    }
+
+    /**
+     * get sample rate.
+     *
+     * @return sample rate
+     */
+    public double sampleRate() {
+        return this.sampleRate;
+    }
+
+    /**
+     * set explain cache size.
+     *
+     * @param size number of SQL whose explain is cached. 0 if not explain
+     * @return this
+     */
+    public TsurugiSessionSlowSqlLogger explainCacheSize(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("size must be non-negative. size=" + size);
+        }
+        this.explainCacheSize = size;
+        synchronized (explainCache) {
+            if (size == 0) {
+                explainCache.clear();
+            }
+        }
+        return this;
+    }
+
+    /**
+     * get explain cache size.
+     *
+     * @return number of SQL whose explain is cached
+     */
+    public int explainCacheSize() {
+        return this.explainCacheSize;
+    }
+
+    /**
+     * set SQL max length.
+     *
+     * @param maxLength max length of SQL text in the log. -1 if unlimited
+     * @return this
+     */
+    public TsurugiSessionSlowSqlLogger sqlMaxLength(int maxLength) {
+        this.sqlMaxLength = maxLength;
+        return this;
+    }
+
+    /**
+     * get SQL max length.
+     *
+     * @return max length of SQL text in the log
+     */
+    public int sqlMaxLength() {
+        return this.sqlMaxLength;
+    }
+
+    // listener
+
+    private final TsurugiSqlQueryResultEventListener<Object> queryListener = new TsurugiSqlQueryResultEventListener<>() {
+        @Override
+        public void executeQueryStart(TsurugiTransaction transaction, TsurugiSqlQuery<Object> ps, int iceaxeSqlExecuteId) {
+            doExecuteStart(transaction, ps, null, false, iceaxeSqlExecuteId);
+        }
+
+        @Override
+        public void executeQueryStartException(TsurugiTransaction transaction, TsurugiSqlQuery<Object> ps, int iceaxeSqlExecuteId, Throwable occurred) {
+            doExecuteStartException(iceaxeSqlExecuteId, occurred);
+        }
+
+        @Override
+        public void executeQueryRead(TsurugiTransaction transaction, TsurugiSqlQuery<Object> ps, TsurugiQueryResult<Object> result, Object record) {
+            doExecuteRead(result);
+        }
+
+        @Override
+        public void executeQueryException(TsurugiTransaction transaction, TsurugiSqlQuery<Object> ps, TsurugiQueryResult<Object> result, Throwable occurred) {
+            doExecuteEnd(result, occurred);
+        }
+
+        @Override
+        public void executeQueryEnd(TsurugiTransaction transaction, TsurugiSqlQuery<Object> ps, TsurugiQueryResult<Object> result) {
+            doExecuteEnd(result, null);
+        }
+
+        @Override
+        public void executeQueryClose(TsurugiTransaction transaction, TsurugiSqlQuery<Object> ps, TsurugiQueryResult<Object> result, long timeoutNanos, @Nullable Throwable occurred) {
+            doExecuteClose(result, occurred);
+        }
+    };
+
+    private final TsurugiSqlPreparedQueryResultEventListener<Object, Object> preparedQueryListener = new TsurugiSqlPreparedQueryResultEventListener<>() {
+        @Override
+        public void executeQueryStart(TsurugiTransaction transaction, TsurugiSqlPreparedQuery<Object, Object> ps, Object parameter, int iceaxeSqlExecuteId) {
+            doExecuteStart(transaction, ps, parameter, false, iceaxeSqlExecuteId);
+        }
+
+        @Override
+        public void executeQueryStartException(TsurugiTransaction transaction, TsurugiSqlPreparedQuery<Object, Object> ps, Object parameter, int iceaxeSqlExecuteId, Throwable occurred) {
+            doExecuteStartException(iceaxeSqlExecuteId, occurred);
+        }
+
+        @Override
+        public void executeQueryRead(TsurugiTransaction transaction, TsurugiSqlPreparedQuery<Object, Object> ps, Object parameter, TsurugiQueryResult<Object> result, Object record) {
+            doExecuteRead(result);
+        }
+
+        @Override
+        public void executeQueryException(TsurugiTransaction transaction, TsurugiSqlPreparedQuery<Object, Object> ps, Object parameter, TsurugiQueryResult<Object> result, Throwable occurred) {
+            doExecuteEnd(result, occurred);
+        }
+
+        @Override
+        public void executeQueryEnd(TsurugiTransaction transaction, TsurugiSqlPreparedQuery<Object, Object> ps, Object parameter, TsurugiQueryResult<Object> result) {
+            doExecuteEnd(result, null);
+        }
+
+        @Override
+        public void executeQueryClose(TsurugiTransaction transaction, TsurugiSqlPreparedQuery<Object, Object> ps, Object parameter, TsurugiQueryResult<Object> result, long timeoutNanos,
+                @Nullable Throwable occurred) {
+            doExecuteClose(result, occurred);
+        }
+    };
+
+    private final TsurugiSqlStatementResultEventListener statementListener = new TsurugiSqlStatementResultEventListener() {
+        @Override
+        public void executeStatementStart(TsurugiTransaction transaction, TsurugiSqlStatement ps, int iceaxeSqlExecuteId) {
+            doExecuteStart(transaction, ps, null, false, iceaxeSqlExecuteId);
+        }
+
+        @Override
+        public void executeStatementStartException(TsurugiTransaction transaction, TsurugiSqlStatement ps, int iceaxeSqlExecuteId, Throwable occurred) {
+            doExecuteStartException(iceaxeSqlExecuteId, occurred);
+        }
+
+        @Override
+        public void executeStatementEnd(TsurugiTransaction transaction, TsurugiSqlStatement ps, TsurugiStatementResult result, @Nullable Throwable occurred) {
+            doExecuteUpdateEnd(result, occurred);
+        }
+
+        @Override
+        public void executeStatementClose(TsurugiTransaction transaction, TsurugiSqlStatement ps, TsurugiStatementResult result, long timeoutNanos, @Nullable Throwable occurred) {
+            doExecuteClose(result, occurred);
+        }
+    };
+
+    private final TsurugiSqlPreparedStatementResultEventListener<Object> preparedStatementListener = new TsurugiSqlPreparedStatementResultEventListener<>() {
+        @Override
+        public void executeStatementStart(TsurugiTransaction transaction, TsurugiSqlPreparedStatement<Object> ps, Object parameter, int iceaxeSqlExecuteId) {
+            doExecuteStart(transaction, ps, parameter, false, iceaxeSqlExecuteId);
+        }
+
+        @Override
+        public void executeStatementStartException(TsurugiTransaction transaction, TsurugiSqlPreparedStatement<Object> ps, Object parameter, int iceaxeSqlExecuteId, Throwable occurred) {
+            doExecuteStartException(iceaxeSqlExecuteId, occurred);
+        }
+
+        @Override
+        public void executeStatementEnd(TsurugiTransaction transaction, TsurugiSqlPreparedStatement<Object> ps, Object parameter, TsurugiStatementResult result, @Nullable Throwable occurred) {
+            doExecuteUpdateEnd(result, occurred);
+        }
+
+        @Override
+        public void executeStatementClose(TsurugiTransaction transaction, TsurugiSqlPreparedStatement<Object> ps, Object parameter, TsurugiStatementResult result, long timeoutNanos,
+                @Nullable Throwable occurred) {
+            doExecuteClose(result, occurred);
+        }
+
+        @Override
+        public void executeBatchStart(TsurugiTransaction transaction, TsurugiSqlPreparedStatement<Object> ps, Collection<Object> parameterList, int iceaxeSqlExecuteId) {
+            doExecuteStart(transaction, ps, parameterList, true, iceaxeSqlExecuteId);
+        }
+
+        @Override
+        public void executeBatchStartException(TsurugiTransaction transaction, TsurugiSqlPreparedStatement<Object> ps, Collection<Object> parameterList, int iceaxeSqlExecuteId, Throwable occurred) {
+            doExecuteStartException(iceaxeSqlExecuteId, occurred);
+        }
+
+        @Override
+        public void executeBatchEnd(TsurugiTransaction transaction, TsurugiSqlPreparedStatement<Object> ps, Collection<Object> parameterList, TsurugiStatementResult result,
+                @Nullable Throwable occurred) {
+            doExecuteUpdateEnd(result, occurred);
+        }
+
+        @Override
+        public void executeBatchClose(TsurugiTransaction transaction, TsurugiSqlPreparedStatement<Object> ps, Collection<Object> parameterList, TsurugiStatementResult result, long timeoutNanos,
+                @Nullable Throwable occurred) {
+            doExecuteClose(result, occurred);
+        }
+    };
+
+    @Override
+    public <R> void createQuery(TsurugiSqlQuery<R> ps) {
+        @SuppressWarnings("unchecked")
+        var listener = (TsurugiSqlQueryEventListener<R>) this.queryListener;
+        ps.addEventListener(listener);
+    }
+
+    @Override
+    public <P, R> void createQuery(TsurugiSqlPreparedQuery<P, R> ps) {
+        @SuppressWarnings("unchecked")
+        var listener = (TsurugiSqlPreparedQueryResultEventListener<P, R>) this.preparedQueryListener;
+        ps.addEventListener(listener);
+    }
+
+    @Override
+    public void createStatement(TsurugiSqlStatement ps) {
+        ps.addEventListener(statementListener);
+    }
+
+    @Override
+    public <P> void createStatement(TsurugiSqlPreparedStatement<P> ps) {
+        @SuppressWarnings("unchecked")
+        var listener = (TsurugiSqlPreparedStatementResultEventListener<P>) this.preparedStatementListener;
+        ps.addEventListener(listener);
+    }
+
+    private void doExecuteStart(TsurugiTransaction transaction, TsurugiSql ps, Object parameter, boolean batch, int iceaxeSqlExecuteId) {
+        executionMap.put(iceaxeSqlExecuteId, new Execution(transaction, ps, parameter, batch, System.nanoTime()));
+    }
+
+    private void doExecuteStartException(int iceaxeSqlExecuteId, Throwable occurred) {
+        var execution = executionMap.remove(iceaxeSqlExecuteId);
+        if (execution == null) {
+            return;
+        }
+        long now = System.nanoTime();
+        execution.endNanos = now;
+        execution.setOccurred(occurred);
+        logExecution(iceaxeSqlExecuteId, execution, -1, now);
+    }
+
+    private void doExecuteRead(TsurugiQueryResult<?> result) {
+        if (result.getReadCount() != 1) {
+            return;
+        }
+        var execution = executionMap.get(result.getIceaxeSqlExecuteId());
+        if (execution != null) {
+            execution.firstRowNanos = System.nanoTime();
+        }
+    }
+
+    private void doExecuteEnd(TsurugiSqlResult result, @Nullable Throwable occurred) {
+        var execution = executionMap.get(result.getIceaxeSqlExecuteId());
+        if (execution == null) {
+            return;
+        }
+        if (execution.endNanos < 0) {
+            execution.endNanos = System.nanoTime();
+        }
+        execution.setOccurred(occurred);
+    }
+
+    private void doExecuteUpdateEnd(TsurugiStatementResult result, @Nullable Throwable occurred) {
+        doExecuteEnd(result, occurred);
+        if (occurred != null) {
+            return;
+        }
+        var execution = executionMap.get(result.getIceaxeSqlExecuteId());
+        if (execution == null) {
+            return;
+        }
+        try {
+            execution.updateCount = result.getCountDetail().getTotalCount();
+        } catch (Exception e) {
+            LOG.debug("getCountDetail error", e);
+        }
+    }
+
+    private void doExecuteClose(TsurugiSqlResult result, @Nullable Throwable occurred) {
+        var execution = executionMap.remove(result.getIceaxeSqlExecuteId());
+        if (execution == null) {
+            return;
+        }
+        execution.setOccurred(occurred);
+        long readCount = -1;
+        if (result instanceof TsurugiQueryResult) {
+            readCount = ((TsurugiQueryResult<?>) result).getReadCount();
+        }
+        logExecution(result.getIceaxeSqlExecuteId(), execution, readCount, System.nanoTime());
+    }
+
+    // log
+
+    private void logExecution(int iceaxeSqlExecuteId, Execution execution, long readCount, long closeNanos) {
+        long endNanos = (execution.endNanos >= 0) ? execution.endNanos : closeNanos;
+        long executeNanos;
+        long fetchNanos;
+        if (execution.firstRowNanos >= 0) {
+            executeNanos = execution.firstRowNanos - execution.startNanos;
+            fetchNanos = endNanos - execution.firstRowNanos;
+        } else {
+            executeNanos = endNanos - execution.startNanos;
+            fetchNanos = 0;
+        }
+
+        boolean slow = executeNanos >= thresholdNanos || fetchNanos >= thresholdNanos;
+        if (!slow) {
+            double sampleRate = this.sampleRate;
+            if (sampleRate <= 0 || ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+                return;
+            }
+        }
+
+        var sb = new StringBuilder(256);
+        sb.append("{\"type\":\"").append(slow ? "slow" : "sample").append('"');
+        sb.append(",\"iceaxeTxId\":").append(execution.transaction.getIceaxeTxId());
+        sb.append(",\"iceaxeSqlId\":").append(execution.ps.getIceaxeSqlId());
+        sb.append(",\"iceaxeSqlExecuteId\":").append(iceaxeSqlExecuteId);
+        sb.append(",\"executeUs\":").append(TimeUnit.NANOSECONDS.toMicros(executeNanos));
+        sb.append(",\"fetchUs\":").append(TimeUnit.NANOSECONDS.toMicros(fetchNanos));
+        if (readCount >= 0) {
+            sb.append(",\"read\":").append(readCount);
+        }
+        if (execution.updateCount >= 0) {
+            sb.append(",\"update\":").append(execution.updateCount);
+        }
+        var occurred = execution.occurred;
+        if (occurred != null) {
+            var code = TsurugiDiagnosticCodeProvider.findDiagnosticCodeProvider(occurred).map(TsurugiDiagnosticCodeProvider::getDiagnosticCode).orElse(null);
+            sb.append(",\"error\":");
+            appendJsonString(sb, (code != null) ? code.name() : occurred.getClass().getSimpleName());
+        }
+        sb.append(",\"sql\":");
+        appendJsonString(sb, snip(execution.ps.getSql()));
+
+        String plan = null;
+        if (slow && !execution.batch && explainCacheSize > 0) {
+            String key = execution.ps.getSql();
+            synchronized (explainCache) {
+                plan = explainCache.get(key);
+                if (plan == null) {
+                    explainCache.put(key, EXPLAIN_PENDING);
+                }
+            }
+            if (plan == null) {
+                if (submitExplain(key, execution, sb)) {
+                    // the record is written after the explain
+                    return;
+                }
+            } else if (plan.equals(EXPLAIN_PENDING)) {
+                plan = null;
+            }
+        }
+
+        writeRecord(sb, plan);
+    }
+
+    private boolean submitExplain(String key, Execution execution, StringBuilder sb) {
+        try {
+            explainExecutor.execute(() -> {
+                String plan = null;
+                try {
+                    plan = explain(execution.ps, execution.parameter);
+                } catch (Exception e) {
+                    LOG.debug("explain error. sql={}", key, e);
+                } finally {
+                    synchronized (explainCache) {
+                        if (plan != null) {
+                            explainCache.put(key, plan);
+                        } else {
+                            // retry at the next slow execution
+                            explainCache.remove(key);
+                        }
+                    }
+                }
+                writeRecord(sb, plan);
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            LOG.debug("explain rejected. sql={}", key);
+            synchronized (explainCache) {
+                explainCache.remove(key);
+            }
+            return false;
+        }
+    }
+
+    private void writeRecord(StringBuilder sb, @Nullable String plan) {
+        if (plan != null) {
+            sb.append(",\"plan\":");
+            appendJsonString(sb, plan);
+        }
+        sb.append('}');
+
+        writeRecord(sb.toString());
+    }
+
+    private String snip(String sql) {
+        int maxLength = this.sqlMaxLength;
+        if (maxLength < 0 || sql.length() <= maxLength) {
+            return sql;
+        }
+        return sql.substring(0, maxLength) + "...";
+    }
+
+    private static void appendJsonString(StringBuilder sb, String s) {
+        sb.append('"');
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            switch (c) {
+            case '"':
+            case '\\':
+                sb.append('\\').append(c);
+                break;
+            case '\n':
+                sb.append("\\n");
+                break;
+            case '\r':
+                sb.append("\\r");
+                break;
+            case '\t':
+                sb.append("\\t");
+                break;
+            default:
+                if (c < 0x20) {
+                    sb.append(String.format("\\u%04x", (int) c));
+                } else {
+                    sb.append(c);
+                }
+                break;
+            }
+        }
+        sb.append('"');
+    }
+
+    /**
+     * get explain of the SQL.
+     *
+     * <p>
+     * This method is called in the background thread, at most once per SQL text while the plan is cached.
+     * </p>
+     *
+     * @param ps        SQL definition
+     * @param parameter SQL parameter
+     * @return plan
+     * @throws IOException          if an I/O error occurs while explain
+     * @throws InterruptedException if interrupted while explain
+     * @throws PlanGraphException   if an error occurs while parsing the plan
+     */
+    protected String explain(TsurugiSql ps, @Nullable Object parameter) throws IOException, InterruptedException, PlanGraphException {
+        if (ps.isPrepared()) {
+            @SuppressWarnings("unchecked")
+            var prepared = (TsurugiSqlPrepared<Object>) ps;
+            return prepared.explain(parameter).getLowPlanGraph().toString();
+        }
+        return ((TsurugiSqlDirect) ps).explain().getLowPlanGraph().toString();
+    }
+
+    /**
+     * write log record.
+     *
+     * @param record JSON record
+     */
+    protected void writeRecord(String record) {
+        LOG.info("{}", record);
+    }
+}
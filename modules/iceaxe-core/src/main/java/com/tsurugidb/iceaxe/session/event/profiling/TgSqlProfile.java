@@ -0,0 +1,226 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.iceaxe.session.event.profiling;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.concurrent.Immutable;
+
+import com.tsurugidb.tsubakuro.exception.DiagnosticCode;
+
+/**
+ * Tsurugi SQL profile (snapshot of {@link TsurugiSqlProfiler}).
+ *
+ * @since 1.17.0
+ */
+@Immutable
+public class TgSqlProfile {
+
+    private final String key;
+    private final String sql;
+    private final long executeCount;
+    private final long totalExecuteNanos;
+    private final long maxExecuteNanos;
+    private final long firstRowCount;
+    private final long totalFirstRowNanos;
+    private final long maxFirstRowNanos;
+    private final long readCount;
+    private final long updateCount;
+    private final long errorCount;
+    private final Map<DiagnosticCode, Long> errorCountMap;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param key                profile key
+     * @param sql                SQL
+     * @param executeCount       number of executions
+     * @param totalExecuteNanos  total execute time
+     * @param maxExecuteNanos    maximum execute time
+     * @param firstRowCount      number of executions which read the first row
+     * @param totalFirstRowNanos total time to first row
+     * @param maxFirstRowNanos   maximum time to first row
+     * @param readCount          number of rows read
+     * @param updateCount        number of rows updated
+     * @param errorCount         number of errors
+     * @param errorCountMap      number of errors per diagnostic code
+     */
+    public TgSqlProfile(String key, String sql, long executeCount, long totalExecuteNanos, long maxExecuteNanos, long firstRowCount, long totalFirstRowNanos, long maxFirstRowNanos,
+            long readCount, long updateCount, long errorCount, Map<DiagnosticCode, Long> errorCountMap) {
+        this.key = key;
+        this.sql = sql;
+        this.executeCount = executeCount;
+        this.totalExecuteNanos = totalExecuteNanos;
+        this.maxExecuteNanos = maxExecuteNanos;
+        this.firstRowCount = firstRowCount;
+        this.totalFirstRowNanos = totalFirstRowNanos;
+        this.maxFirstRowNanos = maxFirstRowNanos;
+        this.readCount = readCount;
+        this.updateCount = updateCount;
+        this.errorCount = errorCount;
+        this.errorCountMap = Map.copyOf(errorCountMap);
+    }
+
+    /**
+     * get profile key.
+     *
+     * @return key
+     */
+    public String getKey() {
+        return this.key;
+    }
+
+    /**
+     * get SQL.
+     *
+     * @return SQL (the first one of the key)
+     */
+    public String getSql() {
+        return this.sql;
+    }
+
+    /**
+     * get number of executions.
+     *
+     * @return number of executions
+     */
+    public long getExecuteCount() {
+        return this.executeCount;
+    }
+
+    /**
+     * get total execute time (from execute start to result close).
+     *
+     * @param unit time unit
+     * @return total time
+     */
+    public long getTotalExecuteTime(TimeUnit unit) {
+        return unit.convert(totalExecuteNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * get total execute time.
+     *
+     * @return total time [ns]
+     */
+    public long getTotalExecuteNanos() {
+        return this.totalExecuteNanos;
+    }
+
+    /**
+     * get maximum execute time.
+     *
+     * @return maximum time [ns]
+     */
+    public long getMaxExecuteNanos() {
+        return this.maxExecuteNanos;
+    }
+
+    /**
+     * get average execute time.
+     *
+     * @return average time [ns]
+     */
+    public long getAverageExecuteNanos() {
+        if (executeCount == 0) {
+            return 0;
+        }
+        return totalExecuteNanos / executeCount;
+    }
+
+    /**
+     * get number of executions which read the first row.
+     *
+     * @return number of executions
+     */
+    public long getFirstRowCount() {
+        return this.firstRowCount;
+    }
+
+    /**
+     * get total time to first row.
+     *
+     * @return total time [ns]
+     */
+    public long getTotalFirstRowNanos() {
+        return this.totalFirstRowNanos;
+    }
+
+    /**
+     * get maximum time to first row.
+     *
+     * @return maximum time [ns]
+     */
+    public long getMaxFirstRowNanos() {
+        return this.maxFirstRowNanos;
+    }
+
+    /**
+     * get average time to first row.
+     *
+     * @return average time [ns]
+     */
+    public long getAverageFirstRowNanos() {
+        if (firstRowCount == 0) {
+            return 0;
+        }
+        return totalFirstRowNanos / firstRowCount;
+    }
+
+    /**
+     * get number of rows read.
+     *
+     * @return number of rows
+     */
+    public long getReadCount() {
+        return this.readCount;
+    }
+
+    /**
+     * get number of rows updated.
+     *
+     * @return number of rows
+     */
+    public long getUpdateCount() {
+        return this.updateCount;
+    }
+
+    /**
+     * get number of errors.
+     *
+     * @return number of errors
+     */
+    public long getErrorCount() {
+        return this.errorCount;
+    }
+
+    /**
+     * get number of errors per diagnostic code.
+     *
+     * @return number of errors (errors without diagnostic code are not included)
+     */
+    public Map<DiagnosticCode, Long> getErrorCountMap() {
+        return this.errorCountMap;
+    }
+
+    @Override
+    public String toString() {
+        return "TgSqlProfile(executeCount=" + executeCount + ", totalExecute=" + TimeUnit.NANOSECONDS.toMillis(totalExecuteNanos) + "ms, maxExecute="
+                + TimeUnit.NANOSECONDS.toMillis(maxExecuteNanos) + "ms, avgFirstRow=" + TimeUnit.NANOSECONDS.toMicros(getAverageFirstRowNanos()) + "us, read=" + readCount
+                + ", update=" + updateCount + ", error=" + errorCount + errorCountMap + ", sql=" + sql + ")";
+    }
+}
@@ -0,0 +1,590 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.iceaxe.session.event.profiling;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.tsurugidb.iceaxe.exception.TsurugiDiagnosticCodeProvider;
+import com.tsurugidb.iceaxe.session.event.TsurugiSessionEventListener;
+import com.tsurugidb.iceaxe.sql.TsurugiSql;
+import com.tsurugidb.iceaxe.sql.TsurugiSqlPreparedQuery;
+import com.tsurugidb.iceaxe.sql.TsurugiSqlPreparedStatement;
+import com.tsurugidb.iceaxe.sql.TsurugiSqlQuery;
+import com.tsurugidb.iceaxe.sql.TsurugiSqlStatement;
+import com.tsurugidb.iceaxe.sql.event.TsurugiSqlPreparedQueryResultEventListener;
+import com.tsurugidb.iceaxe.sql.event.TsurugiSqlPreparedStatementResultEventListener;
+import com.tsurugidb.iceaxe.sql.event.TsurugiSqlQueryResultEventListener;
+import com.tsurugidb.iceaxe.sql.event.TsurugiSqlStatementResultEventListener;
+import com.tsurugidb.iceaxe.sql.result.TsurugiQueryResult;
+import com.tsurugidb.iceaxe.sql.result.TsurugiSqlResult;
+import com.tsurugidb.iceaxe.sql.result.TsurugiStatementResult;
+import com.tsurugidb.iceaxe.transaction.TsurugiTransaction;
+import com.tsurugidb.tsubakuro.exception.DiagnosticCode;
+
+/**
+ * Tsurugi SQL profiler.
+ *
+ * <p>
+ * Aggregates the executions per SQL (normalized SQL text by default): execution count, execute time (from execute start to result close), time to first row,
+ * number of rows read/updated and errors per diagnostic code.
+ * </p>
+ *
+ * <pre>
+ * var profiler = new TsurugiSqlProfiler();
+ * session.addEventListener(profiler);
+ * profiler.startReport(1, TimeUnit.MINUTES, 10);
+ * </pre>
+ *
+ * <p>
+ * Only SQL definitions created after the profiler is added to the session are profiled. The number of profiles is limited to the maximum size, and the
+ * SQL definitions created after that are aggregated into {@link #OTHERS_KEY}.
+ * </p>
+ *
+ * @since 1.17.0
+ */
+@ThreadSafe
+public class TsurugiSqlProfiler implements TsurugiSessionEventListener, AutoCloseable {
+    private static final Logger LOG = LoggerFactory.getLogger(TsurugiSqlProfiler.class);
+
+    private static final AtomicInteger INSTANCE_COUNT = new AtomicInteger(0);
+
+    /** default maximum number of profiles. */
+    public static final int DEFAULT_MAX_SIZE = 1000;
+    /** profile key of the SQL exceeding the maximum size. */
+    public static final String OTHERS_KEY = "(others)";
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d*)?(?:[eE][+-]?\\d+)?\\b");
+    private static final Pattern VALUE_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private static final class Accumulator {
+        private final String key;
+        private final String sql;
+        private final LongAdder executeCount = new LongAdder();
+        private final LongAdder executeNanos = new LongAdder();
+        private final LongAccumulator maxExecuteNanos = new LongAccumulator(Long::max, 0);
+        private final LongAdder firstRowCount = new LongAdder();
+        private final LongAdder firstRowNanos = new LongAdder();
+        private final LongAccumulator maxFirstRowNanos = new LongAccumulator(Long::max, 0);
+        private final LongAdder readCount = new LongAdder();
+        private final LongAdder updateCount = new LongAdder();
+        private final LongAdder errorCount = new LongAdder();
+        private final Map<DiagnosticCode, LongAdder> errorCountMap = new ConcurrentHashMap<>();
+
+        Accumulator(String key, String sql) {
+            this.key = key;
+            this.sql = sql;
+        }
+
+        void add(Execution execution, long endNanos) {
+            long nanos = endNanos - execution.startNanos;
+            executeCount.increment();
+            executeNanos.add(nanos);
+            maxExecuteNanos.accumulate(nanos);
+            if (execution.firstRowNanos >= 0) {
+                long firstRow = execution.firstRowNanos - execution.startNanos;
+                firstRowCount.increment();
+                firstRowNanos.add(firstRow);
+                maxFirstRowNanos.accumulate(firstRow);
+            }
+            if (execution.readCount > 0) {
+                readCount.add(execution.readCount);
+            }
+            if (execution.updateCount > 0) {
+                updateCount.add(execution.updateCount);
+            }
+            var occurred = execution.occurred;
+            if (occurred != null) {
+                errorCount.increment();
+                var code = TsurugiDiagnosticCodeProvider.findDiagnosticCodeProvider(occurred).map(TsurugiDiagnosticCodeProvider::getDiagnosticCode).orElse(null);
+                if (code != null) {
+                    errorCountMap.computeIfAbsent(code, k -> new LongAdder()).increment();
+                }
+            }
+        }
+
+        TgSqlProfile snapshot(boolean reset) {
+            var errorMap = new HashMap<DiagnosticCode, Long>();
+            for (var entry : errorCountMap.entrySet()) {
+                long count = reset ? entry.getValue().sumThenReset() : entry.getValue().sum();
+                if (count > 0) {
+                    errorMap.put(entry.getKey(), count);
+                }
+            }
+            if (reset) {
+                return new TgSqlProfile(key, sql, executeCount.sumThenReset(), executeNanos.sumThenReset(), maxExecuteNanos.getThenReset(), //
+                        firstRowCount.sumThenReset(), firstRowNanos.sumThenReset(), maxFirstRowNanos.getThenReset(), //
+                        readCount.sumThenReset(), updateCount.sumThenReset(), errorCount.sumThenReset(), errorMap);
+            }
+            return new TgSqlProfile(key, sql, executeCount.sum(), executeNanos.sum(), maxExecuteNanos.get(), //
+                    firstRowCount.sum(), firstRowNanos.sum(), maxFirstRowNanos.get(), //
+                    readCount.sum(), updateCount.sum(), errorCount.sum(), errorMap);
+        }
+    }
+
+    private static final class Execution {
+        private final Accumulator accumulator;
+        private final long startNanos;
+        private long firstRowNanos = -1;
+        private long readCount = 0;
+        private long updateCount = 0;
+        private Throwable occurred = null;
+
+        Execution(Accumulator accumulator, long startNanos) {
+            this.accumulator = accumulator;
+            this.startNanos = startNanos;
+        }
+
+        void setOccurred(@Nullable Throwable occurred) {
+            if (this.occurred == null) {
+                this.occurred = occurred;
+            }
+        }
+    }
+
+    private final Map<String, Accumulator> accumulatorMap = new ConcurrentHashMap<>();
+    private final Map<Integer, Execution> executionMap = new ConcurrentHashMap<>();
+    private int maxSize = DEFAULT_MAX_SIZE;
+    private ScheduledExecutorService executor;
+
+    /**
+     * set maximum number of profiles.
+     *
+     * @param maxSize maximum size
+     * @return this
+     */
+    public TsurugiSqlProfiler setMaxSize(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive. maxSize=" + maxSize);
+        }
+        this.maxSize = maxSize;
+        return this;
+    }
+
+    /**
+     * get maximum number of profiles.
+     *
+     * @return maximum size
+     */
+    public int getMaxSize() {
+        return this.maxSize;
+    }
+
+    // profile key
+
+    /**
+     * get profile key.
+     *
+     * <p>
+     * Override to aggregate by another key (for example {@link TsurugiSql#getIceaxeSqlId()}).
+     * </p>
+     *
+     * @param ps SQL definition
+     * @return profile key
+     * @see #normalizeSql(String)
+     */
+    protected String getKey(TsurugiSql ps) {
+        return normalizeSql(ps.getSql());
+    }
+
+    /**
+     * normalize SQL text.
+     *
+     * <p>
+     * Replaces string and numeric literals with {@code ?}, collapses lists of them (such as {@code in(1, 2, 3)}) into {@code (?)}, and collapses
+     * whitespace.
+     * </p>
+     *
+     * @param sql SQL
+     * @return normalized SQL
+     */
+    public static String normalizeSql(String sql) {
+        String s = STRING_LITERAL.matcher(sql).replaceAll("?");
+        s = NUMBER_LITERAL.matcher(s).replaceAll("?");
+        s = VALUE_LIST.matcher(s).replaceAll("(?)");
+        return WHITESPACE.matcher(s).replaceAll(" ").trim();
+    }
+
+    private Accumulator getAccumulator(TsurugiSql ps) {
+        String key = getKey(ps);
+        var accumulator = accumulatorMap.get(key);
+        if (accumulator != null) {
+            return accumulator;
+        }
+        synchronized (accumulatorMap) {
+            accumulator = accumulatorMap.get(key);
+            if (accumulator != null) {
+                return accumulator;
+            }
+            if (accumulatorMap.size() >= maxSize - 1) {
+                return accumulatorMap.computeIfAbsent(OTHERS_KEY, k -> new Accumulator(k, k));
+            }
+            accumulator = new Accumulator(key, ps.getSql());
+            accumulatorMap.put(key, accumulator);
+            return accumulator;
+        }
+    }
+
+    // listener
+
+    @Override
+    public <R> void createQuery(TsurugiSqlQuery<R> ps) {
+        var accumulator = getAccumulator(ps);
+        ps.addEventListener(new TsurugiSqlQueryResultEventListener<R>() {
+            @Override
+            public void executeQueryStart(TsurugiTransaction transaction, TsurugiSqlQuery<R> ps, int iceaxeSqlExecuteId) {
+                doExecuteStart(accumulator, iceaxeSqlExecuteId);
+            }
+
+            @Override
+            public void executeQueryStartException(TsurugiTransaction transaction, TsurugiSqlQuery<R> ps, int iceaxeSqlExecuteId, Throwable occurred) {
+                doExecuteStartException(iceaxeSqlExecuteId, occurred);
+            }
+
+            @Override
+            public void executeQueryRead(TsurugiTransaction transaction, TsurugiSqlQuery<R> ps, TsurugiQueryResult<R> result, R record) {
+                doExecuteRead(result);
+            }
+
+            @Override
+            public void executeQueryException(TsurugiTransaction transaction, TsurugiSqlQuery<R> ps, TsurugiQueryResult<R> result, Throwable occurred) {
+                doExecuteException(result, occurred);
+            }
+
+            @Override
+            public void executeQueryClose(TsurugiTransaction transaction, TsurugiSqlQuery<R> ps, TsurugiQueryResult<R> result, long timeoutNanos, @Nullable Throwable occurred) {
+                doExecuteClose(result, occurred);
+            }
+        });
+    }
+
+    @Override
+    public <P, R> void createQuery(TsurugiSqlPreparedQuery<P, R> ps) {
+        var accumulator = getAccumulator(ps);
+        ps.addEventListener(new TsurugiSqlPreparedQueryResultEventListener<P, R>() {
+            @Override
+            public void executeQueryStart(TsurugiTransaction transaction, TsurugiSqlPreparedQuery<P, R> ps, P parameter, int iceaxeSqlExecuteId) {
+                doExecuteStart(accumulator, iceaxeSqlExecuteId);
+            }
+
+            @Override
+            public void executeQueryStartException(TsurugiTransaction transaction, TsurugiSqlPreparedQuery<P, R> ps, P parameter, int iceaxeSqlExecuteId, Throwable occurred) {
+                doExecuteStartException(iceaxeSqlExecuteId, occurred);
+            }
+
+            @Override
+            public void executeQueryRead(TsurugiTransaction transaction, TsurugiSqlPreparedQuery<P, R> ps, P parameter, TsurugiQueryResult<R> result, R record) {
+                doExecuteRead(result);
+            }
+
+            @Override
+            public void executeQueryException(TsurugiTransaction transaction, TsurugiSqlPreparedQuery<P, R> ps, P parameter, TsurugiQueryResult<R> result, Throwable occurred) {
+                doExecuteException(result, occurred);
+            }
+
+            @Override
+            public void executeQueryClose(TsurugiTransaction transaction, TsurugiSqlPreparedQuery<P, R> ps, P parameter, TsurugiQueryResult<R> result, long timeoutNanos,
+                    @Nullable Throwable occurred) {
+                doExecuteClose(result, occurred);
+            }
+        });
+    }
+
+    @Override
+    public void createStatement(TsurugiSqlStatement ps) {
+        var accumulator = getAccumulator(ps);
+        ps.addEventListener(new TsurugiSqlStatementResultEventListener() {
+            @Override
+            public void executeStatementStart(TsurugiTransaction transaction, TsurugiSqlStatement ps, int iceaxeSqlExecuteId) {
+                doExecuteStart(accumulator, iceaxeSqlExecuteId);
+            }
+
+            @Override
+            public void executeStatementStartException(TsurugiTransaction transaction, TsurugiSqlStatement ps, int iceaxeSqlExecuteId, Throwable occurred) {
+                doExecuteStartException(iceaxeSqlExecuteId, occurred);
+            }
+
+            @Override
+            public void executeStatementEnd(TsurugiTransaction transaction, TsurugiSqlStatement ps, TsurugiStatementResult result, @Nullable Throwable occurred) {
+                doExecuteEnd(result, occurred);
+            }
+
+            @Override
+            public void executeStatementClose(TsurugiTransaction transaction, TsurugiSqlStatement ps, TsurugiStatementResult result, long timeoutNanos, @Nullable Throwable occurred) {
+                doExecuteClose(result, occurred);
+            }
+        });
+    }
+
+    @Override
+    public <P> void createStatement(TsurugiSqlPreparedStatement<P> ps) {
+        var accumulator = getAccumulator(ps);
+        ps.addEventListener(new TsurugiSqlPreparedStatementResultEventListener<P>() {
+            @Override
+            public void executeStatementStart(TsurugiTransaction transaction, TsurugiSqlPreparedStatement<P> ps, P parameter, int iceaxeSqlExecuteId) {
+                doExecuteStart(accumulator, iceaxeSqlExecuteId);
+            }
+
+            @Override
+            public void executeStatementStartException(TsurugiTransaction transaction, TsurugiSqlPreparedStatement<P> ps, P parameter, int iceaxeSqlExecuteId, Throwable occurred) {
+                doExecuteStartException(iceaxeSqlExecuteId, occurred);
+            }
+
+            @Override
+            public void executeStatementEnd(TsurugiTransaction transaction, TsurugiSqlPreparedStatement<P> ps, P parameter, TsurugiStatementResult result, @Nullable Throwable occurred) {
+                doExecuteEnd(result, occurred);
+            }
+
+            @Override
+            public void executeStatementClose(TsurugiTransaction transaction, TsurugiSqlPreparedStatement<P> ps, P parameter, TsurugiStatementResult result, long timeoutNanos,
+                    @Nullable Throwable occurred) {
+                doExecuteClose(result, occurred);
+            }
+
+            @Override
+            public void executeBatchStart(TsurugiTransaction transaction, TsurugiSqlPreparedStatement<P> ps, Collection<P> parameterList, int iceaxeSqlExecuteId) {
+                doExecuteStart(accumulator, iceaxeSqlExecuteId);
+            }
+
+            @Override
+            public void executeBatchStartException(TsurugiTransaction transaction, TsurugiSqlPreparedStatement<P> ps, Collection<P> parameterList, int iceaxeSqlExecuteId, Throwable occurred) {
+                doExecuteStartException(iceaxeSqlExecuteId, occurred);
+            }
+
+            @Override
+            public void executeBatchEnd(TsurugiTransaction transaction, TsurugiSqlPreparedStatement<P> ps, Collection<P> parameterList, TsurugiStatementResult result,
+                    @Nullable Throwable occurred) {
+                doExecuteEnd(result, occurred);
+            }
+
+            @Override
+            public void executeBatchClose(TsurugiTransaction transaction, TsurugiSqlPreparedStatement<P> ps, Collection<P> parameterList, TsurugiStatementResult result, long timeoutNanos,
+                    @Nullable Throwable occurred) {
+                doExecuteClose(result, occurred);
+            }
+        });
+    }
+
+    private void doExecuteStart(Accumulator accumulator, int iceaxeSqlExecuteId) {
+        executionMap.put(iceaxeSqlExecuteId, new Execution(accumulator, System.nanoTime()));
+    }
+
+    private void doExecuteStartException(int iceaxeSqlExecuteId, Throwable occurred) {
+        var execution = executionMap.remove(iceaxeSqlExecuteId);
+        if (execution == null) {
+            return;
+        }
+        execution.setOccurred(occurred);
+        execution.accumulator.add(execution, System.nanoTime());
+    }
+
+    private void doExecuteRead(TsurugiQueryResult<?> result) {
+        if (result.getReadCount() != 1) {
+            return;
+        }
+        var execution = executionMap.get(result.getIceaxeSqlExecuteId());
+        if (execution != null) {
+            execution.firstRowNanos = System.nanoTime();
+        }
+    }
+
+    private void doExecuteException(TsurugiSqlResult result, Throwable occurred) {
+        var execution = executionMap.get(result.getIceaxeSqlExecuteId());
+        if (execution != null) {
+            execution.setOccurred(occurred);
+        }
+    }
+
+    private void doExecuteEnd(TsurugiStatementResult result, @Nullable Throwable occurred) {
+        var execution = executionMap.get(result.getIceaxeSqlExecuteId());
+        if (execution == null) {
+            return;
+        }
+        if (occurred != null) {
+            execution.setOccurred(occurred);
+            return;
+        }
+        try {
+            execution.updateCount = result.getCountDetail().getTotalCount();
+        } catch (Exception e) {
+            LOG.debug("getCountDetail error", e);
+        }
+    }
+
+    private void doExecuteClose(TsurugiSqlResult result, @Nullable Throwable occurred) {
+        var execution = executionMap.remove(result.getIceaxeSqlExecuteId());
+        if (execution == null) {
+            return;
+        }
+        if (occurred != null) {
+            execution.setOccurred(occurred);
+        }
+        if (result instanceof TsurugiQueryResult) {
+            execution.readCount = ((TsurugiQueryResult<?>) result).getReadCount();
+        }
+        execution.accumulator.add(execution, System.nanoTime());
+    }
+
+    // snapshot
+
+    /**
+     * get profiles.
+     *
+     * @return profile list (not sorted)
+     */
+    public List<TgSqlProfile> getProfileList() {
+        return snapshot(false);
+    }
+
+    /**
+     * get top profiles sorted by total execute time.
+     *
+     * @param n number of profiles
+     * @return profile list
+     */
+    public List<TgSqlProfile> getTopN(int n) {
+        return getTopN(n, false);
+    }
+
+    /**
+     * get top profiles sorted by total execute time.
+     *
+     * @param n     number of profiles
+     * @param reset {@code true} if reset the counters at the same time
+     * @return profile list
+     */
+    public List<TgSqlProfile> getTopN(int n, boolean reset) {
+        var list = snapshot(reset);
+        list.removeIf(profile -> profile.getExecuteCount() == 0);
+        list.sort(Comparator.comparingLong(TgSqlProfile::getTotalExecuteNanos).reversed());
+        if (list.size() > n) {
+            return new ArrayList<>(list.subList(0, Math.max(n, 0)));
+        }
+        return list;
+    }
+
+    private List<TgSqlProfile> snapshot(boolean reset) {
+        var list = new ArrayList<TgSqlProfile>(accumulatorMap.size());
+        for (var accumulator : accumulatorMap.values()) {
+            list.add(accumulator.snapshot(reset));
+        }
+        return list;
+    }
+
+    /**
+     * reset the counters.
+     */
+    public void reset() {
+        snapshot(true);
+    }
+
+    // report
+
+    /**
+     * start periodic report to log.
+     *
+     * @param period report period
+     * @param unit   time unit of period
+     * @param topN   number of profiles
+     */
+    public void startReport(long period, @Nonnull TimeUnit unit, int topN) {
+        startReport(period, unit, topN, false, this::logReport);
+    }
+
+    /**
+     * start periodic report.
+     *
+     * @param period   report period
+     * @param unit     time unit of period
+     * @param topN     number of profiles
+     * @param reset    {@code true} if reset the counters at each report
+     * @param reporter reporter
+     */
+    public synchronized void startReport(long period, @Nonnull TimeUnit unit, int topN, boolean reset, @Nonnull Consumer<List<TgSqlProfile>> reporter) {
+        Objects.requireNonNull(reporter);
+        if (period <= 0) {
+            throw new IllegalArgumentException("period must be positive. period=" + period);
+        }
+        if (this.executor != null) {
+            throw new IllegalStateException("report already started");
+        }
+
+        int instanceId = INSTANCE_COUNT.incrementAndGet();
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            var thread = new Thread(runnable, "iceaxe-sql-profiler-" + instanceId);
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleAtFixedRate(() -> {
+            try {
+                reporter.accept(getTopN(topN, reset));
+            } catch (Throwable e) {
+                LOG.warn("sql profiler report error", e);
+            }
+        }, period, period, unit);
+    }
+
+    /**
+     * report to log.
+     *
+     * @param profileList profile list
+     */
+    protected void logReport(List<TgSqlProfile> profileList) {
+        if (!LOG.isInfoEnabled()) {
+            return;
+        }
+        LOG.info("sql profile top{}", profileList.size());
+        int i = 0;
+        for (var profile : profileList) {
+            LOG.info("{}: {}", ++i, profile);
+        }
+    }
+
+    /**
+     * stop periodic report.
+     */
+    @Override
+    public synchronized void close() {
+        var executor = this.executor;
+        if (executor != null) {
+            executor.shutdownNow();
+            this.executor = null;
+        }
+    }
+}
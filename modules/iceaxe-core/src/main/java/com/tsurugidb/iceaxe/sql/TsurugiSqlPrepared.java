@@ -20,6 +20,8 @@ import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 
+import javax.annotation.Nullable;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -195,8 +197,30 @@ public abstract class TsurugiSqlPrepared<P> extends TsurugiSql {
     protected final List<Parameter> getLowParameterList(P parameter, IceaxeCloseableSet closeableSet) throws IOException, InterruptedException {
         var session = getSession();
         var convertUtil = getConvertUtil(parameterMapping.getConvertUtil());
-        var context = new IceaxeLowParameterGenerateContext(session, convertUtil, closeableSet);
-        return parameterMapping.toLowParameterList(parameter, context);
+        boolean lobUploadParallel = session.getSessionOption().isLobUploadParallel();
+        var context = new IceaxeLowParameterGenerateContext(session, convertUtil, closeableSet, lobUploadParallel);
+        var lowParameterList = parameterMapping.toLowParameterList(parameter, context);
+        return context.resolveLowParameterList(lowParameterList);
+    }
+
+    /**
+     * get low parameter list as a key (for cache).
+     *
+     * @param parameter SQL parameter
+     * @return list of parameter. null if the parameter needs resources (such as large objects)
+     * @throws IOException          if an I/O error occurs
+     * @throws InterruptedException if interrupted while generating low parameter list
+     * @since 1.17.0
+     */
+    @IceaxeInternal
+    public @Nullable List<Parameter> getLowParameterListForKey(P parameter) throws IOException, InterruptedException {
+        var closeableSet = new IceaxeCloseableSet();
+        var lowParameterList = getLowParameterList(parameter, closeableSet);
+        if (closeableSet.size() != 0) {
+            closeableSet.close(closeTimeout.getNanos());
+            return null;
+        }
+        return lowParameterList;
     }
 
     /**
@@ -16,8 +16,6 @@
 package com.tsurugidb.iceaxe.sql;
 
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
@@ -33,6 +31,7 @@ import com.tsurugidb.iceaxe.sql.result.TsurugiQueryResult;
 import com.tsurugidb.iceaxe.transaction.TsurugiTransaction;
 import com.tsurugidb.iceaxe.transaction.exception.TsurugiTransactionException;
 import com.tsurugidb.iceaxe.util.IceaxeCloseableSet;
+import com.tsurugidb.iceaxe.util.IceaxeEventListenerList;
 import com.tsurugidb.iceaxe.util.IceaxeInternal;
 import com.tsurugidb.tsubakuro.util.FutureResponse;
 
@@ -46,7 +45,7 @@ public class TsurugiSqlPreparedQuery<P, R> extends TsurugiSqlPrepared<P> {
     private static final Logger LOG = LoggerFactory.getLogger(TsurugiSqlPreparedQuery.class);
 
     private final TgResultMapping<R> resultMapping;
-    private List<TsurugiSqlPreparedQueryEventListener<P, R>> eventListenerList = null;
+    private volatile IceaxeEventListenerList<TsurugiSqlPreparedQueryEventListener<P, R>> eventListenerList = IceaxeEventListenerList.none();
 
     /**
      * Creates a new instance.
@@ -65,6 +64,16 @@ public class TsurugiSqlPreparedQuery<P, R> extends TsurugiSqlPrepared<P> {
         this.resultMapping = resultMapping;
     }
 
+    /**
+     * get result mapping.
+     *
+     * @return result mapping
+     * @since 1.17.0
+     */
+    public TgResultMapping<R> getResultMapping() {
+        return this.resultMapping;
+    }
+
     /**
      * add event listener.
      *
@@ -72,10 +81,9 @@ public class TsurugiSqlPreparedQuery<P, R> extends TsurugiSqlPrepared<P> {
      * @return this
      */
     public TsurugiSql addEventListener(TsurugiSqlPreparedQueryEventListener<P, R> listener) {
-        if (this.eventListenerList == null) {
-            this.eventListenerList = new ArrayList<>();
+        synchronized (this) {
+            this.eventListenerList = eventListenerList.add(listener);
         }
-        eventListenerList.add(listener);
         return this;
     }
 
@@ -87,31 +95,11 @@ public class TsurugiSqlPreparedQuery<P, R> extends TsurugiSqlPrepared<P> {
      * @since 1.3.0
      */
     public Optional<TsurugiSqlPreparedQueryEventListener<P, R>> findEventListener(Predicate<TsurugiSqlPreparedQueryEventListener<P, R>> predicate) {
-        var listenerList = this.eventListenerList;
-        if (listenerList != null) {
-            for (var listener : listenerList) {
-                if (predicate.test(listener)) {
-                    return Optional.of(listener);
-                }
-            }
-        }
-        return Optional.empty();
+        return eventListenerList.find(predicate);
     }
 
     private void event(Throwable occurred, Consumer<TsurugiSqlPreparedQueryEventListener<P, R>> action) {
-        var listenerList = this.eventListenerList;
-        if (listenerList != null) {
-            try {
-                for (var listener : listenerList) {
-                    action.accept(listener);
-                }
-            } catch (Throwable e) {
-                if (occurred != null) {
-                    e.addSuppressed(occurred);
-                }
-                throw e;
-            }
-        }
+        eventListenerList.event(occurred, action);
     }
 
     /**
@@ -130,7 +118,9 @@ public class TsurugiSqlPreparedQuery<P, R> extends TsurugiSqlPrepared<P> {
 
         LOG.trace("execute start");
         int sqlExecuteId = getNewIceaxeSqlExecuteId();
-        event(null, listener -> listener.executeQueryStart(transaction, this, parameter, sqlExecuteId));
+        if (eventListenerList.exists()) {
+            event(null, listener -> listener.executeQueryStart(transaction, this, parameter, sqlExecuteId));
+        }
 
         TsurugiQueryResult<R> result;
         try {
@@ -144,11 +134,15 @@ public class TsurugiSqlPreparedQuery<P, R> extends TsurugiSqlPrepared<P> {
             result = new TsurugiQueryResult<>(sqlExecuteId, transaction, this, parameter, resultMapping, convertUtil, closeableSet);
             result.initialize(lowResultSetFuture);
         } catch (Throwable e) {
-            event(e, listener -> listener.executeQueryStartException(transaction, this, parameter, sqlExecuteId, e));
+            if (eventListenerList.exists()) {
+                event(e, listener -> listener.executeQueryStartException(transaction, this, parameter, sqlExecuteId, e));
+            }
             throw e;
         }
 
-        event(null, listener -> listener.executeQueryStarted(transaction, this, parameter, result));
+        if (eventListenerList.exists()) {
+            event(null, listener -> listener.executeQueryStarted(transaction, this, parameter, result));
+        }
         return result;
     }
 }
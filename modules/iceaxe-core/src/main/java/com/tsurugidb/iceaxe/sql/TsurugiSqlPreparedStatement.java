@@ -33,6 +33,7 @@ import com.tsurugidb.iceaxe.sql.result.TsurugiStatementResult;
 import com.tsurugidb.iceaxe.transaction.TsurugiTransaction;
 import com.tsurugidb.iceaxe.transaction.exception.TsurugiTransactionException;
 import com.tsurugidb.iceaxe.util.IceaxeCloseableSet;
+import com.tsurugidb.iceaxe.util.IceaxeEventListenerList;
 import com.tsurugidb.iceaxe.util.IceaxeInternal;
 import com.tsurugidb.tsubakuro.util.FutureResponse;
 
@@ -44,7 +45,7 @@ import com.tsurugidb.tsubakuro.util.FutureResponse;
 public class TsurugiSqlPreparedStatement<P> extends TsurugiSqlPrepared<P> {
     private static final Logger LOG = LoggerFactory.getLogger(TsurugiSqlPreparedStatement.class);
 
-    private List<TsurugiSqlPreparedStatementEventListener<P>> eventListenerList = null;
+    private volatile IceaxeEventListenerList<TsurugiSqlPreparedStatementEventListener<P>> eventListenerList = IceaxeEventListenerList.none();
 
     /**
      * Creates a new instance.
@@ -68,10 +69,9 @@ public class TsurugiSqlPreparedStatement<P> extends TsurugiSqlPrepared<P> {
      * @return this
      */
     public TsurugiSql addEventListener(TsurugiSqlPreparedStatementEventListener<P> listener) {
-        if (this.eventListenerList == null) {
-            this.eventListenerList = new ArrayList<>();
+        synchronized (this) {
+            this.eventListenerList = eventListenerList.add(listener);
         }
-        eventListenerList.add(listener);
         return this;
     }
 
@@ -83,31 +83,11 @@ public class TsurugiSqlPreparedStatement<P> extends TsurugiSqlPrepared<P> {
      * @since 1.3.0
      */
     public Optional<TsurugiSqlPreparedStatementEventListener<P>> findEventListener(Predicate<TsurugiSqlPreparedStatementEventListener<P>> predicate) {
-        var listenerList = this.eventListenerList;
-        if (listenerList != null) {
-            for (var listener : listenerList) {
-                if (predicate.test(listener)) {
-                    return Optional.of(listener);
-                }
-            }
-        }
-        return Optional.empty();
+        return eventListenerList.find(predicate);
     }
 
     private void event(Throwable occurred, Consumer<TsurugiSqlPreparedStatementEventListener<P>> action) {
-        var listenerList = this.eventListenerList;
-        if (listenerList != null) {
-            try {
-                for (var listener : listenerList) {
-                    action.accept(listener);
-                }
-            } catch (Throwable e) {
-                if (occurred != null) {
-                    e.addSuppressed(occurred);
-                }
-                throw e;
-            }
-        }
+        eventListenerList.event(occurred, action);
     }
 
     /**
@@ -126,7 +106,9 @@ public class TsurugiSqlPreparedStatement<P> extends TsurugiSqlPrepared<P> {
 
         LOG.trace("execute start");
         int sqlExecuteId = getNewIceaxeSqlExecuteId();
-        event(null, listener -> listener.executeStatementStart(transaction, this, parameter, sqlExecuteId));
+        if (eventListenerList.exists()) {
+            event(null, listener -> listener.executeStatementStart(transaction, this, parameter, sqlExecuteId));
+        }
 
         TsurugiStatementResult result;
         try {
@@ -139,11 +121,15 @@ public class TsurugiSqlPreparedStatement<P> extends TsurugiSqlPrepared<P> {
             result = new TsurugiStatementResult(sqlExecuteId, transaction, this, parameter, closeableSet);
             result.initialize(lowResultFuture);
         } catch (Throwable e) {
-            event(e, listener -> listener.executeStatementStartException(transaction, this, parameter, sqlExecuteId, e));
+            if (eventListenerList.exists()) {
+                event(e, listener -> listener.executeStatementStartException(transaction, this, parameter, sqlExecuteId, e));
+            }
             throw e;
         }
 
-        event(null, listener -> listener.executeStatementStarted(transaction, this, parameter, result));
+        if (eventListenerList.exists()) {
+            event(null, listener -> listener.executeStatementStarted(transaction, this, parameter, result));
+        }
         return result;
     }
 
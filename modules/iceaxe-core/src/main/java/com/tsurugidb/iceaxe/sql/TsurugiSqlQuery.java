@@ -16,8 +16,6 @@
 package com.tsurugidb.iceaxe.sql;
 
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
@@ -31,6 +29,7 @@ import com.tsurugidb.iceaxe.sql.result.TgResultMapping;
 import com.tsurugidb.iceaxe.sql.result.TsurugiQueryResult;
 import com.tsurugidb.iceaxe.transaction.TsurugiTransaction;
 import com.tsurugidb.iceaxe.transaction.exception.TsurugiTransactionException;
+import com.tsurugidb.iceaxe.util.IceaxeEventListenerList;
 import com.tsurugidb.iceaxe.util.IceaxeInternal;
 
 /**
@@ -42,7 +41,7 @@ public class TsurugiSqlQuery<R> extends TsurugiSqlDirect {
     private static final Logger LOG = LoggerFactory.getLogger(TsurugiSqlQuery.class);
 
     private final TgResultMapping<R> resultMapping;
-    private List<TsurugiSqlQueryEventListener<R>> eventListenerList = null;
+    private volatile IceaxeEventListenerList<TsurugiSqlQueryEventListener<R>> eventListenerList = IceaxeEventListenerList.none();
 
     /**
      * Creates a new instance.
@@ -67,10 +66,9 @@ public class TsurugiSqlQuery<R> extends TsurugiSqlDirect {
      * @return this
      */
     public TsurugiSql addEventListener(TsurugiSqlQueryEventListener<R> listener) {
-        if (this.eventListenerList == null) {
-            this.eventListenerList = new ArrayList<>();
+        synchronized (this) {
+            this.eventListenerList = eventListenerList.add(listener);
         }
-        eventListenerList.add(listener);
         return this;
     }
 
@@ -82,31 +80,11 @@ public class TsurugiSqlQuery<R> extends TsurugiSqlDirect {
      * @since 1.3.0
      */
     public Optional<TsurugiSqlQueryEventListener<R>> findEventListener(Predicate<TsurugiSqlQueryEventListener<R>> predicate) {
-        var listenerList = this.eventListenerList;
-        if (listenerList != null) {
-            for (var listener : listenerList) {
-                if (predicate.test(listener)) {
-                    return Optional.of(listener);
-                }
-            }
-        }
-        return Optional.empty();
+        return eventListenerList.find(predicate);
     }
 
     private void event(Throwable occurred, Consumer<TsurugiSqlQueryEventListener<R>> action) {
-        var listenerList = this.eventListenerList;
-        if (listenerList != null) {
-            try {
-                for (var listener : listenerList) {
-                    action.accept(listener);
-                }
-            } catch (Throwable e) {
-                if (occurred != null) {
-                    e.addSuppressed(occurred);
-                }
-                throw e;
-            }
-        }
+        eventListenerList.event(occurred, action);
     }
 
     /**
@@ -124,7 +102,9 @@ public class TsurugiSqlQuery<R> extends TsurugiSqlDirect {
 
         LOG.trace("execute start");
         int sqlExecuteId = getNewIceaxeSqlExecuteId();
-        event(null, listener -> listener.executeQueryStart(transaction, this, sqlExecuteId));
+        if (eventListenerList.exists()) {
+            event(null, listener -> listener.executeQueryStart(transaction, this, sqlExecuteId));
+        }
 
         TsurugiQueryResult<R> result;
         try {
@@ -135,11 +115,15 @@ public class TsurugiSqlQuery<R> extends TsurugiSqlDirect {
             result = new TsurugiQueryResult<>(sqlExecuteId, transaction, this, null, resultMapping, convertUtil, null);
             result.initialize(lowResultSetFuture);
         } catch (Throwable e) {
-            event(e, listener -> listener.executeQueryStartException(transaction, this, sqlExecuteId, e));
+            if (eventListenerList.exists()) {
+                event(e, listener -> listener.executeQueryStartException(transaction, this, sqlExecuteId, e));
+            }
             throw e;
         }
 
-        event(null, listener -> listener.executeQueryStarted(transaction, this, result));
+        if (eventListenerList.exists()) {
+            event(null, listener -> listener.executeQueryStarted(transaction, this, result));
+        }
         return result;
     }
 }
@@ -16,8 +16,6 @@
 package com.tsurugidb.iceaxe.sql;
 
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
@@ -30,6 +28,7 @@ import com.tsurugidb.iceaxe.sql.event.TsurugiSqlStatementEventListener;
 import com.tsurugidb.iceaxe.sql.result.TsurugiStatementResult;
 import com.tsurugidb.iceaxe.transaction.TsurugiTransaction;
 import com.tsurugidb.iceaxe.transaction.exception.TsurugiTransactionException;
+import com.tsurugidb.iceaxe.util.IceaxeEventListenerList;
 import com.tsurugidb.iceaxe.util.IceaxeInternal;
 
 /**
@@ -38,7 +37,7 @@ import com.tsurugidb.iceaxe.util.IceaxeInternal;
 public class TsurugiSqlStatement extends TsurugiSqlDirect {
     private static final Logger LOG = LoggerFactory.getLogger(TsurugiSqlStatement.class);
 
-    private List<TsurugiSqlStatementEventListener> eventListenerList = null;
+    private volatile IceaxeEventListenerList<TsurugiSqlStatementEventListener> eventListenerList = IceaxeEventListenerList.none();
 
     /**
      * Creates a new instance.
@@ -61,10 +60,9 @@ public class TsurugiSqlStatement extends TsurugiSqlDirect {
      * @return this
      */
     public TsurugiSql addEventListener(TsurugiSqlStatementEventListener listener) {
-        if (this.eventListenerList == null) {
-            this.eventListenerList = new ArrayList<>();
+        synchronized (this) {
+            this.eventListenerList = eventListenerList.add(listener);
         }
-        eventListenerList.add(listener);
         return this;
     }
 
@@ -76,31 +74,11 @@ public class TsurugiSqlStatement extends TsurugiSqlDirect {
      * @since 1.3.0
      */
     public Optional<TsurugiSqlStatementEventListener> findEventListener(Predicate<TsurugiSqlStatementEventListener> predicate) {
-        var listenerList = this.eventListenerList;
-        if (listenerList != null) {
-            for (var listener : listenerList) {
-                if (predicate.test(listener)) {
-                    return Optional.of(listener);
-                }
-            }
-        }
-        return Optional.empty();
+        return eventListenerList.find(predicate);
     }
 
     private void event(Throwable occurred, Consumer<TsurugiSqlStatementEventListener> action) {
-        var listenerList = this.eventListenerList;
-        if (listenerList != null) {
-            try {
-                for (var listener : listenerList) {
-                    action.accept(listener);
-                }
-            } catch (Throwable e) {
-                if (occurred != null) {
-                    e.addSuppressed(occurred);
-                }
-                throw e;
-            }
-        }
+        eventListenerList.event(occurred, action);
     }
 
     /**
@@ -118,7 +96,9 @@ public class TsurugiSqlStatement extends TsurugiSqlDirect {
 
         LOG.trace("execute start");
         int sqlExecuteId = getNewIceaxeSqlExecuteId();
-        event(null, listener -> listener.executeStatementStart(transaction, this, sqlExecuteId));
+        if (eventListenerList.exists()) {
+            event(null, listener -> listener.executeStatementStart(transaction, this, sqlExecuteId));
+        }
 
         TsurugiStatementResult result;
         try {
@@ -128,11 +108,15 @@ public class TsurugiSqlStatement extends TsurugiSqlDirect {
             result = new TsurugiStatementResult(sqlExecuteId, transaction, this, null, null);
             result.initialize(lowResultFuture);
         } catch (Throwable e) {
-            event(e, listener -> listener.executeStatementStartException(transaction, this, sqlExecuteId, e));
+            if (eventListenerList.exists()) {
+                event(e, listener -> listener.executeStatementStartException(transaction, this, sqlExecuteId, e));
+            }
             throw e;
         }
 
-        event(null, listener -> listener.executeStatementStarted(transaction, this, result));
+        if (eventListenerList.exists()) {
+            event(null, listener -> listener.executeStatementStarted(transaction, this, result));
+        }
         return result;
     }
 }
@@ -0,0 +1,577 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.iceaxe.sql.cache;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.tsurugidb.iceaxe.sql.TsurugiSql;
+import com.tsurugidb.iceaxe.sql.TsurugiSqlPreparedQuery;
+import com.tsurugidb.iceaxe.sql.TsurugiSqlPreparedStatement;
+import com.tsurugidb.iceaxe.sql.TsurugiSqlStatement;
+import com.tsurugidb.iceaxe.transaction.TgCommitOption;
+import com.tsurugidb.iceaxe.transaction.TsurugiTransaction;
+import com.tsurugidb.iceaxe.transaction.TsurugiTransaction.TgTxMethod;
+import com.tsurugidb.iceaxe.transaction.event.TsurugiTransactionEventListener;
+import com.tsurugidb.iceaxe.transaction.manager.TgTmSetting;
+import com.tsurugidb.iceaxe.transaction.manager.TsurugiTransactionManager;
+import com.tsurugidb.iceaxe.transaction.manager.event.TsurugiTmEventListener;
+import com.tsurugidb.iceaxe.transaction.option.TgTxOptionLtx;
+import com.tsurugidb.iceaxe.util.IceaxeSqlTableUtil;
+
+/**
+ * Tsurugi query result cache.
+ *
+ * <p>
+ * Caches the results of {@link TsurugiTransactionManager#executeAndGetList(TgTmSetting, TsurugiSqlPreparedQuery, Object)} executed in RTX, keyed by SQL,
+ * result mapping and the low parameter list. Entries expire after the time to live, and the least recently used entries are evicted when the total weight
+ * (number of rows) exceeds the maximum (segmented LRU).
+ * </p>
+ * <p>
+ * Write transactions executed by a transaction manager sharing this cache ({@link TsurugiTransactionManager#setQueryCache(TsurugiQueryCache)}) invalidate
+ * the entries of the written tables (write preserve of LTX, or the tables of the executed statements). The tables of a query are taken from its FROM and JOIN
+ * clauses, or specified by the caller. The table names are compared after {@link IceaxeSqlTableUtil#normalizeTableName(String)} (without schema, case
+ * insensitive). A query whose tables cannot be determined is invalidated by any write.
+ * </p>
+ * <p>
+ * An RTX started just after the commit of a write transaction may still read the snapshot before the write. So the result of a query is not cached if its
+ * tables were written within the snapshot lag ({@link #setSnapshotLag(long, TimeUnit)}) before the query started.
+ * </p>
+ *
+ * @since 1.17.0
+ */
+@ThreadSafe
+public class TsurugiQueryCache implements TsurugiTmEventListener {
+    private static final Logger LOG = LoggerFactory.getLogger(TsurugiQueryCache.class);
+
+    /** default snapshot lag [millisecond] */
+    public static final long DEFAULT_SNAPSHOT_LAG_MILLIS = 1000;
+
+    static final class Key {
+        private final String sql;
+        private final Object resultMapping;
+        private final List<?> parameterList;
+        private final int hash;
+
+        Key(String sql, Object resultMapping, List<?> parameterList) {
+            this.sql = sql;
+            this.resultMapping = resultMapping;
+            this.parameterList = parameterList;
+            this.hash = Objects.hash(sql, System.identityHashCode(resultMapping), parameterList);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            var other = (Key) obj;
+            return this.resultMapping == other.resultMapping && sql.equals(other.sql) && parameterList.equals(other.parameterList);
+        }
+    }
+
+    static final class Stamp {
+        final long[] generations;
+        final long startNanos;
+
+        Stamp(long[] generations, long startNanos) {
+            this.generations = generations;
+            this.startNanos = startNanos;
+        }
+    }
+
+    private static final class Entry {
+        final Key key;
+        final List<?> value;
+        final Set<String> tableSet;
+        final long weight;
+        final long expireNanos;
+        boolean protectedSegment = false;
+
+        Entry(Key key, List<?> value, Set<String> tableSet, long expireNanos) {
+            this.key = key;
+            this.value = value;
+            this.tableSet = tableSet;
+            this.weight = value.size() + 1;
+            this.expireNanos = expireNanos;
+        }
+    }
+
+    private final long maxWeight;
+    private final long protectedMaxWeight;
+    private final long ttlNanos;
+    private volatile long snapshotLagNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_SNAPSHOT_LAG_MILLIS);
+    private final LinkedHashMap<Key, Entry> probationMap = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<Key, Entry> protectedMap = new LinkedHashMap<>(16, 0.75f, true);
+    private long probationWeight = 0;
+    private long protectedWeight = 0;
+    /** generation of {@link #invalidateAll()} */
+    private long allGeneration = 0;
+    /** generation of any write (for the queries whose tables are unknown) */
+    private long writeGeneration = 0;
+    private final Map<String, Long> tableGenerationMap = new HashMap<>();
+    /** time of the last {@link #invalidateAll()} */
+    private Long allInvalidateNanos = null;
+    /** time of the last write */
+    private Long writeInvalidateNanos = null;
+    private final Map<String, Long> tableInvalidateNanosMap = new HashMap<>();
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+    private final AtomicLong invalidationCount = new AtomicLong();
+
+    /**
+     * Creates a new instance.
+     *
+     * @param maxWeight maximum total number of cached rows
+     * @param ttl       time to live
+     * @param unit      unit of time to live
+     */
+    public TsurugiQueryCache(long maxWeight, long ttl, TimeUnit unit) {
+        if (maxWeight <= 0) {
+            throw new IllegalArgumentException("maxWeight must be positive. maxWeight=" + maxWeight);
+        }
+        this.maxWeight = maxWeight;
+        this.protectedMaxWeight = maxWeight * 4 / 5;
+        this.ttlNanos = unit.toNanos(ttl);
+    }
+
+    /**
+     * set snapshot lag.
+     *
+     * <p>
+     * The result of a query is not cached if its tables were written within this time before the query started.
+     * </p>
+     *
+     * @param lag  snapshot lag
+     * @param unit unit of snapshot lag
+     * @return this
+     */
+    public TsurugiQueryCache setSnapshotLag(long lag, TimeUnit unit) {
+        if (lag < 0) {
+            throw new IllegalArgumentException("lag must not be negative. lag=" + lag);
+        }
+        this.snapshotLagNanos = unit.toNanos(lag);
+        return this;
+    }
+
+    /**
+     * get snapshot lag.
+     *
+     * @param unit unit of snapshot lag
+     * @return snapshot lag
+     */
+    public long getSnapshotLag(TimeUnit unit) {
+        return unit.convert(snapshotLagNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * execute query using cache.
+     *
+     * @param <P>       parameter type
+     * @param <R>       result type
+     * @param tm        transaction manager
+     * @param setting   transaction manager settings
+     * @param ps        SQL definition
+     * @param parameter SQL parameter
+     * @return list of record (unmodifiable if returned from the cache)
+     * @throws IOException          if an I/O error occurs while execute query
+     * @throws InterruptedException if interrupted while execute query
+     */
+    public <P, R> List<R> executeAndGetList(TsurugiTransactionManager tm, TgTmSetting setting, TsurugiSqlPreparedQuery<P, R> ps, P parameter)
+            throws IOException, InterruptedException {
+        return executeAndGetList(tm, setting, ps, parameter, IceaxeSqlTableUtil.findReadTables(ps.getSql()));
+    }
+
+    /**
+     * execute query using cache.
+     *
+     * @param <P>        parameter type
+     * @param <R>        result type
+     * @param tm         transaction manager
+     * @param setting    transaction manager settings
+     * @param ps         SQL definition
+     * @param parameter  SQL parameter
+     * @param tableNames tables read by the query (empty if unknown)
+     * @return list of record (unmodifiable if returned from the cache)
+     * @throws IOException          if an I/O error occurs while execute query
+     * @throws InterruptedException if interrupted while execute query
+     */
+    public <P, R> List<R> executeAndGetList(TsurugiTransactionManager tm, TgTmSetting setting, TsurugiSqlPreparedQuery<P, R> ps, P parameter,
+            Collection<String> tableNames) throws IOException, InterruptedException {
+        var lowParameterList = ps.getLowParameterListForKey(parameter);
+        if (lowParameterList == null) {
+            return tm.execute(setting, transaction -> {
+                return transaction.executeAndGetList(ps, parameter);
+            });
+        }
+        var key = new Key(ps.getSql(), ps.getResultMapping(), lowParameterList);
+        var tableSet = normalize(tableNames);
+
+        var stamp = new Stamp[] { null };
+        return tm.execute(setting, txOption -> {
+            // only RTX uses the cache
+            if (!txOption.isRTX()) {
+                return null;
+            }
+            @SuppressWarnings("unchecked")
+            var cached = (List<R>) get(key);
+            if (cached != null) {
+                hitCount.incrementAndGet();
+                return cached;
+            }
+            missCount.incrementAndGet();
+            stamp[0] = stamp(tableSet);
+            return null;
+        }, transaction -> {
+            var list = transaction.executeAndGetList(ps, parameter);
+            // the transaction option may be changed by retry
+            if (stamp[0] != null && transaction.getTransactionOption().isRTX()) {
+                put(key, Collections.unmodifiableList(new ArrayList<>(list)), tableSet, stamp[0]);
+            }
+            return list;
+        });
+    }
+
+    private static Set<String> normalize(Collection<String> tableNames) {
+        var set = new HashSet<String>(tableNames.size());
+        for (String table : tableNames) {
+            set.add(IceaxeSqlTableUtil.normalizeTableName(table));
+        }
+        return set;
+    }
+
+    /**
+     * get generations of the tables.
+     *
+     * @param tableSet normalized table names
+     * @return generations (compared by {@link #put(Key, List, Set, Stamp)})
+     */
+    synchronized Stamp stamp(Set<String> tableSet) {
+        long now = System.nanoTime();
+        if (tableSet.isEmpty()) {
+            return new Stamp(new long[] { allGeneration, writeGeneration }, now);
+        }
+        var stamp = new long[tableSet.size() + 1];
+        stamp[0] = allGeneration;
+        int i = 1;
+        for (String table : tableSet) {
+            stamp[i++] = tableGenerationMap.getOrDefault(table, 0L);
+        }
+        return new Stamp(stamp, now);
+    }
+
+    private boolean isWrittenWithinSnapshotLag(Set<String> tableSet, long startNanos) {
+        long lag = this.snapshotLagNanos;
+        if (isWithin(allInvalidateNanos, startNanos, lag)) {
+            return true;
+        }
+        if (tableSet.isEmpty()) {
+            return isWithin(writeInvalidateNanos, startNanos, lag);
+        }
+        for (String table : tableSet) {
+            if (isWithin(tableInvalidateNanosMap.get(table), startNanos, lag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isWithin(@Nullable Long invalidateNanos, long startNanos, long lag) {
+        return invalidateNanos != null && startNanos - invalidateNanos < lag;
+    }
+
+    synchronized List<?> get(Key key) {
+        var entry = probationMap.get(key);
+        if (entry == null) {
+            entry = protectedMap.get(key);
+        }
+        if (entry == null) {
+            return null;
+        }
+        if (System.nanoTime() - entry.expireNanos >= 0) {
+            remove(entry);
+            return null;
+        }
+        if (!entry.protectedSegment) {
+            // promote
+            probationMap.remove(key);
+            probationWeight -= entry.weight;
+            entry.protectedSegment = true;
+            protectedMap.put(key, entry);
+            protectedWeight += entry.weight;
+            demote();
+        }
+        return entry.value;
+    }
+
+    synchronized void put(Key key, List<?> value, Set<String> tableSet, Stamp startStamp) {
+        if (!Arrays.equals(stamp(tableSet).generations, startStamp.generations)) {
+            // the tables were invalidated while executing
+            return;
+        }
+        if (isWrittenWithinSnapshotLag(tableSet, startStamp.startNanos)) {
+            // the snapshot may be before the write
+            return;
+        }
+        if (value.size() + 1 > maxWeight) {
+            return;
+        }
+        var old = probationMap.get(key);
+        if (old == null) {
+            old = protectedMap.get(key);
+        }
+        if (old != null) {
+            remove(old);
+        }
+
+        var entry = new Entry(key, value, tableSet, System.nanoTime() + ttlNanos);
+        probationMap.put(key, entry);
+        probationWeight += entry.weight;
+        evict();
+    }
+
+    private void demote() {
+        for (Iterator<Entry> i = protectedMap.values().iterator(); protectedWeight > protectedMaxWeight && i.hasNext();) {
+            var entry = i.next();
+            i.remove();
+            protectedWeight -= entry.weight;
+            entry.protectedSegment = false;
+            probationMap.put(entry.key, entry);
+            probationWeight += entry.weight;
+        }
+        evict();
+    }
+
+    private void evict() {
+        for (Iterator<Entry> i = probationMap.values().iterator(); probationWeight + protectedWeight > maxWeight && i.hasNext();) {
+            var entry = i.next();
+            i.remove();
+            probationWeight -= entry.weight;
+            evictionCount.incrementAndGet();
+        }
+    }
+
+    private void remove(Entry entry) {
+        if (entry.protectedSegment) {
+            protectedMap.remove(entry.key);
+            protectedWeight -= entry.weight;
+        } else {
+            probationMap.remove(entry.key);
+            probationWeight -= entry.weight;
+        }
+    }
+
+    /**
+     * invalidate entries of the tables.
+     *
+     * @param tableNames table names
+     */
+    public synchronized void invalidate(Collection<String> tableNames) {
+        if (tableNames.isEmpty()) {
+            return;
+        }
+        LOG.trace("invalidate. tables={}", tableNames);
+        var tableSet = normalize(tableNames);
+        long now = System.nanoTime();
+        writeGeneration++;
+        writeInvalidateNanos = now;
+        for (String table : tableSet) {
+            tableGenerationMap.merge(table, 1L, Long::sum);
+            tableInvalidateNanosMap.put(table, now);
+        }
+        invalidate(probationMap, tableSet);
+        invalidate(protectedMap, tableSet);
+    }
+
+    private void invalidate(Map<Key, Entry> map, Collection<String> tableNames) {
+        for (var i = map.values().iterator(); i.hasNext();) {
+            var entry = i.next();
+            // an entry without known tables is invalidated by any write
+            if (entry.tableSet.isEmpty() || !Collections.disjoint(entry.tableSet, tableNames)) {
+                i.remove();
+                if (entry.protectedSegment) {
+                    protectedWeight -= entry.weight;
+                } else {
+                    probationWeight -= entry.weight;
+                }
+                invalidationCount.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * invalidate all entries.
+     */
+    public synchronized void invalidateAll() {
+        allGeneration++;
+        allInvalidateNanos = System.nanoTime();
+        invalidationCount.addAndGet(probationMap.size() + protectedMap.size());
+        probationMap.clear();
+        protectedMap.clear();
+        probationWeight = 0;
+        protectedWeight = 0;
+    }
+
+    @Override
+    public void transactionStarted(TsurugiTransaction transaction) {
+        var txOption = transaction.getTransactionOption();
+        if (txOption.isRTX()) {
+            return;
+        }
+        var tableSet = new HashSet<String>();
+        if (txOption instanceof TgTxOptionLtx) {
+            tableSet.addAll(((TgTxOptionLtx) txOption).writePreserve());
+            invalidate(tableSet);
+        }
+        transaction.addEventListener(new TsurugiTransactionEventListener() {
+            private boolean unknown = false;
+
+            @Override
+            public void executeStart(TsurugiTransaction transaction, TgTxMethod method, int iceaxeTxExecuteId, TsurugiSql ps, Object parameter) {
+                if (!(ps instanceof TsurugiSqlStatement || ps instanceof TsurugiSqlPreparedStatement)) {
+                    return;
+                }
+                String table = IceaxeSqlTableUtil.findWriteTable(ps.getSql());
+                synchronized (tableSet) {
+                    if (table == null) {
+                        this.unknown = true;
+                    } else {
+                        tableSet.add(table);
+                    }
+                }
+                invalidateWritten(table);
+            }
+
+            @Override
+            public void commitEnd(TsurugiTransaction transaction, TgCommitOption commitOption, Throwable occurred) {
+                synchronized (tableSet) {
+                    if (this.unknown) {
+                        invalidateAll();
+                    } else if (!tableSet.isEmpty()) {
+                        invalidate(tableSet);
+                    }
+                }
+            }
+        });
+    }
+
+    private void invalidateWritten(@Nullable String table) {
+        if (table == null) {
+            invalidateAll();
+        } else {
+            invalidate(List.of(table));
+        }
+    }
+
+    /**
+     * get number of cache hits.
+     *
+     * @return hit count
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * get number of cache misses.
+     *
+     * @return miss count
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * get hit rate.
+     *
+     * @return hit rate (0.0 - 1.0)
+     */
+    public double getHitRate() {
+        long hit = hitCount.get();
+        long total = hit + missCount.get();
+        return (total == 0) ? 0 : (double) hit / total;
+    }
+
+    /**
+     * get number of evicted entries.
+     *
+     * @return eviction count
+     */
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    /**
+     * get number of invalidated entries.
+     *
+     * @return invalidation count
+     */
+    public long getInvalidationCount() {
+        return invalidationCount.get();
+    }
+
+    /**
+     * get number of entries.
+     *
+     * @return size
+     */
+    public synchronized int size() {
+        return probationMap.size() + protectedMap.size();
+    }
+
+    /**
+     * get total weight (number of cached rows).
+     *
+     * @return weight
+     */
+    public synchronized long getWeight() {
+        return probationWeight + protectedWeight;
+    }
+
+    @Override
+    public String toString() {
+        return "TsurugiQueryCache(size=" + size() + ", hit=" + getHitCount() + ", miss=" + getMissCount() + ")";
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.iceaxe.sql.hedge;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Tsurugi hedged query statistics (per label).
+ *
+ * <p>
+ * Keeps the latency until the first row of the recent executions.
+ * </p>
+ *
+ * @since 1.17.0
+ */
+@ThreadSafe
+public class TsurugiHedgeStatistics {
+
+    /** default window size. */
+    public static final int DEFAULT_WINDOW_SIZE = 256;
+
+    private final String label;
+    private final long[] window;
+    private int sampleSize = 0;
+    private int position = 0;
+    private final AtomicLong executeCount = new AtomicLong();
+    private final AtomicLong hedgeCount = new AtomicLong();
+    private final AtomicLong hedgeWinCount = new AtomicLong();
+
+    /**
+     * Creates a new instance.
+     *
+     * @param label      label
+     * @param windowSize number of samples
+     */
+    public TsurugiHedgeStatistics(String label, int windowSize) {
+        if (windowSize <= 0) {
+            throw new IllegalArgumentException("windowSize must be positive. windowSize=" + windowSize);
+        }
+        this.label = label;
+        this.window = new long[windowSize];
+    }
+
+    /**
+     * get label.
+     *
+     * @return label
+     */
+    public String getLabel() {
+        return this.label;
+    }
+
+    /**
+     * record latency until the first row.
+     *
+     * @param nanos latency [nanosecond]
+     */
+    public synchronized void recordFirstRow(long nanos) {
+        window[position] = nanos;
+        position = (position + 1) % window.length;
+        if (sampleSize < window.length) {
+            sampleSize++;
+        }
+    }
+
+    /**
+     * get number of samples.
+     *
+     * @return number of samples
+     */
+    public synchronized int getSampleSize() {
+        return this.sampleSize;
+    }
+
+    /**
+     * get percentile of latency until the first row.
+     *
+     * @param percentile percentile (0.0 - 1.0)
+     * @return latency [nanosecond]. -1 if no sample
+     */
+    public long getFirstRowPercentileNanos(double percentile) {
+        long[] samples;
+        synchronized (this) {
+            if (sampleSize == 0) {
+                return -1;
+            }
+            samples = Arrays.copyOf(window, sampleSize);
+        }
+        Arrays.sort(samples);
+        int index = (int) Math.ceil(percentile * samples.length) - 1;
+        index = Math.max(0, Math.min(index, samples.length - 1));
+        return samples[index];
+    }
+
+    void incrementExecuteCount() {
+        executeCount.incrementAndGet();
+    }
+
+    void incrementHedgeCount() {
+        hedgeCount.incrementAndGet();
+    }
+
+    void incrementHedgeWinCount() {
+        hedgeWinCount.incrementAndGet();
+    }
+
+    /**
+     * get number of executions.
+     *
+     * @return count
+     */
+    public long getExecuteCount() {
+        return executeCount.get();
+    }
+
+    /**
+     * get number of hedged executions.
+     *
+     * @return count
+     */
+    public long getHedgeCount() {
+        return hedgeCount.get();
+    }
+
+    /**
+     * get number of executions won by the hedged query.
+     *
+     * @return count
+     */
+    public long getHedgeWinCount() {
+        return hedgeWinCount.get();
+    }
+
+    @Override
+    public String toString() {
+        return "TsurugiHedgeStatistics(label=" + label + ", execute=" + executeCount + ", hedge=" + hedgeCount + ", hedgeWin=" + hedgeWinCount + ")";
+    }
+}
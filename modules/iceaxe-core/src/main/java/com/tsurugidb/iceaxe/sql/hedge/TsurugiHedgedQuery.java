@@ -0,0 +1,104 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.iceaxe.sql.hedge;
+
+import java.io.IOException;
+import java.util.List;
+
+import com.tsurugidb.iceaxe.sql.TsurugiSqlPreparedQuery;
+
+/**
+ * Tsurugi hedged query.
+ *
+ * <p>
+ * The same query prepared on each session of {@link TsurugiHedgedQueryExecutor}.
+ * </p>
+ *
+ * @param <P> parameter type
+ * @param <R> result type
+ * @see TsurugiHedgedQueryExecutor#createQuery(String, String, com.tsurugidb.iceaxe.sql.parameter.TgParameterMapping,
+ *      com.tsurugidb.iceaxe.sql.result.TgResultMapping)
+ * @since 1.17.0
+ */
+public class TsurugiHedgedQuery<P, R> implements AutoCloseable {
+
+    private final String label;
+    private final List<TsurugiSqlPreparedQuery<P, R>> psList;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param label  label
+     * @param psList prepared query (per session)
+     */
+    TsurugiHedgedQuery(String label, List<TsurugiSqlPreparedQuery<P, R>> psList) {
+        this.label = label;
+        this.psList = psList;
+    }
+
+    /**
+     * get label.
+     *
+     * @return label
+     */
+    public String getLabel() {
+        return this.label;
+    }
+
+    /**
+     * get prepared query.
+     *
+     * @param sessionIndex session index
+     * @return prepared query
+     */
+    public TsurugiSqlPreparedQuery<P, R> getPreparedQuery(int sessionIndex) {
+        return psList.get(sessionIndex);
+    }
+
+    @Override
+    public void close() throws IOException, InterruptedException {
+        closeAll(psList);
+    }
+
+    static void closeAll(List<? extends TsurugiSqlPreparedQuery<?, ?>> psList) throws IOException, InterruptedException {
+        Exception occurred = null;
+        for (var ps : psList) {
+            try {
+                ps.close();
+            } catch (IOException | InterruptedException | RuntimeException e) {
+                if (occurred == null) {
+                    occurred = e;
+                } else {
+                    occurred.addSuppressed(e);
+                }
+            }
+        }
+        if (occurred instanceof IOException) {
+            throw (IOException) occurred;
+        }
+        if (occurred instanceof InterruptedException) {
+            throw (InterruptedException) occurred;
+        }
+        if (occurred != null) {
+            throw (RuntimeException) occurred;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "TsurugiHedgedQuery(label=" + label + ", sessions=" + psList.size() + ")";
+    }
+}
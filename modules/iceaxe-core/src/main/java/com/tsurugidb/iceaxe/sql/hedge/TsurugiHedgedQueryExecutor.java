@@ -0,0 +1,496 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.iceaxe.sql.hedge;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.tsurugidb.iceaxe.session.TsurugiSession;
+import com.tsurugidb.iceaxe.sql.TsurugiSqlPreparedQuery;
+import com.tsurugidb.iceaxe.sql.parameter.TgParameterMapping;
+import com.tsurugidb.iceaxe.sql.result.TgResultMapping;
+import com.tsurugidb.iceaxe.transaction.TsurugiTransaction;
+import com.tsurugidb.iceaxe.transaction.exception.TsurugiTransactionException;
+import com.tsurugidb.iceaxe.transaction.option.TgTxOption;
+import com.tsurugidb.iceaxe.util.TgTimeValue;
+
+/**
+ * Tsurugi hedged query executor.
+ *
+ * <p>
+ * Executes a read-only query in a transaction (RTX by default) on one session. If no first row arrives within the hedge delay, the same query is executed on
+ * another session. The first result wins. The transaction of the other attempt is closed (with its query result) as soon as the winner is decided, so that a
+ * loser whose first row never arrives does not keep its transaction and its thread.
+ * </p>
+ * <p>
+ * The hedge delay is the percentile of the latency until the first row observed per label (unless the fixed delay is specified). The latency is recorded for
+ * every attempt that reaches its first row, including the losers, so that slow attempts are not dropped from the statistics. Use only for idempotent
+ * queries.
+ * </p>
+ * <p>
+ * The attempts run on a bounded thread pool. If the pool is full, the primary query runs on the caller thread and no hedge query is started.
+ * </p>
+ *
+ * @since 1.17.0
+ */
+public class TsurugiHedgedQueryExecutor implements AutoCloseable {
+    private static final Logger LOG = LoggerFactory.getLogger(TsurugiHedgedQueryExecutor.class);
+
+    /** default hedge percentile. */
+    public static final double DEFAULT_HEDGE_PERCENTILE = 0.95;
+    /** default initial hedge delay (until enough samples are collected). */
+    public static final TgTimeValue DEFAULT_INITIAL_HEDGE_DELAY = TgTimeValue.of(50, TimeUnit.MILLISECONDS);
+    /** minimum number of samples to calculate the hedge delay. */
+    public static final int MIN_SAMPLE_SIZE = 16;
+    /** default maximum number of threads. */
+    public static final int DEFAULT_MAX_THREAD_SIZE = 64;
+
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger(0);
+
+    private final List<TsurugiSession> sessionList;
+    private final ExecutorService executor;
+    private final AtomicInteger nextSession = new AtomicInteger(0);
+    private final Map<String, TsurugiHedgeStatistics> statisticsMap = new ConcurrentHashMap<>();
+    private TgTxOption txOption = TgTxOption.ofRTX();
+    private TgTimeValue hedgeDelay = null;
+    private TgTimeValue initialHedgeDelay = DEFAULT_INITIAL_HEDGE_DELAY;
+    private double hedgePercentile = DEFAULT_HEDGE_PERCENTILE;
+    private int windowSize = TsurugiHedgeStatistics.DEFAULT_WINDOW_SIZE;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param sessionList sessions (the sessions are not closed by this executor)
+     */
+    public TsurugiHedgedQueryExecutor(@Nonnull List<TsurugiSession> sessionList) {
+        this(sessionList, DEFAULT_MAX_THREAD_SIZE);
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param sessionList   sessions (the sessions are not closed by this executor)
+     * @param maxThreadSize maximum number of threads running the attempts
+     */
+    public TsurugiHedgedQueryExecutor(@Nonnull List<TsurugiSession> sessionList, int maxThreadSize) {
+        if (sessionList.isEmpty()) {
+            throw new IllegalArgumentException("sessionList is empty");
+        }
+        if (maxThreadSize <= 0) {
+            throw new IllegalArgumentException("maxThreadSize must be positive. maxThreadSize=" + maxThreadSize);
+        }
+        this.sessionList = List.copyOf(sessionList);
+        this.executor = new ThreadPoolExecutor(0, maxThreadSize, 60, TimeUnit.SECONDS, new SynchronousQueue<>(), runnable -> {
+            var thread = new Thread(runnable, "iceaxe-hedge-" + THREAD_COUNT.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * set transaction option.
+     *
+     * @param txOption transaction option (read only)
+     * @return this
+     */
+    public TsurugiHedgedQueryExecutor setTransactionOption(@Nonnull TgTxOption txOption) {
+        this.txOption = Objects.requireNonNull(txOption);
+        return this;
+    }
+
+    /**
+     * get transaction option.
+     *
+     * @return transaction option
+     */
+    public TgTxOption getTransactionOption() {
+        return this.txOption;
+    }
+
+    /**
+     * set fixed hedge delay.
+     *
+     * @param delay hedge delay ({@code null} to calculate from statistics)
+     * @return this
+     */
+    public TsurugiHedgedQueryExecutor setHedgeDelay(@Nullable TgTimeValue delay) {
+        this.hedgeDelay = delay;
+        return this;
+    }
+
+    /**
+     * set initial hedge delay (until enough samples are collected).
+     *
+     * @param delay hedge delay
+     * @return this
+     */
+    public TsurugiHedgedQueryExecutor setInitialHedgeDelay(@Nonnull TgTimeValue delay) {
+        this.initialHedgeDelay = Objects.requireNonNull(delay);
+        return this;
+    }
+
+    /**
+     * set hedge percentile.
+     *
+     * @param percentile percentile of the latency until the first row (0.0 - 1.0)
+     * @return this
+     */
+    public TsurugiHedgedQueryExecutor setHedgePercentile(double percentile) {
+        if (!(0 < percentile && percentile <= 1)) {
+            throw new IllegalArgumentException("percentile must be in (0, 1]. percentile=" + percentile);
+        }
+        this.hedgePercentile = percentile;
+        return this;
+    }
+
+    /**
+     * set window size of statistics.
+     *
+     * @param windowSize number of samples per label
+     * @return this
+     */
+    public TsurugiHedgedQueryExecutor setWindowSize(int windowSize) {
+        this.windowSize = windowSize;
+        return this;
+    }
+
+    /**
+     * create hedged query.
+     *
+     * @param <P>              parameter type
+     * @param <R>              result type
+     * @param label            label (key of statistics)
+     * @param sql              SQL
+     * @param parameterMapping parameter mapping
+     * @param resultMapping    result mapping
+     * @return hedged query
+     * @throws IOException          if an I/O error occurs while creating prepared query
+     * @throws InterruptedException if interrupted while creating prepared query
+     */
+    public <P, R> TsurugiHedgedQuery<P, R> createQuery(@Nonnull String label, String sql, TgParameterMapping<P> parameterMapping, TgResultMapping<R> resultMapping)
+            throws IOException, InterruptedException {
+        var psList = new ArrayList<TsurugiSqlPreparedQuery<P, R>>(sessionList.size());
+        try {
+            for (var session : sessionList) {
+                psList.add(session.createQuery(sql, parameterMapping, resultMapping));
+            }
+        } catch (Throwable e) {
+            try {
+                TsurugiHedgedQuery.closeAll(psList);
+            } catch (Throwable t) {
+                e.addSuppressed(t);
+            }
+            throw e;
+        }
+        return new TsurugiHedgedQuery<>(Objects.requireNonNull(label), psList);
+    }
+
+    /**
+     * get statistics.
+     *
+     * @param label label
+     * @return statistics
+     */
+    public TsurugiHedgeStatistics getStatistics(String label) {
+        return statisticsMap.computeIfAbsent(label, k -> new TsurugiHedgeStatistics(k, windowSize));
+    }
+
+    /**
+     * get hedge delay.
+     *
+     * @param label label
+     * @return hedge delay [nanosecond]
+     */
+    public long getHedgeDelayNanos(String label) {
+        var fixed = this.hedgeDelay;
+        if (fixed != null) {
+            return fixed.toNanos();
+        }
+        var statistics = getStatistics(label);
+        if (statistics.getSampleSize() < MIN_SAMPLE_SIZE) {
+            return initialHedgeDelay.toNanos();
+        }
+        return statistics.getFirstRowPercentileNanos(hedgePercentile);
+    }
+
+    /**
+     * execute query and get list.
+     *
+     * @param <P>       parameter type
+     * @param <R>       result type
+     * @param query     hedged query
+     * @param parameter SQL parameter
+     * @return record list
+     * @throws IOException                 if an I/O error occurs while execute
+     * @throws InterruptedException        if interrupted while execute
+     * @throws TsurugiTransactionException if server error occurs while execute
+     */
+    public <P, R> List<R> executeAndGetList(TsurugiHedgedQuery<P, R> query, P parameter) throws IOException, InterruptedException, TsurugiTransactionException {
+        var statistics = getStatistics(query.getLabel());
+        statistics.incrementExecuteCount();
+
+        int size = sessionList.size();
+        int primaryIndex = Math.floorMod(nextSession.getAndIncrement(), size);
+        var race = new Race<R>();
+        var primary = new Attempt<>(race, sessionList.get(primaryIndex), txOption, query.getPreparedQuery(primaryIndex), parameter, statistics, false);
+        Attempt<P, R> hedge = null;
+        try {
+            boolean async = submit(primary);
+            if (!async) {
+                LOG.trace("hedge executor is busy. label={}", query.getLabel());
+                primary.run();
+            }
+
+            if (async && size > 1) {
+                long delay = getHedgeDelayNanos(query.getLabel());
+                boolean settled = primary.settled.await(delay, TimeUnit.NANOSECONDS);
+                boolean launch = !settled || (race.winner.get() != primary); // timeout or primary failed
+                if (launch) {
+                    int hedgeIndex = (primaryIndex + 1) % size;
+                    LOG.trace("hedge query start. label={}, session={}", query.getLabel(), hedgeIndex);
+                    var attempt = new Attempt<>(race, sessionList.get(hedgeIndex), txOption, query.getPreparedQuery(hedgeIndex), parameter, statistics, true);
+                    race.attemptCount.incrementAndGet();
+                    if (submit(attempt)) {
+                        statistics.incrementHedgeCount();
+                        hedge = attempt;
+                    } else {
+                        LOG.trace("hedge executor is busy. label={}", query.getLabel());
+                        race.attemptCount.decrementAndGet();
+                    }
+                }
+            }
+            race.launchEnd();
+
+            return await(race.result);
+        } finally {
+            race.result.cancel(false);
+            // usually the losers are already cancelled by the winner thread
+            var winner = race.winner.get();
+            if (winner != primary) {
+                primary.cancel();
+            }
+            if (hedge != null && winner != hedge) {
+                hedge.cancel();
+            }
+        }
+    }
+
+    private boolean submit(Attempt<?, ?> attempt) {
+        try {
+            executor.execute(attempt);
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    private static <R> List<R> await(CompletableFuture<List<R>> future) throws IOException, InterruptedException, TsurugiTransactionException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            var cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof TsurugiTransactionException) {
+                throw (TsurugiTransactionException) cause;
+            }
+            if (cause instanceof InterruptedException) {
+                throw (InterruptedException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    private static class Race<R> {
+        final CompletableFuture<List<R>> result = new CompletableFuture<>();
+        final AtomicReference<Attempt<?, R>> winner = new AtomicReference<>();
+        final AtomicInteger attemptCount = new AtomicInteger(1);
+        private final List<Attempt<?, R>> attemptList = new CopyOnWriteArrayList<>();
+        private final List<Throwable> failureList = new ArrayList<>();
+        private boolean launchEnd = false;
+
+        boolean isDone() {
+            return result.isDone() || winner.get() != null;
+        }
+
+        void add(Attempt<?, R> attempt) {
+            attemptList.add(attempt);
+        }
+
+        void cancelOthers(Attempt<?, R> winner) {
+            for (var attempt : attemptList) {
+                if (attempt != winner) {
+                    attempt.cancel();
+                }
+            }
+        }
+
+        synchronized void fail(Attempt<?, R> attempt, Throwable e) {
+            if (winner.get() == attempt) {
+                result.completeExceptionally(e);
+                return;
+            }
+            failureList.add(e);
+            completeIfAllFailed();
+        }
+
+        synchronized void launchEnd() {
+            this.launchEnd = true;
+            completeIfAllFailed();
+        }
+
+        private void completeIfAllFailed() {
+            if (launchEnd && winner.get() == null && failureList.size() >= attemptCount.get()) {
+                var e = failureList.get(0);
+                for (int i = 1; i < failureList.size(); i++) {
+                    e.addSuppressed(failureList.get(i));
+                }
+                result.completeExceptionally(e);
+            }
+        }
+    }
+
+    private static class Attempt<P, R> implements Runnable {
+        private final Race<R> race;
+        private final TsurugiSession session;
+        private final TgTxOption txOption;
+        private final TsurugiSqlPreparedQuery<P, R> ps;
+        private final P parameter;
+        private final TsurugiHedgeStatistics statistics;
+        private final boolean hedge;
+        final CountDownLatch settled = new CountDownLatch(1);
+        private volatile boolean cancelled = false;
+        private final AtomicReference<TsurugiTransaction> transactionRef = new AtomicReference<>();
+
+        Attempt(Race<R> race, TsurugiSession session, TgTxOption txOption, TsurugiSqlPreparedQuery<P, R> ps, P parameter, TsurugiHedgeStatistics statistics, boolean hedge) {
+            this.race = race;
+            this.session = session;
+            this.txOption = txOption;
+            this.ps = ps;
+            this.parameter = parameter;
+            this.statistics = statistics;
+            this.hedge = hedge;
+            race.add(this);
+        }
+
+        @Override
+        public void run() {
+            long start = System.nanoTime();
+            try {
+                var transaction = session.createTransaction(txOption);
+                transactionRef.set(transaction);
+                if (this.cancelled || race.isDone()) {
+                    return;
+                }
+                try (var result = transaction.executeQuery(ps, parameter)) {
+                    Optional<R> first = result.nextRecord();
+                    statistics.recordFirstRow(System.nanoTime() - start);
+                    if (this.cancelled || !race.winner.compareAndSet(null, this)) {
+                        LOG.trace("hedge query lost. hedge={}", hedge);
+                        return;
+                    }
+                    settled.countDown();
+                    if (hedge) {
+                        statistics.incrementHedgeWinCount();
+                    }
+
+                    var list = new ArrayList<R>();
+                    if (first.isPresent()) {
+                        list.add(first.get());
+                        for (Optional<R> r; (r = result.nextRecord()).isPresent();) {
+                            list.add(r.get());
+                        }
+                    }
+                    race.result.complete(list);
+                }
+                race.cancelOthers(this);
+            } catch (Throwable e) {
+                if (this.cancelled) {
+                    LOG.trace("cancelled hedge query error", e);
+                } else {
+                    race.fail(this, e);
+                }
+            } finally {
+                settled.countDown();
+                closeTransaction();
+            }
+        }
+
+        /**
+         * cancel this attempt.
+         * <p>
+         * Closes the transaction and its query result, so that the thread waiting for the first row is released.
+         * </p>
+         */
+        void cancel() {
+            this.cancelled = true;
+            closeTransaction();
+        }
+
+        private void closeTransaction() {
+            var transaction = transactionRef.getAndSet(null);
+            if (transaction != null) {
+                try {
+                    transaction.close();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    LOG.debug("hedge query close interrupted. hedge={}", hedge, e);
+                } catch (Throwable e) {
+                    LOG.debug("hedge query close error. hedge={}", hedge, e);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    @Override
+    public String toString() {
+        return "TsurugiHedgedQueryExecutor(sessions=" + sessionList.size() + ", statistics=" + statisticsMap.values() + ")";
+    }
+}
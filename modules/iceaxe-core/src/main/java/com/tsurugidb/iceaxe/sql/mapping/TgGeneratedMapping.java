@@ -0,0 +1,166 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.iceaxe.sql.mapping;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import javax.annotation.Nonnull;
+
+import com.tsurugidb.iceaxe.sql.parameter.TgParameterMapping;
+import com.tsurugidb.iceaxe.sql.parameter.mapping.TgEntityParameterMapping;
+import com.tsurugidb.iceaxe.sql.result.TgResultMapping;
+import com.tsurugidb.iceaxe.sql.result.mapping.TgEntityResultMapping;
+
+/**
+ * Generated mapping utility.
+ *
+ * <p>
+ * Finds the mapping classes generated from {@link TgMappingEntity}. If the class is not generated (the entity is not annotated), the fallback mapping (for
+ * example {@link TgEntityResultMapping} or {@link TgEntityParameterMapping}) is used.
+ * </p>
+ *
+ * <pre>
+ * var resultMapping = TgGeneratedMapping.resultMapping(TestEntity.class, () -&gt; TgResultMapping.of(TestEntity::new).addInt(TestEntity::setFoo));
+ * </pre>
+ *
+ * @since 1.17.0
+ */
+public final class TgGeneratedMapping {
+
+    /** suffix of generated result mapping class name */
+    public static final String RESULT_MAPPING_SUFFIX = "TgResultMapping";
+    /** suffix of generated parameter mapping class name */
+    public static final String PARAMETER_MAPPING_SUFFIX = "TgParameterMapping";
+
+    private static final ClassValue<Optional<Constructor<?>>> RESULT_MAPPING_CACHE = new ClassValue<>() {
+        @Override
+        protected Optional<Constructor<?>> computeValue(Class<?> type) {
+            return findConstructor(type, RESULT_MAPPING_SUFFIX);
+        }
+    };
+    private static final ClassValue<Optional<Constructor<?>>> PARAMETER_MAPPING_CACHE = new ClassValue<>() {
+        @Override
+        protected Optional<Constructor<?>> computeValue(Class<?> type) {
+            return findConstructor(type, PARAMETER_MAPPING_SUFFIX);
+        }
+    };
+
+    private TgGeneratedMapping() {
+        // don't instantiate
+    }
+
+    /**
+     * get generated class name.
+     *
+     * @param entityClass entity class
+     * @param suffix      suffix
+     * @return class name
+     */
+    public static String getGeneratedClassName(Class<?> entityClass, String suffix) {
+        var packageName = entityClass.getPackageName();
+        String name = entityClass.getName();
+        if (!packageName.isEmpty()) {
+            name = name.substring(packageName.length() + 1);
+        }
+        name = name.replace('$', '_') + suffix;
+        return packageName.isEmpty() ? name : packageName + "." + name;
+    }
+
+    private static Optional<Constructor<?>> findConstructor(Class<?> entityClass, String suffix) {
+        String className = getGeneratedClassName(entityClass, suffix);
+        try {
+            var clazz = Class.forName(className, true, entityClass.getClassLoader());
+            return Optional.of(clazz.getConstructor());
+        } catch (ClassNotFoundException e) {
+            return Optional.empty();
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("generated class has no public constructor. class=" + className, e);
+        }
+    }
+
+    private static Object newInstance(Constructor<?> constructor) {
+        try {
+            return constructor.newInstance();
+        } catch (InvocationTargetException e) {
+            var cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException(cause);
+        } catch (InstantiationException | IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * find generated result mapping.
+     *
+     * @param <R>         result type
+     * @param entityClass entity class
+     * @return result mapping (empty if not generated)
+     */
+    @SuppressWarnings("unchecked")
+    public static <R> Optional<TgResultMapping<R>> findResultMapping(@Nonnull Class<R> entityClass) {
+        return RESULT_MAPPING_CACHE.get(entityClass).map(c -> (TgResultMapping<R>) newInstance(c));
+    }
+
+    /**
+     * get result mapping.
+     *
+     * @param <R>         result type
+     * @param entityClass entity class
+     * @param fallback    supplier of result mapping for not generated entity
+     * @return result mapping
+     */
+    public static <R> TgResultMapping<R> resultMapping(@Nonnull Class<R> entityClass, @Nonnull Supplier<? extends TgResultMapping<R>> fallback) {
+        var mapping = findResultMapping(entityClass);
+        if (mapping.isPresent()) {
+            return mapping.get();
+        }
+        return fallback.get();
+    }
+
+    /**
+     * find generated parameter mapping.
+     *
+     * @param <P>         parameter type
+     * @param entityClass entity class
+     * @return parameter mapping (empty if not generated)
+     */
+    @SuppressWarnings("unchecked")
+    public static <P> Optional<TgParameterMapping<P>> findParameterMapping(@Nonnull Class<P> entityClass) {
+        return PARAMETER_MAPPING_CACHE.get(entityClass).map(c -> (TgParameterMapping<P>) newInstance(c));
+    }
+
+    /**
+     * get parameter mapping.
+     *
+     * @param <P>         parameter type
+     * @param entityClass entity class
+     * @param fallback    supplier of parameter mapping for not generated entity
+     * @return parameter mapping
+     */
+    public static <P> TgParameterMapping<P> parameterMapping(@Nonnull Class<P> entityClass, @Nonnull Supplier<? extends TgParameterMapping<P>> fallback) {
+        var mapping = findParameterMapping(entityClass);
+        if (mapping.isPresent()) {
+            return mapping.get();
+        }
+        return fallback.get();
+    }
+}
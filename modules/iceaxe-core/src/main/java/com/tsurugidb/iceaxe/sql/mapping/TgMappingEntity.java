@@ -0,0 +1,68 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.iceaxe.sql.mapping;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import com.tsurugidb.iceaxe.sql.parameter.TgParameterMapping;
+import com.tsurugidb.iceaxe.sql.result.TgResultMapping;
+
+/**
+ * Entity to generate mapping classes.
+ *
+ * <p>
+ * The annotation processor of iceaxe-processor generates {@link TgResultMapping} ({@code <Entity>TgResultMapping}) and {@link TgParameterMapping}
+ * ({@code <Entity>TgParameterMapping}) in the same package as the entity. The generated classes can be obtained by {@link TgGeneratedMapping}.
+ * </p>
+ * <p>
+ * The target is a class which has a public no-argument constructor, or a record. The columns are the non-static and non-transient fields (or the record
+ * components) in declaration order.
+ * </p>
+ *
+ * @see TgMappingColumn
+ * @see TgGeneratedMapping
+ * @since 1.17.0
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface TgMappingEntity {
+
+    /**
+     * whether to generate result mapping.
+     *
+     * @return {@code true} if generate result mapping
+     */
+    boolean resultMapping() default true;
+
+    /**
+     * whether to generate parameter mapping.
+     *
+     * @return {@code true} if generate parameter mapping
+     */
+    boolean parameterMapping() default true;
+
+    /**
+     * whether the result mapping gets the values by column name.
+     *
+     * @return {@code true} if by column name, {@code false} if by column order
+     */
+    boolean byName() default false;
+}
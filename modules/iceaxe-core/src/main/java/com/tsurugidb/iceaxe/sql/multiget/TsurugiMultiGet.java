@@ -0,0 +1,397 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.iceaxe.sql.multiget;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
+
+import com.tsurugidb.iceaxe.session.TsurugiSession;
+import com.tsurugidb.iceaxe.sql.TsurugiSqlPreparedQuery;
+import com.tsurugidb.iceaxe.sql.parameter.TgBindParameters;
+import com.tsurugidb.iceaxe.sql.parameter.TgBindVariable;
+import com.tsurugidb.iceaxe.sql.parameter.TgBindVariables;
+import com.tsurugidb.iceaxe.sql.parameter.TgParameterMapping;
+import com.tsurugidb.iceaxe.sql.result.TgResultMapping;
+import com.tsurugidb.iceaxe.sql.result.TsurugiQueryResult;
+import com.tsurugidb.iceaxe.transaction.TsurugiTransaction;
+import com.tsurugidb.iceaxe.transaction.exception.TsurugiTransactionException;
+import com.tsurugidb.iceaxe.transaction.manager.TgTmSetting;
+import com.tsurugidb.iceaxe.transaction.manager.TsurugiTransactionManager;
+
+/**
+ * Tsurugi multi-key lookup by IN-list query.
+ *
+ * <p>
+ * The SQL contains {@link #KEYS} as the placeholder of the IN-list, such as {@code select * from TEST where FOO in(${keys})}. The number of bind variables
+ * is rounded up to a power of two (bucket size), and the key list is padded with the last key. Therefore only one prepared statement per bucket size is
+ * created, and it is reused by all lookups.
+ * </p>
+ * <p>
+ * Key lists larger than the maximum bucket size are split into chunks. The queries of all chunks are executed in the same transaction at the same time,
+ * and then their results are collected.
+ * </p>
+ * <p>
+ * The keys must implement {@link Object#equals(Object)} and {@link Object#hashCode()}, because the results are associated with the keys by the key
+ * extractor.
+ * </p>
+ *
+ * <pre>
+ * var multiGet = new TsurugiMultiGet&lt;&gt;(session, "select * from TEST where FOO in(${keys})", TgBindVariable.ofInt("foo"), resultMapping, TestEntity::getFoo);
+ * Map&lt;Integer, TestEntity&gt; map = multiGet.getMap(tm, List.of(1, 2, 3));
+ * </pre>
+ *
+ * @param <K> key type
+ * @param <R> result type
+ * @since 1.17.0
+ */
+@ThreadSafe
+public class TsurugiMultiGet<K, R> implements AutoCloseable {
+
+    /** placeholder of IN-list. */
+    public static final String KEYS = "${keys}";
+
+    /** default maximum bucket size. */
+    public static final int DEFAULT_MAX_BUCKET_SIZE = 64;
+
+    private final TsurugiSession session;
+    private final String sqlTemplate;
+    private final TgBindVariable<K> variable;
+    private final TgResultMapping<R> resultMapping;
+    private final Function<? super R, ? extends K> keyExtractor;
+    private int maxBucketSize = DEFAULT_MAX_BUCKET_SIZE;
+
+    private final Map<Integer, TsurugiSqlPreparedQuery<TgBindParameters, R>> psMap = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new instance.
+     *
+     * @param session       session
+     * @param sqlTemplate   SQL with {@link #KEYS}
+     * @param variable      bind variable of key (the name is used as the prefix)
+     * @param resultMapping result mapping
+     * @param keyExtractor  function to get key from result
+     */
+    public TsurugiMultiGet(@Nonnull TsurugiSession session, @Nonnull String sqlTemplate, @Nonnull TgBindVariable<K> variable, @Nonnull TgResultMapping<R> resultMapping,
+            @Nonnull Function<? super R, ? extends K> keyExtractor) {
+        this.session = Objects.requireNonNull(session);
+        this.sqlTemplate = Objects.requireNonNull(sqlTemplate);
+        if (!sqlTemplate.contains(KEYS)) {
+            throw new IllegalArgumentException("sqlTemplate does not contain " + KEYS + ". sql=" + sqlTemplate);
+        }
+        this.variable = Objects.requireNonNull(variable);
+        this.resultMapping = Objects.requireNonNull(resultMapping);
+        this.keyExtractor = Objects.requireNonNull(keyExtractor);
+    }
+
+    /**
+     * set maximum bucket size.
+     *
+     * @param maxBucketSize maximum bucket size (power of two)
+     * @return this
+     */
+    public TsurugiMultiGet<K, R> setMaxBucketSize(int maxBucketSize) {
+        if (maxBucketSize <= 0 || Integer.bitCount(maxBucketSize) != 1) {
+            throw new IllegalArgumentException("maxBucketSize must be a power of two. maxBucketSize=" + maxBucketSize);
+        }
+        this.maxBucketSize = maxBucketSize;
+        return this;
+    }
+
+    /**
+     * get maximum bucket size.
+     *
+     * @return maximum bucket size
+     */
+    public int getMaxBucketSize() {
+        return this.maxBucketSize;
+    }
+
+    /**
+     * get number of prepared statements.
+     *
+     * @return number of prepared statements
+     */
+    public int getPreparedCount() {
+        return psMap.size();
+    }
+
+    /**
+     * get bucket size.
+     *
+     * @param size number of keys
+     * @return bucket size
+     */
+    protected int getBucketSize(int size) {
+        if (size <= 1) {
+            return 1;
+        }
+        int bucketSize = Integer.highestOneBit(size - 1) << 1;
+        return Math.min(bucketSize, this.maxBucketSize);
+    }
+
+    /**
+     * get prepared statement.
+     *
+     * @param bucketSize bucket size
+     * @return prepared statement
+     * @throws IOException          if an I/O error occurs while preparing
+     * @throws InterruptedException if interrupted while preparing
+     */
+    protected TsurugiSqlPreparedQuery<TgBindParameters, R> getPreparedQuery(int bucketSize) throws IOException, InterruptedException {
+        var ps = psMap.get(bucketSize);
+        if (ps != null) {
+            return ps;
+        }
+
+        var variables = createVariables(bucketSize);
+        String sql = sqlTemplate.replace(KEYS, variables.getSqlNames());
+        var created = session.createQuery(sql, TgParameterMapping.of(variables), resultMapping);
+        var existing = psMap.putIfAbsent(bucketSize, created);
+        if (existing != null) {
+            created.close();
+            return existing;
+        }
+        return created;
+    }
+
+    private TgBindVariables createVariables(int bucketSize) {
+        var variables = TgBindVariables.of();
+        for (int i = 0; i < bucketSize; i++) {
+            variables.add(variable.clone(variable.name() + i));
+        }
+        return variables;
+    }
+
+    /**
+     * split keys into chunks.
+     *
+     * @param keys keys (distinct)
+     * @return chunks
+     */
+    protected List<List<K>> split(List<K> keys) {
+        var chunkList = new ArrayList<List<K>>((keys.size() + maxBucketSize - 1) / maxBucketSize);
+        for (int i = 0; i < keys.size(); i += maxBucketSize) {
+            chunkList.add(keys.subList(i, Math.min(i + maxBucketSize, keys.size())));
+        }
+        return chunkList;
+    }
+
+    /**
+     * create parameter.
+     *
+     * @param chunk      keys
+     * @param bucketSize bucket size
+     * @return parameter (padded with the last key)
+     */
+    protected TgBindParameters createParameter(List<K> chunk, int bucketSize) {
+        var parameter = TgBindParameters.of();
+        K last = chunk.get(chunk.size() - 1);
+        for (int i = 0; i < bucketSize; i++) {
+            K key = (i < chunk.size()) ? chunk.get(i) : last;
+            parameter.add(variable.clone(variable.name() + i).bind(key));
+        }
+        return parameter;
+    }
+
+    /**
+     * get records in key order.
+     *
+     * @param transaction transaction
+     * @param keys        keys
+     * @return records (keys not found are skipped)
+     * @throws IOException                 if an I/O error occurs while execute query
+     * @throws InterruptedException        if interrupted while execute query
+     * @throws TsurugiTransactionException if server error occurs while execute query
+     */
+    public List<R> getList(TsurugiTransaction transaction, Collection<? extends K> keys) throws IOException, InterruptedException, TsurugiTransactionException {
+        var groupMap = getGroupMap(transaction, keys);
+        var list = new ArrayList<R>(groupMap.size());
+        for (var group : groupMap.values()) {
+            list.addAll(group);
+        }
+        return list;
+    }
+
+    /**
+     * get records by key.
+     *
+     * <p>
+     * If some records have the same key, the first one is used.
+     * </p>
+     *
+     * @param transaction transaction
+     * @param keys        keys
+     * @return map of key and record in key order (keys not found are not contained)
+     * @throws IOException                 if an I/O error occurs while execute query
+     * @throws InterruptedException        if interrupted while execute query
+     * @throws TsurugiTransactionException if server error occurs while execute query
+     */
+    public Map<K, R> getMap(TsurugiTransaction transaction, Collection<? extends K> keys) throws IOException, InterruptedException, TsurugiTransactionException {
+        var groupMap = getGroupMap(transaction, keys);
+        var map = new LinkedHashMap<K, R>(groupMap.size() * 4 / 3 + 1);
+        for (var entry : groupMap.entrySet()) {
+            map.put(entry.getKey(), entry.getValue().get(0));
+        }
+        return map;
+    }
+
+    /**
+     * get records in key order.
+     *
+     * @param tm   transaction manager
+     * @param keys keys
+     * @return records (keys not found are skipped)
+     * @throws IOException          if an I/O error occurs while execute query
+     * @throws InterruptedException if interrupted while execute query
+     */
+    public List<R> getList(TsurugiTransactionManager tm, Collection<? extends K> keys) throws IOException, InterruptedException {
+        return tm.execute((TsurugiTransaction transaction) -> getList(transaction, keys));
+    }
+
+    /**
+     * get records in key order.
+     *
+     * @param tm      transaction manager
+     * @param setting transaction manager setting
+     * @param keys    keys
+     * @return records (keys not found are skipped)
+     * @throws IOException          if an I/O error occurs while execute query
+     * @throws InterruptedException if interrupted while execute query
+     */
+    public List<R> getList(TsurugiTransactionManager tm, TgTmSetting setting, Collection<? extends K> keys) throws IOException, InterruptedException {
+        return tm.execute(setting, (TsurugiTransaction transaction) -> getList(transaction, keys));
+    }
+
+    /**
+     * get records by key.
+     *
+     * @param tm   transaction manager
+     * @param keys keys
+     * @return map of key and record in key order
+     * @throws IOException          if an I/O error occurs while execute query
+     * @throws InterruptedException if interrupted while execute query
+     * @see #getMap(TsurugiTransaction, Collection)
+     */
+    public Map<K, R> getMap(TsurugiTransactionManager tm, Collection<? extends K> keys) throws IOException, InterruptedException {
+        return tm.execute((TsurugiTransaction transaction) -> getMap(transaction, keys));
+    }
+
+    /**
+     * get records by key.
+     *
+     * @param tm      transaction manager
+     * @param setting transaction manager setting
+     * @param keys    keys
+     * @return map of key and record in key order
+     * @throws IOException          if an I/O error occurs while execute query
+     * @throws InterruptedException if interrupted while execute query
+     * @see #getMap(TsurugiTransaction, Collection)
+     */
+    public Map<K, R> getMap(TsurugiTransactionManager tm, TgTmSetting setting, Collection<? extends K> keys) throws IOException, InterruptedException {
+        return tm.execute(setting, (TsurugiTransaction transaction) -> getMap(transaction, keys));
+    }
+
+    private LinkedHashMap<K, List<R>> getGroupMap(TsurugiTransaction transaction, Collection<? extends K> keys)
+            throws IOException, InterruptedException, TsurugiTransactionException {
+        var keyList = new ArrayList<K>(new LinkedHashSet<K>(keys));
+        var groupMap = new LinkedHashMap<K, List<R>>(keyList.size() * 4 / 3 + 1);
+        if (keyList.isEmpty()) {
+            return groupMap;
+        }
+
+        // issue all queries first, then collect the results
+        var chunkList = split(keyList);
+        var resultList = new ArrayList<TsurugiQueryResult<R>>(chunkList.size());
+        int closeIndex = 0;
+        try {
+            for (var chunk : chunkList) {
+                int bucketSize = getBucketSize(chunk.size());
+                var ps = getPreparedQuery(bucketSize);
+                var parameter = createParameter(chunk, bucketSize);
+                resultList.add(transaction.executeQuery(ps, parameter));
+            }
+
+            for (var result : resultList) {
+                closeIndex++;
+                try (result) {
+                    for (var record : result.getRecordList()) {
+                        K key = keyExtractor.apply(record);
+                        groupMap.computeIfAbsent(key, k -> new ArrayList<>(1)).add(record);
+                    }
+                }
+            }
+        } catch (Throwable e) {
+            for (int i = closeIndex; i < resultList.size(); i++) {
+                try {
+                    resultList.get(i).close();
+                } catch (Throwable c) {
+                    e.addSuppressed(c);
+                }
+            }
+            throw e;
+        }
+
+        var sorted = new LinkedHashMap<K, List<R>>(groupMap.size() * 4 / 3 + 1);
+        for (K key : keyList) {
+            var group = groupMap.get(key);
+            if (group != null) {
+                sorted.put(key, group);
+            }
+        }
+        return sorted;
+    }
+
+    /**
+     * Closes all prepared statements.
+     */
+    @Override
+    public void close() throws IOException, InterruptedException {
+        Throwable occurred = null;
+        for (var i = psMap.values().iterator(); i.hasNext();) {
+            var ps = i.next();
+            i.remove();
+            try {
+                ps.close();
+            } catch (IOException | InterruptedException | RuntimeException e) {
+                if (occurred == null) {
+                    occurred = e;
+                } else {
+                    occurred.addSuppressed(e);
+                }
+            }
+        }
+        if (occurred instanceof IOException) {
+            throw (IOException) occurred;
+        }
+        if (occurred instanceof InterruptedException) {
+            throw (InterruptedException) occurred;
+        }
+        if (occurred != null) {
+            throw (RuntimeException) occurred;
+        }
+    }
+}
@@ -15,10 +15,20 @@
  */
 package com.tsurugidb.iceaxe.sql.parameter;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.function.Function;
+
+import com.tsurugidb.iceaxe.lob.TsurugiLargeObjectUpload;
 import com.tsurugidb.iceaxe.session.TsurugiSession;
 import com.tsurugidb.iceaxe.util.IceaxeCloseableSet;
 import com.tsurugidb.iceaxe.util.IceaxeConvertUtil;
 import com.tsurugidb.iceaxe.util.IceaxeInternal;
+import com.tsurugidb.iceaxe.util.IceaxeTimeoutCloseable;
+import com.tsurugidb.sql.proto.SqlRequest.Parameter;
+import com.tsurugidb.tsubakuro.sql.Parameters;
 
 /**
  * Tsurugi low parameter generation context.
@@ -31,6 +41,8 @@ public final /* record */ class IceaxeLowParameterGenerateContext {
     private final TsurugiSession session;
     private final IceaxeConvertUtil convertUtil;
     private final IceaxeCloseableSet closeableSet;
+    private final boolean lobUploadParallel;
+    private List<PendingLobUpload<?>> pendingLobUploadList = null;
 
     /**
      * Creates a new instance.
@@ -40,9 +52,23 @@ public final /* record */ class IceaxeLowParameterGenerateContext {
      * @param closeableSet closeable set
      */
     public IceaxeLowParameterGenerateContext(TsurugiSession session, IceaxeConvertUtil convertUtil, IceaxeCloseableSet closeableSet) {
+        this(session, convertUtil, closeableSet, false);
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param session           session
+     * @param convertUtil       convert util
+     * @param closeableSet      closeable set
+     * @param lobUploadParallel {@code true} to upload BLOB/CLOB in parallel
+     * @since 1.17.0
+     */
+    public IceaxeLowParameterGenerateContext(TsurugiSession session, IceaxeConvertUtil convertUtil, IceaxeCloseableSet closeableSet, boolean lobUploadParallel) {
         this.session = session;
         this.convertUtil = convertUtil;
         this.closeableSet = closeableSet;
+        this.lobUploadParallel = lobUploadParallel;
     }
 
     /**
@@ -71,4 +97,123 @@ public final /* record */ class IceaxeLowParameterGenerateContext {
     public IceaxeCloseableSet closeableSet() {
         return closeableSet;
     }
+
+    /**
+     * get whether to upload BLOB/CLOB in parallel.
+     *
+     * @return {@code true} to upload in parallel
+     * @since 1.17.0
+     */
+    public boolean isLobUploadParallel() {
+        return this.lobUploadParallel;
+    }
+
+    private static final class PendingLobUpload<L extends IceaxeTimeoutCloseable> {
+        private final Parameter placeholder;
+        private final TsurugiLargeObjectUpload<L> upload;
+        private final Function<L, Parameter> parameterGenerator;
+
+        PendingLobUpload(Parameter placeholder, TsurugiLargeObjectUpload<L> upload, Function<L, Parameter> parameterGenerator) {
+            this.placeholder = placeholder;
+            this.upload = upload;
+            this.parameterGenerator = parameterGenerator;
+        }
+
+        Parameter resolve(IceaxeCloseableSet closeableSet, long start) throws IOException, InterruptedException {
+            L lob = upload.get(start);
+            closeableSet.remove(upload);
+            closeableSet.add(lob);
+            return parameterGenerator.apply(lob);
+        }
+    }
+
+    /**
+     * add BLOB/CLOB upload in progress.
+     *
+     * <p>
+     * The returned parameter is a placeholder. It is replaced by {@link #resolveLowParameterList(List)}.
+     * </p>
+     *
+     * @param <L>                uploaded large object type
+     * @param name               parameter name
+     * @param upload             upload in progress
+     * @param parameterGenerator parameter generator from uploaded large object
+     * @return placeholder parameter
+     * @since 1.17.0
+     */
+    public <L extends IceaxeTimeoutCloseable> Parameter addLobUpload(String name, TsurugiLargeObjectUpload<L> upload, Function<L, Parameter> parameterGenerator) {
+        closeableSet.add(upload);
+
+        var placeholder = Parameters.ofNull(name);
+        if (this.pendingLobUploadList == null) {
+            this.pendingLobUploadList = new ArrayList<>();
+        }
+        pendingLobUploadList.add(new PendingLobUpload<>(placeholder, upload, parameterGenerator));
+        return placeholder;
+    }
+
+    /**
+     * wait for all BLOB/CLOB uploads and replace placeholder parameters.
+     *
+     * @param lowParameterList parameter list (including placeholders)
+     * @return parameter list
+     * @throws IOException          if an I/O error occurs while uploading
+     * @throws InterruptedException if interrupted while waiting for upload
+     * @since 1.17.0
+     */
+    public List<Parameter> resolveLowParameterList(List<Parameter> lowParameterList) throws IOException, InterruptedException {
+        var pendingList = this.pendingLobUploadList;
+        if (pendingList == null) {
+            return lowParameterList;
+        }
+        this.pendingLobUploadList = null;
+
+        var map = new IdentityHashMap<Parameter, Parameter>(pendingList.size());
+        Throwable occurred = null;
+        long start = System.nanoTime();
+        for (var pending : pendingList) {
+            if (occurred != null) {
+                try {
+                    closeableSet.remove(pending.upload);
+                    pending.upload.close();
+                } catch (Throwable e) {
+                    occurred.addSuppressed(e);
+                }
+                continue;
+            }
+
+            try {
+                map.put(pending.placeholder, pending.resolve(closeableSet, start));
+            } catch (Throwable e) {
+                occurred = e;
+                try {
+                    closeableSet.remove(pending.upload);
+                    pending.upload.close();
+                } catch (Throwable t) {
+                    e.addSuppressed(t);
+                }
+            }
+        }
+        if (occurred != null) {
+            if (occurred instanceof IOException) {
+                throw (IOException) occurred;
+            }
+            if (occurred instanceof InterruptedException) {
+                throw (InterruptedException) occurred;
+            }
+            if (occurred instanceof RuntimeException) {
+                throw (RuntimeException) occurred;
+            }
+            if (occurred instanceof Error) {
+                throw (Error) occurred;
+            }
+            throw new IOException(occurred.getMessage(), occurred);
+        }
+
+        var result = new ArrayList<Parameter>(lowParameterList.size());
+        for (var parameter : lowParameterList) {
+            result.add(map.getOrDefault(parameter, parameter));
+        }
+        return result;
+    }
 }
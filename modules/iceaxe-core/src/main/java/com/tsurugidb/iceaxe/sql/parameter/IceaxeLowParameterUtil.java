@@ -338,6 +338,12 @@ public final class IceaxeLowParameterUtil {
             context.closeableSet().add(value);
         }
 
+        if (context.isLobUploadParallel()) {
+            var lobFactory = context.session().getLobFactory();
+            var upload = lobFactory.startUploadBlob(value);
+            return context.addLobUpload(name, upload, blob -> Parameters.blobOf(name, blob.getLowLargeObjectInfo()));
+        }
+
         var remoteBlob = value.upload(context.session(), null);
         context.closeableSet().add(remoteBlob);
 
@@ -379,6 +385,9 @@ public final class IceaxeLowParameterUtil {
         if (path == null) {
             return Parameters.ofNull(name);
         }
+        if (context.isLobUploadParallel()) {
+            return create0(name, TgBlob.of(path), context);
+        }
 
         var lobFactory = context.session().getLobFactory();
         var remoteBlob = lobFactory.uploadBlob(path);
@@ -427,6 +436,9 @@ public final class IceaxeLowParameterUtil {
         if (value == null) {
             return Parameters.ofNull(name);
         }
+        if (context.isLobUploadParallel()) {
+            return create0(name, TgBlob.of(value), context);
+        }
 
         var lobFactory = context.session().getLobFactory();
         var remoteBlob = lobFactory.uploadBlob(value);
@@ -460,6 +472,12 @@ public final class IceaxeLowParameterUtil {
             context.closeableSet().add(value);
         }
 
+        if (context.isLobUploadParallel()) {
+            var lobFactory = context.session().getLobFactory();
+            var upload = lobFactory.startUploadClob(value);
+            return context.addLobUpload(name, upload, clob -> Parameters.clobOf(name, clob.getLowLargeObjectInfo()));
+        }
+
         var remoteClob = value.upload(context.session(), null);
         context.closeableSet().add(remoteClob);
 
@@ -501,6 +519,9 @@ public final class IceaxeLowParameterUtil {
         if (path == null) {
             return Parameters.ofNull(name);
         }
+        if (context.isLobUploadParallel()) {
+            return create0(name, TgClob.of(path), context);
+        }
 
         var lobFactory = context.session().getLobFactory();
         var remoteClob = lobFactory.uploadClob(path);
@@ -549,6 +570,9 @@ public final class IceaxeLowParameterUtil {
         if (value == null) {
             return Parameters.ofNull(name);
         }
+        if (context.isLobUploadParallel()) {
+            return create0(name, TgClob.of(value), context);
+        }
 
         var lobFactory = context.session().getLobFactory();
         var remoteClob = lobFactory.uploadClob(value);
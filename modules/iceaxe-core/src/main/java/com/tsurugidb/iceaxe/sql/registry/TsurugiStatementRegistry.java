@@ -0,0 +1,512 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.iceaxe.sql.registry;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.tsurugidb.iceaxe.TsurugiConnector;
+import com.tsurugidb.iceaxe.session.TsurugiSession;
+import com.tsurugidb.iceaxe.session.event.TsurugiSessionEventListener;
+import com.tsurugidb.iceaxe.sql.TsurugiSqlPrepared;
+import com.tsurugidb.iceaxe.sql.TsurugiSqlPreparedQuery;
+import com.tsurugidb.iceaxe.sql.TsurugiSqlPreparedStatement;
+import com.tsurugidb.iceaxe.sql.parameter.TgParameterMapping;
+import com.tsurugidb.iceaxe.sql.result.TgResultMapping;
+
+/**
+ * Tsurugi statement registry.
+ *
+ * <p>
+ * Statements are registered once, and are prepared for each session. When this registry is added to the connector
+ * ({@link TsurugiConnector#addEventListener(Consumer)}), all registered statements are prepared as soon as a session is created (including sessions created
+ * again after disconnection). The prepare requests are sent at once, so they are processed in parallel by the server.
+ * </p>
+ * <p>
+ * By default, the statements are prepared in the {@link #defaultExecutor() default executor}, so that creating a session does not wait for the prepares. A
+ * statement which is not prepared yet is prepared (or waited) when it is got.
+ * </p>
+ *
+ * <pre>
+ * var registry = new TsurugiStatementRegistry();
+ * var SELECT = registry.registerQuery("select", "select * from TEST where FOO=:foo", parameterMapping, resultMapping);
+ * connector.addEventListener(registry);
+ *
+ * try (var session = connector.createSession()) {
+ *     var ps = registry.getQuery(session, SELECT);
+ *     var list = tm.executeAndGetList(ps, parameter);
+ * }
+ * </pre>
+ *
+ * @since 1.17.0
+ */
+@ThreadSafe
+public class TsurugiStatementRegistry implements Consumer<TsurugiSession> {
+    private static final Logger LOG = LoggerFactory.getLogger(TsurugiStatementRegistry.class);
+
+    /** number of threads of the default executor */
+    static final int DEFAULT_EXECUTOR_THREAD_SIZE = 4;
+
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger(0);
+    private static final ExecutorService DEFAULT_EXECUTOR = createDefaultExecutor();
+
+    private static ExecutorService createDefaultExecutor() {
+        var executor = new ThreadPoolExecutor(DEFAULT_EXECUTOR_THREAD_SIZE, DEFAULT_EXECUTOR_THREAD_SIZE, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            var thread = new Thread(runnable, "iceaxe-statement-warm-" + THREAD_COUNT.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * get default executor to prepare statements when a session is created.
+     *
+     * @return executor (daemon threads)
+     */
+    public static Executor defaultExecutor() {
+        return DEFAULT_EXECUTOR;
+    }
+
+    /**
+     * registered SQL.
+     */
+    public abstract static class TgRegisteredSql {
+        private final String name;
+        private final String sql;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param name name
+         * @param sql  SQL
+         */
+        protected TgRegisteredSql(@Nonnull String name, @Nonnull String sql) {
+            this.name = Objects.requireNonNull(name);
+            this.sql = Objects.requireNonNull(sql);
+        }
+
+        /**
+         * get name.
+         *
+         * @return name
+         */
+        public String getName() {
+            return this.name;
+        }
+
+        /**
+         * get SQL.
+         *
+         * @return SQL
+         */
+        public String getSql() {
+            return this.sql;
+        }
+
+        /**
+         * prepare.
+         *
+         * @param session session
+         * @return prepared statement
+         * @throws IOException          if an I/O error occurs while create prepared statement
+         * @throws InterruptedException if interrupted while create prepared statement
+         */
+        protected abstract TsurugiSqlPrepared<?> prepare(TsurugiSession session) throws IOException, InterruptedException;
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + "(" + name + ")";
+        }
+    }
+
+    /**
+     * registered query.
+     *
+     * @param <P> parameter type
+     * @param <R> result type
+     */
+    public static class TgRegisteredQuery<P, R> extends TgRegisteredSql {
+        private final TgParameterMapping<P> parameterMapping;
+        private final TgResultMapping<R> resultMapping;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param name             name
+         * @param sql              SQL
+         * @param parameterMapping parameter mapping
+         * @param resultMapping    result mapping
+         */
+        public TgRegisteredQuery(String name, String sql, @Nonnull TgParameterMapping<P> parameterMapping, @Nonnull TgResultMapping<R> resultMapping) {
+            super(name, sql);
+            this.parameterMapping = Objects.requireNonNull(parameterMapping);
+            this.resultMapping = Objects.requireNonNull(resultMapping);
+        }
+
+        @Override
+        protected TsurugiSqlPreparedQuery<P, R> prepare(TsurugiSession session) throws IOException, InterruptedException {
+            return session.createQuery(getSql(), parameterMapping, resultMapping);
+        }
+    }
+
+    /**
+     * registered statement.
+     *
+     * @param <P> parameter type
+     */
+    public static class TgRegisteredStatement<P> extends TgRegisteredSql {
+        private final TgParameterMapping<P> parameterMapping;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param name             name
+         * @param sql              SQL
+         * @param parameterMapping parameter mapping
+         */
+        public TgRegisteredStatement(String name, String sql, @Nonnull TgParameterMapping<P> parameterMapping) {
+            super(name, sql);
+            this.parameterMapping = Objects.requireNonNull(parameterMapping);
+        }
+
+        @Override
+        protected TsurugiSqlPreparedStatement<P> prepare(TsurugiSession session) throws IOException, InterruptedException {
+            return session.createStatement(getSql(), parameterMapping);
+        }
+    }
+
+    private class SessionEntry implements TsurugiSessionEventListener {
+        private final TsurugiSession session;
+        private final Map<TgRegisteredSql, TsurugiSqlPrepared<?>> psMap = new ConcurrentHashMap<>();
+
+        SessionEntry(TsurugiSession session) {
+            this.session = session;
+        }
+
+        TsurugiSqlPrepared<?> get(TgRegisteredSql key) throws IOException, InterruptedException {
+            var ps = psMap.get(key);
+            if (ps != null && !ps.isClosed()) {
+                return ps;
+            }
+            synchronized (this) {
+                ps = psMap.get(key);
+                if (ps == null || ps.isClosed()) {
+                    ps = prepare(session, key);
+                    psMap.put(key, ps);
+                }
+                return ps;
+            }
+        }
+
+        void warm() {
+            var list = new ArrayList<TgRegisteredSql>(sqlList.size());
+            synchronized (this) {
+                for (var key : sqlList) {
+                    if (psMap.containsKey(key)) {
+                        continue;
+                    }
+                    try {
+                        var ps = prepare(session, key);
+                        psMap.put(key, ps);
+                        list.add(key);
+                    } catch (Exception e) {
+                        prepareFailed(key, e);
+                        if (e instanceof InterruptedException) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        }
+                    }
+                }
+            }
+            if (!waitPrepared) {
+                return;
+            }
+
+            // all prepare requests have been sent, then wait for the responses
+            for (var key : list) {
+                var ps = psMap.get(key);
+                if (ps == null) {
+                    continue;
+                }
+                try {
+                    ps.getLowPreparedStatement();
+                } catch (Exception e) {
+                    psMap.remove(key, ps);
+                    prepareFailed(key, e);
+                    if (e instanceof InterruptedException) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+            }
+        }
+
+        @Override
+        public void closeSession(TsurugiSession session, long timeoutNanos, @Nullable Throwable occurred) {
+            // prepared statements are closed by the session
+            sessionMap.remove(session, this);
+        }
+    }
+
+    private final List<TgRegisteredSql> sqlList = new CopyOnWriteArrayList<>();
+    private final Map<String, TgRegisteredSql> nameMap = new ConcurrentHashMap<>();
+    private final Map<TsurugiSession, SessionEntry> sessionMap = new ConcurrentHashMap<>();
+    private volatile Executor executor = DEFAULT_EXECUTOR;
+    private volatile boolean waitPrepared = true;
+
+    private final AtomicLong prepareCount = new AtomicLong();
+    private final AtomicLong prepareFailureCount = new AtomicLong();
+
+    /**
+     * Creates a new instance.
+     */
+    public TsurugiStatementRegistry() {
+        // do nothing
+    }
+
+    /**
+     * set executor to prepare statements when a session is created.
+     *
+     * @param executor executor (null: prepare in the thread which created the session). the default is {@link #defaultExecutor()}
+     * @return this
+     */
+    public TsurugiStatementRegistry setExecutor(@Nullable Executor executor) {
+        this.executor = executor;
+        return this;
+    }
+
+    /**
+     * set whether to wait for the prepare responses when a session is created.
+     *
+     * @param waitPrepared {@code true}: wait for the responses (failed statements are prepared again at {@code get})
+     * @return this
+     */
+    public TsurugiStatementRegistry setWaitPrepared(boolean waitPrepared) {
+        this.waitPrepared = waitPrepared;
+        return this;
+    }
+
+    /**
+     * register query.
+     *
+     * @param <P>              parameter type
+     * @param <R>              result type
+     * @param name             name
+     * @param sql              SQL
+     * @param parameterMapping parameter mapping
+     * @param resultMapping    result mapping
+     * @return registered query
+     */
+    public <P, R> TgRegisteredQuery<P, R> registerQuery(String name, String sql, TgParameterMapping<P> parameterMapping, TgResultMapping<R> resultMapping) {
+        return register(new TgRegisteredQuery<>(name, sql, parameterMapping, resultMapping));
+    }
+
+    /**
+     * register statement.
+     *
+     * @param <P>              parameter type
+     * @param name             name
+     * @param sql              SQL
+     * @param parameterMapping parameter mapping
+     * @return registered statement
+     */
+    public <P> TgRegisteredStatement<P> registerStatement(String name, String sql, TgParameterMapping<P> parameterMapping) {
+        return register(new TgRegisteredStatement<>(name, sql, parameterMapping));
+    }
+
+    /**
+     * register SQL.
+     *
+     * @param <T> registered SQL type
+     * @param sql registered SQL
+     * @return registered SQL
+     */
+    public <T extends TgRegisteredSql> T register(@Nonnull T sql) {
+        var old = nameMap.putIfAbsent(sql.getName(), sql);
+        if (old != null) {
+            throw new IllegalArgumentException("already registered. name=" + sql.getName());
+        }
+        sqlList.add(sql);
+        return sql;
+    }
+
+    /**
+     * find registered SQL.
+     *
+     * @param name name
+     * @return registered SQL
+     */
+    public @Nullable TgRegisteredSql find(String name) {
+        return nameMap.get(name);
+    }
+
+    /**
+     * get registered SQL list.
+     *
+     * @return registered SQL list
+     */
+    public List<TgRegisteredSql> getRegisteredList() {
+        return List.copyOf(sqlList);
+    }
+
+    /**
+     * Prepares all registered statements for the session.
+     *
+     * <p>
+     * This method is called by {@link TsurugiConnector} when a session is created.
+     * </p>
+     *
+     * @param session session
+     */
+    @Override
+    public void accept(TsurugiSession session) {
+        var entry = getEntry(session);
+        var executor = this.executor;
+        if (executor == null) {
+            entry.warm();
+            return;
+        }
+        try {
+            executor.execute(entry::warm);
+        } catch (RejectedExecutionException e) {
+            LOG.debug("warm rejected. session={}", session, e);
+        }
+    }
+
+    /**
+     * get prepared query.
+     *
+     * <p>
+     * If the query is not prepared yet (or closed), it is prepared.
+     * </p>
+     *
+     * @param <P>     parameter type
+     * @param <R>     result type
+     * @param session session
+     * @param key     registered query
+     * @return prepared query
+     * @throws IOException          if an I/O error occurs while create prepared query
+     * @throws InterruptedException if interrupted while create prepared query
+     */
+    @SuppressWarnings("unchecked")
+    public <P, R> TsurugiSqlPreparedQuery<P, R> getQuery(TsurugiSession session, TgRegisteredQuery<P, R> key) throws IOException, InterruptedException {
+        return (TsurugiSqlPreparedQuery<P, R>) getEntry(session).get(key);
+    }
+
+    /**
+     * get prepared statement.
+     *
+     * <p>
+     * If the statement is not prepared yet (or closed), it is prepared.
+     * </p>
+     *
+     * @param <P>     parameter type
+     * @param session session
+     * @param key     registered statement
+     * @return prepared statement
+     * @throws IOException          if an I/O error occurs while create prepared statement
+     * @throws InterruptedException if interrupted while create prepared statement
+     */
+    @SuppressWarnings("unchecked")
+    public <P> TsurugiSqlPreparedStatement<P> getStatement(TsurugiSession session, TgRegisteredStatement<P> key) throws IOException, InterruptedException {
+        return (TsurugiSqlPreparedStatement<P>) getEntry(session).get(key);
+    }
+
+    private SessionEntry getEntry(TsurugiSession session) {
+        var entry = sessionMap.get(session);
+        if (entry != null) {
+            return entry;
+        }
+        var created = new SessionEntry(session);
+        entry = sessionMap.putIfAbsent(session, created);
+        if (entry != null) {
+            return entry;
+        }
+        session.addEventListener(created);
+        return created;
+    }
+
+    /**
+     * prepare.
+     *
+     * @param session session
+     * @param key     registered SQL
+     * @return prepared statement
+     * @throws IOException          if an I/O error occurs while create prepared statement
+     * @throws InterruptedException if interrupted while create prepared statement
+     */
+    protected TsurugiSqlPrepared<?> prepare(TsurugiSession session, TgRegisteredSql key) throws IOException, InterruptedException {
+        LOG.trace("prepare. session={}, name={}", session, key.getName());
+        var ps = key.prepare(session);
+        prepareCount.incrementAndGet();
+        return ps;
+    }
+
+    private void prepareFailed(TgRegisteredSql key, Exception e) {
+        prepareFailureCount.incrementAndGet();
+        LOG.warn("prepare error. key={}", key, e);
+    }
+
+    /**
+     * get number of sessions.
+     *
+     * @return number of sessions
+     */
+    public int getSessionCount() {
+        return sessionMap.size();
+    }
+
+    /**
+     * get number of prepares.
+     *
+     * @return number of prepares
+     */
+    public long getPrepareCount() {
+        return prepareCount.get();
+    }
+
+    /**
+     * get number of prepare failures.
+     *
+     * @return number of prepare failures
+     */
+    public long getPrepareFailureCount() {
+        return prepareFailureCount.get();
+    }
+}
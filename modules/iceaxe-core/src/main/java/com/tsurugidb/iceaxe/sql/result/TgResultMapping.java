@@ -16,8 +16,11 @@
 package com.tsurugidb.iceaxe.sql.result;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Supplier;
 
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.ThreadSafe;
 
 import com.tsurugidb.iceaxe.sql.TgDataType;
@@ -26,6 +29,7 @@ import com.tsurugidb.iceaxe.sql.result.mapping.TgEntityResultMapping;
 import com.tsurugidb.iceaxe.sql.result.mapping.TgSingleResultMapping;
 import com.tsurugidb.iceaxe.transaction.exception.TsurugiTransactionException;
 import com.tsurugidb.iceaxe.util.IceaxeConvertUtil;
+import com.tsurugidb.iceaxe.util.IceaxeInternal;
 import com.tsurugidb.iceaxe.util.function.TsurugiTransactionFunction;
 
 /**
@@ -47,6 +51,34 @@ public abstract class TgResultMapping<R> {
         }
     };
 
+    /**
+     * Result Mapping (convert to {@link TsurugiResultEntity} stored in {@link TsurugiResultCompactList}).
+     *
+     * <p>
+     * {@link TsurugiQueryResult#getRecordList()} returns {@link TsurugiResultCompactList}.
+     * </p>
+     *
+     * @since 1.17.0
+     */
+    public static final TgResultMapping<TsurugiResultEntity> COMPACT = new TgResultMapping<>() {
+
+        @Override
+        protected TsurugiResultEntity convert(TsurugiResultRecord record) throws IOException, InterruptedException, TsurugiTransactionException {
+            return TsurugiResultEntity.of(record);
+        }
+
+        @Override
+        protected List<TsurugiResultEntity> createRecordList() {
+            return new TsurugiResultCompactList();
+        }
+
+        @Override
+        protected TsurugiResultEntity convertToRecordList(TsurugiResultRecord record, List<TsurugiResultEntity> recordList)
+                throws IOException, InterruptedException, TsurugiTransactionException {
+            return ((TsurugiResultCompactList) recordList).addRecord(record);
+        }
+    };
+
     /**
      * create result mapping.
      *
@@ -69,6 +101,56 @@ public abstract class TgResultMapping<R> {
         return TgEntityResultMapping.of(entitySupplier);
     }
 
+    /**
+     * create result mapping with spill to disk.
+     *
+     * <p>
+     * {@link TsurugiQueryResult#getRecordList()} returns {@link TsurugiResultSpillList}. Close the list ({@link TsurugiResultSpillList#of(List)}) to delete the
+     * temporary file.
+     * </p>
+     *
+     * @param maxMemoryBytes maximum bytes (estimated) of records in memory
+     * @return result mapping
+     * @since 1.17.0
+     */
+    public static TgResultMapping<TsurugiResultEntity> ofSpill(long maxMemoryBytes) {
+        return ofSpill(maxMemoryBytes, Integer.MAX_VALUE);
+    }
+
+    /**
+     * create result mapping with spill to disk.
+     *
+     * <p>
+     * {@link TsurugiQueryResult#getRecordList()} returns {@link TsurugiResultSpillList}. Close the list ({@link TsurugiResultSpillList#of(List)}) to delete the
+     * temporary file.
+     * </p>
+     *
+     * @param maxMemoryBytes maximum bytes (estimated) of records in memory
+     * @param maxMemoryRows  maximum number of records in memory
+     * @return result mapping
+     * @since 1.17.0
+     */
+    public static TgResultMapping<TsurugiResultEntity> ofSpill(long maxMemoryBytes, int maxMemoryRows) {
+        return new TgResultMapping<>() {
+
+            @Override
+            protected TsurugiResultEntity convert(TsurugiResultRecord record) throws IOException, InterruptedException, TsurugiTransactionException {
+                return TsurugiResultEntity.of(record);
+            }
+
+            @Override
+            protected List<TsurugiResultEntity> createRecordList() {
+                return new TsurugiResultSpillList(maxMemoryBytes, maxMemoryRows);
+            }
+
+            @Override
+            protected TsurugiResultEntity convertToRecordList(TsurugiResultRecord record, List<TsurugiResultEntity> recordList)
+                    throws IOException, InterruptedException, TsurugiTransactionException {
+                return ((TsurugiResultSpillList) recordList).addRecord(record);
+            }
+        };
+    }
+
     /**
      * create result mapping (single column).
      *
@@ -113,6 +195,51 @@ public abstract class TgResultMapping<R> {
         return this.convertUtil;
     }
 
+    private int stringDeduplicationSize = 0;
+
+    /**
+     * set string deduplication.
+     *
+     * <p>
+     * Equal strings of the same column are replaced with the same instance (for low-cardinality columns). The deduplicators are created for each query
+     * result, so they are not shared between statements or results that use this mapping.
+     * </p>
+     *
+     * @param maxSize maximum number of entries per column (0 to disable)
+     * @return this
+     * @see TgStringDeduplicator
+     * @since 1.17.0
+     */
+    public TgResultMapping<R> setStringDeduplication(int maxSize) {
+        this.stringDeduplicationSize = maxSize;
+        return this;
+    }
+
+    /**
+     * get string deduplication.
+     *
+     * @return maximum number of entries per column (0 if disabled)
+     * @since 1.17.0
+     */
+    public int getStringDeduplication() {
+        return this.stringDeduplicationSize;
+    }
+
+    /**
+     * Creates a new string deduplicator for a query result.
+     *
+     * @param index column index
+     * @return string deduplicator ({@code null} if disabled)
+     * @since 1.17.0
+     */
+    public @Nullable TgStringDeduplicator createStringDeduplicator(int index) {
+        int size = this.stringDeduplicationSize;
+        if (size <= 0) {
+            return null;
+        }
+        return new TgStringDeduplicator(size);
+    }
+
     /**
      * convert record to R.
      *
@@ -123,4 +250,33 @@ public abstract class TgResultMapping<R> {
      * @throws TsurugiTransactionException if server error occurs while retrieving the column data
      */
     protected abstract R convert(TsurugiResultRecord record) throws IOException, InterruptedException, TsurugiTransactionException;
+
+    /**
+     * create record list for {@link TsurugiQueryResult#getRecordList()}.
+     *
+     * @return record list
+     * @since 1.17.0
+     */
+    @IceaxeInternal
+    protected List<R> createRecordList() {
+        return new ArrayList<>();
+    }
+
+    /**
+     * convert record to R and add to the record list.
+     *
+     * @param record     record
+     * @param recordList record list created by {@link #createRecordList()}
+     * @return record(R type)
+     * @throws IOException                 if an I/O error occurs while retrieving the column data
+     * @throws InterruptedException        if interrupted while retrieving the column data
+     * @throws TsurugiTransactionException if server error occurs while retrieving the column data
+     * @since 1.17.0
+     */
+    @IceaxeInternal
+    protected R convertToRecordList(TsurugiResultRecord record, List<R> recordList) throws IOException, InterruptedException, TsurugiTransactionException {
+        R result = convert(record);
+        recordList.add(result);
+        return result;
+    }
 }
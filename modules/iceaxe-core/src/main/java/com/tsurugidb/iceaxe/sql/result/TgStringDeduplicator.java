@@ -0,0 +1,187 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.iceaxe.sql.result;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Tsurugi string deduplicator (bounded intern table for a column).
+ *
+ * <p>
+ * Equal strings are replaced with the same instance, so that the retained heap of low-cardinality columns (status code, category name, etc) is reduced.
+ * </p>
+ * <p>
+ * The number of entries is limited to the maximum size. When the hit ratio of the first lookups (sample size) is less than the minimum hit ratio, the
+ * deduplicator turns itself off.
+ * </p>
+ *
+ * @see TgResultMapping#setStringDeduplication(int)
+ * @since 1.17.0
+ */
+@ThreadSafe
+public class TgStringDeduplicator {
+
+    /** default minimum hit ratio. */
+    public static final double DEFAULT_MIN_HIT_RATIO = 0.5;
+    /** default sample size. */
+    public static final int DEFAULT_SAMPLE_SIZE = 1024;
+
+    private final int maxSize;
+    private final double minHitRatio;
+    private final int sampleSize;
+    private final ConcurrentHashMap<String, String> map = new ConcurrentHashMap<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private volatile boolean enabled = true;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param maxSize maximum number of entries
+     */
+    public TgStringDeduplicator(int maxSize) {
+        this(maxSize, DEFAULT_MIN_HIT_RATIO, DEFAULT_SAMPLE_SIZE);
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param maxSize     maximum number of entries
+     * @param minHitRatio minimum hit ratio (0.0 to disable adaptation)
+     * @param sampleSize  number of lookups to decide the hit ratio
+     */
+    public TgStringDeduplicator(int maxSize, double minHitRatio, int sampleSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive. maxSize=" + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.minHitRatio = minHitRatio;
+        this.sampleSize = sampleSize;
+    }
+
+    /**
+     * get maximum number of entries.
+     *
+     * @return maximum size
+     */
+    public int getMaxSize() {
+        return this.maxSize;
+    }
+
+    /**
+     * get deduplicated string.
+     *
+     * @param value string
+     * @return the same instance as the previous equal string (or value itself)
+     */
+    public @Nullable String deduplicate(@Nullable String value) {
+        if (value == null || !this.enabled) {
+            return value;
+        }
+
+        var found = map.get(value);
+        if (found != null) {
+            hitCount.incrementAndGet();
+            return found;
+        }
+
+        long miss = missCount.incrementAndGet();
+        if (size.get() < maxSize) {
+            found = map.putIfAbsent(value, value);
+            if (found != null) {
+                return found;
+            }
+            size.incrementAndGet();
+        }
+
+        if (miss % sampleSize == 0) {
+            adapt();
+        }
+        return value;
+    }
+
+    /**
+     * decide whether to continue deduplication.
+     */
+    protected void adapt() {
+        if (getHitRatio() < minHitRatio) {
+            this.enabled = false;
+            map.clear();
+            size.set(0);
+        }
+    }
+
+    /**
+     * get whether deduplication is enabled.
+     *
+     * @return {@code false} if turned off because of the low hit ratio
+     */
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    /**
+     * get number of entries.
+     *
+     * @return size
+     */
+    public int getSize() {
+        return size.get();
+    }
+
+    /**
+     * get hit count.
+     *
+     * @return hit count
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * get miss count.
+     *
+     * @return miss count
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * get hit ratio.
+     *
+     * @return hit ratio
+     */
+    public double getHitRatio() {
+        long hit = hitCount.get();
+        long total = hit + missCount.get();
+        if (total == 0) {
+            return 0;
+        }
+        return (double) hit / total;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{enabled=" + enabled + ", size=" + size + ", hit=" + hitCount + ", miss=" + missCount + "}";
+    }
+}
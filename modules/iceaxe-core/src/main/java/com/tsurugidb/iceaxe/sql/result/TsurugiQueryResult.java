@@ -15,9 +15,9 @@
  */
 package com.tsurugidb.iceaxe.sql.result;
 
+import java.io.Closeable;
 import java.io.IOException;
 import java.io.UncheckedIOException;
-import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
@@ -27,6 +27,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.NotThreadSafe;
 
 import org.slf4j.Logger;
@@ -34,6 +35,7 @@ import org.slf4j.LoggerFactory;
 
 import com.tsurugidb.iceaxe.exception.IceaxeErrorCode;
 import com.tsurugidb.iceaxe.exception.IceaxeTimeoutIOException;
+import com.tsurugidb.iceaxe.jfr.TsurugiResultFetchJfrEvent;
 import com.tsurugidb.iceaxe.session.TgSessionOption.TgTimeoutKey;
 import com.tsurugidb.iceaxe.sql.TsurugiSql;
 import com.tsurugidb.iceaxe.sql.TsurugiSqlPreparedQuery;
@@ -44,6 +46,7 @@ import com.tsurugidb.iceaxe.transaction.exception.TsurugiTransactionException;
 import com.tsurugidb.iceaxe.transaction.exception.TsurugiTransactionRuntimeException;
 import com.tsurugidb.iceaxe.util.IceaxeCloseableSet;
 import com.tsurugidb.iceaxe.util.IceaxeConvertUtil;
+import com.tsurugidb.iceaxe.util.IceaxeEventListenerList;
 import com.tsurugidb.iceaxe.util.IceaxeInternal;
 import com.tsurugidb.iceaxe.util.IceaxeIoUtil;
 import com.tsurugidb.iceaxe.util.IceaxeTimeout;
@@ -73,8 +76,9 @@ public class TsurugiQueryResult<R> extends TsurugiSqlResult implements Iterable<
     private FutureResponse<ResultSet> lowResultSetFuture;
     private ResultSet lowResultSet;
     private TgTimeValue fetchTimeout;
-    private List<TsurugiQueryResultEventListener<R>> eventListenerList = null;
+    private volatile IceaxeEventListenerList<TsurugiQueryResultEventListener<R>> eventListenerList = IceaxeEventListenerList.none();
     private int readCount = 0;
+    private TsurugiResultFetchJfrEvent fetchJfrEvent = null;
     private TsurugiResultRecord record;
     private Optional<Boolean> hasNextRow = Optional.empty();
     private boolean checkResultOnClose = true;
@@ -170,10 +174,9 @@ public class TsurugiQueryResult<R> extends TsurugiSqlResult implements Iterable<
      * @return this
      */
     public TsurugiSqlResult addEventListener(TsurugiQueryResultEventListener<R> listener) {
-        if (this.eventListenerList == null) {
-            this.eventListenerList = new ArrayList<>();
+        synchronized (this) {
+            this.eventListenerList = eventListenerList.add(listener);
         }
-        eventListenerList.add(listener);
         return this;
     }
 
@@ -185,31 +188,11 @@ public class TsurugiQueryResult<R> extends TsurugiSqlResult implements Iterable<
      * @since 1.3.0
      */
     public Optional<TsurugiQueryResultEventListener<R>> findEventListener(Predicate<TsurugiQueryResultEventListener<R>> predicate) {
-        var listenerList = this.eventListenerList;
-        if (listenerList != null) {
-            for (var listener : listenerList) {
-                if (predicate.test(listener)) {
-                    return Optional.of(listener);
-                }
-            }
-        }
-        return Optional.empty();
+        return eventListenerList.find(predicate);
     }
 
     private void event(Throwable occurred, Consumer<TsurugiQueryResultEventListener<R>> action) {
-        var listenerList = this.eventListenerList;
-        if (listenerList != null) {
-            try {
-                for (var listener : listenerList) {
-                    action.accept(listener);
-                }
-            } catch (Throwable e) {
-                if (occurred != null) {
-                    e.addSuppressed(occurred);
-                }
-                throw e;
-            }
-        }
+        eventListenerList.event(occurred, action);
     }
 
     /**
@@ -229,6 +212,7 @@ public class TsurugiQueryResult<R> extends TsurugiSqlResult implements Iterable<
             }
 
             LOG.trace("lowResultSet get start");
+            this.fetchJfrEvent = TsurugiResultFetchJfrEvent.beginIfEnabled();
             try {
                 this.lowResultSet = IceaxeIoUtil.getAndCloseFutureInTransaction(lowResultSetFuture, //
                         connectTimeout, IceaxeErrorCode.RS_CONNECT_TIMEOUT, //
@@ -236,6 +220,8 @@ public class TsurugiQueryResult<R> extends TsurugiSqlResult implements Iterable<
             } catch (TsurugiTransactionException e) {
                 fillToTsurugiException(e);
                 throw e;
+            } finally {
+                endExecuteJfrEvent();
             }
             LOG.trace("lowResultSet get end");
 
@@ -250,6 +236,12 @@ public class TsurugiQueryResult<R> extends TsurugiSqlResult implements Iterable<
         var lowResultSet = this.lowResultSet;
         if (lowResultSet != null) {
             var time = this.fetchTimeout;
+            var deadline = getTransaction().getDeadline();
+            if (deadline != null) {
+                long nanos = deadline.limit(time.toNanos());
+                lowResultSet.setTimeout(nanos, TimeUnit.NANOSECONDS);
+                return;
+            }
             lowResultSet.setTimeout(time.value(), time.unit());
         }
     }
@@ -272,13 +264,19 @@ public class TsurugiQueryResult<R> extends TsurugiSqlResult implements Iterable<
                 LOG.trace("nextLowRecord end. exists={}", exists);
             }
         } catch (ResponseTimeoutException e) {
-            event(e, listener -> listener.readException(this, e));
+            if (eventListenerList.exists()) {
+                event(e, listener -> listener.readException(this, e));
+            }
             throw new IceaxeTimeoutIOException(IceaxeErrorCode.RS_NEXT_ROW_TIMEOUT, e);
         } catch (ServerException e) {
-            event(e, listener -> listener.readException(this, e));
+            if (eventListenerList.exists()) {
+                event(e, listener -> listener.readException(this, e));
+            }
             throw fillToTsurugiException(new TsurugiTransactionException(e));
         } catch (Throwable e) {
-            event(e, listener -> listener.readException(this, e));
+            if (eventListenerList.exists()) {
+                event(e, listener -> listener.readException(this, e));
+            }
             throw e;
         }
 
@@ -297,7 +295,15 @@ public class TsurugiQueryResult<R> extends TsurugiSqlResult implements Iterable<
         }
         this.calledEndEvent = true;
 
-        event(null, listener -> listener.endResult(this));
+        var jfrEvent = this.fetchJfrEvent;
+        if (jfrEvent != null) {
+            this.fetchJfrEvent = null;
+            TsurugiResultFetchJfrEvent.emit(jfrEvent, this);
+        }
+
+        if (eventListenerList.exists()) {
+            event(null, listener -> listener.endResult(this));
+        }
     }
 
     /**
@@ -321,9 +327,13 @@ public class TsurugiQueryResult<R> extends TsurugiSqlResult implements Iterable<
         if (this.record == null) {
             try {
                 var lowResultSet = getLowResultSet();
-                this.record = new TsurugiResultRecord(this, lowResultSet, convertUtil);
+                var record = new TsurugiResultRecord(this, lowResultSet, convertUtil);
+                record.setResultMapping(resultMapping);
+                this.record = record;
             } catch (Throwable e) {
-                event(e, listener -> listener.readException(this, e));
+                if (eventListenerList.exists()) {
+                    event(e, listener -> listener.readException(this, e));
+                }
                 throw e;
             }
         }
@@ -340,15 +350,38 @@ public class TsurugiQueryResult<R> extends TsurugiSqlResult implements Iterable<
      * @throws TsurugiTransactionException if server error occurs while retrieving the column data
      */
     protected R convertRecord(TsurugiResultRecord record) throws IOException, InterruptedException, TsurugiTransactionException {
+        return convertRecord(record, null);
+    }
+
+    /**
+     * convert record to R and add to the record list.
+     *
+     * @param record     record
+     * @param recordList record list (nullable)
+     * @return record(R type)
+     * @throws IOException                 if an I/O error occurs while retrieving the column data
+     * @throws InterruptedException        if interrupted while retrieving the column data
+     * @throws TsurugiTransactionException if server error occurs while retrieving the column data
+     * @since 1.17.0
+     */
+    protected R convertRecord(TsurugiResultRecord record, @Nullable List<R> recordList) throws IOException, InterruptedException, TsurugiTransactionException {
         R result;
         try {
-            result = resultMapping.convert(record);
+            if (recordList != null) {
+                result = resultMapping.convertToRecordList(record, recordList);
+            } else {
+                result = resultMapping.convert(record);
+            }
         } catch (TsurugiTransactionException e) {
-            event(e, listener -> listener.readException(this, e));
+            if (eventListenerList.exists()) {
+                event(e, listener -> listener.readException(this, e));
+            }
             fillToTsurugiException(e);
             throw e;
         } catch (Throwable e) {
-            event(e, listener -> listener.readException(this, e));
+            if (eventListenerList.exists()) {
+                event(e, listener -> listener.readException(this, e));
+            }
             throw e;
         }
         this.readCount++;
@@ -379,7 +412,9 @@ public class TsurugiQueryResult<R> extends TsurugiSqlResult implements Iterable<
             var lowColumnList = getLowColumnList(this, getLowResultSet());
             return IceaxeResultNameList.toNameList(lowColumnList);
         } catch (Throwable e) {
-            event(e, listener -> listener.readException(this, e));
+            if (eventListenerList.exists()) {
+                event(e, listener -> listener.readException(this, e));
+            }
             throw e;
         }
     }
@@ -409,7 +444,9 @@ public class TsurugiQueryResult<R> extends TsurugiSqlResult implements Iterable<
             var record = getRecord();
             record.reset();
             R result = convertRecord(record);
-            event(null, listener -> listener.readRecord(this, result));
+            if (eventListenerList.exists()) {
+                event(null, listener -> listener.readRecord(this, result));
+            }
             return Optional.of(result);
         }
         return Optional.empty();
@@ -428,7 +465,9 @@ public class TsurugiQueryResult<R> extends TsurugiSqlResult implements Iterable<
         while (nextLowRecord()) {
             record.reset();
             R result = convertRecord(record);
-            event(null, listener -> listener.readRecord(this, result));
+            if (eventListenerList.exists()) {
+                event(null, listener -> listener.readRecord(this, result));
+            }
             action.accept(result);
         }
     }
@@ -447,7 +486,9 @@ public class TsurugiQueryResult<R> extends TsurugiSqlResult implements Iterable<
         for (int i = 0; nextLowRecord(); i++) {
             record.reset();
             R result = convertRecord(record);
-            event(null, listener -> listener.readRecord(this, result));
+            if (eventListenerList.exists()) {
+                event(null, listener -> listener.readRecord(this, result));
+            }
             action.accept(i, result);
         }
     }
@@ -461,13 +502,25 @@ public class TsurugiQueryResult<R> extends TsurugiSqlResult implements Iterable<
      * @throws TsurugiTransactionException if server error occurs while retrieving record
      */
     public List<R> getRecordList() throws IOException, InterruptedException, TsurugiTransactionException {
-        var list = new ArrayList<R>();
-        var record = getRecord();
-        while (nextLowRecord()) {
-            record.reset();
-            R result = convertRecord(record);
-            event(null, listener -> listener.readRecord(this, result));
-            list.add(result);
+        var list = resultMapping.createRecordList();
+        try {
+            var record = getRecord();
+            while (nextLowRecord()) {
+                record.reset();
+                R result = convertRecord(record, list);
+                if (eventListenerList.exists()) {
+                    event(null, listener -> listener.readRecord(this, result));
+                }
+            }
+        } catch (Throwable e) {
+            if (list instanceof Closeable) {
+                try {
+                    ((Closeable) list).close();
+                } catch (IOException c) {
+                    e.addSuppressed(c);
+                }
+            }
+            throw e;
         }
         return list;
     }
@@ -485,7 +538,9 @@ public class TsurugiQueryResult<R> extends TsurugiSqlResult implements Iterable<
             var record = getRecord();
             record.reset();
             R result = convertRecord(record);
-            event(null, listener -> listener.readRecord(this, result));
+            if (eventListenerList.exists()) {
+                event(null, listener -> listener.readRecord(this, result));
+            }
             return Optional.ofNullable(result);
         } else {
             return Optional.empty();
@@ -592,7 +647,9 @@ public class TsurugiQueryResult<R> extends TsurugiSqlResult implements Iterable<
             } catch (TsurugiTransactionException e) {
                 throw new TsurugiTransactionRuntimeException(e);
             }
-            event(null, listener -> listener.readRecord(TsurugiQueryResult.this, result));
+            if (eventListenerList.exists()) {
+                event(null, listener -> listener.readRecord(TsurugiQueryResult.this, result));
+            }
             this.moveNext = true;
             return result;
         }
@@ -613,7 +670,9 @@ public class TsurugiQueryResult<R> extends TsurugiSqlResult implements Iterable<
             while (nextLowRecord()) {
                 record.reset();
                 R result = convertRecord(record);
-                event(null, listener -> listener.readRecord(this, result));
+                if (eventListenerList.exists()) {
+                    event(null, listener -> listener.readRecord(this, result));
+                }
                 action.accept(result);
             }
         } catch (IOException e) {
@@ -670,7 +729,9 @@ public class TsurugiQueryResult<R> extends TsurugiSqlResult implements Iterable<
                 }
             } finally {
                 var finalOccurred = occurred;
-                event(occurred, listener -> listener.closeResult(this, timeoutNanos, finalOccurred));
+                if (eventListenerList.exists()) {
+                    event(occurred, listener -> listener.closeResult(this, timeoutNanos, finalOccurred));
+                }
             }
         }
 
@@ -0,0 +1,227 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.iceaxe.sql.result;
+
+import javax.annotation.Nullable;
+
+import com.tsurugidb.iceaxe.sql.TgDataType;
+import com.tsurugidb.iceaxe.sql.result.TsurugiResultCompactList.DoubleColumn;
+import com.tsurugidb.iceaxe.sql.result.TsurugiResultCompactList.LongColumn;
+import com.tsurugidb.iceaxe.util.IceaxeConvertUtil;
+
+/**
+ * Tsurugi Result Entity (view of {@link TsurugiResultCompactList}).
+ *
+ * <p>
+ * The values are boxed when {@link #getValueOrNull(int)} is called. int, long and double of the same column type are got without boxing.
+ * </p>
+ *
+ * @since 1.17.0
+ */
+public class TsurugiResultCompactEntity extends TsurugiResultEntity {
+
+    private final TsurugiResultCompactList owner;
+    private final int row;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param owner compact list
+     * @param row   row index
+     */
+    protected TsurugiResultCompactEntity(TsurugiResultCompactList owner, int row) {
+        super(owner.getResultNameList(), null);
+        this.owner = owner;
+        this.row = row;
+        setConvertUtil(owner.getConvertUtil());
+    }
+
+    /**
+     * get row index in the compact list.
+     *
+     * @return row index
+     */
+    public int getRowIndex() {
+        return this.row;
+    }
+
+    @Override
+    public @Nullable Object getValueOrNull(int index) {
+        return owner.getValueOrNull(row, index);
+    }
+
+    private LongColumn findLongColumn(int index, TgDataType type) {
+        if (getConvertUtil() != IceaxeConvertUtil.INSTANCE) {
+            return null;
+        }
+        var column = owner.getColumn(index);
+        if (column instanceof LongColumn && ((LongColumn) column).getType() == type) {
+            return (LongColumn) column;
+        }
+        return null;
+    }
+
+    private DoubleColumn findDoubleColumn(int index) {
+        if (getConvertUtil() != IceaxeConvertUtil.INSTANCE) {
+            return null;
+        }
+        var column = owner.getColumn(index);
+        if (column instanceof DoubleColumn && ((DoubleColumn) column).getType() == TgDataType.DOUBLE) {
+            return (DoubleColumn) column;
+        }
+        return null;
+    }
+
+    @Override
+    public int getInt(int index) {
+        var column = findLongColumn(index, TgDataType.INT);
+        if (column == null) {
+            return super.getInt(index);
+        }
+        if (column.isNull(row)) {
+            throw new NullPointerException("getInt(" + index + ") is null");
+        }
+        return (int) column.getLong(row);
+    }
+
+    @Override
+    public int getInt(int index, int defaultValue) {
+        var column = findLongColumn(index, TgDataType.INT);
+        if (column == null) {
+            return super.getInt(index, defaultValue);
+        }
+        return column.isNull(row) ? defaultValue : (int) column.getLong(row);
+    }
+
+    @Override
+    public int getInt(String name) {
+        int index = getIndex(name);
+        var column = findLongColumn(index, TgDataType.INT);
+        if (column == null) {
+            return super.getInt(name);
+        }
+        if (column.isNull(row)) {
+            throw new NullPointerException("getInt(" + name + ") is null");
+        }
+        return (int) column.getLong(row);
+    }
+
+    @Override
+    public long getLong(int index) {
+        var column = findLongColumn(index, TgDataType.LONG);
+        if (column == null) {
+            return super.getLong(index);
+        }
+        if (column.isNull(row)) {
+            throw new NullPointerException("getLong(" + index + ") is null");
+        }
+        return column.getLong(row);
+    }
+
+    @Override
+    public long getLong(int index, long defaultValue) {
+        var column = findLongColumn(index, TgDataType.LONG);
+        if (column == null) {
+            return super.getLong(index, defaultValue);
+        }
+        return column.isNull(row) ? defaultValue : column.getLong(row);
+    }
+
+    @Override
+    public long getLong(String name) {
+        int index = getIndex(name);
+        var column = findLongColumn(index, TgDataType.LONG);
+        if (column == null) {
+            return super.getLong(name);
+        }
+        if (column.isNull(row)) {
+            throw new NullPointerException("getLong(" + name + ") is null");
+        }
+        return column.getLong(row);
+    }
+
+    @Override
+    public double getDouble(int index) {
+        var column = findDoubleColumn(index);
+        if (column == null) {
+            return super.getDouble(index);
+        }
+        if (column.isNull(row)) {
+            throw new NullPointerException("getDouble(" + index + ") is null");
+        }
+        return column.getDouble(row);
+    }
+
+    @Override
+    public double getDouble(int index, double defaultValue) {
+        var column = findDoubleColumn(index);
+        if (column == null) {
+            return super.getDouble(index, defaultValue);
+        }
+        return column.isNull(row) ? defaultValue : column.getDouble(row);
+    }
+
+    @Override
+    public double getDouble(String name) {
+        int index = getIndex(name);
+        var column = findDoubleColumn(index);
+        if (column == null) {
+            return super.getDouble(name);
+        }
+        if (column.isNull(row)) {
+            throw new NullPointerException("getDouble(" + name + ") is null");
+        }
+        return column.getDouble(row);
+    }
+
+    @Override
+    public String toString() {
+        var sb = new StringBuilder(256);
+        sb.append(TsurugiResultEntity.class.getSimpleName());
+        sb.append('{');
+        var nameList = getNameList();
+        for (int i = 0; i < nameList.size(); i++) {
+            if (i != 0) {
+                sb.append(", ");
+            }
+
+            String name = nameList.get(i);
+            Object value = getValueOrNull(i);
+            sb.append(name);
+            sb.append('=');
+            sb.append(value);
+        }
+        sb.append('}');
+        return sb.toString();
+    }
+
+    @Override
+    public int hashCode() {
+        return System.identityHashCode(owner) * 31 + row;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof TsurugiResultCompactEntity)) {
+            return false;
+        }
+        var other = (TsurugiResultCompactEntity) obj;
+        return this.owner == other.owner && this.row == other.row;
+    }
+}
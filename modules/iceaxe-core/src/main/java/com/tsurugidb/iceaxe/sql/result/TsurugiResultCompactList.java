@@ -0,0 +1,407 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.iceaxe.sql.result;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+import javax.annotation.Nullable;
+
+import com.tsurugidb.iceaxe.sql.TgDataType;
+import com.tsurugidb.iceaxe.transaction.exception.TsurugiTransactionException;
+import com.tsurugidb.iceaxe.util.IceaxeConvertUtil;
+import com.tsurugidb.iceaxe.util.IceaxeInternal;
+
+/**
+ * Compact list of {@link TsurugiResultEntity}.
+ *
+ * <p>
+ * The values are stored by column. Fixed-width columns (boolean, int, long, float, double, date, time) are packed into primitive arrays with null bitmaps,
+ * and boxed only when the value is got. The entities returned by {@link #get(int)} are views of this list.
+ * </p>
+ * <p>
+ * This list is unmodifiable (except for adding records internally).
+ * </p>
+ *
+ * @see TgResultMapping#COMPACT
+ * @since 1.17.0
+ */
+public class TsurugiResultCompactList extends AbstractList<TsurugiResultEntity> implements RandomAccess {
+
+    static final int CHUNK_SHIFT = 10;
+    static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    static final int CHUNK_MASK = CHUNK_SIZE - 1;
+    private static final int FIRST_CHUNK_SIZE = 16;
+
+    /**
+     * column storage.
+     */
+    abstract static class CompactColumn {
+        private long[][] nullChunks = new long[4][];
+
+        boolean isNull(int row) {
+            int c = row >>> CHUNK_SHIFT;
+            if (c >= nullChunks.length) {
+                return false;
+            }
+            var bits = nullChunks[c];
+            if (bits == null) {
+                return false;
+            }
+            int offset = row & CHUNK_MASK;
+            return (bits[offset >>> 6] & (1L << offset)) != 0;
+        }
+
+        void setNull(int row) {
+            int c = row >>> CHUNK_SHIFT;
+            if (c >= nullChunks.length) {
+                this.nullChunks = Arrays.copyOf(nullChunks, Math.max(nullChunks.length * 2, c + 1));
+            }
+            var bits = nullChunks[c];
+            if (bits == null) {
+                bits = new long[CHUNK_SIZE >>> 6];
+                nullChunks[c] = bits;
+            }
+            int offset = row & CHUNK_MASK;
+            bits[offset >>> 6] |= 1L << offset;
+        }
+
+        static int growChunkLength(int chunkIndex, int currentLength, int offset) {
+            int length;
+            if (currentLength == 0) {
+                length = (chunkIndex == 0) ? FIRST_CHUNK_SIZE : CHUNK_SIZE;
+            } else {
+                length = Math.min(currentLength * 2, CHUNK_SIZE);
+            }
+            while (length <= offset) {
+                length = Math.min(length * 2, CHUNK_SIZE);
+            }
+            return length;
+        }
+
+        abstract void set(int row, @Nullable Object value);
+
+        abstract @Nullable Object get(int row);
+    }
+
+    /**
+     * column storage for long-compatible values.
+     */
+    static class LongColumn extends CompactColumn {
+        private final TgDataType type;
+        private long[][] chunks = new long[4][];
+
+        LongColumn(TgDataType type) {
+            this.type = type;
+        }
+
+        @Override
+        void set(int row, Object value) {
+            if (value == null) {
+                setNull(row);
+                return;
+            }
+            long v;
+            switch (type) {
+            case BOOLEAN:
+                v = ((Boolean) value) ? 1 : 0;
+                break;
+            case DATE:
+                v = ((LocalDate) value).toEpochDay();
+                break;
+            case TIME:
+                v = ((LocalTime) value).toNanoOfDay();
+                break;
+            default:
+                v = ((Number) value).longValue();
+                break;
+            }
+            setLong(row, v);
+        }
+
+        private void setLong(int row, long value) {
+            int c = row >>> CHUNK_SHIFT;
+            if (c >= chunks.length) {
+                this.chunks = Arrays.copyOf(chunks, Math.max(chunks.length * 2, c + 1));
+            }
+            int offset = row & CHUNK_MASK;
+            var chunk = chunks[c];
+            if (chunk == null || offset >= chunk.length) {
+                int length = growChunkLength(c, (chunk != null) ? chunk.length : 0, offset);
+                chunk = (chunk != null) ? Arrays.copyOf(chunk, length) : new long[length];
+                chunks[c] = chunk;
+            }
+            chunk[offset] = value;
+        }
+
+        long getLong(int row) {
+            return chunks[row >>> CHUNK_SHIFT][row & CHUNK_MASK];
+        }
+
+        TgDataType getType() {
+            return this.type;
+        }
+
+        @Override
+        Object get(int row) {
+            if (isNull(row)) {
+                return null;
+            }
+            long v = getLong(row);
+            switch (type) {
+            case BOOLEAN:
+                return v != 0;
+            case INT:
+                return (int) v;
+            case DATE:
+                return LocalDate.ofEpochDay(v);
+            case TIME:
+                return LocalTime.ofNanoOfDay(v);
+            default:
+                return v;
+            }
+        }
+    }
+
+    /**
+     * column storage for double-compatible values.
+     */
+    static class DoubleColumn extends CompactColumn {
+        private final TgDataType type;
+        private double[][] chunks = new double[4][];
+
+        DoubleColumn(TgDataType type) {
+            this.type = type;
+        }
+
+        @Override
+        void set(int row, Object value) {
+            if (value == null) {
+                setNull(row);
+                return;
+            }
+            double v = ((Number) value).doubleValue();
+            int c = row >>> CHUNK_SHIFT;
+            if (c >= chunks.length) {
+                this.chunks = Arrays.copyOf(chunks, Math.max(chunks.length * 2, c + 1));
+            }
+            int offset = row & CHUNK_MASK;
+            var chunk = chunks[c];
+            if (chunk == null || offset >= chunk.length) {
+                int length = growChunkLength(c, (chunk != null) ? chunk.length : 0, offset);
+                chunk = (chunk != null) ? Arrays.copyOf(chunk, length) : new double[length];
+                chunks[c] = chunk;
+            }
+            chunk[offset] = v;
+        }
+
+        double getDouble(int row) {
+            return chunks[row >>> CHUNK_SHIFT][row & CHUNK_MASK];
+        }
+
+        TgDataType getType() {
+            return this.type;
+        }
+
+        @Override
+        Object get(int row) {
+            if (isNull(row)) {
+                return null;
+            }
+            double v = getDouble(row);
+            if (type == TgDataType.FLOAT) {
+                return (float) v;
+            }
+            return v;
+        }
+    }
+
+    /**
+     * column storage for other values.
+     */
+    static class ObjectColumn extends CompactColumn {
+        private Object[][] chunks = new Object[4][];
+
+        @Override
+        void set(int row, Object value) {
+            int c = row >>> CHUNK_SHIFT;
+            if (c >= chunks.length) {
+                this.chunks = Arrays.copyOf(chunks, Math.max(chunks.length * 2, c + 1));
+            }
+            int offset = row & CHUNK_MASK;
+            var chunk = chunks[c];
+            if (chunk == null || offset >= chunk.length) {
+                int length = growChunkLength(c, (chunk != null) ? chunk.length : 0, offset);
+                chunk = (chunk != null) ? Arrays.copyOf(chunk, length) : new Object[length];
+                chunks[c] = chunk;
+            }
+            chunk[offset] = value;
+        }
+
+        @Override
+        Object get(int row) {
+            return chunks[row >>> CHUNK_SHIFT][row & CHUNK_MASK];
+        }
+
+        @Override
+        boolean isNull(int row) {
+            return get(row) == null;
+        }
+    }
+
+    private IceaxeResultNameList resultNameList;
+    private CompactColumn[] columns;
+    private Object[] rowBuffer;
+    private IceaxeConvertUtil convertUtil = IceaxeConvertUtil.INSTANCE;
+    private int size = 0;
+
+    /**
+     * Creates a new instance.
+     */
+    public TsurugiResultCompactList() {
+        // do nothing
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param nameList name utility
+     * @param typeList column data types
+     */
+    @IceaxeInternal
+    public TsurugiResultCompactList(IceaxeResultNameList nameList, List<TgDataType> typeList) {
+        initialize(nameList, typeList);
+    }
+
+    private void initialize(IceaxeResultNameList nameList, List<TgDataType> typeList) {
+        if (nameList.size() != typeList.size()) {
+            throw new IllegalArgumentException(String.format("column size unmatch. nameList=%d, typeList=%d", nameList.size(), typeList.size()));
+        }
+        this.resultNameList = nameList;
+        this.columns = new CompactColumn[typeList.size()];
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = createColumn(typeList.get(i));
+        }
+        this.rowBuffer = new Object[columns.length];
+    }
+
+    private static CompactColumn createColumn(TgDataType type) {
+        switch (type) {
+        case BOOLEAN:
+        case INT:
+        case LONG:
+        case DATE:
+        case TIME:
+            return new LongColumn(type);
+        case FLOAT:
+        case DOUBLE:
+            return new DoubleColumn(type);
+        default:
+            return new ObjectColumn();
+        }
+    }
+
+    /**
+     * set convert type utility.
+     *
+     * @param convertUtil convert type utility
+     */
+    public void setConvertUtil(IceaxeConvertUtil convertUtil) {
+        this.convertUtil = Objects.requireNonNull(convertUtil);
+    }
+
+    /**
+     * get convert type utility.
+     *
+     * @return convert type utility
+     */
+    public IceaxeConvertUtil getConvertUtil() {
+        return this.convertUtil;
+    }
+
+    /**
+     * add record.
+     *
+     * @param record Tsurugi Result Record
+     * @return entity
+     * @throws IOException                 if an I/O error occurs while retrieving the column data
+     * @throws InterruptedException        if interrupted while retrieving the column data
+     * @throws TsurugiTransactionException if server error occurs while retrieving the column data
+     */
+    TsurugiResultEntity addRecord(TsurugiResultRecord record) throws IOException, InterruptedException, TsurugiTransactionException {
+        if (this.columns == null) {
+            initialize(record.getResultNameList(), record.getTypeList());
+            this.convertUtil = record.getConvertUtil();
+        }
+        var values = this.rowBuffer;
+        record.readValues(values, true);
+        return addValues(values);
+    }
+
+    /**
+     * add values.
+     *
+     * @param values column values
+     * @return entity
+     */
+    @IceaxeInternal
+    public TsurugiResultEntity addValues(Object[] values) {
+        if (values.length != columns.length) {
+            throw new IllegalArgumentException(String.format("column size unmatch. values=%d, columnSize=%d", values.length, columns.length));
+        }
+        int row = this.size;
+        for (int i = 0; i < columns.length; i++) {
+            columns[i].set(row, values[i]);
+            values[i] = null;
+        }
+        this.size = row + 1;
+        return new TsurugiResultCompactEntity(this, row);
+    }
+
+    IceaxeResultNameList getResultNameList() {
+        return this.resultNameList;
+    }
+
+    CompactColumn getColumn(int index) {
+        return columns[index];
+    }
+
+    int getColumnSize() {
+        return columns.length;
+    }
+
+    @Nullable
+    Object getValueOrNull(int row, int index) {
+        return columns[index].get(row);
+    }
+
+    @Override
+    public TsurugiResultEntity get(int index) {
+        Objects.checkIndex(index, size);
+        return new TsurugiResultCompactEntity(this, index);
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+}
@@ -16,6 +16,12 @@
 package com.tsurugidb.iceaxe.sql.result;
 
 import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
 import java.util.List;
 import java.util.Objects;
 
@@ -25,6 +31,7 @@ import javax.annotation.concurrent.ThreadSafe;
 
 import com.tsurugidb.iceaxe.result.TsurugiResultIndexEntity;
 import com.tsurugidb.iceaxe.result.TsurugiResultNameEntity;
+import com.tsurugidb.iceaxe.sql.TgDataType;
 import com.tsurugidb.iceaxe.sql.result.IceaxeResultNameList.IceaxeAmbiguousNamePolicy;
 import com.tsurugidb.iceaxe.transaction.exception.TsurugiTransactionException;
 import com.tsurugidb.iceaxe.util.IceaxeConvertUtil;
@@ -75,6 +82,7 @@ public class TsurugiResultEntity implements TsurugiResultIndexEntity, TsurugiRes
 
         var entity = new TsurugiResultEntity(nameList, values);
         entity.setConvertUtil(record.getConvertUtil());
+        entity.typeList = record.getTypeList();
         return entity;
     }
 
@@ -82,6 +90,7 @@ public class TsurugiResultEntity implements TsurugiResultIndexEntity, TsurugiRes
     private final Object[] values;
     private IceaxeAmbiguousNamePolicy ambiguousNamePolicy = null;
     private IceaxeConvertUtil convertUtil = IceaxeConvertUtil.INSTANCE;
+    private List<TgDataType> typeList = null;
 
     /**
      * Creates a new instance.
@@ -139,6 +148,96 @@ public class TsurugiResultEntity implements TsurugiResultIndexEntity, TsurugiRes
         return values[index];
     }
 
+    /**
+     * get column value as the specified type.
+     *
+     * @param <T>        value type
+     * @param index      column index
+     * @param targetType value type
+     * @return column value
+     * @see IceaxeConvertUtil#getConverter(TgDataType, Class)
+     * @since 1.17.0
+     */
+    protected @Nullable <T> T getValueOrNull(int index, Class<T> targetType) {
+        var value = getValueOrNull(index);
+        if (value == null) {
+            return null;
+        }
+        var types = this.typeList;
+        var type = (types != null) ? types.get(index) : null;
+        return convertUtil.getConverter(type, targetType).convert(value);
+    }
+
+    @Override
+    public @Nullable Boolean getBooleanOrNull(int index) {
+        return getValueOrNull(index, Boolean.class);
+    }
+
+    @Override
+    public @Nullable Integer getIntOrNull(int index) {
+        return getValueOrNull(index, Integer.class);
+    }
+
+    @Override
+    public @Nullable Long getLongOrNull(int index) {
+        return getValueOrNull(index, Long.class);
+    }
+
+    @Override
+    public @Nullable Float getFloatOrNull(int index) {
+        return getValueOrNull(index, Float.class);
+    }
+
+    @Override
+    public @Nullable Double getDoubleOrNull(int index) {
+        return getValueOrNull(index, Double.class);
+    }
+
+    @Override
+    public @Nullable BigDecimal getDecimalOrNull(int index) {
+        return getValueOrNull(index, BigDecimal.class);
+    }
+
+    @Override
+    public @Nullable String getStringOrNull(int index) {
+        return getValueOrNull(index, String.class);
+    }
+
+    @Override
+    public @Nullable byte[] getBytesOrNull(int index) {
+        return getValueOrNull(index, byte[].class);
+    }
+
+    @Override
+    public @Nullable boolean[] getBitsOrNull(int index) {
+        return getValueOrNull(index, boolean[].class);
+    }
+
+    @Override
+    public @Nullable LocalDate getDateOrNull(int index) {
+        return getValueOrNull(index, LocalDate.class);
+    }
+
+    @Override
+    public @Nullable LocalTime getTimeOrNull(int index) {
+        return getValueOrNull(index, LocalTime.class);
+    }
+
+    @Override
+    public @Nullable LocalDateTime getDateTimeOrNull(int index) {
+        return getValueOrNull(index, LocalDateTime.class);
+    }
+
+    @Override
+    public @Nullable OffsetTime getOffsetTimeOrNull(int index) {
+        return getValueOrNull(index, OffsetTime.class);
+    }
+
+    @Override
+    public @Nullable OffsetDateTime getOffsetDateTimeOrNull(int index) {
+        return getValueOrNull(index, OffsetDateTime.class);
+    }
+
     /*
      * get by name
      */
@@ -197,6 +296,76 @@ public class TsurugiResultEntity implements TsurugiResultIndexEntity, TsurugiRes
         return getValueOrNull(index);
     }
 
+    @Override
+    public @Nullable Boolean getBooleanOrNull(String name) {
+        return getBooleanOrNull(getIndex(name));
+    }
+
+    @Override
+    public @Nullable Integer getIntOrNull(String name) {
+        return getIntOrNull(getIndex(name));
+    }
+
+    @Override
+    public @Nullable Long getLongOrNull(String name) {
+        return getLongOrNull(getIndex(name));
+    }
+
+    @Override
+    public @Nullable Float getFloatOrNull(String name) {
+        return getFloatOrNull(getIndex(name));
+    }
+
+    @Override
+    public @Nullable Double getDoubleOrNull(String name) {
+        return getDoubleOrNull(getIndex(name));
+    }
+
+    @Override
+    public @Nullable BigDecimal getDecimalOrNull(String name) {
+        return getDecimalOrNull(getIndex(name));
+    }
+
+    @Override
+    public @Nullable String getStringOrNull(String name) {
+        return getStringOrNull(getIndex(name));
+    }
+
+    @Override
+    public @Nullable byte[] getBytesOrNull(String name) {
+        return getBytesOrNull(getIndex(name));
+    }
+
+    @Override
+    public @Nullable boolean[] getBitsOrNull(String name) {
+        return getBitsOrNull(getIndex(name));
+    }
+
+    @Override
+    public @Nullable LocalDate getDateOrNull(String name) {
+        return getDateOrNull(getIndex(name));
+    }
+
+    @Override
+    public @Nullable LocalTime getTimeOrNull(String name) {
+        return getTimeOrNull(getIndex(name));
+    }
+
+    @Override
+    public @Nullable LocalDateTime getDateTimeOrNull(String name) {
+        return getDateTimeOrNull(getIndex(name));
+    }
+
+    @Override
+    public @Nullable OffsetTime getOffsetTimeOrNull(String name) {
+        return getOffsetTimeOrNull(getIndex(name));
+    }
+
+    @Override
+    public @Nullable OffsetDateTime getOffsetDateTimeOrNull(String name) {
+        return getOffsetDateTimeOrNull(getIndex(name));
+    }
+
     @Override
     public String toString() {
         var sb = new StringBuilder(256);
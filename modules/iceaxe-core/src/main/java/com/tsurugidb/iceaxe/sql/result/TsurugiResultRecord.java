@@ -16,7 +16,14 @@
 package com.tsurugidb.iceaxe.sql.result;
 
 import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
@@ -40,6 +47,7 @@ import com.tsurugidb.iceaxe.transaction.exception.TsurugiTransactionException;
 import com.tsurugidb.iceaxe.util.IceaxeConvertUtil;
 import com.tsurugidb.iceaxe.util.IceaxeInternal;
 import com.tsurugidb.iceaxe.util.TgTimeValue;
+import com.tsurugidb.iceaxe.util.TgValueConverter;
 import com.tsurugidb.tsubakuro.exception.ResponseTimeoutException;
 import com.tsurugidb.tsubakuro.exception.ServerException;
 import com.tsurugidb.tsubakuro.sql.ResultSet;
@@ -129,9 +137,13 @@ public class TsurugiResultRecord implements TsurugiResultIndexRecord, TsurugiRes
     private final ResultSet lowResultSet;
     private final IceaxeConvertUtil convertUtil;
     private IceaxeAmbiguousNamePolicy ambiguousNamePolicy = null;
+    private TgResultMapping<?> resultMapping = null;
 
     private IceaxeResultNameList resultNameList = null;
     private List<TgDataType> typeList = null;
+    private TgValueConverter<Object, ?>[] converters = null;
+    private Class<?>[] converterTargetTypes = null;
+    private TgStringDeduplicator[] stringDeduplicators = null;
 
     private int currentColumnIndex;
     private Object[] values = null;
@@ -151,6 +163,10 @@ public class TsurugiResultRecord implements TsurugiResultIndexRecord, TsurugiRes
         reset();
     }
 
+    void setResultMapping(TgResultMapping<?> resultMapping) {
+        this.resultMapping = resultMapping;
+    }
+
     void reset() {
         this.currentColumnIndex = -1;
         this.isValuesAvailable = false;
@@ -347,7 +363,8 @@ public class TsurugiResultRecord implements TsurugiResultIndexRecord, TsurugiRes
             case DECIMAL:
                 return lowResultSet.fetchDecimalValue();
             case CHARACTER:
-                return lowResultSet.fetchCharacterValue();
+                var text = lowResultSet.fetchCharacterValue();
+                return deduplicate(text);
             case OCTET:
                 return lowResultSet.fetchOctetValue();
             case BIT:
@@ -380,6 +397,166 @@ public class TsurugiResultRecord implements TsurugiResultIndexRecord, TsurugiRes
         }
     }
 
+    /**
+     * whether the current column value is null.
+     *
+     * @return {@code true} if null
+     * @see #moveCurrentColumnNext()
+     * @since 1.17.0
+     */
+    public boolean isCurrentColumnNull() {
+        return lowResultSet.isNull();
+    }
+
+    /**
+     * get current column value as boolean (take once).
+     *
+     * <p>
+     * The current column must be BOOLEAN and not null.
+     * </p>
+     *
+     * @return value
+     * @throws IOException                 if an I/O error occurs while retrieving the column data
+     * @throws InterruptedException        if interrupted while retrieving the column data
+     * @throws TsurugiTransactionException if server error occurs while retrieving the column data
+     * @see #isCurrentColumnNull()
+     * @since 1.17.0
+     */
+    public boolean fetchCurrentColumnBoolean() throws IOException, InterruptedException, TsurugiTransactionException {
+        try {
+            return lowResultSet.fetchBooleanValue();
+        } catch (ResponseTimeoutException e) {
+            throw new IceaxeTimeoutIOException(IceaxeErrorCode.RS_FETCH_TIMEOUT, e);
+        } catch (ServerException e) {
+            throw ownerResult.fillToTsurugiException(new TsurugiTransactionException(e));
+        }
+    }
+
+    /**
+     * get current column value as int (take once).
+     *
+     * <p>
+     * The current column must be INT and not null.
+     * </p>
+     *
+     * @return value
+     * @throws IOException                 if an I/O error occurs while retrieving the column data
+     * @throws InterruptedException        if interrupted while retrieving the column data
+     * @throws TsurugiTransactionException if server error occurs while retrieving the column data
+     * @see #isCurrentColumnNull()
+     * @since 1.17.0
+     */
+    public int fetchCurrentColumnInt() throws IOException, InterruptedException, TsurugiTransactionException {
+        try {
+            return lowResultSet.fetchInt4Value();
+        } catch (ResponseTimeoutException e) {
+            throw new IceaxeTimeoutIOException(IceaxeErrorCode.RS_FETCH_TIMEOUT, e);
+        } catch (ServerException e) {
+            throw ownerResult.fillToTsurugiException(new TsurugiTransactionException(e));
+        }
+    }
+
+    /**
+     * get current column value as long (take once).
+     *
+     * <p>
+     * The current column must be LONG and not null.
+     * </p>
+     *
+     * @return value
+     * @throws IOException                 if an I/O error occurs while retrieving the column data
+     * @throws InterruptedException        if interrupted while retrieving the column data
+     * @throws TsurugiTransactionException if server error occurs while retrieving the column data
+     * @see #isCurrentColumnNull()
+     * @since 1.17.0
+     */
+    public long fetchCurrentColumnLong() throws IOException, InterruptedException, TsurugiTransactionException {
+        try {
+            return lowResultSet.fetchInt8Value();
+        } catch (ResponseTimeoutException e) {
+            throw new IceaxeTimeoutIOException(IceaxeErrorCode.RS_FETCH_TIMEOUT, e);
+        } catch (ServerException e) {
+            throw ownerResult.fillToTsurugiException(new TsurugiTransactionException(e));
+        }
+    }
+
+    /**
+     * get current column value as float (take once).
+     *
+     * <p>
+     * The current column must be FLOAT and not null.
+     * </p>
+     *
+     * @return value
+     * @throws IOException                 if an I/O error occurs while retrieving the column data
+     * @throws InterruptedException        if interrupted while retrieving the column data
+     * @throws TsurugiTransactionException if server error occurs while retrieving the column data
+     * @see #isCurrentColumnNull()
+     * @since 1.17.0
+     */
+    public float fetchCurrentColumnFloat() throws IOException, InterruptedException, TsurugiTransactionException {
+        try {
+            return lowResultSet.fetchFloat4Value();
+        } catch (ResponseTimeoutException e) {
+            throw new IceaxeTimeoutIOException(IceaxeErrorCode.RS_FETCH_TIMEOUT, e);
+        } catch (ServerException e) {
+            throw ownerResult.fillToTsurugiException(new TsurugiTransactionException(e));
+        }
+    }
+
+    /**
+     * get current column value as double (take once).
+     *
+     * <p>
+     * The current column must be DOUBLE and not null.
+     * </p>
+     *
+     * @return value
+     * @throws IOException                 if an I/O error occurs while retrieving the column data
+     * @throws InterruptedException        if interrupted while retrieving the column data
+     * @throws TsurugiTransactionException if server error occurs while retrieving the column data
+     * @see #isCurrentColumnNull()
+     * @since 1.17.0
+     */
+    public double fetchCurrentColumnDouble() throws IOException, InterruptedException, TsurugiTransactionException {
+        try {
+            return lowResultSet.fetchFloat8Value();
+        } catch (ResponseTimeoutException e) {
+            throw new IceaxeTimeoutIOException(IceaxeErrorCode.RS_FETCH_TIMEOUT, e);
+        } catch (ServerException e) {
+            throw ownerResult.fillToTsurugiException(new TsurugiTransactionException(e));
+        }
+    }
+
+    private String deduplicate(String value) {
+        var mapping = this.resultMapping;
+        if (mapping == null) {
+            return value;
+        }
+        if (mapping.getStringDeduplication() <= 0) {
+            return value;
+        }
+
+        // the deduplicators belong to this result (column index depends on the statement)
+        var array = this.stringDeduplicators;
+        if (array == null) {
+            array = new TgStringDeduplicator[currentColumnIndex + 1];
+            this.stringDeduplicators = array;
+        } else if (currentColumnIndex >= array.length) {
+            array = Arrays.copyOf(array, currentColumnIndex + 1);
+            this.stringDeduplicators = array;
+        }
+        var deduplicator = array[currentColumnIndex];
+        if (deduplicator == null) {
+            deduplicator = mapping.createStringDeduplicator(currentColumnIndex);
+            if (deduplicator == null) {
+                return value;
+            }
+            array[currentColumnIndex] = deduplicator;
+        }
+        return deduplicator.deduplicate(value);
+    }
+
     /*
      * get by index
      */
@@ -551,6 +728,117 @@ public class TsurugiResultRecord implements TsurugiResultIndexRecord, TsurugiRes
         return fetchCurrentColumnValue();
     }
 
+    /**
+     * get current column value as the specified type and move next column.
+     *
+     * @param <T>        value type
+     * @param targetType value type
+     * @return column value
+     * @throws IOException                 if an I/O error occurs while retrieving the column data
+     * @throws InterruptedException        if interrupted while retrieving the column data
+     * @throws TsurugiTransactionException if server error occurs while retrieving the column data
+     * @see IceaxeConvertUtil#getConverter(TgDataType, Class)
+     * @since 1.17.0
+     */
+    protected @Nullable <T> T nextValueOrNull(Class<T> targetType) throws IOException, InterruptedException, TsurugiTransactionException {
+        nextColumn();
+        var value = fetchCurrentColumnValue();
+        if (value == null) {
+            return null;
+        }
+        var converter = getConverter(currentColumnIndex, targetType);
+        return converter.convert(value);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> TgValueConverter<Object, T> getConverter(int index, Class<T> targetType) throws IOException, InterruptedException, TsurugiTransactionException {
+        var converters = this.converters;
+        if (converters == null) {
+            int size = getTypeList().size();
+            converters = new TgValueConverter[size];
+            this.converters = converters;
+            this.converterTargetTypes = new Class<?>[size];
+        }
+        // the record is reused for all rows, so the converter is looked up once per column
+        if (converterTargetTypes[index] == targetType) {
+            return (TgValueConverter<Object, T>) converters[index];
+        }
+        var converter = convertUtil.getConverter(getType(index), targetType);
+        converters[index] = converter;
+        converterTargetTypes[index] = targetType;
+        return converter;
+    }
+
+    @Override
+    public @Nullable Boolean nextBooleanOrNull() throws IOException, InterruptedException, TsurugiTransactionException {
+        return nextValueOrNull(Boolean.class);
+    }
+
+    @Override
+    public @Nullable Integer nextIntOrNull() throws IOException, InterruptedException, TsurugiTransactionException {
+        return nextValueOrNull(Integer.class);
+    }
+
+    @Override
+    public @Nullable Long nextLongOrNull() throws IOException, InterruptedException, TsurugiTransactionException {
+        return nextValueOrNull(Long.class);
+    }
+
+    @Override
+    public @Nullable Float nextFloatOrNull() throws IOException, InterruptedException, TsurugiTransactionException {
+        return nextValueOrNull(Float.class);
+    }
+
+    @Override
+    public @Nullable Double nextDoubleOrNull() throws IOException, InterruptedException, TsurugiTransactionException {
+        return nextValueOrNull(Double.class);
+    }
+
+    @Override
+    public @Nullable BigDecimal nextDecimalOrNull() throws IOException, InterruptedException, TsurugiTransactionException {
+        return nextValueOrNull(BigDecimal.class);
+    }
+
+    @Override
+    public @Nullable String nextStringOrNull() throws IOException, InterruptedException, TsurugiTransactionException {
+        return nextValueOrNull(String.class);
+    }
+
+    @Override
+    public @Nullable byte[] nextBytesOrNull() throws IOException, InterruptedException, TsurugiTransactionException {
+        return nextValueOrNull(byte[].class);
+    }
+
+    @Override
+    public @Nullable boolean[] nextBitsOrNull() throws IOException, InterruptedException, TsurugiTransactionException {
+        return nextValueOrNull(boolean[].class);
+    }
+
+    @Override
+    public @Nullable LocalDate nextDateOrNull() throws IOException, InterruptedException, TsurugiTransactionException {
+        return nextValueOrNull(LocalDate.class);
+    }
+
+    @Override
+    public @Nullable LocalTime nextTimeOrNull() throws IOException, InterruptedException, TsurugiTransactionException {
+        return nextValueOrNull(LocalTime.class);
+    }
+
+    @Override
+    public @Nullable LocalDateTime nextDateTimeOrNull() throws IOException, InterruptedException, TsurugiTransactionException {
+        return nextValueOrNull(LocalDateTime.class);
+    }
+
+    @Override
+    public @Nullable OffsetTime nextOffsetTimeOrNull() throws IOException, InterruptedException, TsurugiTransactionException {
+        return nextValueOrNull(OffsetTime.class);
+    }
+
+    @Override
+    public @Nullable OffsetDateTime nextOffsetDateTimeOrNull() throws IOException, InterruptedException, TsurugiTransactionException {
+        return nextValueOrNull(OffsetDateTime.class);
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + "{" + lowResultSet + "}";
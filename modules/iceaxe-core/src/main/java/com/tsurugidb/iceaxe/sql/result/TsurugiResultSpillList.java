@@ -0,0 +1,675 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.iceaxe.sql.result;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.ZoneOffset;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.Nullable;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.tsurugidb.iceaxe.session.TsurugiSession;
+import com.tsurugidb.iceaxe.sql.TgDataType;
+import com.tsurugidb.iceaxe.sql.type.IceaxeObjectFactory;
+import com.tsurugidb.iceaxe.transaction.exception.TsurugiTransactionException;
+import com.tsurugidb.iceaxe.util.IceaxeConvertUtil;
+import com.tsurugidb.iceaxe.util.IceaxeInternal;
+import com.tsurugidb.iceaxe.util.IceaxeTimeoutCloseable;
+
+/**
+ * List of {@link TsurugiResultEntity} with spill to disk.
+ *
+ * <p>
+ * Holds records in memory up to the memory budget (bytes and rows), and writes the overflow records to a temporary file in
+ * {@link IceaxeObjectFactory#getTempDirectory()}. The spilled records are read back sequentially by {@link #iterator()}. {@link #get(int)} of the spilled
+ * records is sequential access (random access is slow).
+ * </p>
+ * <p>
+ * This list is unmodifiable. Call {@link #close()} to delete the temporary file (use {@link #of(List)} to get this list from the result of the query). The
+ * temporary file is also deleted when the session of the query is closed.
+ * </p>
+ * <p>
+ * BLOB, CLOB and datetime interval cannot be spilled. The query fails at the first record if the result contains them.
+ * </p>
+ *
+ * @see TgResultMapping#ofSpill(long, int)
+ * @since 1.17.0
+ */
+public class TsurugiResultSpillList extends AbstractList<TsurugiResultEntity> implements Closeable {
+    private static final Logger LOG = LoggerFactory.getLogger(TsurugiResultSpillList.class);
+
+    private static final int ROW_OVERHEAD = 64;
+    private static final int VALUE_OVERHEAD = 24;
+
+    private static final byte TAG_NULL = 0;
+    private static final byte TAG_BOOLEAN = 1;
+    private static final byte TAG_INT = 2;
+    private static final byte TAG_LONG = 3;
+    private static final byte TAG_FLOAT = 4;
+    private static final byte TAG_DOUBLE = 5;
+    private static final byte TAG_DECIMAL = 6;
+    private static final byte TAG_STRING = 7;
+    private static final byte TAG_BYTES = 8;
+    private static final byte TAG_BITS = 9;
+    private static final byte TAG_DATE = 10;
+    private static final byte TAG_TIME = 11;
+    private static final byte TAG_DATE_TIME = 12;
+    private static final byte TAG_OFFSET_TIME = 13;
+    private static final byte TAG_OFFSET_DATE_TIME = 14;
+
+    private final long maxMemoryBytes;
+    private final int maxMemoryRows;
+    private final IceaxeObjectFactory objectFactory;
+    private final List<TsurugiResultEntity> memoryList = new ArrayList<>();
+    private long memoryBytes = 0;
+    private IceaxeResultNameList resultNameList;
+    private IceaxeConvertUtil convertUtil = IceaxeConvertUtil.INSTANCE;
+
+    private TsurugiSession ownerSession;
+    private final IceaxeTimeoutCloseable sessionCloser = timeoutNanos -> close();
+    private Path spillFile;
+    private DataOutputStream spillOutput;
+    private int spillCount = 0;
+    private boolean closed = false;
+    private final Set<SpillReader> readerSet = ConcurrentHashMap.newKeySet();
+    private SpillReader cursor;
+
+    /**
+     * get spill list.
+     *
+     * @param recordList list returned by the query with {@link TgResultMapping#ofSpill(long, int)}
+     * @return spill list
+     * @throws IllegalArgumentException if the list is not spill list
+     */
+    public static TsurugiResultSpillList of(List<TsurugiResultEntity> recordList) {
+        if (recordList instanceof TsurugiResultSpillList) {
+            return (TsurugiResultSpillList) recordList;
+        }
+        throw new IllegalArgumentException("not spill list. list=" + recordList.getClass().getName());
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param maxMemoryBytes maximum bytes (estimated) of records in memory
+     * @param maxMemoryRows  maximum number of records in memory
+     */
+    public TsurugiResultSpillList(long maxMemoryBytes, int maxMemoryRows) {
+        this(maxMemoryBytes, maxMemoryRows, null);
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param maxMemoryBytes maximum bytes (estimated) of records in memory
+     * @param maxMemoryRows  maximum number of records in memory
+     * @param objectFactory  object factory for temporary directory ({@code null} if use the factory of the session)
+     */
+    public TsurugiResultSpillList(long maxMemoryBytes, int maxMemoryRows, @Nullable IceaxeObjectFactory objectFactory) {
+        this.maxMemoryBytes = maxMemoryBytes;
+        this.maxMemoryRows = maxMemoryRows;
+        this.objectFactory = objectFactory;
+    }
+
+    /**
+     * add record.
+     *
+     * @param record Tsurugi Result Record
+     * @return entity
+     * @throws IOException                 if an I/O error occurs while retrieving the column data or writing the temporary file
+     * @throws InterruptedException        if interrupted while retrieving the column data
+     * @throws TsurugiTransactionException if server error occurs while retrieving the column data
+     */
+    synchronized TsurugiResultEntity addRecord(TsurugiResultRecord record) throws IOException, InterruptedException, TsurugiTransactionException {
+        if (this.resultNameList == null) {
+            checkType(record);
+            this.resultNameList = record.getResultNameList();
+            this.convertUtil = record.getConvertUtil();
+            this.ownerSession = record.getTransaction().getSession();
+        }
+        var values = new Object[resultNameList.size()];
+        record.readValues(values, true);
+
+        var factory = this.objectFactory;
+        if (factory == null && this.spillFile == null) {
+            factory = record.getLobFactory().getIceaxeObjectFactory();
+        }
+        return addValues(values, factory);
+    }
+
+    private static void checkType(TsurugiResultRecord record) throws IOException, InterruptedException, TsurugiTransactionException {
+        List<TgDataType> typeList;
+        try {
+            typeList = record.getTypeList();
+        } catch (UnsupportedOperationException e) {
+            // datetime interval etc
+            throw new UnsupportedOperationException("unsupported spill type. " + e.getMessage(), e);
+        }
+        for (var type : typeList) {
+            switch (type) {
+            case BLOB:
+            case CLOB:
+                throw new UnsupportedOperationException("unsupported spill type. type=" + type);
+            default:
+                break;
+            }
+        }
+    }
+
+    /**
+     * add values.
+     *
+     * @param nameList name utility
+     * @param values   column values
+     * @return entity
+     * @throws IOException if an I/O error occurs while writing the temporary file
+     */
+    @IceaxeInternal
+    public synchronized TsurugiResultEntity addValues(IceaxeResultNameList nameList, Object[] values) throws IOException {
+        if (this.resultNameList == null) {
+            this.resultNameList = nameList;
+        }
+        return addValues(values, objectFactory);
+    }
+
+    private TsurugiResultEntity addValues(Object[] values, IceaxeObjectFactory factory) throws IOException {
+        if (this.closed) {
+            throw new IllegalStateException("already closed");
+        }
+        var entity = createEntity(values);
+        if (this.spillOutput == null && this.spillFile == null) {
+            long size = estimateSize(values);
+            if (memoryList.size() < maxMemoryRows && memoryBytes + size <= maxMemoryBytes) {
+                memoryList.add(entity);
+                this.memoryBytes += size;
+                return entity;
+            }
+            openSpillFile(factory);
+        }
+        if (this.spillOutput == null) {
+            throw new IllegalStateException("spill file already finished");
+        }
+        writeValues(spillOutput, values);
+        this.spillCount++;
+        return entity;
+    }
+
+    private void openSpillFile(IceaxeObjectFactory factory) throws IOException {
+        if (factory == null) {
+            factory = IceaxeObjectFactory.getDefaultInstance();
+        }
+        var file = Files.createTempFile(factory.getTempDirectory(), "iceaxe-result-spill-", ".dat");
+        var session = this.ownerSession;
+        if (session != null) {
+            // the file is deleted when the session is closed
+            try {
+                session.addChild(sessionCloser);
+            } catch (Throwable e) {
+                try {
+                    Files.deleteIfExists(file);
+                } catch (Throwable t) {
+                    e.addSuppressed(t);
+                }
+                throw e;
+            }
+        }
+        LOG.debug("spill start. file={}, memoryRows={}, memoryBytes={}", file, memoryList.size(), memoryBytes);
+        this.spillFile = file;
+        this.spillOutput = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)));
+    }
+
+    private TsurugiResultEntity createEntity(Object[] values) {
+        var entity = new TsurugiResultEntity(resultNameList, values);
+        entity.setConvertUtil(convertUtil);
+        return entity;
+    }
+
+    /**
+     * get estimated size of record.
+     *
+     * @param values column values
+     * @return size
+     */
+    protected long estimateSize(Object[] values) {
+        long size = ROW_OVERHEAD + 8L * values.length;
+        for (var value : values) {
+            if (value == null) {
+                continue;
+            }
+            size += VALUE_OVERHEAD;
+            if (value instanceof String) {
+                size += 2L * ((String) value).length();
+            } else if (value instanceof byte[]) {
+                size += ((byte[]) value).length;
+            } else if (value instanceof boolean[]) {
+                size += ((boolean[]) value).length;
+            } else if (value instanceof BigDecimal) {
+                size += ((BigDecimal) value).unscaledValue().bitLength() / 8 + 40;
+            } else if (value instanceof LocalDateTime || value instanceof OffsetDateTime || value instanceof OffsetTime) {
+                size += 48;
+            }
+        }
+        return size;
+    }
+
+    private static void writeValues(DataOutputStream out, Object[] values) throws IOException {
+        for (var value : values) {
+            writeValue(out, value);
+        }
+    }
+
+    private static void writeValue(DataOutputStream out, Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(TAG_NULL);
+        } else if (value instanceof Boolean) {
+            out.writeByte(TAG_BOOLEAN);
+            out.writeBoolean((Boolean) value);
+        } else if (value instanceof Integer) {
+            out.writeByte(TAG_INT);
+            out.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            out.writeByte(TAG_LONG);
+            out.writeLong((Long) value);
+        } else if (value instanceof Float) {
+            out.writeByte(TAG_FLOAT);
+            out.writeFloat((Float) value);
+        } else if (value instanceof Double) {
+            out.writeByte(TAG_DOUBLE);
+            out.writeDouble((Double) value);
+        } else if (value instanceof BigDecimal) {
+            var v = (BigDecimal) value;
+            out.writeByte(TAG_DECIMAL);
+            out.writeInt(v.scale());
+            writeBytes(out, v.unscaledValue().toByteArray());
+        } else if (value instanceof String) {
+            out.writeByte(TAG_STRING);
+            writeBytes(out, ((String) value).getBytes(StandardCharsets.UTF_8));
+        } else if (value instanceof byte[]) {
+            out.writeByte(TAG_BYTES);
+            writeBytes(out, (byte[]) value);
+        } else if (value instanceof boolean[]) {
+            var v = (boolean[]) value;
+            out.writeByte(TAG_BITS);
+            out.writeInt(v.length);
+            for (var b : v) {
+                out.writeBoolean(b);
+            }
+        } else if (value instanceof LocalDate) {
+            out.writeByte(TAG_DATE);
+            out.writeLong(((LocalDate) value).toEpochDay());
+        } else if (value instanceof LocalTime) {
+            out.writeByte(TAG_TIME);
+            out.writeLong(((LocalTime) value).toNanoOfDay());
+        } else if (value instanceof LocalDateTime) {
+            var v = (LocalDateTime) value;
+            out.writeByte(TAG_DATE_TIME);
+            out.writeLong(v.toLocalDate().toEpochDay());
+            out.writeLong(v.toLocalTime().toNanoOfDay());
+        } else if (value instanceof OffsetTime) {
+            var v = (OffsetTime) value;
+            out.writeByte(TAG_OFFSET_TIME);
+            out.writeLong(v.toLocalTime().toNanoOfDay());
+            out.writeInt(v.getOffset().getTotalSeconds());
+        } else if (value instanceof OffsetDateTime) {
+            var v = (OffsetDateTime) value;
+            out.writeByte(TAG_OFFSET_DATE_TIME);
+            out.writeLong(v.toLocalDate().toEpochDay());
+            out.writeLong(v.toLocalTime().toNanoOfDay());
+            out.writeInt(v.getOffset().getTotalSeconds());
+        } else {
+            throw new UnsupportedOperationException("unsupported spill type. type=" + value.getClass().getName());
+        }
+    }
+
+    private static void writeBytes(DataOutputStream out, byte[] value) throws IOException {
+        out.writeInt(value.length);
+        out.write(value);
+    }
+
+    private static Object readValue(DataInputStream in) throws IOException {
+        byte tag = in.readByte();
+        switch (tag) {
+        case TAG_NULL:
+            return null;
+        case TAG_BOOLEAN:
+            return in.readBoolean();
+        case TAG_INT:
+            return in.readInt();
+        case TAG_LONG:
+            return in.readLong();
+        case TAG_FLOAT:
+            return in.readFloat();
+        case TAG_DOUBLE:
+            return in.readDouble();
+        case TAG_DECIMAL:
+            int scale = in.readInt();
+            return new BigDecimal(new BigInteger(readBytes(in)), scale);
+        case TAG_STRING:
+            return new String(readBytes(in), StandardCharsets.UTF_8);
+        case TAG_BYTES:
+            return readBytes(in);
+        case TAG_BITS:
+            var bits = new boolean[in.readInt()];
+            for (int i = 0; i < bits.length; i++) {
+                bits[i] = in.readBoolean();
+            }
+            return bits;
+        case TAG_DATE:
+            return LocalDate.ofEpochDay(in.readLong());
+        case TAG_TIME:
+            return LocalTime.ofNanoOfDay(in.readLong());
+        case TAG_DATE_TIME:
+            return LocalDateTime.of(LocalDate.ofEpochDay(in.readLong()), LocalTime.ofNanoOfDay(in.readLong()));
+        case TAG_OFFSET_TIME:
+            var time = LocalTime.ofNanoOfDay(in.readLong());
+            return OffsetTime.of(time, ZoneOffset.ofTotalSeconds(in.readInt()));
+        case TAG_OFFSET_DATE_TIME:
+            var date = LocalDate.ofEpochDay(in.readLong());
+            var dateTime = LocalDateTime.of(date, LocalTime.ofNanoOfDay(in.readLong()));
+            return OffsetDateTime.of(dateTime, ZoneOffset.ofTotalSeconds(in.readInt()));
+        default:
+            throw new IOException("broken spill file. tag=" + tag);
+        }
+    }
+
+    private static byte[] readBytes(DataInputStream in) throws IOException {
+        var value = new byte[in.readInt()];
+        in.readFully(value);
+        return value;
+    }
+
+    private void finishSpill() throws IOException {
+        var out = this.spillOutput;
+        if (out != null) {
+            this.spillOutput = null;
+            out.close();
+            LOG.debug("spill end. file={}, spillRows={}", spillFile, spillCount);
+        }
+    }
+
+    /**
+     * sequential reader of spilled records.
+     */
+    private class SpillReader implements Closeable {
+        private final DataInputStream in;
+        private int position = 0;
+
+        SpillReader() throws IOException {
+            this.in = new DataInputStream(new BufferedInputStream(Files.newInputStream(spillFile)));
+            readerSet.add(this);
+        }
+
+        boolean hasNext() {
+            return position < spillCount;
+        }
+
+        TsurugiResultEntity next() throws IOException {
+            var values = new Object[resultNameList.size()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = readValue(in);
+            }
+            this.position++;
+            return createEntity(values);
+        }
+
+        @Override
+        public void close() throws IOException {
+            readerSet.remove(this);
+            in.close();
+        }
+    }
+
+    private SpillReader openReader() throws IOException {
+        if (this.closed) {
+            throw new IllegalStateException("already closed");
+        }
+        finishSpill();
+        return new SpillReader();
+    }
+
+    /**
+     * get number of records in memory.
+     *
+     * @return number of records
+     */
+    public synchronized int getMemorySize() {
+        return memoryList.size();
+    }
+
+    /**
+     * get number of spilled records.
+     *
+     * @return number of records
+     */
+    public synchronized int getSpillSize() {
+        return this.spillCount;
+    }
+
+    /**
+     * get estimated bytes of records in memory.
+     *
+     * @return bytes
+     */
+    public synchronized long getMemoryBytes() {
+        return this.memoryBytes;
+    }
+
+    /**
+     * get temporary file.
+     *
+     * @return file ({@code null} if not spilled)
+     */
+    public synchronized @Nullable Path getSpillFile() {
+        return this.spillFile;
+    }
+
+    @Override
+    public synchronized int size() {
+        return memoryList.size() + spillCount;
+    }
+
+    @Override
+    public synchronized TsurugiResultEntity get(int index) {
+        int memorySize = memoryList.size();
+        if (index < memorySize) {
+            return memoryList.get(index);
+        }
+        if (index >= memorySize + spillCount || index < 0) {
+            throw new IndexOutOfBoundsException("index=" + index + ", size=" + size());
+        }
+        int spillIndex = index - memorySize;
+        try {
+            if (this.cursor != null && cursor.position > spillIndex) {
+                cursor.close();
+                this.cursor = null;
+            }
+            if (this.cursor == null) {
+                this.cursor = openReader();
+            }
+            while (cursor.position < spillIndex) {
+                cursor.next();
+            }
+            return cursor.next();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The iterator reads the spilled records sequentially.
+     * </p>
+     *
+     * @throws UncheckedIOException if an I/O error occurs while reading the temporary file
+     */
+    @Override
+    public Iterator<TsurugiResultEntity> iterator() {
+        return new Iterator<>() {
+            private final Iterator<TsurugiResultEntity> memoryIterator;
+            private SpillReader reader;
+            private boolean readerOpened = false;
+
+            {
+                synchronized (TsurugiResultSpillList.this) {
+                    this.memoryIterator = new ArrayList<>(memoryList).iterator();
+                }
+            }
+
+            @Override
+            public boolean hasNext() {
+                if (memoryIterator.hasNext()) {
+                    return true;
+                }
+                var r = getReader();
+                if (r == null) {
+                    return false;
+                }
+                if (r.hasNext()) {
+                    return true;
+                }
+                closeReader();
+                return false;
+            }
+
+            @Override
+            public TsurugiResultEntity next() {
+                if (memoryIterator.hasNext()) {
+                    return memoryIterator.next();
+                }
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                try {
+                    return reader.next();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e.getMessage(), e);
+                }
+            }
+
+            private SpillReader getReader() {
+                if (!this.readerOpened) {
+                    this.readerOpened = true;
+                    synchronized (TsurugiResultSpillList.this) {
+                        if (spillCount == 0) {
+                            return null;
+                        }
+                        try {
+                            this.reader = openReader();
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e.getMessage(), e);
+                        }
+                    }
+                }
+                return this.reader;
+            }
+
+            private void closeReader() {
+                var r = this.reader;
+                if (r != null) {
+                    this.reader = null;
+                    try {
+                        r.close();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e.getMessage(), e);
+                    }
+                }
+            }
+        };
+    }
+
+    /**
+     * Deletes the temporary file.
+     *
+     * @throws IOException if an I/O error occurs while deleting the temporary file
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (this.closed) {
+            return;
+        }
+        this.closed = true;
+        var session = this.ownerSession;
+        if (session != null && this.spillFile != null) {
+            session.removeChild(sessionCloser);
+        }
+
+        IOException occurred = null;
+        var readers = new ArrayList<>(readerSet);
+        this.cursor = null;
+        for (var reader : readers) {
+            try {
+                reader.close();
+            } catch (IOException e) {
+                if (occurred == null) {
+                    occurred = e;
+                } else {
+                    occurred.addSuppressed(e);
+                }
+            }
+        }
+        try {
+            finishSpill();
+        } catch (IOException e) {
+            if (occurred == null) {
+                occurred = e;
+            } else {
+                occurred.addSuppressed(e);
+            }
+        }
+        var file = this.spillFile;
+        if (file != null) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                if (occurred == null) {
+                    occurred = e;
+                } else {
+                    occurred.addSuppressed(e);
+                }
+            }
+        }
+        if (occurred != null) {
+            throw occurred;
+        }
+    }
+}
@@ -19,6 +19,7 @@ import java.io.IOException;
 import java.util.concurrent.TimeUnit;
 
 import com.tsurugidb.iceaxe.exception.IceaxeErrorCode;
+import com.tsurugidb.iceaxe.jfr.TsurugiSqlExecuteJfrEvent;
 import com.tsurugidb.iceaxe.session.TgSessionOption.TgTimeoutKey;
 import com.tsurugidb.iceaxe.sql.TsurugiSql;
 import com.tsurugidb.iceaxe.transaction.TsurugiTransaction;
@@ -68,6 +69,7 @@ public abstract class TsurugiSqlResult implements IceaxeTimeoutCloseable {
     protected final IceaxeTimeout closeTimeout;
 
     private Boolean enableCheckResultOnClose = null;
+    private TsurugiSqlExecuteJfrEvent executeJfrEvent;
 
     /**
      * Creates a new instance.
@@ -94,6 +96,9 @@ public abstract class TsurugiSqlResult implements IceaxeTimeoutCloseable {
         var sessionOption = transaction.getSessionOption();
         this.connectTimeout = new IceaxeTimeout(sessionOption, connectKey);
         this.closeTimeout = new IceaxeTimeout(sessionOption, closeKey);
+        connectTimeout.setDeadline(transaction.getDeadline());
+
+        this.executeJfrEvent = TsurugiSqlExecuteJfrEvent.beginIfEnabled();
     }
 
     /**
@@ -187,11 +192,33 @@ public abstract class TsurugiSqlResult implements IceaxeTimeoutCloseable {
     public void close() throws IOException, InterruptedException, TsurugiTransactionException {
         ownerTransaction.removeChild(this);
 
+        // closed before the response is received
+        endExecuteJfrEvent();
+
         if (this.afterCloseableSet != null) {
             afterCloseableSet.closeInTransaction(closeTimeout.getNanos(), IceaxeErrorCode.RESULT_CLOSE_TIMEOUT);
         }
     }
 
+    /**
+     * end JFR event of SQL execution.
+     *
+     * <p>
+     * Call this method when the response of the execution (result set or execute result) is received, so that the event does not include the time of
+     * the application reading the result.
+     * </p>
+     *
+     * @since 1.17.0
+     */
+    @IceaxeInternal
+    protected final void endExecuteJfrEvent() {
+        var jfrEvent = this.executeJfrEvent;
+        if (jfrEvent != null) {
+            this.executeJfrEvent = null;
+            TsurugiSqlExecuteJfrEvent.emit(jfrEvent, sqlStatement, this);
+        }
+    }
+
     /**
      * set enable check result on close.
      *
@@ -16,8 +16,6 @@
 package com.tsurugidb.iceaxe.sql.result;
 
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Consumer;
@@ -37,6 +35,7 @@ import com.tsurugidb.iceaxe.sql.result.event.TsurugiStatementResultEventListener
 import com.tsurugidb.iceaxe.transaction.TsurugiTransaction;
 import com.tsurugidb.iceaxe.transaction.exception.TsurugiTransactionException;
 import com.tsurugidb.iceaxe.util.IceaxeCloseableSet;
+import com.tsurugidb.iceaxe.util.IceaxeEventListenerList;
 import com.tsurugidb.iceaxe.util.IceaxeInternal;
 import com.tsurugidb.iceaxe.util.IceaxeIoUtil;
 import com.tsurugidb.tsubakuro.sql.ExecuteResult;
@@ -54,7 +53,7 @@ public class TsurugiStatementResult extends TsurugiSqlResult {
 
     private FutureResponse<ExecuteResult> lowResultFuture;
     private TgResultCount resultCount = null;
-    private List<TsurugiStatementResultEventListener> eventListenerList = null;
+    private volatile IceaxeEventListenerList<TsurugiStatementResultEventListener> eventListenerList = IceaxeEventListenerList.none();
     private boolean checkResultOnClose = true;
 
     /**
@@ -116,10 +115,9 @@ public class TsurugiStatementResult extends TsurugiSqlResult {
      * @return this
      */
     public TsurugiSqlResult addEventListener(TsurugiStatementResultEventListener listener) {
-        if (this.eventListenerList == null) {
-            this.eventListenerList = new ArrayList<>();
+        synchronized (this) {
+            this.eventListenerList = eventListenerList.add(listener);
         }
-        eventListenerList.add(listener);
         return this;
     }
 
@@ -131,31 +129,11 @@ public class TsurugiStatementResult extends TsurugiSqlResult {
      * @since 1.3.0
      */
     public Optional<TsurugiStatementResultEventListener> findEventListener(Predicate<TsurugiStatementResultEventListener> predicate) {
-        var listenerList = this.eventListenerList;
-        if (listenerList != null) {
-            for (var listener : listenerList) {
-                if (predicate.test(listener)) {
-                    return Optional.of(listener);
-                }
-            }
-        }
-        return Optional.empty();
+        return eventListenerList.find(predicate);
     }
 
     private void event(Throwable occurred, Consumer<TsurugiStatementResultEventListener> action) {
-        var listenerList = this.eventListenerList;
-        if (listenerList != null) {
-            try {
-                for (var listener : listenerList) {
-                    action.accept(listener);
-                }
-            } catch (Throwable e) {
-                if (occurred != null) {
-                    e.addSuppressed(occurred);
-                }
-                throw e;
-            }
-        }
+        eventListenerList.event(occurred, action);
     }
 
     /**
@@ -181,17 +159,25 @@ public class TsurugiStatementResult extends TsurugiSqlResult {
                 this.resultCount = new TgResultCount(lowExecuteResult);
             } catch (TsurugiTransactionException e) {
                 fillToTsurugiException(e);
-                event(e, listener -> listener.endResult(this, e));
+                if (eventListenerList.exists()) {
+                    event(e, listener -> listener.endResult(this, e));
+                }
                 throw e;
             } catch (Throwable e) {
-                event(e, listener -> listener.endResult(this, e));
+                if (eventListenerList.exists()) {
+                    event(e, listener -> listener.endResult(this, e));
+                }
                 throw e;
+            } finally {
+                endExecuteJfrEvent();
             }
             LOG.trace("lowResult get end");
 
             this.lowResultFuture = null;
 
-            event(null, listener -> listener.endResult(this, null));
+            if (eventListenerList.exists()) {
+                event(null, listener -> listener.endResult(this, null));
+            }
         }
     }
 
@@ -269,7 +255,9 @@ public class TsurugiStatementResult extends TsurugiSqlResult {
                 }
             } finally {
                 var finalOccurred = occurred;
-                event(occurred, listener -> listener.closeResult(this, timeoutNanos, finalOccurred));
+                if (eventListenerList.exists()) {
+                    event(occurred, listener -> listener.closeResult(this, timeoutNanos, finalOccurred));
+                }
             }
         }
 
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.iceaxe.sql.result.export;
+
+/**
+ * export format of {@link TsurugiResultExporter}.
+ *
+ * @since 1.17.0
+ */
+public enum TgExportFormat {
+
+    /**
+     * comma separated values (RFC 4180). strings are always quoted. null is empty.
+     */
+    CSV,
+
+    /**
+     * tab separated values. tab, line feed, carriage return and backslash are escaped by backslash. null is {@code \N}.
+     */
+    TSV,
+
+    /**
+     * JSON Lines. one JSON object per row.
+     */
+    JSON_LINES,
+}
@@ -0,0 +1,705 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.iceaxe.sql.result.export;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.temporal.TemporalAccessor;
+import java.util.List;
+import java.util.Objects;
+import java.util.zip.GZIPOutputStream;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+import com.tsurugidb.iceaxe.sql.result.TgResultMapping;
+import com.tsurugidb.iceaxe.sql.result.TsurugiResultRecord;
+import com.tsurugidb.iceaxe.sql.result.mapping.TgConverterResultMapping;
+import com.tsurugidb.iceaxe.transaction.exception.TsurugiTransactionException;
+
+/**
+ * Tsurugi result exporter.
+ *
+ * <p>
+ * Writes each record column by column into a reusable byte buffer, and flushes the buffer to the channel. Boolean and numeric columns are fetched without
+ * boxing, and numbers, decimals and date/time values are encoded digit by digit into the buffer.
+ * </p>
+ *
+ * <pre>
+ * try (var exporter = TsurugiResultExporter.ofFile(path, TgExportFormat.CSV, true);
+ *      var ps = session.createQuery(sql, exporter.createResultMapping())) {
+ *     tm.executeAndForEach(ps, r -&gt; {});
+ * }
+ * </pre>
+ * <p>
+ * The rows written by a retried transaction are not removed, so use a transaction which is not retried (such as RTX).
+ * </p>
+ *
+ * @since 1.17.0
+ */
+@NotThreadSafe
+public class TsurugiResultExporter implements AutoCloseable {
+
+    /** default buffer size. */
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] TRUE = "true".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] FALSE = "false".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] JSON_NULL = "null".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] TSV_NULL = "\\N".getBytes(StandardCharsets.US_ASCII);
+    private static final long[] POW10 = new long[19];
+    static {
+        POW10[0] = 1;
+        for (int i = 1; i < POW10.length; i++) {
+            POW10[i] = POW10[i - 1] * 10;
+        }
+    }
+
+    /**
+     * create exporter to file.
+     *
+     * @param file   file
+     * @param format format
+     * @param gzip   {@code true} if compress by gzip
+     * @return exporter
+     * @throws IOException if an I/O error occurs while opening the file
+     */
+    public static TsurugiResultExporter ofFile(Path file, TgExportFormat format, boolean gzip) throws IOException {
+        WritableByteChannel channel;
+        if (gzip) {
+            var os = new GZIPOutputStream(Files.newOutputStream(file), DEFAULT_BUFFER_SIZE);
+            channel = Channels.newChannel(os);
+        } else {
+            channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+        }
+        return new TsurugiResultExporter(channel, format);
+    }
+
+    private final WritableByteChannel channel;
+    private final TgExportFormat format;
+    private final ByteBuffer buffer;
+    private boolean header = true;
+    private boolean started = false;
+    private byte[][] jsonKeys;
+    private long rowCount = 0;
+    private long byteCount = 0;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param channel output channel (closed by {@link #close()})
+     * @param format  format
+     */
+    public TsurugiResultExporter(@Nonnull WritableByteChannel channel, @Nonnull TgExportFormat format) {
+        this(channel, format, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param channel    output channel (closed by {@link #close()})
+     * @param format     format
+     * @param bufferSize buffer size (at least 32)
+     */
+    public TsurugiResultExporter(@Nonnull WritableByteChannel channel, @Nonnull TgExportFormat format, int bufferSize) {
+        if (bufferSize < 32) {
+            throw new IllegalArgumentException("bufferSize too small. bufferSize=" + bufferSize);
+        }
+        this.channel = Objects.requireNonNull(channel);
+        this.format = Objects.requireNonNull(format);
+        this.buffer = ByteBuffer.allocate(bufferSize);
+    }
+
+    /**
+     * set whether to write header line (CSV and TSV).
+     *
+     * @param header {@code true} if write header
+     * @return this
+     */
+    public TsurugiResultExporter setHeader(boolean header) {
+        this.header = header;
+        return this;
+    }
+
+    /**
+     * get number of written rows.
+     *
+     * @return row count
+     */
+    public long getRowCount() {
+        return this.rowCount;
+    }
+
+    /**
+     * get number of flushed bytes.
+     *
+     * @return byte count
+     */
+    public long getByteCount() {
+        return this.byteCount;
+    }
+
+    /**
+     * create result mapping which writes each record.
+     *
+     * @return result mapping (the result is always null)
+     */
+    public TgResultMapping<Void> createResultMapping() {
+        return TgConverterResultMapping.of(record -> {
+            writeRecord(record);
+            return null;
+        });
+    }
+
+    /**
+     * write header line.
+     *
+     * @param nameList column names
+     * @throws IOException if an I/O error occurs while writing
+     */
+    protected void writeHeader(List<String> nameList) throws IOException {
+        if (format == TgExportFormat.JSON_LINES) {
+            return;
+        }
+        for (int i = 0; i < nameList.size(); i++) {
+            if (i > 0) {
+                putSeparator();
+            }
+            writeString(nameList.get(i));
+        }
+        putByte((byte) '\n');
+    }
+
+    /**
+     * write record.
+     *
+     * @param record record
+     * @throws IOException                 if an I/O error occurs while writing
+     * @throws InterruptedException        if interrupted while retrieving the column data
+     * @throws TsurugiTransactionException if server error occurs while retrieving the column data
+     */
+    public void writeRecord(TsurugiResultRecord record) throws IOException, InterruptedException, TsurugiTransactionException {
+        if (!this.started) {
+            this.started = true;
+            var nameList = record.getNameList();
+            if (format == TgExportFormat.JSON_LINES) {
+                this.jsonKeys = createJsonKeys(nameList);
+            } else if (this.header) {
+                writeHeader(nameList);
+            }
+        }
+
+        if (format == TgExportFormat.JSON_LINES) {
+            putByte((byte) '{');
+        }
+        for (int i = 0; record.moveCurrentColumnNext(); i++) {
+            if (i > 0) {
+                putSeparator();
+            }
+            if (format == TgExportFormat.JSON_LINES) {
+                putBytes(jsonKeys[i]);
+            }
+            writeCurrentColumn(record);
+        }
+        if (format == TgExportFormat.JSON_LINES) {
+            putByte((byte) '}');
+        }
+        putByte((byte) '\n');
+        rowCount++;
+    }
+
+    private byte[][] createJsonKeys(List<String> nameList) throws IOException {
+        var keys = new byte[nameList.size()][];
+        for (int i = 0; i < keys.length; i++) {
+            var sb = new StringBuilder();
+            sb.append('"');
+            String name = nameList.get(i);
+            for (int j = 0; j < name.length(); j++) {
+                char c = name.charAt(j);
+                if (c == '"' || c == '\\') {
+                    sb.append('\\').append(c);
+                } else if (c < 0x20) {
+                    sb.append(String.format("\\u%04x", (int) c));
+                } else {
+                    sb.append(c);
+                }
+            }
+            sb.append("\":");
+            keys[i] = sb.toString().getBytes(StandardCharsets.UTF_8);
+        }
+        return keys;
+    }
+
+    private void putSeparator() throws IOException {
+        putByte((byte) ((format == TgExportFormat.TSV) ? '\t' : ','));
+    }
+
+    /**
+     * write current column value.
+     *
+     * @param record record
+     * @throws IOException                 if an I/O error occurs while writing
+     * @throws InterruptedException        if interrupted while retrieving the column data
+     * @throws TsurugiTransactionException if server error occurs while retrieving the column data
+     */
+    protected void writeCurrentColumn(TsurugiResultRecord record) throws IOException, InterruptedException, TsurugiTransactionException {
+        if (record.isCurrentColumnNull()) {
+            writeValue(null);
+            return;
+        }
+        switch (record.getCurrentColumnType()) {
+        case BOOLEAN:
+            putBytes(record.fetchCurrentColumnBoolean() ? TRUE : FALSE);
+            break;
+        case INT:
+            writeLong(record.fetchCurrentColumnInt());
+            break;
+        case LONG:
+            writeLong(record.fetchCurrentColumnLong());
+            break;
+        case FLOAT:
+            writeFloat(record.fetchCurrentColumnFloat());
+            break;
+        case DOUBLE:
+            writeDouble(record.fetchCurrentColumnDouble());
+            break;
+        default:
+            writeValue(record.fetchCurrentColumnValue());
+            break;
+        }
+    }
+
+    /**
+     * write value.
+     *
+     * <p>
+     * Called by {@link #writeCurrentColumn(TsurugiResultRecord)} for the columns other than boolean and numeric (int, long, float, double).
+     * </p>
+     *
+     * @param value value
+     * @throws IOException if an I/O error occurs while writing
+     */
+    protected void writeValue(@Nullable Object value) throws IOException {
+        if (value == null) {
+            switch (format) {
+            case TSV:
+                putBytes(TSV_NULL);
+                break;
+            case JSON_LINES:
+                putBytes(JSON_NULL);
+                break;
+            default:
+                break;
+            }
+            return;
+        }
+
+        if (value instanceof String) {
+            writeString((String) value);
+        } else if (value instanceof Integer || value instanceof Long) {
+            writeLong(((Number) value).longValue());
+        } else if (value instanceof Boolean) {
+            putBytes((Boolean) value ? TRUE : FALSE);
+        } else if (value instanceof Double) {
+            writeDouble((Double) value);
+        } else if (value instanceof Float) {
+            writeFloat((Float) value);
+        } else if (value instanceof BigDecimal) {
+            writeDecimal((BigDecimal) value);
+        } else if (value instanceof byte[]) {
+            writeHex((byte[]) value);
+        } else if (value instanceof boolean[]) {
+            writeBits((boolean[]) value);
+        } else if (value instanceof TemporalAccessor) {
+            writeTemporal((TemporalAccessor) value);
+        } else {
+            writeString(value.toString());
+        }
+    }
+
+    // same as Double.toString(). only integral values below 10^7 are encoded here, the others (such as 1.5 or 1.0E7) use Double.toString()
+    private void writeDouble(double value) throws IOException {
+        if (!Double.isFinite(value)) {
+            writeAscii(Double.toString(value), format == TgExportFormat.JSON_LINES);
+            return;
+        }
+        if (value == (long) value && Math.abs(value) < 1e7 && !isNegativeZero(value)) {
+            writeLong((long) value);
+            putByte((byte) '.');
+            putByte((byte) '0');
+            return;
+        }
+        writeAscii(Double.toString(value), false);
+    }
+
+    private void writeFloat(float value) throws IOException {
+        if (!Float.isFinite(value)) {
+            writeAscii(Float.toString(value), format == TgExportFormat.JSON_LINES);
+            return;
+        }
+        if (value == (long) value && Math.abs(value) < 1e7f && !isNegativeZero(value)) {
+            writeLong((long) value);
+            putByte((byte) '.');
+            putByte((byte) '0');
+            return;
+        }
+        writeAscii(Float.toString(value), false);
+    }
+
+    private static boolean isNegativeZero(double value) {
+        return value == 0 && Double.doubleToRawLongBits(value) != 0;
+    }
+
+    // same as BigDecimal.toPlainString()
+    private void writeDecimal(BigDecimal value) throws IOException {
+        int scale = value.scale();
+        var unscaled = value.unscaledValue();
+        if (scale < 0 || scale >= POW10.length || unscaled.bitLength() >= 63) {
+            writeAscii(value.toPlainString(), false);
+            return;
+        }
+        long u = unscaled.longValue();
+        if (scale == 0) {
+            writeLong(u);
+            return;
+        }
+        if (u < 0) {
+            putByte((byte) '-');
+            u = -u;
+        }
+        long pow = POW10[scale];
+        writeLong(u / pow);
+        putByte((byte) '.');
+        putDigits(u % pow, scale);
+    }
+
+    // same as toString() of java.time
+    private void writeTemporal(TemporalAccessor value) throws IOException {
+        boolean quote = (format == TgExportFormat.JSON_LINES);
+        if (quote) {
+            putByte((byte) '"');
+        }
+        if (value instanceof LocalDate) {
+            writeDate((LocalDate) value);
+        } else if (value instanceof LocalTime) {
+            writeTime((LocalTime) value);
+        } else if (value instanceof LocalDateTime) {
+            var dateTime = (LocalDateTime) value;
+            writeDate(dateTime.toLocalDate());
+            putByte((byte) 'T');
+            writeTime(dateTime.toLocalTime());
+        } else if (value instanceof OffsetTime) {
+            var time = (OffsetTime) value;
+            writeTime(time.toLocalTime());
+            writeAscii(time.getOffset().getId(), false);
+        } else if (value instanceof OffsetDateTime) {
+            var dateTime = (OffsetDateTime) value;
+            writeDate(dateTime.toLocalDate());
+            putByte((byte) 'T');
+            writeTime(dateTime.toLocalTime());
+            writeAscii(dateTime.getOffset().getId(), false);
+        } else {
+            writeAscii(value.toString(), false);
+        }
+        if (quote) {
+            putByte((byte) '"');
+        }
+    }
+
+    private void writeDate(LocalDate value) throws IOException {
+        int year = value.getYear();
+        if (year < 0 || year > 9999) {
+            writeAscii(value.toString(), false);
+            return;
+        }
+        putDigits(year, 4);
+        putByte((byte) '-');
+        putDigits(value.getMonthValue(), 2);
+        putByte((byte) '-');
+        putDigits(value.getDayOfMonth(), 2);
+    }
+
+    private void writeTime(LocalTime value) throws IOException {
+        putDigits(value.getHour(), 2);
+        putByte((byte) ':');
+        putDigits(value.getMinute(), 2);
+        int second = value.getSecond();
+        int nano = value.getNano();
+        if (second == 0 && nano == 0) {
+            return;
+        }
+        putByte((byte) ':');
+        putDigits(second, 2);
+        if (nano == 0) {
+            return;
+        }
+        putByte((byte) '.');
+        if (nano % 1000_000 == 0) {
+            putDigits(nano / 1000_000, 3);
+        } else if (nano % 1000 == 0) {
+            putDigits(nano / 1000, 6);
+        } else {
+            putDigits(nano, 9);
+        }
+    }
+
+    // zero-padded non-negative value
+    private void putDigits(long value, int width) throws IOException {
+        ensure(width);
+        int end = buffer.position() + width;
+        var array = buffer.array();
+        int offset = buffer.arrayOffset();
+        for (int i = end - 1; i >= end - width; i--) {
+            array[offset + i] = (byte) ('0' + (value % 10));
+            value /= 10;
+        }
+        buffer.position(end);
+    }
+
+    private void writeLong(long value) throws IOException {
+        if (value == Long.MIN_VALUE) {
+            writeAscii(Long.toString(value), false);
+            return;
+        }
+        ensure(20);
+        if (value < 0) {
+            buffer.put((byte) '-');
+            value = -value;
+        }
+        int start = buffer.position();
+        do {
+            buffer.put((byte) ('0' + (value % 10)));
+            value /= 10;
+        } while (value != 0);
+        // reverse digits
+        var array = buffer.array();
+        int offset = buffer.arrayOffset();
+        for (int i = offset + start, j = offset + buffer.position() - 1; i < j; i++, j--) {
+            byte b = array[i];
+            array[i] = array[j];
+            array[j] = b;
+        }
+    }
+
+    private void writeAscii(String s, boolean quote) throws IOException {
+        if (quote) {
+            putByte((byte) '"');
+        }
+        for (int i = 0; i < s.length(); i++) {
+            putByte((byte) s.charAt(i));
+        }
+        if (quote) {
+            putByte((byte) '"');
+        }
+    }
+
+    private void writeHex(byte[] value) throws IOException {
+        boolean quote = (format == TgExportFormat.JSON_LINES);
+        if (quote) {
+            putByte((byte) '"');
+        }
+        for (byte b : value) {
+            ensure(2);
+            buffer.put(HEX[(b >> 4) & 0xf]);
+            buffer.put(HEX[b & 0xf]);
+        }
+        if (quote) {
+            putByte((byte) '"');
+        }
+    }
+
+    private void writeBits(boolean[] value) throws IOException {
+        boolean quote = (format == TgExportFormat.JSON_LINES);
+        if (quote) {
+            putByte((byte) '"');
+        }
+        for (boolean b : value) {
+            putByte((byte) (b ? '1' : '0'));
+        }
+        if (quote) {
+            putByte((byte) '"');
+        }
+    }
+
+    private void writeString(String s) throws IOException {
+        switch (format) {
+        case CSV:
+            putByte((byte) '"');
+            for (int i = 0; i < s.length(); i++) {
+                char c = s.charAt(i);
+                if (c == '"') {
+                    putByte((byte) '"');
+                }
+                i = putChar(s, i, c);
+            }
+            putByte((byte) '"');
+            break;
+        case TSV:
+            for (int i = 0; i < s.length(); i++) {
+                char c = s.charAt(i);
+                switch (c) {
+                case '\t':
+                    putEscape('t');
+                    break;
+                case '\n':
+                    putEscape('n');
+                    break;
+                case '\r':
+                    putEscape('r');
+                    break;
+                case '\\':
+                    putEscape('\\');
+                    break;
+                default:
+                    i = putChar(s, i, c);
+                    break;
+                }
+            }
+            break;
+        case JSON_LINES:
+        default:
+            putByte((byte) '"');
+            for (int i = 0; i < s.length(); i++) {
+                char c = s.charAt(i);
+                switch (c) {
+                case '"':
+                    putEscape('"');
+                    break;
+                case '\\':
+                    putEscape('\\');
+                    break;
+                case '\n':
+                    putEscape('n');
+                    break;
+                case '\r':
+                    putEscape('r');
+                    break;
+                case '\t':
+                    putEscape('t');
+                    break;
+                default:
+                    if (c < 0x20) {
+                        ensure(6);
+                        buffer.put((byte) '\\').put((byte) 'u').put((byte) '0').put((byte) '0');
+                        buffer.put(HEX[c >> 4]).put(HEX[c & 0xf]);
+                    } else {
+                        i = putChar(s, i, c);
+                    }
+                    break;
+                }
+            }
+            putByte((byte) '"');
+            break;
+        }
+    }
+
+    private void putEscape(char c) throws IOException {
+        ensure(2);
+        buffer.put((byte) '\\').put((byte) c);
+    }
+
+    /**
+     * put a character as UTF-8.
+     *
+     * @return index of the last character consumed
+     */
+    private int putChar(String s, int i, char c) throws IOException {
+        ensure(4);
+        if (c < 0x80) {
+            buffer.put((byte) c);
+        } else if (c < 0x800) {
+            buffer.put((byte) (0xc0 | (c >> 6)));
+            buffer.put((byte) (0x80 | (c & 0x3f)));
+        } else if (Character.isHighSurrogate(c) && i + 1 < s.length() && Character.isLowSurrogate(s.charAt(i + 1))) {
+            int cp = Character.toCodePoint(c, s.charAt(i + 1));
+            buffer.put((byte) (0xf0 | (cp >> 18)));
+            buffer.put((byte) (0x80 | ((cp >> 12) & 0x3f)));
+            buffer.put((byte) (0x80 | ((cp >> 6) & 0x3f)));
+            buffer.put((byte) (0x80 | (cp & 0x3f)));
+            return i + 1;
+        } else if (Character.isSurrogate(c)) {
+            buffer.put((byte) '?');
+        } else {
+            buffer.put((byte) (0xe0 | (c >> 12)));
+            buffer.put((byte) (0x80 | ((c >> 6) & 0x3f)));
+            buffer.put((byte) (0x80 | (c & 0x3f)));
+        }
+        return i;
+    }
+
+    private void putByte(byte b) throws IOException {
+        ensure(1);
+        buffer.put(b);
+    }
+
+    private void putBytes(byte[] bytes) throws IOException {
+        int offset = 0;
+        while (offset < bytes.length) {
+            ensure(1);
+            int length = Math.min(buffer.remaining(), bytes.length - offset);
+            buffer.put(bytes, offset, length);
+            offset += length;
+        }
+    }
+
+    private void ensure(int size) throws IOException {
+        if (buffer.remaining() < size) {
+            flush();
+        }
+    }
+
+    /**
+     * flush the buffer to the channel.
+     *
+     * @throws IOException if an I/O error occurs while writing
+     */
+    public void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            byteCount += channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Flushes the buffer and closes the channel.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+}
@@ -29,12 +29,14 @@ import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
 import com.tsurugidb.iceaxe.sql.TgDataType;
 import com.tsurugidb.iceaxe.sql.result.TgResultMapping;
+import com.tsurugidb.iceaxe.sql.result.TgStringDeduplicator;
 import com.tsurugidb.iceaxe.sql.result.TsurugiResultRecord;
 import com.tsurugidb.iceaxe.sql.type.TgBlob;
 import com.tsurugidb.iceaxe.sql.type.TgBlobReference;
@@ -109,6 +111,11 @@ public class TgEntityResultMapping<R> extends TgResultMapping<R> {
         return (TgEntityResultMapping<R>) super.setConvertUtil(convertUtil);
     }
 
+    @Override
+    public TgEntityResultMapping<R> setStringDeduplication(int maxSize) {
+        return (TgEntityResultMapping<R>) super.setStringDeduplication(maxSize);
+    }
+
     // boolean
 
     /**
@@ -683,6 +690,52 @@ public class TgEntityResultMapping<R> extends TgResultMapping<R> {
         });
     }
 
+    /**
+     * add setter with string deduplication.
+     *
+     * @param setter       setter to R
+     * @param deduplicator string deduplicator
+     * @return this
+     * @see TgStringDeduplicator
+     * @since 1.17.0
+     */
+    public TgEntityResultMapping<R> addString(BiConsumer<R, String> setter, TgStringDeduplicator deduplicator) {
+        int index = columnConverterList.size();
+        return addString(index, setter, deduplicator);
+    }
+
+    /**
+     * add setter with string deduplication.
+     *
+     * @param index        column index
+     * @param setter       setter to R
+     * @param deduplicator string deduplicator
+     * @return this
+     * @see TgStringDeduplicator
+     * @since 1.17.0
+     */
+    public TgEntityResultMapping<R> addString(int index, BiConsumer<R, String> setter, TgStringDeduplicator deduplicator) {
+        Objects.requireNonNull(deduplicator);
+        set(index, record -> deduplicator.deduplicate(record.nextStringOrNull()), setter);
+        return this;
+    }
+
+    /**
+     * add setter with string deduplication.
+     *
+     * @param name         column name
+     * @param setter       setter to R
+     * @param deduplicator string deduplicator
+     * @return this
+     * @see TgStringDeduplicator
+     * @since 1.17.0
+     */
+    public TgEntityResultMapping<R> addString(String name, BiConsumer<R, String> setter, TgStringDeduplicator deduplicator) {
+        Objects.requireNonNull(deduplicator);
+        set(name, record -> deduplicator.deduplicate(record.nextStringOrNull()), setter);
+        return this;
+    }
+
     // byte[]
 
     /**
@@ -27,6 +27,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.tsurugidb.iceaxe.exception.IceaxeErrorCode;
+import com.tsurugidb.iceaxe.jfr.TsurugiLobDownloadJfrEvent;
 import com.tsurugidb.iceaxe.session.TgSessionOption.TgTimeoutKey;
 import com.tsurugidb.iceaxe.transaction.TsurugiTransaction;
 import com.tsurugidb.iceaxe.transaction.exception.TsurugiTransactionException;
@@ -133,10 +134,14 @@ public class TgBlobReference implements IceaxeTimeoutCloseable {
      */
     public void copyTo(Path destination) throws IOException, InterruptedException, TsurugiTransactionException {
         LOG.trace("SqlClient.copyTo start");
+        var jfrEvent = TsurugiLobDownloadJfrEvent.beginIfEnabled();
         var future = getLowTransaction().copyTo(lowReference, destination);
         LOG.trace("SqlClient.copyTo started");
         IceaxeIoUtil.getAndCloseFutureInTransaction(future, timeout, IceaxeErrorCode.BLOB_GET_TIMEOUT, IceaxeErrorCode.BLOB_CLOSE_TIMEOUT);
         LOG.trace("SqlClient.copyTo end");
+        if (jfrEvent != null) {
+            TsurugiLobDownloadJfrEvent.emit(jfrEvent, "BLOB", "copyTo", Files.size(destination));
+        }
     }
 
     /**
@@ -173,8 +178,11 @@ public class TgBlobReference implements IceaxeTimeoutCloseable {
      * @throws TsurugiTransactionException if server error occurs while processing the request
      */
     public byte[] readAllBytes() throws IOException, InterruptedException, TsurugiTransactionException {
+        var jfrEvent = TsurugiLobDownloadJfrEvent.beginIfEnabled();
         try (var is = openInputStream()) {
-            return is.readAllBytes();
+            byte[] value = is.readAllBytes();
+            TsurugiLobDownloadJfrEvent.emit(jfrEvent, "BLOB", "readAllBytes", value.length);
+            return value;
         }
     }
 
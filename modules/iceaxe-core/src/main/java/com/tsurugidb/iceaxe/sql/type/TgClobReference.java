@@ -27,6 +27,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.tsurugidb.iceaxe.exception.IceaxeErrorCode;
+import com.tsurugidb.iceaxe.jfr.TsurugiLobDownloadJfrEvent;
 import com.tsurugidb.iceaxe.session.TgSessionOption.TgTimeoutKey;
 import com.tsurugidb.iceaxe.transaction.TsurugiTransaction;
 import com.tsurugidb.iceaxe.transaction.exception.TsurugiTransactionException;
@@ -134,10 +135,14 @@ public class TgClobReference implements IceaxeTimeoutCloseable {
      */
     public void copyTo(Path destination) throws IOException, InterruptedException, TsurugiTransactionException {
         LOG.trace("SqlClient.copyTo start");
+        var jfrEvent = TsurugiLobDownloadJfrEvent.beginIfEnabled();
         var future = getLowTransaction().copyTo(lowReference, destination);
         LOG.trace("SqlClient.copyTo started");
         IceaxeIoUtil.getAndCloseFutureInTransaction(future, timeout, IceaxeErrorCode.CLOB_GET_TIMEOUT, IceaxeErrorCode.CLOB_CLOSE_TIMEOUT);
         LOG.trace("SqlClient.copyTo end");
+        if (jfrEvent != null) {
+            TsurugiLobDownloadJfrEvent.emit(jfrEvent, "CLOB", "copyTo", Files.size(destination));
+        }
     }
 
     /**
@@ -174,8 +179,11 @@ public class TgClobReference implements IceaxeTimeoutCloseable {
      * @throws TsurugiTransactionException if server error occurs while processing the request
      */
     public String readString() throws IOException, InterruptedException, TsurugiTransactionException {
+        var jfrEvent = TsurugiLobDownloadJfrEvent.beginIfEnabled();
         try (var reader = openReader()) {
-            return IceaxeFileUtil.readString(reader);
+            String value = IceaxeFileUtil.readString(reader);
+            TsurugiLobDownloadJfrEvent.emit(jfrEvent, "CLOB", "readString", value.length());
+            return value;
         }
     }
 
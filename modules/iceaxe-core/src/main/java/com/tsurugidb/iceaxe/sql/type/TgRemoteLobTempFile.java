@@ -49,9 +49,20 @@ public class TgRemoteLobTempFile extends TgRemoteLobInfo {
     @OverridingMethodsMustInvokeSuper
     public void close(long timeoutNanos) throws IOException {
         try {
-            Files.deleteIfExists(path);
+            deleteTempFile(path);
         } finally {
             super.close(timeoutNanos);
         }
     }
+
+    /**
+     * Deletes the temporary file.
+     *
+     * @param path temporary file
+     * @throws IOException if an I/O error occurs
+     * @since 1.17.0
+     */
+    protected void deleteTempFile(Path path) throws IOException {
+        Files.deleteIfExists(path);
+    }
 }
@@ -24,10 +24,12 @@ import java.util.concurrent.TimeUnit;
 
 import javax.annotation.Nullable;
 
+import com.tsurugidb.iceaxe.lob.TsurugiLargeObjectUpload;
 import com.tsurugidb.iceaxe.session.TgSessionOption;
 import com.tsurugidb.iceaxe.session.TgSessionOption.TgTimeoutKey;
 import com.tsurugidb.iceaxe.session.TsurugiSession;
 import com.tsurugidb.iceaxe.transaction.exception.TsurugiTransactionException;
+import com.tsurugidb.iceaxe.util.IceaxeInternal;
 import com.tsurugidb.iceaxe.util.IceaxeTimeout;
 import com.tsurugidb.iceaxe.util.TgTimeValue;
 
@@ -833,4 +835,36 @@ public class TsurugiLobFactory {
 
         return value.upload(session, timeout);
     }
+
+    /**
+     * Start uploading BLOB.
+     *
+     * @param value BLOB
+     * @return upload in progress
+     * @throws IOException          when I/O error occurs
+     * @throws InterruptedException when interrupted while waiting for I/O operation
+     * @since 1.17.0
+     */
+    @IceaxeInternal
+    public TsurugiLargeObjectUpload<TgRemoteBlob> startUploadBlob(TgBlob value) throws IOException, InterruptedException {
+        var helper = session.getLargeObjectHelper();
+        var t = getBlobUploadTimeout(null);
+        return helper.startUploadBlob(session, value, t);
+    }
+
+    /**
+     * Start uploading CLOB.
+     *
+     * @param value CLOB
+     * @return upload in progress
+     * @throws IOException          when I/O error occurs
+     * @throws InterruptedException when interrupted while waiting for I/O operation
+     * @since 1.17.0
+     */
+    @IceaxeInternal
+    public TsurugiLargeObjectUpload<TgRemoteClob> startUploadClob(TgClob value) throws IOException, InterruptedException {
+        var helper = session.getLargeObjectHelper();
+        var t = getClobUploadTimeout(null);
+        return helper.startUploadClob(session, value, t);
+    }
 }
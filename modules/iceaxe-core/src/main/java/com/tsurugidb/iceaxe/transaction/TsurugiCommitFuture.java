@@ -0,0 +1,421 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.iceaxe.transaction;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.tsurugidb.iceaxe.exception.IceaxeErrorCode;
+import com.tsurugidb.iceaxe.exception.IceaxeIOException;
+import com.tsurugidb.iceaxe.transaction.exception.TsurugiTransactionException;
+import com.tsurugidb.iceaxe.transaction.status.TgTxStatus;
+
+/**
+ * Tsurugi commit future.
+ *
+ * <p>
+ * Handle of the commit of a transaction. The future of each {@link TgCommitType} (durability level) is available.
+ * </p>
+ * <p>
+ * The server notifies the commit only once (at the requested commit type), so the levels higher than the requested commit type are observed by polling the
+ * transaction status. They cannot be observed if the commit option is {@link TgCommitOption#autoDispose() autoDispose}.
+ * </p>
+ * <p>
+ * The polling of all transactions shares a scheduler of {@value #POLLING_THREAD_SIZE} daemon threads. The interval starts at 0.5 ms and doubles up to 100 ms.
+ * The response of the commit itself is waited in the executor given to {@link TsurugiTransaction#commitAsync(TgCommitOption, Executor)}. The
+ * {@link #defaultExecutor() default executor} has at most {@value #DEFAULT_EXECUTOR_THREAD_SIZE} daemon threads, and the commits beyond that wait in its queue
+ * until a thread becomes free.
+ * </p>
+ *
+ * @see TsurugiTransaction#commitAsync(TgCommitOption)
+ * @see TsurugiTransaction#getCommitFuture()
+ * @since 1.17.0
+ */
+public class TsurugiCommitFuture {
+    private static final Logger LOG = LoggerFactory.getLogger(TsurugiCommitFuture.class);
+
+    private static final long POLLING_INTERVAL_MIN_NANOS = TimeUnit.MICROSECONDS.toNanos(500);
+    private static final long POLLING_INTERVAL_MAX_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final int LEVEL_ABORTED = -2;
+
+    /** number of threads for polling transaction status */
+    static final int POLLING_THREAD_SIZE = 2;
+    /** maximum number of threads for waiting commit response in the default executor */
+    static final int DEFAULT_EXECUTOR_THREAD_SIZE = 8;
+
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger(0);
+    private static final ExecutorService DEFAULT_EXECUTOR = createDefaultExecutor();
+
+    private static ExecutorService createDefaultExecutor() {
+        var executor = new ThreadPoolExecutor(DEFAULT_EXECUTOR_THREAD_SIZE, DEFAULT_EXECUTOR_THREAD_SIZE, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            var thread = new Thread(runnable, "iceaxe-commit-" + THREAD_COUNT.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private static final AtomicInteger POLLING_THREAD_COUNT = new AtomicInteger(0);
+    private static final ScheduledExecutorService POLLING_EXECUTOR = createPollingExecutor();
+
+    private static ScheduledExecutorService createPollingExecutor() {
+        var executor = new ScheduledThreadPoolExecutor(POLLING_THREAD_SIZE, runnable -> {
+            var thread = new Thread(runnable, "iceaxe-commit-poll-" + POLLING_THREAD_COUNT.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.setRemoveOnCancelPolicy(true);
+        return executor;
+    }
+
+    /**
+     * get default executor.
+     *
+     * <p>
+     * The threads are created on demand up to {@value #DEFAULT_EXECUTOR_THREAD_SIZE} and kept alive for 60 seconds after use.
+     * </p>
+     *
+     * @return executor (daemon threads)
+     */
+    public static Executor defaultExecutor() {
+        return DEFAULT_EXECUTOR;
+    }
+
+    private final TsurugiTransaction transaction;
+    private final TgCommitOption commitOption;
+    private final Executor executor;
+    private final long start;
+    private final long timeoutNanos;
+    private final CompletableFuture<Void> commitFuture = new CompletableFuture<>();
+    private final Map<TgCommitType, CompletableFuture<Void>> levelFutureMap = new EnumMap<>(TgCommitType.class);
+    private int pendingCount;
+    private Runnable idleAction = null;
+    private boolean released = false;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param transaction  transaction
+     * @param commitOption commit option
+     * @param executor     executor for waiting
+     * @param timeoutNanos timeout of each level (from now)
+     * @param pending      {@code true} if the commit is in progress
+     */
+    TsurugiCommitFuture(TsurugiTransaction transaction, TgCommitOption commitOption, Executor executor, long timeoutNanos, boolean pending) {
+        this.transaction = transaction;
+        this.commitOption = commitOption;
+        this.executor = executor;
+        this.start = System.nanoTime();
+        this.timeoutNanos = timeoutNanos;
+        if (pending) {
+            this.pendingCount = 1;
+        } else {
+            this.pendingCount = 0;
+            commitFuture.complete(null);
+        }
+    }
+
+    /**
+     * get transaction.
+     *
+     * @return transaction
+     */
+    public TsurugiTransaction getTransaction() {
+        return this.transaction;
+    }
+
+    /**
+     * get commit option.
+     *
+     * @return commit option
+     */
+    public TgCommitOption getCommitOption() {
+        return this.commitOption;
+    }
+
+    /**
+     * get future of the requested commit type.
+     *
+     * @return future
+     */
+    public CompletableFuture<Void> getFuture() {
+        return this.commitFuture;
+    }
+
+    /**
+     * get future of the commit type.
+     *
+     * @param commitType commit type
+     * @return future (completes when the commit type is reached)
+     * @throws IllegalArgumentException if the commit type cannot be observed
+     */
+    public CompletableFuture<Void> getFuture(@Nonnull TgCommitType commitType) {
+        int level = level(commitType);
+        if (level <= level(commitOption.commitType())) {
+            return this.commitFuture;
+        }
+        if (commitOption.autoDispose()) {
+            throw new IllegalArgumentException("commitType higher than requested cannot be observed with autoDispose. commitType=" + commitType);
+        }
+
+        CompletableFuture<Void> future;
+        synchronized (this) {
+            future = levelFutureMap.get(commitType);
+            if (future != null) {
+                return future;
+            }
+            future = new CompletableFuture<>();
+            levelFutureMap.put(commitType, future);
+            if (this.released) {
+                future.completeExceptionally(new IceaxeIOException(IceaxeErrorCode.TX_ALREADY_CLOSED));
+                return future;
+            }
+            pendingCount++;
+        }
+
+        var levelFuture = future;
+        commitFuture.whenComplete((v, e) -> {
+            if (e != null) {
+                levelFuture.completeExceptionally(e);
+                done();
+                return;
+            }
+            try {
+                POLLING_EXECUTOR.execute(() -> poll(commitType, levelFuture, POLLING_INTERVAL_MIN_NANOS));
+            } catch (Throwable t) {
+                levelFuture.completeExceptionally(t);
+                done();
+            }
+        });
+        return future;
+    }
+
+    /**
+     * wait for the requested commit type.
+     *
+     * @throws IOException                 if an I/O error occurs while commit
+     * @throws InterruptedException        if interrupted while waiting
+     * @throws TsurugiTransactionException if server error occurs while commit
+     */
+    public void await() throws IOException, InterruptedException, TsurugiTransactionException {
+        await(commitFuture);
+    }
+
+    /**
+     * wait for the commit type.
+     *
+     * @param commitType commit type
+     * @throws IOException                 if an I/O error occurs while commit
+     * @throws InterruptedException        if interrupted while waiting
+     * @throws TsurugiTransactionException if server error occurs while commit
+     */
+    public void await(@Nonnull TgCommitType commitType) throws IOException, InterruptedException, TsurugiTransactionException {
+        await(getFuture(commitType));
+    }
+
+    private static void await(CompletableFuture<Void> future) throws IOException, InterruptedException, TsurugiTransactionException {
+        try {
+            future.get();
+        } catch (ExecutionException e) {
+            var cause = e.getCause();
+            if (cause instanceof CompletionException && cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof TsurugiTransactionException) {
+                throw (TsurugiTransactionException) cause;
+            }
+            if (cause instanceof InterruptedException) {
+                throw (InterruptedException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    /**
+     * Whether the commit or the observation of any level is in progress.
+     *
+     * @return {@code true} if in progress
+     */
+    public synchronized boolean isPending() {
+        return this.pendingCount > 0;
+    }
+
+    // internal
+
+    /**
+     * notify commit end.
+     *
+     * @param e exception ({@code null} if success)
+     */
+    void complete(@Nullable Throwable e) {
+        if (e == null) {
+            commitFuture.complete(null);
+        } else {
+            commitFuture.completeExceptionally(e);
+        }
+        done();
+    }
+
+    /**
+     * execute action when all pending tasks are completed.
+     *
+     * @param action action
+     * @return {@code true} if deferred, {@code false} if no tasks are pending (the action is not executed)
+     */
+    synchronized boolean deferUntilIdle(Runnable action) {
+        if (this.pendingCount <= 0) {
+            this.released = true;
+            return false;
+        }
+        this.idleAction = action;
+        return true;
+    }
+
+    /**
+     * execute action.
+     *
+     * @param action action
+     */
+    void execute(Runnable action) {
+        executor.execute(action);
+    }
+
+    private void done() {
+        Runnable action;
+        synchronized (this) {
+            if (--pendingCount > 0) {
+                return;
+            }
+            action = this.idleAction;
+            if (action == null) {
+                return;
+            }
+            this.idleAction = null;
+            this.released = true;
+        }
+        action.run();
+    }
+
+    // one polling step. the next step is scheduled instead of sleeping, so that a polling thread is not occupied while waiting
+    private void poll(TgCommitType commitType, CompletableFuture<Void> future, long interval) {
+        boolean finished = true;
+        try {
+            var status = transaction.getSession().getTransactionStatusHelper().getTransactionStatus(transaction);
+            int level = level(status);
+            if (level >= level(commitType)) {
+                LOG.trace("commit {} reached. tx={}", commitType, transaction);
+                future.complete(null);
+                return;
+            }
+            if (level == LEVEL_ABORTED) {
+                var e = status.getTransactionException();
+                if (e != null) {
+                    future.completeExceptionally(e);
+                } else {
+                    future.completeExceptionally(new IceaxeIOException(IceaxeErrorCode.TX_COMMIT_DURABILITY_ABORTED));
+                }
+                return;
+            }
+
+            long elapsed = System.nanoTime() - start;
+            if (elapsed >= timeoutNanos) {
+                future.completeExceptionally(new IceaxeIOException(IceaxeErrorCode.TX_COMMIT_DURABILITY_TIMEOUT));
+                return;
+            }
+            long delay = Math.min(interval, timeoutNanos - elapsed);
+            long nextInterval = Math.min(interval * 2, POLLING_INTERVAL_MAX_NANOS);
+            POLLING_EXECUTOR.schedule(() -> poll(commitType, future, nextInterval), delay, TimeUnit.NANOSECONDS);
+            finished = false;
+        } catch (Throwable e) {
+            future.completeExceptionally(e);
+        } finally {
+            if (finished) {
+                done();
+            }
+        }
+    }
+
+    static int level(TgCommitType commitType) {
+        switch (commitType) {
+        case AVAILABLE:
+            return 1;
+        case STORED:
+            return 2;
+        case PROPAGATED:
+            return 3;
+        case DEFAULT:
+        case ACCEPTED:
+        default:
+            return 0;
+        }
+    }
+
+    static int level(TgTxStatus status) {
+        if (status.isError()) {
+            return LEVEL_ABORTED;
+        }
+        var lowStatus = status.getLowTransactionStatus();
+        if (lowStatus == null) {
+            return -1;
+        }
+        switch (lowStatus) {
+        case AVAILABLE:
+            return 1;
+        case STORED:
+            return 2;
+        case PROPAGATED:
+            return 3;
+        case ABORTING:
+        case ABORTED:
+            return LEVEL_ABORTED;
+        default:
+            return -1;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "TsurugiCommitFuture(" + commitOption + ", done=" + commitFuture.isDone() + ")";
+    }
+}
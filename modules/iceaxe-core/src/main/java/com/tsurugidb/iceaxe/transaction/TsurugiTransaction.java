@@ -16,12 +16,13 @@
 package com.tsurugidb.iceaxe.transaction;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
@@ -34,6 +35,9 @@ import org.slf4j.LoggerFactory;
 
 import com.tsurugidb.iceaxe.exception.IceaxeErrorCode;
 import com.tsurugidb.iceaxe.exception.IceaxeIOException;
+import com.tsurugidb.iceaxe.jfr.TsurugiTransactionBeginJfrEvent;
+import com.tsurugidb.iceaxe.jfr.TsurugiTransactionCommitJfrEvent;
+import com.tsurugidb.iceaxe.jfr.TsurugiTransactionRollbackJfrEvent;
 import com.tsurugidb.iceaxe.session.TgSessionOption;
 import com.tsurugidb.iceaxe.session.TgSessionOption.TgTimeoutKey;
 import com.tsurugidb.iceaxe.session.TsurugiSession;
@@ -49,11 +53,14 @@ import com.tsurugidb.iceaxe.transaction.exception.TsurugiTransactionException;
 import com.tsurugidb.iceaxe.transaction.manager.TsurugiTransactionManager;
 import com.tsurugidb.iceaxe.transaction.option.TgTxOption;
 import com.tsurugidb.iceaxe.transaction.status.TgTxStatus;
+import com.tsurugidb.iceaxe.util.IceaxeBackgroundDisposer;
 import com.tsurugidb.iceaxe.util.IceaxeCloseableSet;
+import com.tsurugidb.iceaxe.util.IceaxeEventListenerList;
 import com.tsurugidb.iceaxe.util.IceaxeInternal;
 import com.tsurugidb.iceaxe.util.IceaxeIoUtil;
 import com.tsurugidb.iceaxe.util.IceaxeTimeout;
 import com.tsurugidb.iceaxe.util.IceaxeTimeoutCloseable;
+import com.tsurugidb.iceaxe.util.TgDeadline;
 import com.tsurugidb.iceaxe.util.TgTimeValue;
 import com.tsurugidb.iceaxe.util.function.IoFunction;
 import com.tsurugidb.iceaxe.util.function.TsurugiTransactionConsumer;
@@ -86,9 +93,12 @@ public class TsurugiTransaction implements IceaxeTimeoutCloseable {
     private final IceaxeTimeout commitTimeout;
     private final IceaxeTimeout rollbackTimeout;
     private final IceaxeTimeout closeTimeout;
-    private List<TsurugiTransactionEventListener> eventListenerList = null;
+    private TgDeadline deadline = null;
+    private volatile IceaxeEventListenerList<TsurugiTransactionEventListener> eventListenerList = IceaxeEventListenerList.none();
     private boolean finishCalled = false;
     private boolean committed = false;
+    private TgCommitOption commitOption = null;
+    private TsurugiCommitFuture commitFuture = null;
     private boolean rollbacked = false;
     private final IceaxeCloseableSet closeableSet = new IceaxeCloseableSet();
     private volatile boolean closed = false;
@@ -311,6 +321,34 @@ public class TsurugiTransaction implements IceaxeTimeoutCloseable {
         closeTimeout.set(timeout);
     }
 
+    /**
+     * set deadline.
+     *
+     * <p>
+     * Begin, commit, rollback, and the execution of SQL (including fetch) in this transaction get {@code min(their own timeout, remaining time)}. Close is
+     * not limited.
+     * </p>
+     *
+     * @param deadline deadline ({@code null} if not limited)
+     * @since 1.17.0
+     */
+    public void setDeadline(@Nullable TgDeadline deadline) {
+        this.deadline = deadline;
+        beginTimeout.setDeadline(deadline);
+        commitTimeout.setDeadline(deadline);
+        rollbackTimeout.setDeadline(deadline);
+    }
+
+    /**
+     * get deadline.
+     *
+     * @return deadline
+     * @since 1.17.0
+     */
+    public @Nullable TgDeadline getDeadline() {
+        return this.deadline;
+    }
+
     /**
      * add event listener.
      *
@@ -318,10 +356,9 @@ public class TsurugiTransaction implements IceaxeTimeoutCloseable {
      * @return this
      */
     public TsurugiTransaction addEventListener(TsurugiTransactionEventListener listener) {
-        if (this.eventListenerList == null) {
-            this.eventListenerList = new ArrayList<>();
+        synchronized (this) {
+            this.eventListenerList = eventListenerList.add(listener);
         }
-        eventListenerList.add(listener);
         return this;
     }
 
@@ -333,31 +370,11 @@ public class TsurugiTransaction implements IceaxeTimeoutCloseable {
      * @since 1.3.0
      */
     public Optional<TsurugiTransactionEventListener> findEventListener(Predicate<TsurugiTransactionEventListener> predicate) {
-        var listenerList = this.eventListenerList;
-        if (listenerList != null) {
-            for (var listener : listenerList) {
-                if (predicate.test(listener)) {
-                    return Optional.of(listener);
-                }
-            }
-        }
-        return Optional.empty();
+        return eventListenerList.find(predicate);
     }
 
     private void event(Throwable occurred, Consumer<TsurugiTransactionEventListener> action) {
-        var listenerList = this.eventListenerList;
-        if (listenerList != null) {
-            try {
-                for (var listener : listenerList) {
-                    action.accept(listener);
-                }
-            } catch (Throwable e) {
-                if (occurred != null) {
-                    e.addSuppressed(occurred);
-                }
-                throw e;
-            }
-        }
+        eventListenerList.event(occurred, action);
     }
 
     /**
@@ -393,14 +410,20 @@ public class TsurugiTransaction implements IceaxeTimeoutCloseable {
             }
 
             LOG.trace("lowTransaction get start");
-            event(null, listener -> listener.lowTransactionGetStart(this));
+            if (eventListenerList.exists()) {
+                event(null, listener -> listener.lowTransactionGetStart(this));
+            }
+            var jfrEvent = TsurugiTransactionBeginJfrEvent.beginIfEnabled();
             try {
                 this.lowTransaction = IceaxeIoUtil.getAndCloseFuture(lowTransactionFuture, //
                         beginTimeout, IceaxeErrorCode.TX_BEGIN_TIMEOUT, //
                         IceaxeErrorCode.TX_CLOSE_TIMEOUT);
             } catch (Throwable e) {
                 this.lowFutureException = e;
-                event(e, listener -> listener.lowTransactionGetEnd(this, null, e));
+                TsurugiTransactionBeginJfrEvent.emit(jfrEvent, this, null);
+                if (eventListenerList.exists()) {
+                    event(e, listener -> listener.lowTransactionGetEnd(this, null, e));
+                }
                 throw e;
             }
             LOG.trace("lowTransaction get end");
@@ -408,7 +431,10 @@ public class TsurugiTransaction implements IceaxeTimeoutCloseable {
             this.lowTransactionFuture = null;
 
             this.transactionId = lowTransaction.getTransactionId();
-            event(null, listener -> listener.lowTransactionGetEnd(this, transactionId, null));
+            TsurugiTransactionBeginJfrEvent.emit(jfrEvent, this, transactionId);
+            if (eventListenerList.exists()) {
+                event(null, listener -> listener.lowTransactionGetEnd(this, transactionId, null));
+            }
         }
         return this.lowTransaction;
     }
@@ -493,7 +519,9 @@ public class TsurugiTransaction implements IceaxeTimeoutCloseable {
         var method = TgTxMethod.EXECUTE_DDL;
         int txExecuteId = getNewIceaxeTxExecuteId();
         try (var ps = ownerSession.createStatement(sql)) {
-            event(null, listener -> listener.executeStart(this, method, txExecuteId, ps, null));
+            if (eventListenerList.exists()) {
+                event(null, listener -> listener.executeStart(this, method, txExecuteId, ps, null));
+            }
 
             TsurugiStatementResult result = null;
             Throwable occurred = null;
@@ -510,7 +538,9 @@ public class TsurugiTransaction implements IceaxeTimeoutCloseable {
             } finally {
                 var finalResult = result;
                 var finalOccurred = occurred;
-                event(occurred, listener -> listener.executeEnd(this, method, txExecuteId, ps, null, finalResult, finalOccurred));
+                if (eventListenerList.exists()) {
+                    event(occurred, listener -> listener.executeEnd(this, method, txExecuteId, ps, null, finalResult, finalOccurred));
+                }
             }
         }
     }
@@ -531,7 +561,9 @@ public class TsurugiTransaction implements IceaxeTimeoutCloseable {
     public <R> TsurugiQueryResult<R> executeQuery(TsurugiSqlQuery<R> ps) throws IOException, InterruptedException, TsurugiTransactionException {
         var method = TgTxMethod.EXECUTE_QUERY;
         int txExecuteId = getNewIceaxeTxExecuteId();
-        event(null, listener -> listener.executeStart(this, method, txExecuteId, ps, null));
+        if (eventListenerList.exists()) {
+            event(null, listener -> listener.executeStart(this, method, txExecuteId, ps, null));
+        }
 
         TsurugiQueryResult<R> result = null;
         Throwable occurred = null;
@@ -548,7 +580,9 @@ public class TsurugiTransaction implements IceaxeTimeoutCloseable {
         } finally {
             var finalResult = result;
             var finalOccurred = occurred;
-            event(occurred, listener -> listener.executeEnd(this, method, txExecuteId, ps, null, finalResult, finalOccurred));
+            if (eventListenerList.exists()) {
+                event(occurred, listener -> listener.executeEnd(this, method, txExecuteId, ps, null, finalResult, finalOccurred));
+            }
         }
     }
 
@@ -570,7 +604,9 @@ public class TsurugiTransaction implements IceaxeTimeoutCloseable {
     public <P, R> TsurugiQueryResult<R> executeQuery(TsurugiSqlPreparedQuery<P, R> ps, P parameter) throws IOException, InterruptedException, TsurugiTransactionException {
         var method = TgTxMethod.EXECUTE_QUERY;
         int txExecuteId = getNewIceaxeTxExecuteId();
-        event(null, listener -> listener.executeStart(this, method, txExecuteId, ps, parameter));
+        if (eventListenerList.exists()) {
+            event(null, listener -> listener.executeStart(this, method, txExecuteId, ps, parameter));
+        }
 
         TsurugiQueryResult<R> result = null;
         Throwable occurred = null;
@@ -587,7 +623,9 @@ public class TsurugiTransaction implements IceaxeTimeoutCloseable {
         } finally {
             var finalResult = result;
             var finalOccurred = occurred;
-            event(occurred, listener -> listener.executeEnd(this, method, txExecuteId, ps, parameter, finalResult, finalOccurred));
+            if (eventListenerList.exists()) {
+                event(occurred, listener -> listener.executeEnd(this, method, txExecuteId, ps, parameter, finalResult, finalOccurred));
+            }
         }
     }
 
@@ -604,7 +642,9 @@ public class TsurugiTransaction implements IceaxeTimeoutCloseable {
     public TsurugiStatementResult executeStatement(TsurugiSqlStatement ps) throws IOException, InterruptedException, TsurugiTransactionException {
         var method = TgTxMethod.EXECUTE_STATEMENT;
         int txExecuteId = getNewIceaxeTxExecuteId();
-        event(null, listener -> listener.executeStart(this, method, txExecuteId, ps, null));
+        if (eventListenerList.exists()) {
+            event(null, listener -> listener.executeStart(this, method, txExecuteId, ps, null));
+        }
 
         TsurugiStatementResult result = null;
         Throwable occurred = null;
@@ -621,7 +661,9 @@ public class TsurugiTransaction implements IceaxeTimeoutCloseable {
         } finally {
             var finalResult = result;
             var finalOccurred = occurred;
-            event(occurred, listener -> listener.executeEnd(this, method, txExecuteId, ps, null, finalResult, finalOccurred));
+            if (eventListenerList.exists()) {
+                event(occurred, listener -> listener.executeEnd(this, method, txExecuteId, ps, null, finalResult, finalOccurred));
+            }
         }
     }
 
@@ -640,7 +682,9 @@ public class TsurugiTransaction implements IceaxeTimeoutCloseable {
     public <P> TsurugiStatementResult executeStatement(TsurugiSqlPreparedStatement<P> ps, P parameter) throws IOException, InterruptedException, TsurugiTransactionException {
         var method = TgTxMethod.EXECUTE_STATEMENT;
         int txExecuteId = getNewIceaxeTxExecuteId();
-        event(null, listener -> listener.executeStart(this, method, txExecuteId, ps, parameter));
+        if (eventListenerList.exists()) {
+            event(null, listener -> listener.executeStart(this, method, txExecuteId, ps, parameter));
+        }
 
         TsurugiStatementResult result = null;
         Throwable occurred = null;
@@ -657,7 +701,9 @@ public class TsurugiTransaction implements IceaxeTimeoutCloseable {
         } finally {
             var finalResult = result;
             var finalOccurred = occurred;
-            event(occurred, listener -> listener.executeEnd(this, method, txExecuteId, ps, parameter, finalResult, finalOccurred));
+            if (eventListenerList.exists()) {
+                event(occurred, listener -> listener.executeEnd(this, method, txExecuteId, ps, parameter, finalResult, finalOccurred));
+            }
         }
     }
 
@@ -676,7 +722,9 @@ public class TsurugiTransaction implements IceaxeTimeoutCloseable {
     public <P> TsurugiStatementResult executeBatch(TsurugiSqlPreparedStatement<P> ps, Collection<P> parameterList) throws IOException, InterruptedException, TsurugiTransactionException {
         var method = TgTxMethod.EXECUTE_BATCH;
         int txExecuteId = getNewIceaxeTxExecuteId();
-        event(null, listener -> listener.executeStart(this, method, txExecuteId, ps, parameterList));
+        if (eventListenerList.exists()) {
+            event(null, listener -> listener.executeStart(this, method, txExecuteId, ps, parameterList));
+        }
 
         TsurugiStatementResult result = null;
         Throwable occurred = null;
@@ -693,7 +741,9 @@ public class TsurugiTransaction implements IceaxeTimeoutCloseable {
         } finally {
             var finalResult = result;
             var finalOccurred = occurred;
-            event(occurred, listener -> listener.executeEnd(this, method, txExecuteId, ps, parameterList, finalResult, finalOccurred));
+            if (eventListenerList.exists()) {
+                event(occurred, listener -> listener.executeEnd(this, method, txExecuteId, ps, parameterList, finalResult, finalOccurred));
+            }
         }
     }
 
@@ -710,7 +760,9 @@ public class TsurugiTransaction implements IceaxeTimeoutCloseable {
     public <R> void executeAndForEach(TsurugiSqlQuery<R> ps, TsurugiTransactionConsumer<R> action) throws IOException, InterruptedException, TsurugiTransactionException {
         var method = TgTxMethod.EXECUTE_FOR_EACH;
         int txExecuteId = getNewIceaxeTxExecuteId();
-        event(null, listener -> listener.executeStart(this, method, txExecuteId, ps, null));
+        if (eventListenerList.exists()) {
+            event(null, listener -> listener.executeStart(this, method, txExecuteId, ps, null));
+        }
 
         TsurugiQueryResult<R> result = null;
         Throwable occurred = null;
@@ -727,7 +779,9 @@ public class TsurugiTransaction implements IceaxeTimeoutCloseable {
         } finally {
             var finalResult = result;
             var finalOccurred = occurred;
-            event(occurred, listener -> listener.executeEnd(this, method, txExecuteId, ps, null, finalResult, finalOccurred));
+            if (eventListenerList.exists()) {
+                event(occurred, listener -> listener.executeEnd(this, method, txExecuteId, ps, null, finalResult, finalOccurred));
+            }
         }
     }
 
@@ -746,7 +800,9 @@ public class TsurugiTransaction implements IceaxeTimeoutCloseable {
     public <P, R> void executeAndForEach(TsurugiSqlPreparedQuery<P, R> ps, P parameter, TsurugiTransactionConsumer<R> action) throws IOException, InterruptedException, TsurugiTransactionException {
         var method = TgTxMethod.EXECUTE_FOR_EACH;
         int txExecuteId = getNewIceaxeTxExecuteId();
-        event(null, listener -> listener.executeStart(this, method, txExecuteId, ps, parameter));
+        if (eventListenerList.exists()) {
+            event(null, listener -> listener.executeStart(this, method, txExecuteId, ps, parameter));
+        }
 
         TsurugiQueryResult<R> result = null;
         Throwable occurred = null;
@@ -763,7 +819,9 @@ public class TsurugiTransaction implements IceaxeTimeoutCloseable {
         } finally {
             var finalResult = result;
             var finalOccurred = occurred;
-            event(occurred, listener -> listener.executeEnd(this, method, txExecuteId, ps, parameter, finalResult, finalOccurred));
+            if (eventListenerList.exists()) {
+                event(occurred, listener -> listener.executeEnd(this, method, txExecuteId, ps, parameter, finalResult, finalOccurred));
+            }
         }
     }
 
@@ -781,7 +839,9 @@ public class TsurugiTransaction implements IceaxeTimeoutCloseable {
     public <R> void executeAndForEach(TsurugiSqlQuery<R> ps, TsurugiTransactionConsumerWithRowNumber<R> action) throws IOException, InterruptedException, TsurugiTransactionException {
         var method = TgTxMethod.EXECUTE_FOR_EACH;
         int txExecuteId = getNewIceaxeTxExecuteId();
-        event(null, listener -> listener.executeStart(this, method, txExecuteId, ps, null));
+        if (eventListenerList.exists()) {
+            event(null, listener -> listener.executeStart(this, method, txExecuteId, ps, null));
+        }
 
         TsurugiQueryResult<R> result = null;
         Throwable occurred = null;
@@ -798,7 +858,9 @@ public class TsurugiTransaction implements IceaxeTimeoutCloseable {
         } finally {
             var finalResult = result;
             var finalOccurred = occurred;
-            event(occurred, listener -> listener.executeEnd(this, method, txExecuteId, ps, null, finalResult, finalOccurred));
+            if (eventListenerList.exists()) {
+                event(occurred, listener -> listener.executeEnd(this, method, txExecuteId, ps, null, finalResult, finalOccurred));
+            }
         }
     }
 
@@ -819,7 +881,9 @@ public class TsurugiTransaction implements IceaxeTimeoutCloseable {
             throws IOException, InterruptedException, TsurugiTransactionException {
         var method = TgTxMethod.EXECUTE_FOR_EACH;
         int txExecuteId = getNewIceaxeTxExecuteId();
-        event(null, listener -> listener.executeStart(this, method, txExecuteId, ps, parameter));
+        if (eventListenerList.exists()) {
+            event(null, listener -> listener.executeStart(this, method, txExecuteId, ps, parameter));
+        }
 
         TsurugiQueryResult<R> result = null;
         Throwable occurred = null;
@@ -836,7 +900,9 @@ public class TsurugiTransaction implements IceaxeTimeoutCloseable {
         } finally {
             var finalResult = result;
             var finalOccurred = occurred;
-            event(occurred, listener -> listener.executeEnd(this, method, txExecuteId, ps, parameter, finalResult, finalOccurred));
+            if (eventListenerList.exists()) {
+                event(occurred, listener -> listener.executeEnd(this, method, txExecuteId, ps, parameter, finalResult, finalOccurred));
+            }
         }
     }
 
@@ -853,7 +919,9 @@ public class TsurugiTransaction implements IceaxeTimeoutCloseable {
     public <R> List<R> executeAndGetList(TsurugiSqlQuery<R> ps) throws IOException, InterruptedException, TsurugiTransactionException {
         var method = TgTxMethod.EXECUTE_GET_LIST;
         int txExecuteId = getNewIceaxeTxExecuteId();
-        event(null, listener -> listener.executeStart(this, method, txExecuteId, ps, null));
+        if (eventListenerList.exists()) {
+            event(null, listener -> listener.executeStart(this, method, txExecuteId, ps, null));
+        }
 
         TsurugiQueryResult<R> result = null;
         Throwable occurred = null;
@@ -870,7 +938,9 @@ public class TsurugiTransaction implements IceaxeTimeoutCloseable {
         } finally {
             var finalResult = result;
             var finalOccurred = occurred;
-            event(occurred, listener -> listener.executeEnd(this, method, txExecuteId, ps, null, finalResult, finalOccurred));
+            if (eventListenerList.exists()) {
+                event(occurred, listener -> listener.executeEnd(this, method, txExecuteId, ps, null, finalResult, finalOccurred));
+            }
         }
     }
 
@@ -889,7 +959,9 @@ public class TsurugiTransaction implements IceaxeTimeoutCloseable {
     public <P, R> List<R> executeAndGetList(TsurugiSqlPreparedQuery<P, R> ps, P parameter) throws IOException, InterruptedException, TsurugiTransactionException {
         var method = TgTxMethod.EXECUTE_GET_LIST;
         int txExecuteId = getNewIceaxeTxExecuteId();
-        event(null, listener -> listener.executeStart(this, method, txExecuteId, ps, parameter));
+        if (eventListenerList.exists()) {
+            event(null, listener -> listener.executeStart(this, method, txExecuteId, ps, parameter));
+        }
 
         TsurugiQueryResult<R> result = null;
         Throwable occurred = null;
@@ -906,7 +978,9 @@ public class TsurugiTransaction implements IceaxeTimeoutCloseable {
         } finally {
             var finalResult = result;
             var finalOccurred = occurred;
-            event(occurred, listener -> listener.executeEnd(this, method, txExecuteId, ps, parameter, finalResult, finalOccurred));
+            if (eventListenerList.exists()) {
+                event(occurred, listener -> listener.executeEnd(this, method, txExecuteId, ps, parameter, finalResult, finalOccurred));
+            }
         }
     }
 
@@ -923,7 +997,9 @@ public class TsurugiTransaction implements IceaxeTimeoutCloseable {
     public <R> Optional<R> executeAndFindRecord(TsurugiSqlQuery<R> ps) throws IOException, InterruptedException, TsurugiTransactionException {
         var method = TgTxMethod.EXECUTE_FIND_RECORD;
         int txExecuteId = getNewIceaxeTxExecuteId();
-        event(null, listener -> listener.executeStart(this, method, txExecuteId, ps, null));
+        if (eventListenerList.exists()) {
+            event(null, listener -> listener.executeStart(this, method, txExecuteId, ps, null));
+        }
 
         TsurugiQueryResult<R> result = null;
         Throwable occurred = null;
@@ -940,7 +1016,9 @@ public class TsurugiTransaction implements IceaxeTimeoutCloseable {
         } finally {
             var finalResult = result;
             var finalOccurred = occurred;
-            event(occurred, listener -> listener.executeEnd(this, method, txExecuteId, ps, null, finalResult, finalOccurred));
+            if (eventListenerList.exists()) {
+                event(occurred, listener -> listener.executeEnd(this, method, txExecuteId, ps, null, finalResult, finalOccurred));
+            }
         }
     }
 
@@ -959,7 +1037,9 @@ public class TsurugiTransaction implements IceaxeTimeoutCloseable {
     public <P, R> Optional<R> executeAndFindRecord(TsurugiSqlPreparedQuery<P, R> ps, P parameter) throws IOException, InterruptedException, TsurugiTransactionException {
         var method = TgTxMethod.EXECUTE_FIND_RECORD;
         int txExecuteId = getNewIceaxeTxExecuteId();
-        event(null, listener -> listener.executeStart(this, method, txExecuteId, ps, parameter));
+        if (eventListenerList.exists()) {
+            event(null, listener -> listener.executeStart(this, method, txExecuteId, ps, parameter));
+        }
 
         TsurugiQueryResult<R> result = null;
         Throwable occurred = null;
@@ -976,7 +1056,9 @@ public class TsurugiTransaction implements IceaxeTimeoutCloseable {
         } finally {
             var finalResult = result;
             var finalOccurred = occurred;
-            event(occurred, listener -> listener.executeEnd(this, method, txExecuteId, ps, parameter, finalResult, finalOccurred));
+            if (eventListenerList.exists()) {
+                event(occurred, listener -> listener.executeEnd(this, method, txExecuteId, ps, parameter, finalResult, finalOccurred));
+            }
         }
     }
 
@@ -992,7 +1074,9 @@ public class TsurugiTransaction implements IceaxeTimeoutCloseable {
     public int executeAndGetCount(TsurugiSqlStatement ps) throws IOException, InterruptedException, TsurugiTransactionException {
         var method = TgTxMethod.EXECUTE_GET_COUNT;
         int txExecuteId = getNewIceaxeTxExecuteId();
-        event(null, listener -> listener.executeStart(this, method, txExecuteId, ps, null));
+        if (eventListenerList.exists()) {
+            event(null, listener -> listener.executeStart(this, method, txExecuteId, ps, null));
+        }
 
         TsurugiStatementResult result = null;
         Throwable occurred = null;
@@ -1009,7 +1093,9 @@ public class TsurugiTransaction implements IceaxeTimeoutCloseable {
         } finally {
             var finalResult = result;
             var finalOccurred = occurred;
-            event(occurred, listener -> listener.executeEnd(this, method, txExecuteId, ps, null, finalResult, finalOccurred));
+            if (eventListenerList.exists()) {
+                event(occurred, listener -> listener.executeEnd(this, method, txExecuteId, ps, null, finalResult, finalOccurred));
+            }
         }
     }
 
@@ -1027,7 +1113,9 @@ public class TsurugiTransaction implements IceaxeTimeoutCloseable {
     public <P> int executeAndGetCount(TsurugiSqlPreparedStatement<P> ps, P parameter) throws IOException, InterruptedException, TsurugiTransactionException {
         var method = TgTxMethod.EXECUTE_GET_COUNT;
         int txExecuteId = getNewIceaxeTxExecuteId();
-        event(null, listener -> listener.executeStart(this, method, txExecuteId, ps, parameter));
+        if (eventListenerList.exists()) {
+            event(null, listener -> listener.executeStart(this, method, txExecuteId, ps, parameter));
+        }
 
         TsurugiStatementResult result = null;
         Throwable occurred = null;
@@ -1044,7 +1132,9 @@ public class TsurugiTransaction implements IceaxeTimeoutCloseable {
         } finally {
             var finalResult = result;
             var finalOccurred = occurred;
-            event(occurred, listener -> listener.executeEnd(this, method, txExecuteId, ps, parameter, finalResult, finalOccurred));
+            if (eventListenerList.exists()) {
+                event(occurred, listener -> listener.executeEnd(this, method, txExecuteId, ps, parameter, finalResult, finalOccurred));
+            }
         }
     }
 
@@ -1062,7 +1152,9 @@ public class TsurugiTransaction implements IceaxeTimeoutCloseable {
     public <P> int executeAndGetCount(TsurugiSqlPreparedStatement<P> ps, Collection<P> parameterList) throws IOException, InterruptedException, TsurugiTransactionException {
         var method = TgTxMethod.EXECUTE_GET_COUNT;
         int txExecuteId = getNewIceaxeTxExecuteId();
-        event(null, listener -> listener.executeStart(this, method, txExecuteId, ps, parameterList));
+        if (eventListenerList.exists()) {
+            event(null, listener -> listener.executeStart(this, method, txExecuteId, ps, parameterList));
+        }
 
         TsurugiStatementResult result = null;
         Throwable occurred = null;
@@ -1079,7 +1171,9 @@ public class TsurugiTransaction implements IceaxeTimeoutCloseable {
         } finally {
             var finalResult = result;
             var finalOccurred = occurred;
-            event(occurred, listener -> listener.executeEnd(this, method, txExecuteId, ps, parameterList, finalResult, finalOccurred));
+            if (eventListenerList.exists()) {
+                event(occurred, listener -> listener.executeEnd(this, method, txExecuteId, ps, parameterList, finalResult, finalOccurred));
+            }
         }
     }
 
@@ -1096,7 +1190,9 @@ public class TsurugiTransaction implements IceaxeTimeoutCloseable {
     public TgResultCount executeAndGetCountDetail(TsurugiSqlStatement ps) throws IOException, InterruptedException, TsurugiTransactionException {
         var method = TgTxMethod.EXECUTE_GET_COUNT_DETAIL;
         int txExecuteId = getNewIceaxeTxExecuteId();
-        event(null, listener -> listener.executeStart(this, method, txExecuteId, ps, null));
+        if (eventListenerList.exists()) {
+            event(null, listener -> listener.executeStart(this, method, txExecuteId, ps, null));
+        }
 
         TsurugiStatementResult result = null;
         Throwable occurred = null;
@@ -1113,7 +1209,9 @@ public class TsurugiTransaction implements IceaxeTimeoutCloseable {
         } finally {
             var finalResult = result;
             var finalOccurred = occurred;
-            event(occurred, listener -> listener.executeEnd(this, method, txExecuteId, ps, null, finalResult, finalOccurred));
+            if (eventListenerList.exists()) {
+                event(occurred, listener -> listener.executeEnd(this, method, txExecuteId, ps, null, finalResult, finalOccurred));
+            }
         }
     }
 
@@ -1132,7 +1230,9 @@ public class TsurugiTransaction implements IceaxeTimeoutCloseable {
     public <P> TgResultCount executeAndGetCountDetail(TsurugiSqlPreparedStatement<P> ps, P parameter) throws IOException, InterruptedException, TsurugiTransactionException {
         var method = TgTxMethod.EXECUTE_GET_COUNT_DETAIL;
         int txExecuteId = getNewIceaxeTxExecuteId();
-        event(null, listener -> listener.executeStart(this, method, txExecuteId, ps, parameter));
+        if (eventListenerList.exists()) {
+            event(null, listener -> listener.executeStart(this, method, txExecuteId, ps, parameter));
+        }
 
         TsurugiStatementResult result = null;
         Throwable occurred = null;
@@ -1149,7 +1249,9 @@ public class TsurugiTransaction implements IceaxeTimeoutCloseable {
         } finally {
             var finalResult = result;
             var finalOccurred = occurred;
-            event(occurred, listener -> listener.executeEnd(this, method, txExecuteId, ps, parameter, finalResult, finalOccurred));
+            if (eventListenerList.exists()) {
+                event(occurred, listener -> listener.executeEnd(this, method, txExecuteId, ps, parameter, finalResult, finalOccurred));
+            }
         }
     }
 
@@ -1168,7 +1270,9 @@ public class TsurugiTransaction implements IceaxeTimeoutCloseable {
     public <P> TgResultCount executeAndGetCountDetail(TsurugiSqlPreparedStatement<P> ps, Collection<P> parameterList) throws IOException, InterruptedException, TsurugiTransactionException {
         var method = TgTxMethod.EXECUTE_GET_COUNT_DETAIL;
         int txExecuteId = getNewIceaxeTxExecuteId();
-        event(null, listener -> listener.executeStart(this, method, txExecuteId, ps, parameterList));
+        if (eventListenerList.exists()) {
+            event(null, listener -> listener.executeStart(this, method, txExecuteId, ps, parameterList));
+        }
 
         TsurugiStatementResult result = null;
         Throwable occurred = null;
@@ -1185,7 +1289,9 @@ public class TsurugiTransaction implements IceaxeTimeoutCloseable {
         } finally {
             var finalResult = result;
             var finalOccurred = occurred;
-            event(occurred, listener -> listener.executeEnd(this, method, txExecuteId, ps, parameterList, finalResult, finalOccurred));
+            if (eventListenerList.exists()) {
+                event(occurred, listener -> listener.executeEnd(this, method, txExecuteId, ps, parameterList, finalResult, finalOccurred));
+            }
         }
     }
 
@@ -1289,9 +1395,15 @@ public class TsurugiTransaction implements IceaxeTimeoutCloseable {
         if (this.rollbacked) {
             throw new IllegalStateException("rollback has already been called");
         }
+        if (this.commitFuture != null) {
+            throw new IllegalStateException("commitAsync has already been called");
+        }
 
         LOG.trace("transaction commit start. commitOption={}", commitOption);
-        event(null, listener -> listener.commitStart(this, commitOption));
+        if (eventListenerList.exists()) {
+            event(null, listener -> listener.commitStart(this, commitOption));
+        }
+        var jfrEvent = TsurugiTransactionCommitJfrEvent.beginIfEnabled();
 
         Throwable occurred = null;
         try {
@@ -1300,6 +1412,7 @@ public class TsurugiTransaction implements IceaxeTimeoutCloseable {
             var lowCommitOption = commitOption.toLowCommitOption();
             finish(start, lowTx -> lowTx.commit(lowCommitOption), commitTimeout, IceaxeErrorCode.TX_COMMIT_TIMEOUT, IceaxeErrorCode.TX_COMMIT_CLOSE_TIMEOUT);
             this.committed = true;
+            this.commitOption = commitOption;
         } catch (TsurugiTransactionException e) {
             occurred = e;
             e.setTxMethod(TgTxMethod.COMMIT, 0);
@@ -1308,13 +1421,170 @@ public class TsurugiTransaction implements IceaxeTimeoutCloseable {
             occurred = e;
             throw e;
         } finally {
+            TsurugiTransactionCommitJfrEvent.emit(jfrEvent, this, commitOption, occurred == null);
             var finalOccurred = occurred;
-            event(occurred, listener -> listener.commitEnd(this, commitOption, finalOccurred));
+            if (eventListenerList.exists()) {
+                event(occurred, listener -> listener.commitEnd(this, commitOption, finalOccurred));
+            }
         }
 
         LOG.trace("transaction commit end");
     }
 
+    /**
+     * do commit asynchronously.
+     *
+     * @param commitType commit type
+     * @return commit future
+     * @throws IOException                 if an I/O error occurs while sending commit
+     * @throws InterruptedException        if interrupted while sending commit
+     * @throws TsurugiTransactionException if server error occurs while sending commit
+     * @see #commitAsync(TgCommitOption)
+     * @since 1.17.0
+     */
+    public TsurugiCommitFuture commitAsync(TgCommitType commitType) throws IOException, InterruptedException, TsurugiTransactionException {
+        var commitOption = TgCommitOption.of(commitType);
+        return commitAsync(commitOption);
+    }
+
+    /**
+     * do commit asynchronously.
+     *
+     * @param commitOption commit option
+     * @return commit future
+     * @throws IOException                 if an I/O error occurs while sending commit
+     * @throws InterruptedException        if interrupted while sending commit
+     * @throws TsurugiTransactionException if server error occurs while sending commit
+     * @see #commitAsync(TgCommitOption, Executor)
+     * @since 1.17.0
+     */
+    public TsurugiCommitFuture commitAsync(TgCommitOption commitOption) throws IOException, InterruptedException, TsurugiTransactionException {
+        return commitAsync(commitOption, TsurugiCommitFuture.defaultExecutor());
+    }
+
+    /**
+     * do commit asynchronously.
+     *
+     * <p>
+     * This method returns after sending the commit request. The response is waited in the executor, and {@link #close()} is deferred until the commit (and the
+     * observation of durability levels) completes.
+     * </p>
+     *
+     * @param commitOption commit option
+     * @param executor     executor for waiting the response
+     * @return commit future
+     * @throws IOException                 if an I/O error occurs while sending commit
+     * @throws InterruptedException        if interrupted while sending commit
+     * @throws TsurugiTransactionException if server error occurs while sending commit
+     * @since 1.17.0
+     */
+    public synchronized TsurugiCommitFuture commitAsync(TgCommitOption commitOption, @Nonnull Executor executor) throws IOException, InterruptedException, TsurugiTransactionException {
+        this.finishCalled = true;
+        checkClose();
+        if (this.commitFuture != null) {
+            return this.commitFuture;
+        }
+        if (this.committed) {
+            return getCommitFuture();
+        }
+        if (this.rollbacked) {
+            throw new IllegalStateException("rollback has already been called");
+        }
+
+        LOG.trace("transaction commitAsync start. commitOption={}", commitOption);
+        if (eventListenerList.exists()) {
+            event(null, listener -> listener.commitStart(this, commitOption));
+        }
+        var jfrEvent = TsurugiTransactionCommitJfrEvent.beginIfEnabled();
+
+        long start = System.nanoTime();
+        FutureResponse<Void> lowResultFuture;
+        try {
+            closeableSet.closeInTransaction(commitTimeout.getNanos(), IceaxeErrorCode.TX_COMMIT_CHILD_CLOSE_ERROR);
+            var transaction = getLowTransaction(commitTimeout);
+            lowResultFuture = transaction.commit(commitOption.toLowCommitOption());
+        } catch (Throwable e) {
+            if (e instanceof TsurugiTransactionException) {
+                ((TsurugiTransactionException) e).setTxMethod(TgTxMethod.COMMIT, 0);
+            }
+            TsurugiTransactionCommitJfrEvent.emit(jfrEvent, this, commitOption, false);
+            if (eventListenerList.exists()) {
+                event(e, listener -> listener.commitEnd(this, commitOption, e));
+            }
+            throw e;
+        }
+
+        long timeoutNanos = IceaxeIoUtil.calculateTimeoutNanos(commitTimeout.getNanos(), start);
+        var future = new TsurugiCommitFuture(this, commitOption, executor, timeoutNanos, true);
+        this.commitFuture = future;
+        try {
+            future.execute(() -> waitCommit(future, lowResultFuture, timeoutNanos, jfrEvent));
+        } catch (Throwable e) {
+            try {
+                lowResultFuture.close();
+            } catch (Throwable t) {
+                e.addSuppressed(t);
+            }
+            this.commitFuture = null;
+            TsurugiTransactionCommitJfrEvent.emit(jfrEvent, this, commitOption, false);
+            if (eventListenerList.exists()) {
+                event(e, listener -> listener.commitEnd(this, commitOption, e));
+            }
+            throw e;
+        }
+
+        LOG.trace("transaction commitAsync sent");
+        return future;
+    }
+
+    private void waitCommit(TsurugiCommitFuture future, FutureResponse<Void> lowResultFuture, long timeoutNanos, @Nullable TsurugiTransactionCommitJfrEvent jfrEvent) {
+        var commitOption = future.getCommitOption();
+        Throwable occurred = null;
+        try {
+            var finishTimeout = new IceaxeTimeout(timeoutNanos, TimeUnit.NANOSECONDS);
+            IceaxeIoUtil.getAndCloseFutureInTransaction(lowResultFuture, finishTimeout, IceaxeErrorCode.TX_COMMIT_TIMEOUT, IceaxeErrorCode.TX_COMMIT_CLOSE_TIMEOUT);
+            synchronized (this) {
+                this.committed = true;
+                this.commitOption = commitOption;
+            }
+        } catch (TsurugiTransactionException e) {
+            occurred = e;
+            e.setTxMethod(TgTxMethod.COMMIT, 0);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            occurred = e;
+        } catch (Throwable e) {
+            occurred = e;
+        } finally {
+            TsurugiTransactionCommitJfrEvent.emit(jfrEvent, this, commitOption, occurred == null);
+            var finalOccurred = occurred;
+            try {
+                if (eventListenerList.exists()) {
+                    event(occurred, listener -> listener.commitEnd(this, commitOption, finalOccurred));
+                }
+            } catch (Throwable e) {
+                occurred = e;
+            }
+        }
+
+        LOG.trace("transaction commitAsync end", occurred);
+        future.complete(occurred);
+    }
+
+    /**
+     * get commit future.
+     *
+     * @return commit future. {@code null} if not committed
+     * @see #commitAsync(TgCommitOption)
+     * @since 1.17.0
+     */
+    public synchronized @Nullable TsurugiCommitFuture getCommitFuture() {
+        if (this.commitFuture == null && this.committed) {
+            this.commitFuture = new TsurugiCommitFuture(this, commitOption, TsurugiCommitFuture.defaultExecutor(), commitTimeout.getNanos(), false);
+        }
+        return this.commitFuture;
+    }
+
     /**
      * do rollback.
      *
@@ -1328,13 +1598,19 @@ public class TsurugiTransaction implements IceaxeTimeoutCloseable {
         if (this.committed || this.rollbacked) {
             return;
         }
+        if (this.commitFuture != null) {
+            throw new IllegalStateException("commitAsync has already been called");
+        }
 
         rollback(rollbackTimeout);
     }
 
     private void rollback(IceaxeTimeout rollbackTimeout) throws IOException, InterruptedException, TsurugiTransactionException {
         LOG.trace("transaction rollback start");
-        event(null, listener -> listener.rollbackStart(this));
+        if (eventListenerList.exists()) {
+            event(null, listener -> listener.rollbackStart(this));
+        }
+        var jfrEvent = TsurugiTransactionRollbackJfrEvent.beginIfEnabled();
 
         Throwable occurred = null;
         List<Throwable> saveList = List.of();
@@ -1371,8 +1647,11 @@ public class TsurugiTransaction implements IceaxeTimeoutCloseable {
             }
             throw e;
         } finally {
+            TsurugiTransactionRollbackJfrEvent.emit(jfrEvent, this, occurred == null);
             var finalOccurred = occurred;
-            event(occurred, listener -> listener.rollbackEnd(this, finalOccurred));
+            if (eventListenerList.exists()) {
+                event(occurred, listener -> listener.rollbackEnd(this, finalOccurred));
+            }
         }
 
         LOG.trace("transaction rollback end");
@@ -1443,8 +1722,37 @@ public class TsurugiTransaction implements IceaxeTimeoutCloseable {
 
     // close
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * If the commit by {@link #commitAsync(TgCommitOption)} or the observation of durability levels by {@link TsurugiCommitFuture} is in progress, the close is
+     * deferred until they complete. Call {@link #close(long)} to close immediately.
+     * </p>
+     */
     @Override
     public void close() throws IOException, InterruptedException {
+        TsurugiCommitFuture future;
+        synchronized (this) {
+            future = this.commitFuture;
+        }
+        if (future != null) {
+            boolean deferred = future.deferUntilIdle(() -> {
+                try {
+                    close(closeTimeout.getNanos());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    LOG.warn("deferred transaction close interrupted. tx={}", this, e);
+                } catch (Throwable e) {
+                    LOG.warn("deferred transaction close error. tx={}", this, e);
+                }
+            });
+            if (deferred) {
+                this.closed = true;
+                LOG.trace("transaction close deferred");
+                return;
+            }
+        }
         close(closeTimeout.getNanos());
     }
 
@@ -1456,25 +1764,68 @@ public class TsurugiTransaction implements IceaxeTimeoutCloseable {
             LOG.trace("transaction close start. committed={}, rollbacked={}", committed, rollbacked);
         }
         Throwable occurred = null;
+        var delegated = new AtomicBoolean(false);
         try {
             var rollback = rollbackCloser();
+            var disposer = backgroundDisposer(rollback);
 
             IceaxeIoUtil.close(timeoutNanos, closeableSet, IceaxeErrorCode.TX_CHILD_CLOSE_ERROR, t -> {
-                // not try-finally
-                IceaxeIoUtil.close(t, IceaxeErrorCode.TX_CLOSE_TIMEOUT, IceaxeErrorCode.TX_CLOSE_ERROR, //
-                        rollback, lowTransaction, lowTransactionFuture);
-                ownerSession.removeChild(this);
+                IceaxeIoUtil.IceaxeCloseAction lowCloser = t2 -> {
+                    // not try-finally
+                    IceaxeIoUtil.close(t2, IceaxeErrorCode.TX_CLOSE_TIMEOUT, IceaxeErrorCode.TX_CLOSE_ERROR, //
+                            rollback, lowTransaction, lowTransactionFuture);
+                    ownerSession.removeChild(this);
+                };
+                if (disposer != null && disposer.dispose(t2 -> closeInBackground(lowCloser, timeoutNanos, t2), t)) {
+                    LOG.trace("transaction close delegated to background disposer");
+                    delegated.set(true);
+                    return;
+                }
+                lowCloser.close(t);
             });
         } catch (Throwable e) {
             occurred = e;
             throw e;
         } finally {
-            var finalOccurred = occurred;
-            event(occurred, listener -> listener.closeTransaction(this, timeoutNanos, finalOccurred));
+            // if delegated, the event is notified when the low transaction is actually closed
+            if (!delegated.get()) {
+                closeEvent(timeoutNanos, occurred);
+            }
         }
         LOG.trace("transaction close end");
     }
 
+    private void closeInBackground(IceaxeIoUtil.IceaxeCloseAction lowCloser, long timeoutNanos, long closeTimeoutNanos) throws IOException, InterruptedException {
+        Throwable occurred = null;
+        try {
+            lowCloser.close(closeTimeoutNanos);
+        } catch (Throwable e) {
+            occurred = e;
+            throw e;
+        } finally {
+            closeEvent(timeoutNanos, occurred);
+        }
+        LOG.trace("transaction background close end");
+    }
+
+    private void closeEvent(long timeoutNanos, @Nullable Throwable occurred) {
+        if (eventListenerList.exists()) {
+            event(occurred, listener -> listener.closeTransaction(this, timeoutNanos, occurred));
+        }
+    }
+
+    private @Nullable IceaxeBackgroundDisposer backgroundDisposer(IceaxeTimeoutCloseable rollback) {
+        if (rollback != null) {
+            return null;
+        }
+        synchronized (this) {
+            if (!this.committed || !this.commitOption.autoDispose()) {
+                return null;
+            }
+        }
+        return ownerSession.getSessionOption().getBackgroundDisposer();
+    }
+
     private IceaxeTimeoutCloseable rollbackCloser() {
         if (!this.rollbackOnClose) {
             return null;
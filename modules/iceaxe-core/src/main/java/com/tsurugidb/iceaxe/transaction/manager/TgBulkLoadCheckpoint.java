@@ -0,0 +1,123 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.iceaxe.transaction.manager;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * checkpoint of {@link TsurugiBulkLoader}.
+ *
+ * <p>
+ * Records the last committed chunk of each partition, so that a restarted load skips the committed chunks. The chunks are valid only for the same layout
+ * (number of writers, chunk size, partitioning and input), so the layout is recorded too.
+ * </p>
+ *
+ * @since 1.17.0
+ */
+public interface TgBulkLoadCheckpoint {
+
+    /**
+     * create checkpoint on memory.
+     *
+     * @return checkpoint
+     */
+    public static TgBulkLoadCheckpoint ofMemory() {
+        var map = new ConcurrentHashMap<Integer, Long>();
+        var layoutRef = new AtomicReference<String>();
+        return new TgBulkLoadCheckpoint() {
+            @Override
+            public String getLayout() {
+                return layoutRef.get();
+            }
+
+            @Override
+            public void setLayout(String layout) {
+                layoutRef.set(layout);
+            }
+
+            @Override
+            public long getLastCommittedChunk(int partition) {
+                return map.getOrDefault(partition, -1L);
+            }
+
+            @Override
+            public void committed(int partition, long chunk) {
+                map.put(partition, chunk);
+            }
+
+            @Override
+            public String toString() {
+                return "TgBulkLoadCheckpoint(" + layoutRef.get() + ", " + map + ")";
+            }
+        };
+    }
+
+    /**
+     * create checkpoint on file.
+     *
+     * @param file checkpoint file
+     * @return checkpoint
+     * @throws IOException if an I/O error occurs while reading the file
+     */
+    public static TgBulkLoadCheckpoint ofFile(Path file) throws IOException {
+        return new TgBulkLoadFileCheckpoint(file);
+    }
+
+    /**
+     * get layout of the load which committed the chunks.
+     *
+     * @return layout. {@code null} if not recorded
+     * @throws IOException if an I/O error occurs
+     */
+    @Nullable
+    String getLayout() throws IOException;
+
+    /**
+     * record layout of the load.
+     *
+     * @param layout layout
+     * @throws IOException if an I/O error occurs
+     */
+    void setLayout(@Nonnull String layout) throws IOException;
+
+    /**
+     * get last committed chunk.
+     *
+     * @param partition partition number
+     * @return chunk number. -1 if no chunk is committed
+     * @throws IOException if an I/O error occurs
+     */
+    long getLastCommittedChunk(int partition) throws IOException;
+
+    /**
+     * called when a chunk is committed.
+     *
+     * <p>
+     * This is called after the commit, outside of the transaction. The chunk is loaded again on restart if this is not called.
+     * </p>
+     *
+     * @param partition partition number
+     * @param chunk     chunk number
+     * @throws IOException if an I/O error occurs
+     */
+    void committed(int partition, long chunk) throws IOException;
+}
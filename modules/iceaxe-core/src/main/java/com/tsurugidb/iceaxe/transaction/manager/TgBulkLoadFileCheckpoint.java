@@ -0,0 +1,130 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.iceaxe.transaction.manager;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * checkpoint of {@link TsurugiBulkLoader} on file.
+ *
+ * <p>
+ * The first line of the file is {@code layout=layout}, and each following line is {@code partition=chunk}. The file is replaced atomically on each update.
+ * </p>
+ *
+ * @since 1.17.0
+ */
+@ThreadSafe
+public class TgBulkLoadFileCheckpoint implements TgBulkLoadCheckpoint {
+
+    private static final String LAYOUT_KEY = "layout";
+
+    private final Path file;
+    private final Map<Integer, Long> chunkMap = new TreeMap<>();
+    private String layout = null;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param file checkpoint file
+     * @throws IOException if an I/O error occurs while reading the file
+     */
+    public TgBulkLoadFileCheckpoint(@Nonnull Path file) throws IOException {
+        this.file = file;
+        if (Files.exists(file)) {
+            for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                int n = line.indexOf('=');
+                if (n < 0) {
+                    continue;
+                }
+                String key = line.substring(0, n).trim();
+                if (key.equals(LAYOUT_KEY)) {
+                    this.layout = line.substring(n + 1);
+                    continue;
+                }
+                chunkMap.put(Integer.parseInt(key), Long.parseLong(line.substring(n + 1).trim()));
+            }
+        }
+    }
+
+    /**
+     * get checkpoint file.
+     *
+     * @return file
+     */
+    public Path getFile() {
+        return this.file;
+    }
+
+    @Override
+    public synchronized String getLayout() {
+        return this.layout;
+    }
+
+    @Override
+    public synchronized void setLayout(String layout) throws IOException {
+        this.layout = layout;
+        write();
+    }
+
+    @Override
+    public synchronized long getLastCommittedChunk(int partition) {
+        return chunkMap.getOrDefault(partition, -1L);
+    }
+
+    @Override
+    public synchronized void committed(int partition, long chunk) throws IOException {
+        chunkMap.put(partition, chunk);
+        write();
+    }
+
+    private void write() throws IOException {
+        var sb = new StringBuilder();
+        if (this.layout != null) {
+            sb.append(LAYOUT_KEY).append('=').append(layout).append('\n');
+        }
+        for (var entry : chunkMap.entrySet()) {
+            sb.append(entry.getKey()).append('=').append(entry.getValue()).append('\n');
+        }
+        var temp = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.writeString(temp, sb, StandardCharsets.UTF_8);
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * delete the checkpoint file (after the load completed).
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    public synchronized void clear() throws IOException {
+        chunkMap.clear();
+        this.layout = null;
+        Files.deleteIfExists(file);
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "TgBulkLoadFileCheckpoint(" + file + ", " + layout + ", " + chunkMap + ")";
+    }
+}
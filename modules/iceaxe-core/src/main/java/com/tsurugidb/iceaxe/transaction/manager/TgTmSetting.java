@@ -17,7 +17,6 @@ package com.tsurugidb.iceaxe.transaction.manager;
 
 import java.io.IOException;
 import java.text.MessageFormat;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 
@@ -33,7 +32,9 @@ import com.tsurugidb.iceaxe.transaction.manager.option.TgTmTxOption;
 import com.tsurugidb.iceaxe.transaction.manager.option.TgTmTxOptionList;
 import com.tsurugidb.iceaxe.transaction.manager.option.TgTmTxOptionSupplier;
 import com.tsurugidb.iceaxe.transaction.option.TgTxOption;
+import com.tsurugidb.iceaxe.util.IceaxeEventListenerList;
 import com.tsurugidb.iceaxe.util.IceaxeInternal;
+import com.tsurugidb.iceaxe.util.TgDeadline;
 import com.tsurugidb.iceaxe.util.TgTimeValue;
 
 /**
@@ -143,10 +144,12 @@ public class TgTmSetting {
     private TgTmTxOptionSupplier txOptionSupplier;
     private String transactionLabel = null;
     private TgCommitOption commitOption;
+    private TgCommitType durabilityCommitType = null;
     private TgTimeValue beginTimeout;
     private TgTimeValue commitTimeout;
     private TgTimeValue rollbackTimeout;
-    private List<TsurugiTmEventListener> eventListenerList = null;
+    private TgTimeValue executeTimeout;
+    private volatile IceaxeEventListenerList<TsurugiTmEventListener> eventListenerList = IceaxeEventListenerList.none();
 
     /**
      * Creates a new instance.
@@ -311,6 +314,45 @@ public class TgTmSetting {
         return sessionOption.getCommitOption();
     }
 
+    /**
+     * set durability commit type.
+     *
+     * <p>
+     * The transaction manager commits with {@link #getCommitType(TgSessionOption) commit type} (e.g. {@link TgCommitType#ACCEPTED}) and returns without waiting
+     * for the durability commit type. When the durability commit type is reached,
+     * {@link TsurugiTmEventListener#executeDurable(TsurugiTransaction, TgCommitType, Throwable)} is called. The transaction is closed after that.
+     * </p>
+     *
+     * @param commitType durability commit type ({@code null} if not observed)
+     * @since 1.17.0
+     */
+    public void setDurabilityCommitType(@Nullable TgCommitType commitType) {
+        this.durabilityCommitType = commitType;
+    }
+
+    /**
+     * set durability commit type.
+     *
+     * @param commitType durability commit type ({@code null} if not observed)
+     * @return this
+     * @see #setDurabilityCommitType(TgCommitType)
+     * @since 1.17.0
+     */
+    public TgTmSetting durabilityCommitType(@Nullable TgCommitType commitType) {
+        setDurabilityCommitType(commitType);
+        return this;
+    }
+
+    /**
+     * get durability commit type.
+     *
+     * @return durability commit type ({@code null} if not observed)
+     * @since 1.17.0
+     */
+    public @Nullable TgCommitType getDurabilityCommitType() {
+        return this.durabilityCommitType;
+    }
+
     /**
      * set transaction-begin-timeout.
      *
@@ -437,6 +479,83 @@ public class TgTmSetting {
         return this;
     }
 
+    /**
+     * set execute-timeout.
+     *
+     * <p>
+     * The execution of the transaction manager (including retries) must be completed within this time. Each begin, SQL execution, fetch, commit and rollback
+     * gets {@code min(its own timeout, remaining time)}.
+     * The time is measured from the start of each execute, so the same setting can be reused for many executes.
+     * </p>
+     *
+     * @param time timeout time
+     * @param unit timeout unit
+     * @since 1.17.0
+     */
+    public void setExecuteTimeout(long time, TimeUnit unit) {
+        setExecuteTimeout(TgTimeValue.of(time, unit));
+    }
+
+    /**
+     * set execute-timeout.
+     *
+     * @param timeout time ({@code null} if not limited)
+     * @see #setExecuteTimeout(long, TimeUnit)
+     * @since 1.17.0
+     */
+    public void setExecuteTimeout(@Nullable TgTimeValue timeout) {
+        this.executeTimeout = timeout;
+    }
+
+    /**
+     * set execute-timeout.
+     *
+     * @param time timeout time
+     * @param unit timeout unit
+     * @return this
+     * @see #setExecuteTimeout(long, TimeUnit)
+     * @since 1.17.0
+     */
+    public TgTmSetting executeTimeout(long time, TimeUnit unit) {
+        setExecuteTimeout(time, unit);
+        return this;
+    }
+
+    /**
+     * set execute-timeout.
+     *
+     * @param timeout time ({@code null} if not limited)
+     * @return this
+     * @see #setExecuteTimeout(long, TimeUnit)
+     * @since 1.17.0
+     */
+    public TgTmSetting executeTimeout(@Nullable TgTimeValue timeout) {
+        setExecuteTimeout(timeout);
+        return this;
+    }
+
+    /**
+     * get execute-timeout.
+     *
+     * @return timeout ({@code null} if not limited)
+     * @since 1.17.0
+     */
+    public @Nullable TgTimeValue getExecuteTimeout() {
+        return this.executeTimeout;
+    }
+
+    /**
+     * create deadline of execute.
+     *
+     * @return deadline ({@code null} if not limited)
+     * @since 1.17.0
+     */
+    @IceaxeInternal
+    public @Nullable TgDeadline createDeadline() {
+        var timeout = this.executeTimeout;
+        return (timeout != null) ? TgDeadline.after(timeout) : null;
+    }
+
     /**
      * add event listener.
      *
@@ -444,10 +563,9 @@ public class TgTmSetting {
      * @return this
      */
     public TgTmSetting addEventListener(TsurugiTmEventListener listener) {
-        if (this.eventListenerList == null) {
-            this.eventListenerList = new ArrayList<>();
+        synchronized (this) {
+            this.eventListenerList = eventListenerList.add(listener);
         }
-        eventListenerList.add(listener);
         return this;
     }
 
@@ -457,6 +575,21 @@ public class TgTmSetting {
      * @return event listener
      */
     public @Nullable List<TsurugiTmEventListener> getEventListener() {
+        var listenerList = this.eventListenerList;
+        if (!listenerList.exists()) {
+            return null;
+        }
+        return listenerList.toList();
+    }
+
+    /**
+     * get event listener list.
+     *
+     * @return event listener list
+     * @since 1.17.0
+     */
+    @IceaxeInternal
+    public IceaxeEventListenerList<TsurugiTmEventListener> getEventListenerList() {
         return this.eventListenerList;
     }
 
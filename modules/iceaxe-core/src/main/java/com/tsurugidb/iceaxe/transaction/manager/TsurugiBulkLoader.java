@@ -0,0 +1,566 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.iceaxe.transaction.manager;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.tsurugidb.iceaxe.session.TsurugiSession;
+import com.tsurugidb.iceaxe.sql.TsurugiSqlPreparedStatement;
+import com.tsurugidb.iceaxe.sql.parameter.TgParameterMapping;
+import com.tsurugidb.iceaxe.transaction.TsurugiTransaction;
+import com.tsurugidb.iceaxe.transaction.exception.TsurugiTransactionException;
+import com.tsurugidb.iceaxe.transaction.manager.event.counter.TgTmCount;
+import com.tsurugidb.iceaxe.transaction.manager.event.counter.TgTmSimpleCounter;
+import com.tsurugidb.iceaxe.transaction.option.TgTxOption;
+
+/**
+ * Tsurugi bulk loader.
+ *
+ * <p>
+ * Partitions rows across writer threads, and each writer commits every {@link #setChunkSize(int) chunk size} rows in LTX with the target table as write
+ * preserve. The rows are passed to the writers through bounded queues, so the reader is blocked if the writers are slow.
+ * </p>
+ * <p>
+ * The partition and the chunk of a row are determined by the order of the input (and the {@link #setPartitionKey(Function) partition key}). If the same input
+ * is loaded again with the same {@link #setCheckpoint(TgBulkLoadCheckpoint) checkpoint}, the committed chunks are skipped. The checkpoint records the number of
+ * writers, the chunk size, the partitioning and the {@link #setInputId(String) input id}, and a load with a different layout is rejected.
+ * </p>
+ * <p>
+ * The checkpoint is recorded after the chunk is committed, outside of the transaction. If the load stops between the commit and the record, the chunk is
+ * loaded again on restart (at-least-once). Use an idempotent statement (e.g. {@code INSERT OR REPLACE}) when the load may be restarted with a checkpoint.
+ * </p>
+ *
+ * @param <E> entity type
+ * @since 1.17.0
+ */
+public class TsurugiBulkLoader<E> implements AutoCloseable {
+    private static final Logger LOG = LoggerFactory.getLogger(TsurugiBulkLoader.class);
+
+    private static final Object END = new Object();
+
+    /**
+     * create bulk loader (prepares the statement on each session).
+     *
+     * @param <E>              entity type
+     * @param sessions         sessions (one writer per session)
+     * @param sql              SQL
+     * @param parameterMapping parameter mapping
+     * @return bulk loader
+     * @throws IOException          if an I/O error occurs while create statement
+     * @throws InterruptedException if interrupted while create statement
+     */
+    public static <E> TsurugiBulkLoader<E> of(@Nonnull List<TsurugiSession> sessions, String sql, TgParameterMapping<E> parameterMapping) throws IOException, InterruptedException {
+        var loader = new TsurugiBulkLoader<E>();
+        try {
+            for (var session : sessions) {
+                var ps = session.createStatement(sql, parameterMapping);
+                loader.addTarget(session, ps, true);
+            }
+        } catch (Throwable e) {
+            try {
+                loader.close();
+            } catch (Throwable c) {
+                e.addSuppressed(c);
+            }
+            throw e;
+        }
+        return loader;
+    }
+
+    private static class Target<E> {
+        final TsurugiSession session;
+        final TsurugiSqlPreparedStatement<E> ps;
+        final boolean owner;
+
+        Target(TsurugiSession session, TsurugiSqlPreparedStatement<E> ps, boolean owner) {
+            this.session = session;
+            this.ps = ps;
+            this.owner = owner;
+        }
+    }
+
+    private final List<Target<E>> targetList = new ArrayList<>();
+    private int writerCount = 0;
+    private int chunkSize = 10_000;
+    private int queueCapacity = 10_000;
+    private int attemptMaxCount = 3;
+    private String writePreserveTable = null;
+    private Function<? super E, ?> partitionKey = null;
+    private TgBulkLoadCheckpoint checkpoint = null;
+    private String inputId = null;
+    private final TgTmSimpleCounter tmCounter = new TgTmSimpleCounter();
+
+    private final AtomicLong rowCount = new AtomicLong();
+    private final AtomicLong chunkCount = new AtomicLong();
+    private final AtomicLong skipCount = new AtomicLong();
+    private volatile long startNanos = 0;
+    private volatile long endNanos = 0;
+
+    private TsurugiBulkLoader() {
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * <p>
+     * The writers share the statement (and the session).
+     * </p>
+     *
+     * @param session session
+     * @param ps      statement
+     */
+    public TsurugiBulkLoader(@Nonnull TsurugiSession session, @Nonnull TsurugiSqlPreparedStatement<E> ps) {
+        addTarget(session, ps, false);
+    }
+
+    private void addTarget(TsurugiSession session, TsurugiSqlPreparedStatement<E> ps, boolean owner) {
+        targetList.add(new Target<>(Objects.requireNonNull(session), Objects.requireNonNull(ps), owner));
+    }
+
+    /**
+     * set number of writer threads.
+     *
+     * @param count number of writers. 0 means the number of sessions
+     * @return this
+     */
+    public TsurugiBulkLoader<E> setWriterCount(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("count must not be negative. count=" + count);
+        }
+        this.writerCount = count;
+        return this;
+    }
+
+    /**
+     * get number of writer threads.
+     *
+     * @return number of writers
+     */
+    public int getWriterCount() {
+        return (this.writerCount > 0) ? this.writerCount : targetList.size();
+    }
+
+    /**
+     * set number of rows per commit.
+     *
+     * @param size number of rows
+     * @return this
+     */
+    public TsurugiBulkLoader<E> setChunkSize(int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("size must be positive. size=" + size);
+        }
+        this.chunkSize = size;
+        return this;
+    }
+
+    /**
+     * get number of rows per commit.
+     *
+     * @return number of rows
+     */
+    public int getChunkSize() {
+        return this.chunkSize;
+    }
+
+    /**
+     * set capacity of the queue of each writer.
+     *
+     * @param capacity number of rows
+     * @return this
+     */
+    public TsurugiBulkLoader<E> setQueueCapacity(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive. capacity=" + capacity);
+        }
+        this.queueCapacity = capacity;
+        return this;
+    }
+
+    /**
+     * set attempt max count of the transaction of a chunk.
+     *
+     * @param attemptMaxCount attempt max count
+     * @return this
+     */
+    public TsurugiBulkLoader<E> setAttemptMaxCount(int attemptMaxCount) {
+        this.attemptMaxCount = attemptMaxCount;
+        return this;
+    }
+
+    /**
+     * set write preserve table.
+     *
+     * @param tableName table name (by default, the table of the statement)
+     * @return this
+     */
+    public TsurugiBulkLoader<E> setWritePreserveTable(@Nullable String tableName) {
+        this.writePreserveTable = tableName;
+        return this;
+    }
+
+    /**
+     * set partition key.
+     *
+     * @param keyFunction function to get the partition key. if null, rows are partitioned in turn
+     * @return this
+     */
+    public TsurugiBulkLoader<E> setPartitionKey(@Nullable Function<? super E, ?> keyFunction) {
+        this.partitionKey = keyFunction;
+        return this;
+    }
+
+    /**
+     * set checkpoint.
+     *
+     * <p>
+     * A chunk is recorded after it is committed, so it may be loaded again on restart. See {@link TsurugiBulkLoader}.
+     * </p>
+     *
+     * @param checkpoint checkpoint
+     * @return this
+     */
+    public TsurugiBulkLoader<E> setCheckpoint(@Nullable TgBulkLoadCheckpoint checkpoint) {
+        this.checkpoint = checkpoint;
+        return this;
+    }
+
+    /**
+     * set input id.
+     *
+     * <p>
+     * The id identifies the input and its order (e.g. the file name and its last modified time). It is recorded in the checkpoint, and the load is rejected if
+     * the checkpoint was recorded with another id.
+     * </p>
+     *
+     * @param inputId input id
+     * @return this
+     */
+    public TsurugiBulkLoader<E> setInputId(@Nullable String inputId) {
+        this.inputId = inputId;
+        return this;
+    }
+
+    /**
+     * get transaction count (includes retry count).
+     *
+     * @return count
+     */
+    public TgTmCount getTransactionCount() {
+        return tmCounter.getCount();
+    }
+
+    /**
+     * get number of loaded rows.
+     *
+     * @return row count
+     */
+    public long getRowCount() {
+        return rowCount.get();
+    }
+
+    /**
+     * get number of committed chunks.
+     *
+     * @return chunk count
+     */
+    public long getChunkCount() {
+        return chunkCount.get();
+    }
+
+    /**
+     * get number of rows skipped by the checkpoint.
+     *
+     * @return skip count
+     */
+    public long getSkipCount() {
+        return skipCount.get();
+    }
+
+    /**
+     * get loaded rows per second.
+     *
+     * @return rows per second
+     */
+    public double getRowsPerSecond() {
+        long start = this.startNanos;
+        if (start == 0) {
+            return 0;
+        }
+        long end = this.endNanos;
+        if (end == 0) {
+            end = System.nanoTime();
+        }
+        long elapsed = end - start;
+        if (elapsed <= 0) {
+            return 0;
+        }
+        return rowCount.get() * 1e9 / elapsed;
+    }
+
+    /**
+     * load rows.
+     *
+     * @param stream rows
+     * @return number of loaded rows (excluding skipped rows)
+     * @throws IOException          if an I/O error occurs while load
+     * @throws InterruptedException if interrupted while load
+     */
+    public long load(Stream<? extends E> stream) throws IOException, InterruptedException {
+        return load(stream.iterator());
+    }
+
+    /**
+     * load rows.
+     *
+     * @param iterator rows
+     * @return number of loaded rows (excluding skipped rows)
+     * @throws IOException           if an I/O error occurs while load
+     * @throws InterruptedException  if interrupted while load
+     * @throws IllegalStateException if the layout of the checkpoint is different
+     */
+    public long load(Iterator<? extends E> iterator) throws IOException, InterruptedException {
+        int size = getWriterCount();
+        if (checkpoint != null) {
+            checkLayout(checkpoint, size);
+        }
+        String table = this.writePreserveTable;
+        if (table == null) {
+            var list = TsurugiWriteCoalescer.findWritePreserveTable(targetList.get(0).ps);
+            if (list.isEmpty()) {
+                throw new IllegalStateException("write preserve table not found. sql=" + targetList.get(0).ps.getSql());
+            }
+            table = list.get(0);
+        }
+        var setting = TgTmSetting.ofAlways(TgTxOption.ofLTX(table), attemptMaxCount);
+
+        long before = rowCount.get();
+        this.startNanos = System.nanoTime();
+        this.endNanos = 0;
+
+        var failure = new AtomicReference<Throwable>();
+        var writerList = new ArrayList<Writer>(size);
+        for (int i = 0; i < size; i++) {
+            var target = targetList.get(i % targetList.size());
+            var tm = target.session.createTransactionManager(setting);
+            tm.addEventListener(tmCounter);
+            long skipChunk = (checkpoint != null) ? checkpoint.getLastCommittedChunk(i) : -1;
+            var writer = new Writer(i, tm, target.ps, skipChunk, failure);
+            writerList.add(writer);
+            writer.start();
+        }
+
+        try {
+            long index = 0;
+            while (iterator.hasNext() && failure.get() == null) {
+                E row = iterator.next();
+                int partition;
+                if (this.partitionKey != null) {
+                    partition = Math.floorMod(Objects.hashCode(partitionKey.apply(row)), size);
+                } else {
+                    partition = (int) (index++ % size);
+                }
+                writerList.get(partition).offer(row);
+            }
+        } finally {
+            for (var writer : writerList) {
+                writer.finish();
+            }
+            for (var writer : writerList) {
+                writer.join();
+            }
+            this.endNanos = System.nanoTime();
+        }
+
+        var e = failure.get();
+        if (e != null) {
+            rethrow(e);
+        }
+        return rowCount.get() - before;
+    }
+
+    private void checkLayout(TgBulkLoadCheckpoint checkpoint, int size) throws IOException {
+        String layout = "writerCount=" + size + ",chunkSize=" + chunkSize + ",partition=" + ((partitionKey != null) ? "key" : "turn") + ",inputId="
+                + Objects.toString(inputId, "");
+        String recorded = checkpoint.getLayout();
+        if (recorded == null) {
+            checkpoint.setLayout(layout);
+            return;
+        }
+        if (!recorded.equals(layout)) {
+            throw new IllegalStateException("checkpoint layout mismatch. checkpoint=" + recorded + ", load=" + layout);
+        }
+    }
+
+    private static void rethrow(Throwable e) throws IOException, InterruptedException {
+        if (e instanceof IOException) {
+            throw (IOException) e;
+        }
+        if (e instanceof InterruptedException) {
+            throw (InterruptedException) e;
+        }
+        if (e instanceof RuntimeException) {
+            throw (RuntimeException) e;
+        }
+        if (e instanceof Error) {
+            throw (Error) e;
+        }
+        throw new IOException(e.getMessage(), e);
+    }
+
+    private class Writer extends Thread {
+        private final int partition;
+        private final TsurugiTransactionManager tm;
+        private final TsurugiSqlPreparedStatement<E> ps;
+        private final long skipChunk;
+        private final AtomicReference<Throwable> failure;
+        private final BlockingQueue<Object> queue = new ArrayBlockingQueue<>(queueCapacity);
+        private long offerCount = 0;
+
+        Writer(int partition, TsurugiTransactionManager tm, TsurugiSqlPreparedStatement<E> ps, long skipChunk, AtomicReference<Throwable> failure) {
+            super("iceaxe-bulk-loader-" + partition);
+            setDaemon(true);
+            this.partition = partition;
+            this.tm = tm;
+            this.ps = ps;
+            this.skipChunk = skipChunk;
+            this.failure = failure;
+        }
+
+        void offer(E row) throws InterruptedException {
+            long chunk = offerCount++ / chunkSize;
+            if (chunk <= skipChunk) {
+                skipCount.incrementAndGet();
+                return;
+            }
+            while (!queue.offer(row, 100, TimeUnit.MILLISECONDS)) {
+                if (failure.get() != null || !isAlive()) {
+                    return;
+                }
+            }
+        }
+
+        void finish() throws InterruptedException {
+            while (!queue.offer(END, 100, TimeUnit.MILLISECONDS)) {
+                if (!isAlive()) {
+                    return;
+                }
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void run() {
+            long chunk = skipChunk + 1;
+            var rows = new ArrayList<E>(chunkSize);
+            try {
+                for (;;) {
+                    var row = queue.take();
+                    if (row == END) {
+                        break;
+                    }
+                    if (failure.get() != null) {
+                        continue; // drain
+                    }
+                    rows.add((E) row);
+                    if (rows.size() >= chunkSize) {
+                        commit(chunk++, rows);
+                    }
+                }
+                if (!rows.isEmpty() && failure.get() == null) {
+                    commit(chunk, rows);
+                }
+            } catch (Throwable e) {
+                LOG.debug("bulk load failed. partition={}, chunk={}", partition, chunk, e);
+                if (!failure.compareAndSet(null, e)) {
+                    failure.get().addSuppressed(e);
+                }
+            }
+        }
+
+        private void commit(long chunk, List<E> rows) throws IOException, InterruptedException {
+            tm.execute(transaction -> {
+                executeChunk(transaction, ps, rows);
+            });
+            rowCount.addAndGet(rows.size());
+            chunkCount.incrementAndGet();
+            // not atomic with the commit: the chunk is reloaded if the load stops here
+            if (checkpoint != null) {
+                checkpoint.committed(partition, chunk);
+            }
+            rows.clear();
+        }
+    }
+
+    /**
+     * execute a chunk.
+     *
+     * @param transaction transaction
+     * @param ps          statement
+     * @param rows        rows of the chunk
+     * @throws IOException                 if an I/O error occurs while execute
+     * @throws InterruptedException        if interrupted while execute
+     * @throws TsurugiTransactionException if server error occurs while execute
+     */
+    protected void executeChunk(TsurugiTransaction transaction, TsurugiSqlPreparedStatement<E> ps, List<E> rows) throws IOException, InterruptedException, TsurugiTransactionException {
+        transaction.executeAndGetCount(ps, rows);
+    }
+
+    /**
+     * Closes the statements created by this loader.
+     *
+     * @throws IOException          if an I/O error occurs while close statement
+     * @throws InterruptedException if interrupted while close statement
+     */
+    @Override
+    public void close() throws IOException, InterruptedException {
+        Throwable occurred = null;
+        for (var target : targetList) {
+            if (!target.owner) {
+                continue;
+            }
+            try {
+                target.ps.close();
+            } catch (Throwable e) {
+                if (occurred == null) {
+                    occurred = e;
+                } else {
+                    occurred.addSuppressed(e);
+                }
+            }
+        }
+        if (occurred != null) {
+            rethrow(occurred);
+        }
+    }
+}
@@ -16,7 +16,6 @@
 package com.tsurugidb.iceaxe.transaction.manager;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -33,16 +32,20 @@ import org.slf4j.LoggerFactory;
 
 import com.tsurugidb.iceaxe.exception.IceaxeErrorCode;
 import com.tsurugidb.iceaxe.exception.IceaxeIOException;
+import com.tsurugidb.iceaxe.exception.IceaxeTimeoutIOException;
+import com.tsurugidb.iceaxe.jfr.TsurugiTmRetryJfrEvent;
 import com.tsurugidb.iceaxe.session.TsurugiSession;
 import com.tsurugidb.iceaxe.sql.TsurugiSql;
 import com.tsurugidb.iceaxe.sql.TsurugiSqlPreparedQuery;
 import com.tsurugidb.iceaxe.sql.TsurugiSqlPreparedStatement;
 import com.tsurugidb.iceaxe.sql.TsurugiSqlQuery;
 import com.tsurugidb.iceaxe.sql.TsurugiSqlStatement;
+import com.tsurugidb.iceaxe.sql.cache.TsurugiQueryCache;
 import com.tsurugidb.iceaxe.sql.parameter.TgParameterMapping;
 import com.tsurugidb.iceaxe.sql.result.TgResultCount;
 import com.tsurugidb.iceaxe.sql.result.TgResultMapping;
 import com.tsurugidb.iceaxe.sql.result.TsurugiResultEntity;
+import com.tsurugidb.iceaxe.transaction.TgCommitType;
 import com.tsurugidb.iceaxe.transaction.TsurugiTransaction;
 import com.tsurugidb.iceaxe.transaction.exception.TsurugiTransactionException;
 import com.tsurugidb.iceaxe.transaction.exception.TsurugiTransactionRuntimeException;
@@ -54,8 +57,10 @@ import com.tsurugidb.iceaxe.transaction.manager.exception.TsurugiTmRetryOverIOEx
 import com.tsurugidb.iceaxe.transaction.manager.option.TgTmTxOption;
 import com.tsurugidb.iceaxe.transaction.option.TgTxOption;
 import com.tsurugidb.iceaxe.transaction.status.TgTxStatus;
+import com.tsurugidb.iceaxe.util.IceaxeEventListenerList;
 import com.tsurugidb.iceaxe.util.IceaxeInternal;
 import com.tsurugidb.iceaxe.util.InterruptedRuntimeException;
+import com.tsurugidb.iceaxe.util.TgDeadline;
 import com.tsurugidb.iceaxe.util.function.TsurugiTransactionConsumer;
 import com.tsurugidb.iceaxe.util.function.TsurugiTransactionConsumerWithRowNumber;
 
@@ -73,8 +78,9 @@ public class TsurugiTransactionManager {
 
     private final TsurugiSession ownerSession;
     private final TgTmSetting defaultSetting;
-    private List<TsurugiTmEventListener> eventListenerList = null;
+    private volatile IceaxeEventListenerList<TsurugiTmEventListener> eventListenerList = IceaxeEventListenerList.none();
     private TsurugiTmTxOptionModifier txOptionModifier = null;
+    private TsurugiQueryCache queryCache = null;
 
     /**
      * Creates a new instance.
@@ -116,10 +122,9 @@ public class TsurugiTransactionManager {
      * @return this
      */
     public TsurugiTransactionManager addEventListener(TsurugiTmEventListener listener) {
-        if (this.eventListenerList == null) {
-            this.eventListenerList = new ArrayList<>();
+        synchronized (this) {
+            this.eventListenerList = eventListenerList.add(listener);
         }
-        eventListenerList.add(listener);
         return this;
     }
 
@@ -131,41 +136,28 @@ public class TsurugiTransactionManager {
      * @since 1.3.0
      */
     public Optional<TsurugiTmEventListener> findEventListener(Predicate<TsurugiTmEventListener> predicate) {
-        var listenerList = this.eventListenerList;
-        if (listenerList != null) {
-            for (var listener : listenerList) {
-                if (predicate.test(listener)) {
-                    return Optional.of(listener);
-                }
-            }
+        var found = eventListenerList.find(predicate);
+        if (found.isPresent()) {
+            return found;
         }
         var setting = this.defaultSetting;
         if (setting != null) {
-            var settingListener = setting.getEventListener();
-            if (settingListener != null) {
-                for (var listener : settingListener) {
-                    if (predicate.test(listener)) {
-                        return Optional.of(listener);
-                    }
-                }
-            }
+            return setting.getEventListenerList().find(predicate);
         }
         return Optional.empty();
     }
 
+    private boolean hasEventListener(TgTmSetting setting) {
+        return eventListenerList.exists() || setting.getEventListenerList().exists() || this.queryCache != null;
+    }
+
     private void event(TgTmSetting setting, Throwable occurred, Consumer<TsurugiTmEventListener> action) {
         try {
-            var listenerList = this.eventListenerList;
-            if (listenerList != null) {
-                for (var listener : listenerList) {
-                    action.accept(listener);
-                }
-            }
-            var settingListener = setting.getEventListener();
-            if (settingListener != null) {
-                for (var listener : settingListener) {
-                    action.accept(listener);
-                }
+            eventListenerList.event(null, action);
+            setting.getEventListenerList().event(null, action);
+            var cache = this.queryCache;
+            if (cache != null) {
+                action.accept(cache);
             }
         } catch (Throwable e) {
             if (occurred != null) {
@@ -237,6 +229,32 @@ public class TsurugiTransactionManager {
         return newTxOption;
     }
 
+    /**
+     * set query result cache.
+     *
+     * <p>
+     * {@link #executeAndGetList(TgTmSetting, TsurugiSqlPreparedQuery, Object)} uses the cache, and write transactions invalidate the cache.
+     * </p>
+     *
+     * @param cache query result cache
+     * @return this
+     * @since 1.17.0
+     */
+    public TsurugiTransactionManager setQueryCache(@Nullable TsurugiQueryCache cache) {
+        this.queryCache = cache;
+        return this;
+    }
+
+    /**
+     * get query result cache.
+     *
+     * @return query result cache
+     * @since 1.17.0
+     */
+    public @Nullable TsurugiQueryCache getQueryCache() {
+        return this.queryCache;
+    }
+
     /**
      * execute transaction.
      *
@@ -294,10 +312,27 @@ public class TsurugiTransactionManager {
      * @see TsurugiSql
      */
     public <R> R execute(TgTmSetting setting, TsurugiTransactionTask<R> action) throws IOException, InterruptedException {
-        return execute(setting, action, true);
+        return execute(setting, action, true, null);
     }
 
-    private <R> R execute(TgTmSetting setting, TsurugiTransactionTask<R> action, boolean txClose) throws IOException, InterruptedException {
+    /**
+     * execute transaction unless the result is supplied before the transaction begins.
+     *
+     * @param <R>      return type
+     * @param setting  transaction manager settings
+     * @param shortcut function called with the first transaction option. If it returns non-null, the value is returned without executing the transaction
+     * @param action   action
+     * @return return value
+     * @throws IOException          if an I/O error occurs while execute
+     * @throws InterruptedException if interrupted while execute
+     * @since 1.17.0
+     */
+    @IceaxeInternal
+    public <R> R execute(TgTmSetting setting, Function<TgTxOption, R> shortcut, TsurugiTransactionTask<R> action) throws IOException, InterruptedException {
+        return execute(setting, action, true, shortcut);
+    }
+
+    private <R> R execute(TgTmSetting setting, TsurugiTransactionTask<R> action, boolean txClose, @Nullable Function<TgTxOption, R> shortcut) throws IOException, InterruptedException {
         LOG.trace("tm.execute start");
         if (setting == null) {
             throw new IllegalArgumentException("setting is not specified");
@@ -308,13 +343,25 @@ public class TsurugiTransactionManager {
 
         final int tmExecuteId = EXECUTE_COUNT.incrementAndGet();
         final Object executeInfo = setting.getTransactionOptionSupplier().createExecuteInfo(tmExecuteId);
+        final var deadline = setting.createDeadline();
 
         var txOption = setting.getFirstTransactionOption(executeInfo);
         txOption = modifyTransactionOption(txOption, 0);
+        if (shortcut != null) {
+            R r = shortcut.apply(txOption);
+            if (r != null) {
+                LOG.trace("tm.execute end (shortcut)");
+                return r;
+            }
+        }
         {
             var finalTxOption = txOption;
-            event(setting, null, listener -> listener.executeStart(this, tmExecuteId, finalTxOption));
+            if (hasEventListener(setting)) {
+                event(setting, null, listener -> listener.executeStart(this, tmExecuteId, finalTxOption));
+            }
         }
+        Exception retryCause = null;
+        TsurugiTransaction retryTransaction = null;
         for (int attempt = 0;; attempt++) {
             if (LOG.isTraceEnabled()) {
                 LOG.trace("tm.execute iceaxeTmExecuteId={}, attempt={}, tx={}", tmExecuteId, attempt, txOption);
@@ -322,7 +369,14 @@ public class TsurugiTransactionManager {
 
             final int finalAttempt = attempt;
             final var finalTxOption = txOption;
-            event(setting, null, listener -> listener.transactionStart(this, tmExecuteId, finalAttempt, finalTxOption));
+            try {
+                if (hasEventListener(setting)) {
+                    event(setting, null, listener -> listener.transactionStart(this, tmExecuteId, finalAttempt, finalTxOption));
+                }
+            } catch (Throwable e) {
+                finishRetryTransaction(setting, retryTransaction);
+                throw e;
+            }
 
             class TransactionCloseable implements AutoCloseable {
                 private TsurugiTransaction transaction = null;
@@ -331,6 +385,9 @@ public class TsurugiTransactionManager {
                     this.transaction = ownerSession.createTransaction(finalTxOption, tx -> {
                         tx.setOwner(TsurugiTransactionManager.this, tmExecuteId, finalAttempt);
                         setting.initializeTransaction(tx);
+                        if (deadline != null) {
+                            tx.setDeadline(deadline);
+                        }
                     });
                     return this.transaction;
                 }
@@ -341,6 +398,12 @@ public class TsurugiTransactionManager {
                     }
                 }
 
+                public TsurugiTransaction detach() {
+                    var tx = this.transaction;
+                    this.transaction = null;
+                    return tx;
+                }
+
                 @Override
                 public void close() throws IOException, InterruptedException {
                     if (this.transaction != null) {
@@ -351,36 +414,65 @@ public class TsurugiTransactionManager {
 
             TsurugiTransaction lastTransaction = null;
             try (var txCloseable = new TransactionCloseable()) {
-                var transaction = txCloseable.createTransaction();
+                TsurugiTransaction createdTransaction;
+                try {
+                    checkDeadline(deadline, retryCause);
+                    createdTransaction = txCloseable.createTransaction();
+                } finally {
+                    // the rollback of the previous attempt overlaps the begin of this attempt
+                    finishRetryTransaction(setting, retryTransaction);
+                    retryTransaction = null;
+                }
+                var transaction = createdTransaction;
                 lastTransaction = transaction;
-                event(setting, null, listener -> listener.transactionStarted(transaction));
+                if (hasEventListener(setting)) {
+                    event(setting, null, listener -> listener.transactionStarted(transaction));
+                }
 
                 try {
                     R r = action.run(transaction);
                     if (transaction.isRollbacked()) {
                         LOG.trace("tm.execute end (rollbacked)");
-                        event(setting, null, listener -> listener.executeEndSuccess(transaction, false, r));
+                        if (hasEventListener(setting)) {
+                            event(setting, null, listener -> listener.executeEndSuccess(transaction, false, r));
+                        }
                         txCloseable.setReturn();
                         return r;
                     }
                     var sessionOption = ownerSession.getSessionOption();
                     var commitOption = setting.getCommitOption(sessionOption);
                     transaction.commit(commitOption);
+                    var durabilityCommitType = setting.getDurabilityCommitType();
+                    if (durabilityCommitType != null) {
+                        observeDurability(setting, transaction, durabilityCommitType);
+                    }
                     LOG.trace("tm.execute end (committed)");
-                    event(setting, null, listener -> listener.executeEndSuccess(transaction, true, r));
+                    if (hasEventListener(setting)) {
+                        event(setting, null, listener -> listener.executeEndSuccess(transaction, true, r));
+                    }
                     txCloseable.setReturn();
                     return r;
                 } catch (TsurugiTransactionException e) {
-                    event(setting, e, listener -> listener.transactionException(transaction, e));
+                    if (hasEventListener(setting)) {
+                        event(setting, e, listener -> listener.transactionException(transaction, e));
+                    }
                     txOption = processTransactionException(setting, executeInfo, transaction, e, txOption, e);
+                    retryTransaction = txCloseable.detach();
+                    retryCause = e;
                     continue;
                 } catch (TsurugiTransactionRuntimeException e) {
-                    event(setting, e, listener -> listener.transactionException(transaction, e));
+                    if (hasEventListener(setting)) {
+                        event(setting, e, listener -> listener.transactionException(transaction, e));
+                    }
                     var c = e.getCause();
                     txOption = processTransactionException(setting, executeInfo, transaction, e, txOption, c);
+                    retryTransaction = txCloseable.detach();
+                    retryCause = e;
                     continue;
                 } catch (Exception e) {
-                    event(setting, e, listener -> listener.transactionException(transaction, e));
+                    if (hasEventListener(setting)) {
+                        event(setting, e, listener -> listener.transactionException(transaction, e));
+                    }
                     var c = findTransactionException(e);
                     if (c == null) {
                         LOG.trace("tm.execute error", e);
@@ -388,26 +480,58 @@ public class TsurugiTransactionManager {
                         if (e instanceof InterruptedRuntimeException) {
                             throw ((InterruptedRuntimeException) e).getCause();
                         }
+                        if (e instanceof IceaxeTimeoutIOException && deadline != null && deadline.isExpired()) {
+                            throw new IceaxeTimeoutIOException(IceaxeErrorCode.TM_DEADLINE_EXCEEDED, e);
+                        }
                         throw e;
                     }
                     txOption = processTransactionException(setting, executeInfo, transaction, e, txOption, c);
+                    retryTransaction = txCloseable.detach();
+                    retryCause = e;
                     continue;
                 } catch (Throwable e) {
                     LOG.trace("tm.execute error", e);
-                    event(setting, e, listener -> listener.transactionException(transaction, e));
+                    if (hasEventListener(setting)) {
+                        event(setting, e, listener -> listener.transactionException(transaction, e));
+                    }
                     rollback(setting, transaction, e);
                     throw e;
                 }
             } catch (Throwable e) {
                 {
                     var finalTransaction = lastTransaction;
-                    event(setting, e, listener -> listener.executeEndFail(this, tmExecuteId, finalTxOption, finalTransaction, e));
+                    if (hasEventListener(setting)) {
+                        event(setting, e, listener -> listener.executeEndFail(this, tmExecuteId, finalTxOption, finalTransaction, e));
+                    }
                 }
                 throw e;
             }
         }
     }
 
+    private static void checkDeadline(@Nullable TgDeadline deadline, @Nullable Exception retryCause) throws IceaxeTimeoutIOException {
+        if (deadline != null && deadline.isExpired()) {
+            LOG.trace("tm.execute deadline exceeded");
+            if (retryCause != null) {
+                throw new IceaxeTimeoutIOException(IceaxeErrorCode.TM_DEADLINE_EXCEEDED, retryCause);
+            }
+            throw new IceaxeTimeoutIOException(IceaxeErrorCode.TM_DEADLINE_EXCEEDED);
+        }
+    }
+
+    private void observeDurability(TgTmSetting setting, TsurugiTransaction transaction, TgCommitType commitType) {
+        var commitFuture = transaction.getCommitFuture();
+        commitFuture.getFuture(commitType).whenComplete((v, e) -> {
+            try {
+                if (hasEventListener(setting)) {
+                    event(setting, e, listener -> listener.executeDurable(transaction, commitType, e));
+                }
+            } catch (Throwable t) {
+                LOG.warn("tm.executeDurable event error. tx={}", transaction, t);
+            }
+        });
+    }
+
     private TsurugiTransactionException findTransactionException(Exception exception) {
         for (Throwable t = exception; t != null; t = t.getCause()) {
             if (t instanceof TsurugiTransactionException) {
@@ -417,9 +541,9 @@ public class TsurugiTransactionManager {
         return null;
     }
 
+    // if the transaction is retried, it is rollbacked and closed by finishRetryTransaction() after the next transaction begins
     private TgTxOption processTransactionException(TgTmSetting setting, Object executeInfo, TsurugiTransaction transaction, Exception cause, TgTxOption txOption, TsurugiTransactionException exception)
             throws IOException, InterruptedException {
-        boolean calledRollback = false;
         try {
             int nextAttempt = transaction.getAttempt() + 1;
 
@@ -440,18 +564,15 @@ public class TsurugiTransactionManager {
             }
 
             if (nextTmOption.isExecute()) {
-                try {
-                    // リトライ可能なabortの場合でもrollbackは呼ぶ
-                    rollback(setting, transaction, null);
-                } finally {
-                    calledRollback = true;
-                }
-
+                // リトライ可能なabortの場合でもrollbackは呼ぶ（次のトランザクションの開始後）
                 var nextOption = nextTmOption.getTransactionOption();
                 if (LOG.isTraceEnabled()) {
                     LOG.trace("tm.execute retry{}. e={}, nextTx={}", nextAttempt, exception.getMessage(), nextTmOption);
                 }
-                event(setting, cause, listener -> listener.transactionRetry(transaction, cause, nextTmOption));
+                if (hasEventListener(setting)) {
+                    event(setting, cause, listener -> listener.transactionRetry(transaction, cause, nextTmOption));
+                }
+                TsurugiTmRetryJfrEvent.emit(transaction, nextTmOption);
                 return nextOption;
             }
 
@@ -464,25 +585,48 @@ public class TsurugiTransactionManager {
                 throw t;
             }
             if (nextTmOption.isRetryOver()) {
-                event(setting, cause, listener -> listener.transactionRetryOver(transaction, cause, nextTmOption));
+                if (hasEventListener(setting)) {
+                    event(setting, cause, listener -> listener.transactionRetryOver(transaction, cause, nextTmOption));
+                }
                 throw new TsurugiTmRetryOverIOException(transaction, cause, status, nextTmOption);
             } else {
-                event(setting, cause, listener -> listener.transactionNotRetryable(transaction, cause, nextTmOption));
+                if (hasEventListener(setting)) {
+                    event(setting, cause, listener -> listener.transactionNotRetryable(transaction, cause, nextTmOption));
+                }
                 throw new TsurugiTmIOException(cause.getMessage(), transaction, cause, status, nextTmOption);
             }
         } catch (Throwable t) {
-            if (!calledRollback) {
-                rollback(setting, transaction, t);
-            }
+            rollback(setting, transaction, t);
             throw t;
         }
     }
 
+    private void finishRetryTransaction(TgTmSetting setting, @Nullable TsurugiTransaction transaction) {
+        if (transaction == null) {
+            return;
+        }
+        try {
+            rollback(setting, transaction, null);
+        } catch (Throwable e) {
+            LOG.warn("tm.execute retry rollback error. tx={}", transaction, e);
+        }
+        try {
+            transaction.close();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOG.warn("tm.execute retry close interrupted. tx={}", transaction, e);
+        } catch (Throwable e) {
+            LOG.warn("tm.execute retry close error. tx={}", transaction, e);
+        }
+    }
+
     private void rollback(TgTmSetting setting, TsurugiTransaction transaction, Throwable save) throws IOException {
         try {
             if (transaction.available()) {
                 transaction.rollback();
-                event(setting, null, listener -> listener.transactionRollbacked(transaction, save));
+                if (hasEventListener(setting)) {
+                    event(setting, null, listener -> listener.transactionRollbacked(transaction, save));
+                }
             }
         } catch (IOException | RuntimeException | Error e) {
             if (save != null) {
@@ -1110,6 +1254,10 @@ public class TsurugiTransactionManager {
      * @throws InterruptedException if interrupted while execute query
      */
     public <P, R> List<R> executeAndGetList(TgTmSetting setting, TsurugiSqlPreparedQuery<P, R> ps, P parameter) throws IOException, InterruptedException {
+        var cache = this.queryCache;
+        if (cache != null) {
+            return cache.executeAndGetList(this, setting, ps, parameter);
+        }
         return execute(setting, transaction -> {
             return transaction.executeAndGetList(ps, parameter);
         });
@@ -1587,6 +1735,6 @@ public class TsurugiTransactionManager {
         return execute(setting, transaction -> {
             action.run(transaction);
             return transaction;
-        }, false);
+        }, false, null);
     }
 }
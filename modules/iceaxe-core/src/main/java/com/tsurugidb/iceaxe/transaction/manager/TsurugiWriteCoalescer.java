@@ -0,0 +1,463 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.iceaxe.transaction.manager;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import javax.annotation.Nonnull;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.tsurugidb.iceaxe.session.TsurugiSession;
+import com.tsurugidb.iceaxe.sql.TsurugiSqlPreparedStatement;
+import com.tsurugidb.iceaxe.sql.result.TsurugiStatementResult;
+import com.tsurugidb.iceaxe.transaction.TsurugiTransaction;
+import com.tsurugidb.iceaxe.transaction.exception.TsurugiTransactionException;
+import com.tsurugidb.iceaxe.transaction.option.TgTxOption;
+import com.tsurugidb.iceaxe.util.IceaxeSqlTableUtil;
+
+/**
+ * Tsurugi write coalescer.
+ *
+ * <p>
+ * Collects update statements submitted from many threads, and executes them in a single LTX per group (up to {@link #setMaxBatchSize(int) max batch size}
+ * rows within the {@link #setWindow(long, TimeUnit) window}). The write preserve of the LTX is the union of the tables of the statements in the group.
+ * A statement whose write preserve table cannot be resolved is rejected by {@link #submit(TsurugiSqlPreparedStatement, Object)}.
+ * </p>
+ * <p>
+ * Consecutive submissions of the same statement in a group are pipelined: all of them are sent before waiting for the responses, so that a group does not
+ * take one round trip per row.
+ * </p>
+ * <p>
+ * If a group fails, it is split in half and each half is executed again, so that only the failing rows complete exceptionally.
+ * </p>
+ *
+ * @since 1.17.0
+ */
+public class TsurugiWriteCoalescer implements AutoCloseable {
+    private static final Logger LOG = LoggerFactory.getLogger(TsurugiWriteCoalescer.class);
+
+    /**
+     * get the table name of the update statement.
+     *
+     * @param ps statement
+     * @return table names (empty if not found)
+     */
+    public static List<String> findWritePreserveTable(TsurugiSqlPreparedStatement<?> ps) {
+        String name = IceaxeSqlTableUtil.findWriteTable(ps.getSql());
+        if (name == null) {
+            return List.of();
+        }
+        return List.of(name);
+    }
+
+    /**
+     * submitted statement.
+     *
+     * @param <P> parameter type
+     */
+    public static class TgWriteSubmission<P> {
+        private final TsurugiSqlPreparedStatement<P> ps;
+        private final P parameter;
+        private final Collection<String> writePreserveTables;
+        private final CompletableFuture<Integer> future = new CompletableFuture<>();
+
+        TgWriteSubmission(TsurugiSqlPreparedStatement<P> ps, P parameter, Collection<String> writePreserveTables) {
+            this.ps = ps;
+            this.parameter = parameter;
+            this.writePreserveTables = writePreserveTables;
+        }
+
+        /**
+         * get statement.
+         *
+         * @return statement
+         */
+        public TsurugiSqlPreparedStatement<P> getStatement() {
+            return this.ps;
+        }
+
+        /**
+         * get parameter.
+         *
+         * @return parameter
+         */
+        public P getParameter() {
+            return this.parameter;
+        }
+
+        /**
+         * get write preserve tables.
+         *
+         * @return table names
+         */
+        public Collection<String> getWritePreserveTables() {
+            return this.writePreserveTables;
+        }
+
+        /**
+         * execute the statement.
+         *
+         * @param transaction transaction
+         * @return row count
+         * @throws IOException                 if an I/O error occurs while execute statement
+         * @throws InterruptedException        if interrupted while execute statement
+         * @throws TsurugiTransactionException if server error occurs while execute statement
+         */
+        public int execute(TsurugiTransaction transaction) throws IOException, InterruptedException, TsurugiTransactionException {
+            return transaction.executeAndGetCount(ps, parameter);
+        }
+
+        TsurugiStatementResult executeStatement(TsurugiTransaction transaction) throws IOException, InterruptedException, TsurugiTransactionException {
+            return transaction.executeStatement(ps, parameter);
+        }
+    }
+
+    private final TsurugiSession session;
+    private final BlockingQueue<TgWriteSubmission<?>> queue = new LinkedBlockingQueue<>();
+    private final Thread thread;
+    private volatile boolean closed = false;
+    private int maxBatchSize = 100;
+    private long windowNanos = TimeUnit.MILLISECONDS.toNanos(1);
+    private int attemptMaxCount = 3;
+    private Function<TsurugiSqlPreparedStatement<?>, Collection<String>> writePreserveResolver = TsurugiWriteCoalescer::findWritePreserveTable;
+    private TsurugiTransactionManager transactionManager = null;
+
+    private final AtomicLong groupCount = new AtomicLong();
+    private final AtomicLong rowCount = new AtomicLong();
+    private final AtomicLong splitCount = new AtomicLong();
+    private final AtomicLong failureCount = new AtomicLong();
+
+    /**
+     * Creates a new instance.
+     *
+     * @param session session (statements must belong to this session)
+     */
+    public TsurugiWriteCoalescer(@Nonnull TsurugiSession session) {
+        this.session = Objects.requireNonNull(session);
+        this.thread = new Thread(this::run, "iceaxe-write-coalescer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * set maximum number of rows in a group.
+     *
+     * @param size maximum number of rows
+     * @return this
+     */
+    public TsurugiWriteCoalescer setMaxBatchSize(int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("size must be positive. size=" + size);
+        }
+        this.maxBatchSize = size;
+        return this;
+    }
+
+    /**
+     * get maximum number of rows in a group.
+     *
+     * @return maximum number of rows
+     */
+    public int getMaxBatchSize() {
+        return this.maxBatchSize;
+    }
+
+    /**
+     * set window to collect a group.
+     *
+     * @param time window
+     * @param unit unit of window
+     * @return this
+     */
+    public TsurugiWriteCoalescer setWindow(long time, @Nonnull TimeUnit unit) {
+        this.windowNanos = unit.toNanos(time);
+        return this;
+    }
+
+    /**
+     * get window to collect a group.
+     *
+     * @return window [nanoseconds]
+     */
+    public long getWindowNanos() {
+        return this.windowNanos;
+    }
+
+    /**
+     * set attempt max count of the transaction of a group.
+     *
+     * @param attemptMaxCount attempt max count
+     * @return this
+     */
+    public TsurugiWriteCoalescer setAttemptMaxCount(int attemptMaxCount) {
+        this.attemptMaxCount = attemptMaxCount;
+        return this;
+    }
+
+    /**
+     * set resolver of write preserve tables.
+     *
+     * @param resolver resolver (by default, {@link #findWritePreserveTable(TsurugiSqlPreparedStatement)})
+     * @return this
+     */
+    public TsurugiWriteCoalescer setWritePreserveResolver(@Nonnull Function<TsurugiSqlPreparedStatement<?>, Collection<String>> resolver) {
+        this.writePreserveResolver = Objects.requireNonNull(resolver);
+        return this;
+    }
+
+    /**
+     * submit update statement.
+     *
+     * @param <P>       parameter type
+     * @param ps        statement
+     * @param parameter parameter
+     * @return future of row count
+     * @throws IllegalArgumentException if the write preserve table of the statement cannot be resolved
+     */
+    public <P> CompletableFuture<Integer> submit(@Nonnull TsurugiSqlPreparedStatement<P> ps, P parameter) {
+        if (this.closed) {
+            throw new IllegalStateException("coalescer already closed");
+        }
+        var tables = writePreserveResolver.apply(Objects.requireNonNull(ps));
+        if (tables == null || tables.isEmpty()) {
+            throw new IllegalArgumentException("write preserve table not resolved (use setWritePreserveResolver()). sql=" + ps.getSql());
+        }
+        var submission = new TgWriteSubmission<>(ps, parameter, List.copyOf(tables));
+        queue.add(submission);
+        // the worker may have stopped after the check above
+        if (this.closed && queue.remove(submission)) {
+            throw new IllegalStateException("coalescer already closed");
+        }
+        return submission.future;
+    }
+
+    /**
+     * get number of executed groups (including split groups).
+     *
+     * @return group count
+     */
+    public long getGroupCount() {
+        return groupCount.get();
+    }
+
+    /**
+     * get number of successful rows.
+     *
+     * @return row count
+     */
+    public long getRowCount() {
+        return rowCount.get();
+    }
+
+    /**
+     * get number of splits.
+     *
+     * @return split count
+     */
+    public long getSplitCount() {
+        return splitCount.get();
+    }
+
+    /**
+     * get number of failed rows.
+     *
+     * @return failure count
+     */
+    public long getFailureCount() {
+        return failureCount.get();
+    }
+
+    private void run() {
+        try {
+            runLoop();
+        } finally {
+            // also when the worker is interrupted
+            this.closed = true;
+            failRest();
+        }
+    }
+
+    private void runLoop() {
+        var group = new ArrayList<TgWriteSubmission<?>>();
+        for (;;) {
+            try {
+                var first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    if (this.closed) {
+                        break;
+                    }
+                    continue;
+                }
+                group.add(first);
+
+                long deadline = System.nanoTime() + windowNanos;
+                while (group.size() < maxBatchSize) {
+                    long remain = deadline - System.nanoTime();
+                    if (remain <= 0) {
+                        queue.drainTo(group, maxBatchSize - group.size());
+                        break;
+                    }
+                    var next = queue.poll(remain, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    group.add(next);
+                }
+            } catch (InterruptedException e) {
+                LOG.debug("write coalescer interrupted", e);
+                fail(group, e);
+                break;
+            }
+
+            executeGroup(group);
+            group.clear();
+        }
+    }
+
+    /**
+     * execute a group and split it on failure.
+     *
+     * @param group submissions
+     */
+    protected void executeGroup(List<TgWriteSubmission<?>> group) {
+        groupCount.incrementAndGet();
+        int[] counts;
+        try {
+            counts = executeTransaction(group);
+        } catch (IOException | RuntimeException e) {
+            LOG.debug("write group failed. size={}", group.size(), e);
+            if (group.size() == 1) {
+                fail(group, e);
+                return;
+            }
+            splitCount.incrementAndGet();
+            int half = group.size() / 2;
+            executeGroup(group.subList(0, half));
+            executeGroup(group.subList(half, group.size()));
+            return;
+        } catch (InterruptedException e) {
+            fail(group, e);
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        for (int i = 0; i < counts.length; i++) {
+            group.get(i).future.complete(counts[i]);
+        }
+        rowCount.addAndGet(counts.length);
+    }
+
+    private void fail(List<TgWriteSubmission<?>> group, Throwable e) {
+        for (var submission : group) {
+            submission.future.completeExceptionally(e);
+        }
+        failureCount.addAndGet(group.size());
+    }
+
+    /**
+     * execute submissions in a transaction.
+     *
+     * @param group submissions
+     * @return row counts
+     * @throws IOException          if an I/O error occurs while execute
+     * @throws InterruptedException if interrupted while execute
+     */
+    protected int[] executeTransaction(List<TgWriteSubmission<?>> group) throws IOException, InterruptedException {
+        var tables = new LinkedHashSet<String>();
+        for (var submission : group) {
+            tables.addAll(submission.getWritePreserveTables());
+        }
+        var setting = TgTmSetting.ofAlways(TgTxOption.ofLTX(tables), attemptMaxCount);
+
+        var tm = this.transactionManager;
+        if (tm == null) {
+            tm = session.createTransactionManager();
+            this.transactionManager = tm;
+        }
+        return tm.execute(setting, transaction -> {
+            var counts = new int[group.size()];
+            int start = 0;
+            while (start < counts.length) {
+                var ps = group.get(start).getStatement();
+                int end = start + 1;
+                while (end < counts.length && group.get(end).getStatement() == ps) {
+                    end++;
+                }
+                executePipeline(transaction, group.subList(start, end), counts, start);
+                start = end;
+            }
+            return counts;
+        });
+    }
+
+    private static void executePipeline(TsurugiTransaction transaction, List<TgWriteSubmission<?>> run, int[] counts, int offset)
+            throws IOException, InterruptedException, TsurugiTransactionException {
+        var resultList = new ArrayList<TsurugiStatementResult>(run.size());
+        try {
+            for (var submission : run) {
+                resultList.add(submission.executeStatement(transaction));
+            }
+            for (int i = 0; i < resultList.size(); i++) {
+                counts[offset + i] = resultList.get(i).getUpdateCount();
+            }
+        } catch (Throwable e) {
+            for (var result : resultList) {
+                try {
+                    result.close();
+                } catch (Throwable c) {
+                    e.addSuppressed(c);
+                }
+            }
+            throw e;
+        }
+        for (var result : resultList) {
+            result.close();
+        }
+    }
+
+    /**
+     * Executes the submitted statements and stops the coalescer.
+     *
+     * @throws InterruptedException if interrupted while waiting
+     */
+    @Override
+    public void close() throws InterruptedException {
+        this.closed = true;
+        thread.join();
+        failRest();
+    }
+
+    private void failRest() {
+        var rest = new ArrayList<TgWriteSubmission<?>>();
+        queue.drainTo(rest);
+        if (!rest.isEmpty()) {
+            fail(rest, new IllegalStateException("coalescer already closed"));
+        }
+    }
+}
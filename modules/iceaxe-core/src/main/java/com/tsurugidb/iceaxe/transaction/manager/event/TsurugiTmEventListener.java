@@ -17,6 +17,7 @@ package com.tsurugidb.iceaxe.transaction.manager.event;
 
 import javax.annotation.Nullable;
 
+import com.tsurugidb.iceaxe.transaction.TgCommitType;
 import com.tsurugidb.iceaxe.transaction.TsurugiTransaction;
 import com.tsurugidb.iceaxe.transaction.manager.TsurugiTransactionManager;
 import com.tsurugidb.iceaxe.transaction.manager.option.TgTmTxOption;
@@ -24,6 +25,22 @@ import com.tsurugidb.iceaxe.transaction.option.TgTxOption;
 
 /**
  * {@link TsurugiTransactionManager} event listener.
+ *
+ * <p>
+ * The events of one execution are called in the thread which called {@code execute} (except {@link #executeDurable(TsurugiTransaction, TgCommitType,
+ * Throwable)}), in the following order.
+ * </p>
+ * <ol>
+ * <li>{@code executeStart}</li>
+ * <li>for each attempt: {@code transactionStart}, {@code transactionStarted}, and if an exception occurs, {@code transactionException} followed by
+ * {@code transactionRetry}, {@code transactionRetryOver} or {@code transactionNotRetryable}</li>
+ * <li>{@code executeEndSuccess} or {@code executeEndFail}</li>
+ * </ol>
+ * <p>
+ * When the transaction is retried, the rollback of the previous transaction is overlapped with the begin of the next transaction. Therefore
+ * {@code transactionRollbacked} of the previous transaction is called after {@code transactionStart} and before {@code transactionStarted} of the next
+ * attempt. Otherwise {@code transactionRollbacked} is called before {@code executeEndFail}.
+ * </p>
  */
 public interface TsurugiTmEventListener {
 
@@ -72,6 +89,11 @@ public interface TsurugiTmEventListener {
     /**
      * called when transaction rollbacked.
      *
+     * <p>
+     * If the transaction is retried, this method is called after {@link #transactionStart(TsurugiTransactionManager, int, int, TgTxOption)} of the next
+     * attempt.
+     * </p>
+     *
      * @param transaction transaction
      * @param e           exception
      */
@@ -123,6 +145,23 @@ public interface TsurugiTmEventListener {
         // do override
     }
 
+    /**
+     * called when the durability commit type is reached (or failed) after execute success end.
+     *
+     * <p>
+     * This method is called from another thread.
+     * </p>
+     *
+     * @param transaction transaction
+     * @param commitType  durability commit type
+     * @param e           exception ({@code null} if reached)
+     * @see com.tsurugidb.iceaxe.transaction.manager.TgTmSetting#durabilityCommitType(TgCommitType)
+     * @since 1.17.0
+     */
+    default void executeDurable(TsurugiTransaction transaction, TgCommitType commitType, @Nullable Throwable e) {
+        // do override
+    }
+
     /**
      * called when execute fail end.
      *
@@ -0,0 +1,236 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.iceaxe.util;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.Nullable;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Iceaxe background disposer.
+ *
+ * <p>
+ * Closes resources whose close result no longer affects the correctness (e.g. the transaction committed with
+ * {@link com.tsurugidb.iceaxe.transaction.TgCommitOption#autoDispose() autoDispose}) in background threads. If the queue is full, the resource is closed by
+ * the caller.
+ * </p>
+ *
+ * @see com.tsurugidb.iceaxe.session.TgSessionOption#setBackgroundDisposer(IceaxeBackgroundDisposer)
+ * @since 1.17.0
+ */
+public class IceaxeBackgroundDisposer implements AutoCloseable {
+    private static final Logger LOG = LoggerFactory.getLogger(IceaxeBackgroundDisposer.class);
+
+    /** default queue size. */
+    public static final int DEFAULT_QUEUE_SIZE = 1024;
+
+    private static final AtomicInteger INSTANCE_COUNT = new AtomicInteger(0);
+
+    private final ThreadPoolExecutor executor;
+    private final AtomicLong submittedCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final AtomicLong disposedCount = new AtomicLong();
+    private final AtomicLong failureCount = new AtomicLong();
+    private volatile Throwable lastFailure = null;
+    private final Object idleLock = new Object();
+    private long pendingCount = 0; // guarded by idleLock
+
+    /**
+     * Creates a new instance.
+     */
+    public IceaxeBackgroundDisposer() {
+        this(1, DEFAULT_QUEUE_SIZE);
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param threadSize number of threads
+     * @param queueSize  maximum number of waiting resources
+     */
+    public IceaxeBackgroundDisposer(int threadSize, int queueSize) {
+        if (threadSize <= 0) {
+            throw new IllegalArgumentException("threadSize must be positive. threadSize=" + threadSize);
+        }
+        if (queueSize <= 0) {
+            throw new IllegalArgumentException("queueSize must be positive. queueSize=" + queueSize);
+        }
+        int instanceId = INSTANCE_COUNT.incrementAndGet();
+        var threadCount = new AtomicInteger(0);
+        this.executor = new ThreadPoolExecutor(threadSize, threadSize, 0, TimeUnit.NANOSECONDS, new ArrayBlockingQueue<>(queueSize), runnable -> {
+            var thread = new Thread(runnable, "iceaxe-disposer-" + instanceId + "-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * close the resource in background.
+     *
+     * @param closeable    resource
+     * @param timeoutNanos close timeout (from now)
+     * @return {@code true} if accepted, {@code false} if the queue is full or this disposer is closed (the caller should close the resource)
+     */
+    public boolean dispose(IceaxeTimeoutCloseable closeable, long timeoutNanos) {
+        long start = System.nanoTime();
+        synchronized (idleLock) {
+            pendingCount++;
+        }
+        try {
+            executor.execute(() -> run(closeable, timeoutNanos, start));
+        } catch (RejectedExecutionException e) {
+            decrementPendingCount();
+            rejectedCount.incrementAndGet();
+            LOG.trace("dispose rejected. closeable={}", closeable);
+            return false;
+        }
+        submittedCount.incrementAndGet();
+        return true;
+    }
+
+    private void run(IceaxeTimeoutCloseable closeable, long timeoutNanos, long start) {
+        try {
+            long timeout = IceaxeIoUtil.calculateTimeoutNanos(timeoutNanos, start);
+            closeable.close(timeout);
+            disposedCount.incrementAndGet();
+        } catch (Throwable e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            failureCount.incrementAndGet();
+            this.lastFailure = e;
+            LOG.warn("background dispose error. closeable={}", closeable, e);
+        } finally {
+            decrementPendingCount();
+        }
+    }
+
+    private void decrementPendingCount() {
+        synchronized (idleLock) {
+            if (--pendingCount == 0) {
+                idleLock.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * get number of waiting and running resources.
+     *
+     * @return backlog size
+     */
+    public int getBacklogSize() {
+        synchronized (idleLock) {
+            return (int) pendingCount;
+        }
+    }
+
+    /**
+     * get number of accepted resources.
+     *
+     * @return count
+     */
+    public long getSubmittedCount() {
+        return submittedCount.get();
+    }
+
+    /**
+     * get number of rejected resources (closed by the caller).
+     *
+     * @return count
+     */
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    /**
+     * get number of closed resources.
+     *
+     * @return count
+     */
+    public long getDisposedCount() {
+        return disposedCount.get();
+    }
+
+    /**
+     * get number of failures.
+     *
+     * @return count
+     */
+    public long getFailureCount() {
+        return failureCount.get();
+    }
+
+    /**
+     * get last failure.
+     *
+     * @return exception. {@code null} if no failure
+     */
+    public @Nullable Throwable getLastFailure() {
+        return this.lastFailure;
+    }
+
+    /**
+     * wait until all accepted resources are closed.
+     *
+     * @param timeout timeout
+     * @param unit    time unit
+     * @return {@code true} if all resources are closed
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public boolean awaitIdle(long timeout, TimeUnit unit) throws InterruptedException {
+        long timeoutNanos = unit.toNanos(timeout);
+        long start = System.nanoTime();
+        synchronized (idleLock) {
+            while (this.pendingCount > 0) {
+                long remain = timeoutNanos - (System.nanoTime() - start);
+                if (remain <= 0) {
+                    return false;
+                }
+                TimeUnit.NANOSECONDS.timedWait(idleLock, remain);
+            }
+            return true;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * Rejects new resources, and waits until accepted resources are closed.
+     * </p>
+     */
+    @Override
+    public void close() throws InterruptedException {
+        executor.shutdown();
+        while (!executor.awaitTermination(1, TimeUnit.SECONDS)) {
+            LOG.debug("background disposer is waiting for termination. backlog={}", getBacklogSize());
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "IceaxeBackgroundDisposer(backlog=" + getBacklogSize() + ", submitted=" + submittedCount + ", rejected=" + rejectedCount + ", disposed=" + disposedCount + ", failure="
+                + failureCount + ")";
+    }
+}
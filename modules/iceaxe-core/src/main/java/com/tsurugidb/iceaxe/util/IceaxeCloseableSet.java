@@ -20,6 +20,12 @@ import java.util.ArrayList;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.annotation.concurrent.ThreadSafe;
 
@@ -39,6 +45,16 @@ import com.tsurugidb.tsubakuro.exception.ServerException;
 public class IceaxeCloseableSet {
     private static final Logger LOG = LoggerFactory.getLogger(IceaxeCloseableSet.class);
 
+    /** maximum number of threads shared by concurrent close */
+    static final int CLOSE_THREAD_SIZE = 16;
+
+    private static final AtomicInteger CLOSE_THREAD_COUNT = new AtomicInteger(0);
+    private static final ThreadPoolExecutor CLOSE_EXECUTOR = new ThreadPoolExecutor(0, CLOSE_THREAD_SIZE, 60, TimeUnit.SECONDS, new SynchronousQueue<>(), runnable -> {
+        var thread = new Thread(runnable, "iceaxe-close-" + CLOSE_THREAD_COUNT.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
     private final Set<IceaxeTimeoutCloseable> closeableSet = new LinkedHashSet<>();
 
     /**
@@ -86,6 +102,81 @@ public class IceaxeCloseableSet {
         return (result != null) ? result : List.of();
     }
 
+    /**
+     * close all Closeable concurrently.
+     *
+     * <p>
+     * Up to {@code parallelism} Closeables are closed at the same time, and all of them share the single timeout (instead of closing one after another).
+     * </p>
+     * <p>
+     * The caller thread closes Closeables too, and the others are closed by a thread pool shared by all sets (up to {@value #CLOSE_THREAD_SIZE} daemon
+     * threads). If the pool is busy, the remaining Closeables are closed by the caller.
+     * </p>
+     *
+     * @param timeoutNanos timeout
+     * @param parallelism  maximum number of Closeables closed at the same time. 1 or less closes sequentially
+     * @return Exception list if close error occurs (in the order of Closeables)
+     * @throws InterruptedException if interrupted while waiting for close
+     * @since 1.17.0
+     */
+    public List<Throwable> close(long timeoutNanos, int parallelism) throws InterruptedException {
+        if (parallelism <= 1) {
+            return close(timeoutNanos);
+        }
+
+        List<IceaxeTimeoutCloseable> list;
+        synchronized (this) {
+            if (closeableSet.size() <= 1) {
+                return close(timeoutNanos);
+            }
+            list = new ArrayList<>(closeableSet);
+            closeableSet.clear();
+        }
+
+        long start = System.nanoTime();
+        int size = list.size();
+        var errors = new Throwable[size];
+        var next = new AtomicInteger(0);
+        var done = new CountDownLatch(size);
+        Runnable task = () -> {
+            for (int i; (i = next.getAndIncrement()) < size;) {
+                long timeout = IceaxeIoUtil.calculateTimeoutNanos(timeoutNanos, start);
+                try {
+                    list.get(i).close(timeout);
+                } catch (Exception e) {
+                    errors[i] = e;
+                } finally {
+                    done.countDown();
+                }
+            }
+        };
+
+        int helperSize = Math.min(parallelism, size) - 1;
+        int submitted = 0;
+        for (; submitted < helperSize; submitted++) {
+            try {
+                CLOSE_EXECUTOR.execute(task);
+            } catch (RejectedExecutionException e) {
+                break;
+            }
+        }
+        LOG.trace("concurrent close start. size={}, threads={}", size, submitted + 1);
+        task.run();
+        done.await(); // the Closeables taken by the pool threads
+        LOG.trace("concurrent close end");
+
+        List<Throwable> result = null;
+        for (var e : errors) {
+            if (e != null) {
+                if (result == null) {
+                    result = new ArrayList<>();
+                }
+                result.add(e);
+            }
+        }
+        return (result != null) ? result : List.of();
+    }
+
     /**
      * close all Closeable.
      *
@@ -31,10 +31,13 @@ import java.time.OffsetDateTime;
 import java.time.OffsetTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
+import com.tsurugidb.iceaxe.sql.TgDataType;
 import com.tsurugidb.iceaxe.sql.type.IceaxeObjectFactory;
 import com.tsurugidb.iceaxe.sql.type.TgBlob;
 import com.tsurugidb.iceaxe.sql.type.TgBlobReference;
@@ -91,6 +94,181 @@ public class IceaxeConvertUtil {
         return getIceaxeObjectFactory();
     }
 
+    private static final TgDataType[] DATA_TYPES = TgDataType.values();
+
+    private final Map<Class<?>, TgValueConverter<Object, ?>[]> converterMap = new ConcurrentHashMap<>();
+
+    /**
+     * get converter.
+     *
+     * <p>
+     * The converter is created once per pair of the source type and the target type, and cached.
+     * </p>
+     *
+     * @param <T>        target type
+     * @param sourceType source data type ({@code null} if unknown)
+     * @param targetType target class
+     * @return converter
+     * @throws IllegalArgumentException if the target type is not supported
+     * @since 1.17.0
+     */
+    @SuppressWarnings("unchecked")
+    public <T> TgValueConverter<Object, T> getConverter(@Nullable TgDataType sourceType, @Nonnull Class<T> targetType) {
+        var array = converterMap.get(targetType);
+        if (array == null) {
+            array = converterMap.computeIfAbsent(targetType, k -> new TgValueConverter[DATA_TYPES.length + 1]);
+        }
+        int index = (sourceType != null) ? sourceType.ordinal() : DATA_TYPES.length;
+        var converter = array[index];
+        if (converter == null) {
+            converter = createConverter(sourceType, targetType);
+            array[index] = converter;
+        }
+        return (TgValueConverter<Object, T>) converter;
+    }
+
+    /**
+     * Creates a new converter.
+     *
+     * <p>
+     * If this class is extended, the converter calls {@code toXxx} (that is, the overridden {@code convertXxx} methods are used). Override this method to
+     * provide specialized converters in the subclass.
+     * </p>
+     *
+     * @param <T>        target type
+     * @param sourceType source data type ({@code null} if unknown)
+     * @param targetType target class
+     * @return converter
+     * @throws IllegalArgumentException if the target type is not supported
+     * @since 1.17.0
+     */
+    protected <T> TgValueConverter<Object, T> createConverter(@Nullable TgDataType sourceType, @Nonnull Class<T> targetType) {
+        if (sourceType != null && getClass() == IceaxeConvertUtil.class) {
+            var converter = createSpecializedConverter(sourceType, targetType);
+            if (converter != null) {
+                return converter;
+            }
+        }
+        return createGenericConverter(targetType);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> @Nullable TgValueConverter<Object, T> createSpecializedConverter(TgDataType sourceType, Class<T> targetType) {
+        TgValueConverter<Object, ?> converter = null;
+        switch (sourceType) {
+        case INT:
+        case LONG:
+        case FLOAT:
+        case DOUBLE:
+        case DECIMAL:
+            if (targetType == Integer.class || targetType == int.class) {
+                converter = value -> (value instanceof Number) ? Integer.valueOf(((Number) value).intValue()) : toInt(value);
+            } else if (targetType == Long.class || targetType == long.class) {
+                converter = value -> (value instanceof Number) ? Long.valueOf(((Number) value).longValue()) : toLong(value);
+            } else if (targetType == Float.class || targetType == float.class) {
+                converter = value -> (value instanceof Number) ? Float.valueOf(((Number) value).floatValue()) : toFloat(value);
+            } else if (targetType == Double.class || targetType == double.class) {
+                converter = value -> (value instanceof Number) ? Double.valueOf(((Number) value).doubleValue()) : toDouble(value);
+            } else if (targetType == BigDecimal.class && sourceType == TgDataType.DECIMAL) {
+                converter = value -> (value instanceof BigDecimal) ? (BigDecimal) value : toDecimal(value);
+            }
+            break;
+        case BOOLEAN:
+            if (targetType == Boolean.class || targetType == boolean.class) {
+                converter = value -> (value instanceof Boolean) ? (Boolean) value : toBoolean(value);
+            }
+            break;
+        case STRING:
+            if (targetType == String.class) {
+                converter = value -> (value instanceof String) ? (String) value : toString(value);
+            }
+            break;
+        case BYTES:
+            if (targetType == byte[].class) {
+                converter = value -> (value instanceof byte[]) ? (byte[]) value : toBytes(value);
+            }
+            break;
+        case BITS:
+            if (targetType == boolean[].class) {
+                converter = value -> (value instanceof boolean[]) ? (boolean[]) value : toBits(value);
+            }
+            break;
+        case DATE:
+            if (targetType == LocalDate.class) {
+                converter = value -> (value instanceof LocalDate) ? (LocalDate) value : toDate(value);
+            }
+            break;
+        case TIME:
+            if (targetType == LocalTime.class) {
+                converter = value -> (value instanceof LocalTime) ? (LocalTime) value : toTime(value);
+            }
+            break;
+        case DATE_TIME:
+            if (targetType == LocalDateTime.class) {
+                converter = value -> (value instanceof LocalDateTime) ? (LocalDateTime) value : toDateTime(value);
+            }
+            break;
+        case OFFSET_TIME:
+            if (targetType == OffsetTime.class) {
+                converter = value -> (value instanceof OffsetTime) ? (OffsetTime) value : toOffsetTime(value);
+            }
+            break;
+        case OFFSET_DATE_TIME:
+            if (targetType == OffsetDateTime.class) {
+                converter = value -> (value instanceof OffsetDateTime) ? (OffsetDateTime) value : toOffsetDateTime(value);
+            }
+            break;
+        default:
+            break;
+        }
+        return (TgValueConverter<Object, T>) converter;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> TgValueConverter<Object, T> createGenericConverter(Class<T> targetType) {
+        TgValueConverter<Object, ?> converter;
+        if (targetType == Boolean.class || targetType == boolean.class) {
+            converter = this::toBoolean;
+        } else if (targetType == Integer.class || targetType == int.class) {
+            converter = this::toInt;
+        } else if (targetType == Long.class || targetType == long.class) {
+            converter = this::toLong;
+        } else if (targetType == Float.class || targetType == float.class) {
+            converter = this::toFloat;
+        } else if (targetType == Double.class || targetType == double.class) {
+            converter = this::toDouble;
+        } else if (targetType == BigDecimal.class) {
+            converter = this::toDecimal;
+        } else if (targetType == String.class) {
+            converter = this::toString;
+        } else if (targetType == byte[].class) {
+            converter = this::toBytes;
+        } else if (targetType == boolean[].class) {
+            converter = this::toBits;
+        } else if (targetType == LocalDate.class) {
+            converter = this::toDate;
+        } else if (targetType == LocalTime.class) {
+            converter = this::toTime;
+        } else if (targetType == LocalDateTime.class) {
+            converter = this::toDateTime;
+        } else if (targetType == OffsetTime.class) {
+            converter = this::toOffsetTime;
+        } else if (targetType == OffsetDateTime.class) {
+            converter = this::toOffsetDateTime;
+        } else if (targetType == TgBlob.class) {
+            converter = this::toBlob;
+        } else if (targetType == TgBlobReference.class) {
+            converter = this::toBlobReference;
+        } else if (targetType == TgClob.class) {
+            converter = this::toClob;
+        } else if (targetType == TgClobReference.class) {
+            converter = this::toClobReference;
+        } else {
+            throw new IllegalArgumentException("unsupported target type. targetType=" + targetType);
+        }
+        return (TgValueConverter<Object, T>) converter;
+    }
+
     /**
      * convert to Boolean.
      *
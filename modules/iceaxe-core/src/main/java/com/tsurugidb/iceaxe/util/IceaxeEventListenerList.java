@@ -0,0 +1,144 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.iceaxe.util;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Iceaxe event listener list (immutable).
+ *
+ * <p>
+ * {@link #add(Object)} returns a new list, so that the owner can replace the (volatile) field and the listeners can be added concurrently.
+ * </p>
+ * <p>
+ * Check {@link #exists()} before creating the event action (capturing lambda), so that nothing is allocated when no listener is registered.
+ * </p>
+ *
+ * @param <L> listener type
+ * @since 1.17.0
+ */
+@IceaxeInternal
+@Immutable
+public final class IceaxeEventListenerList<L> {
+
+    private static final IceaxeEventListenerList<?> NONE = new IceaxeEventListenerList<>(new Object[0]);
+
+    /**
+     * get empty list.
+     *
+     * @param <L> listener type
+     * @return empty list
+     */
+    @SuppressWarnings("unchecked")
+    public static <L> IceaxeEventListenerList<L> none() {
+        return (IceaxeEventListenerList<L>) NONE;
+    }
+
+    private final Object[] listeners;
+
+    private IceaxeEventListenerList(Object[] listeners) {
+        this.listeners = listeners;
+    }
+
+    /**
+     * create list with the listener added.
+     *
+     * @param listener event listener
+     * @return new list
+     */
+    public IceaxeEventListenerList<L> add(@Nonnull L listener) {
+        var array = Arrays.copyOf(listeners, listeners.length + 1);
+        array[listeners.length] = listener;
+        return new IceaxeEventListenerList<>(array);
+    }
+
+    /**
+     * get whether any listener exists.
+     *
+     * @return {@code true} if exists
+     */
+    public boolean exists() {
+        return listeners.length != 0;
+    }
+
+    /**
+     * get number of listeners.
+     *
+     * @return size
+     */
+    public int size() {
+        return listeners.length;
+    }
+
+    /**
+     * get listeners.
+     *
+     * @return listener list
+     */
+    @SuppressWarnings("unchecked")
+    public List<L> toList() {
+        return (List<L>) List.of(listeners);
+    }
+
+    /**
+     * find event listener.
+     *
+     * @param predicate predicate for event listener
+     * @return event listener
+     */
+    @SuppressWarnings("unchecked")
+    public Optional<L> find(Predicate<? super L> predicate) {
+        for (var listener : listeners) {
+            if (predicate.test((L) listener)) {
+                return Optional.of((L) listener);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * notify event.
+     *
+     * @param occurred exception (add to suppressed if the listener throws exception)
+     * @param action   action for listener
+     */
+    @SuppressWarnings("unchecked")
+    public void event(@Nullable Throwable occurred, Consumer<? super L> action) {
+        try {
+            for (var listener : listeners) {
+                action.accept((L) listener);
+            }
+        } catch (Throwable e) {
+            if (occurred != null) {
+                e.addSuppressed(occurred);
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(listeners);
+    }
+}
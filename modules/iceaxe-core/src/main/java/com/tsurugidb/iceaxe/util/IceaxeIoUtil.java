@@ -187,8 +187,26 @@ public final class IceaxeIoUtil {
      * @throws InterruptedException if interrupted while disposing the resources
      */
     public static void close(long timeoutNanos, IceaxeCloseableSet closeableSet, IceaxeErrorCode closeErrorCode, IceaxeCloseAction closeAction) throws IOException, InterruptedException {
+        close(timeoutNanos, closeableSet, 1, closeErrorCode, closeAction);
+    }
+
+    /**
+     * close resources.
+     *
+     * @param timeoutNanos     close timeout
+     * @param closeableSet     Closeable set
+     * @param closeParallelism maximum number of Closeables closed at the same time
+     * @param closeErrorCode   error code for close
+     * @param closeAction      close action
+     * @throws IOException          if an I/O error occurs while disposing the resources
+     * @throws InterruptedException if interrupted while disposing the resources
+     * @see IceaxeCloseableSet#close(long, int)
+     * @since 1.17.0
+     */
+    public static void close(long timeoutNanos, IceaxeCloseableSet closeableSet, int closeParallelism, IceaxeErrorCode closeErrorCode, IceaxeCloseAction closeAction)
+            throws IOException, InterruptedException {
         long start = System.nanoTime();
-        List<Throwable> saveList = closeableSet.close(timeoutNanos);
+        List<Throwable> saveList = closeableSet.close(timeoutNanos, closeParallelism);
 
         long timeout = calculateTimeoutNanos(timeoutNanos, start);
         try {
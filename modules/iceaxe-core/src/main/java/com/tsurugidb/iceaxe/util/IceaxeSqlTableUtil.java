@@ -0,0 +1,171 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.iceaxe.util;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.annotation.Nullable;
+
+/**
+ * Iceaxe SQL table name utility.
+ *
+ * <p>
+ * Finds table names from SQL text by simple pattern matching (without parsing).
+ * </p>
+ * <p>
+ * Use {@link #normalizeTableName(String)} to compare the table names. It folds the names conservatively (different tables may become the same name, but the
+ * same table never becomes different names).
+ * </p>
+ *
+ * @since 1.17.0
+ */
+@IceaxeInternal
+public final class IceaxeSqlTableUtil {
+
+    private static final String PART = "(?:\"(?:[^\"]|\"\")+\"|[^\\s(),;.\"]+)";
+    private static final String NAME = "(" + PART + "(?:\\s*\\.\\s*" + PART + ")*)";
+
+    private static final Pattern WRITE_PATTERN = Pattern.compile(
+            "^\\s*(?:INSERT\\s+(?:OR\\s+(?:REPLACE|IGNORE)\\s+)?INTO|UPSERT\\s+INTO|UPDATE|DELETE\\s+FROM)\\s+" + NAME, //
+            Pattern.CASE_INSENSITIVE);
+
+    private static final Pattern READ_PATTERN = Pattern.compile("\\b(?:FROM|JOIN)\\s+" + NAME + "((?:\\s*(?:AS\\s+)?[\\w\"]*\\s*,\\s*" + NAME + ")*)", //
+            Pattern.CASE_INSENSITIVE);
+
+    private static final Pattern COMMA_PATTERN = Pattern.compile(",\\s*" + NAME);
+
+    private static final Pattern PART_PATTERN = Pattern.compile(PART);
+
+    /** string literal, quoted identifier or comment */
+    private static final Pattern TOKEN_PATTERN = Pattern.compile("'(?:[^']|'')*'|\"(?:[^\"]|\"\")*\"|/\\*.*?\\*/|--[^\\n]*", Pattern.DOTALL);
+
+    /** derived table (the tables after it may not be found), or unterminated comment */
+    private static final Pattern UNKNOWN_READ_PATTERN = Pattern.compile("\\b(?:FROM|JOIN)\\s*\\(|/\\*", Pattern.CASE_INSENSITIVE);
+
+    private IceaxeSqlTableUtil() {
+        // don't instantiate
+    }
+
+    /**
+     * get the table name of the update statement (INSERT, UPSERT, UPDATE, DELETE).
+     *
+     * @param sql SQL
+     * @return table name. null if not found
+     */
+    public static @Nullable String findWriteTable(String sql) {
+        var matcher = WRITE_PATTERN.matcher(sql);
+        if (!matcher.find()) {
+            return null;
+        }
+        return unquote(matcher.group(1));
+    }
+
+    /**
+     * get the table names in FROM and JOIN clauses.
+     *
+     * @param sql SQL
+     * @return table names. empty if the tables cannot be determined reliably (for example, the SQL contains a derived table)
+     */
+    public static Set<String> findReadTables(String sql) {
+        sql = removeLiteralAndComment(sql);
+        if (UNKNOWN_READ_PATTERN.matcher(sql).find()) {
+            return Set.of();
+        }
+        var set = new LinkedHashSet<String>();
+        var matcher = READ_PATTERN.matcher(sql);
+        while (matcher.find()) {
+            set.add(unquote(matcher.group(1)));
+            String rest = matcher.group(2);
+            if (rest != null && !rest.isEmpty()) {
+                var comma = COMMA_PATTERN.matcher(rest);
+                while (comma.find()) {
+                    set.add(unquote(comma.group(1)));
+                }
+            }
+        }
+        return set;
+    }
+
+    private static String removeLiteralAndComment(String sql) {
+        var matcher = TOKEN_PATTERN.matcher(sql);
+        if (!matcher.find()) {
+            return sql;
+        }
+        var sb = new StringBuilder(sql.length());
+        do {
+            String token = matcher.group();
+            String replacement;
+            switch (token.charAt(0)) {
+            case '\'':
+                replacement = "''";
+                break;
+            case '"':
+                replacement = token;
+                break;
+            default:
+                replacement = " ";
+                break;
+            }
+            matcher.appendReplacement(sb, Matcher.quoteReplacement(replacement));
+        } while (matcher.find());
+        matcher.appendTail(sb);
+        return sb.toString();
+    }
+
+    /**
+     * normalize the table name for comparison.
+     *
+     * <p>
+     * Removes the schema name, and folds to lower case (regardless of quoting).
+     * </p>
+     *
+     * @param name table name (returned by {@link #findWriteTable(String)} or {@link #findReadTables(String)}, or written in the transaction option)
+     * @return normalized table name
+     */
+    public static String normalizeTableName(String name) {
+        int n = name.lastIndexOf('.');
+        if (n >= 0) {
+            name = name.substring(n + 1);
+        }
+        return name.strip().toLowerCase(Locale.ROOT);
+    }
+
+    private static String unquote(String name) {
+        var sb = new StringBuilder(name.length());
+        var matcher = PART_PATTERN.matcher(name);
+        while (matcher.find()) {
+            if (sb.length() > 0) {
+                sb.append('.');
+            }
+            String part = matcher.group();
+            if (part.startsWith("\"")) {
+                sb.append(part, 1, part.length() - 1);
+                int start = sb.length() - (part.length() - 2);
+                // "" -> "
+                for (int i = sb.indexOf("\"\"", start); i >= 0; i = sb.indexOf("\"\"", i + 1)) {
+                    sb.deleteCharAt(i);
+                }
+            } else {
+                sb.append(part);
+            }
+        }
+        return sb.toString();
+    }
+}
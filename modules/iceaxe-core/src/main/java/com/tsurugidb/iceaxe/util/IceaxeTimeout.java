@@ -17,6 +17,8 @@ package com.tsurugidb.iceaxe.util;
 
 import java.util.concurrent.TimeUnit;
 
+import javax.annotation.Nullable;
+
 import com.tsurugidb.iceaxe.session.TgSessionOption;
 import com.tsurugidb.iceaxe.session.TgSessionOption.TgTimeoutKey;
 import com.tsurugidb.tsubakuro.util.ServerResource;
@@ -32,6 +34,7 @@ public class IceaxeTimeout {
     private final TgSessionOption sessionOption;
     private final TgTimeoutKey key;
     private TgTimeValue value;
+    private TgDeadline deadline = null;
 
     /**
      * Creates a new instance.
@@ -76,15 +79,43 @@ public class IceaxeTimeout {
         this.value = timeout;
     }
 
+    /**
+     * set deadline.
+     *
+     * @param deadline deadline ({@code null} if not limited)
+     * @since 1.17.0
+     */
+    public void setDeadline(@Nullable TgDeadline deadline) {
+        this.deadline = deadline;
+    }
+
+    /**
+     * get deadline.
+     *
+     * @return deadline
+     * @since 1.17.0
+     */
+    public @Nullable TgDeadline getDeadline() {
+        return this.deadline;
+    }
+
     /**
      * get time.
      *
-     * @return time
+     * @return time (limited by the deadline)
      */
     public TgTimeValue get() {
         if (this.value == null) {
             this.value = sessionOption.getTimeout(key);
         }
+        var deadline = this.deadline;
+        if (deadline != null) {
+            long nanos = value.toNanos();
+            long limited = deadline.limit(nanos);
+            if (limited < nanos) {
+                return new TgTimeValue(limited, TimeUnit.NANOSECONDS);
+            }
+        }
         return this.value;
     }
 
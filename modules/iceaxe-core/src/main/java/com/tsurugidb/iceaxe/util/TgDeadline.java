@@ -0,0 +1,113 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.iceaxe.util;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Iceaxe deadline.
+ *
+ * <p>
+ * The point in time by which a series of operations must be completed. Each operation gets {@code min(its own timeout, remaining time)}.
+ * </p>
+ *
+ * @since 1.17.0
+ */
+@Immutable
+public final class TgDeadline {
+
+    /**
+     * create deadline.
+     *
+     * @param time time value (from now)
+     * @param unit time unit
+     * @return deadline
+     */
+    public static TgDeadline after(long time, TimeUnit unit) {
+        return new TgDeadline(System.nanoTime() + unit.toNanos(time));
+    }
+
+    /**
+     * create deadline.
+     *
+     * @param time time (from now)
+     * @return deadline
+     */
+    public static TgDeadline after(TgTimeValue time) {
+        return after(time.value(), time.unit());
+    }
+
+    /**
+     * get earlier deadline.
+     *
+     * @param deadline1 deadline
+     * @param deadline2 deadline
+     * @return earlier deadline. {@code null} if both are null
+     */
+    public static @Nullable TgDeadline earlier(@Nullable TgDeadline deadline1, @Nullable TgDeadline deadline2) {
+        if (deadline1 == null) {
+            return deadline2;
+        }
+        if (deadline2 == null) {
+            return deadline1;
+        }
+        return (deadline1.deadlineNanos - deadline2.deadlineNanos <= 0) ? deadline1 : deadline2;
+    }
+
+    private final long deadlineNanos;
+
+    private TgDeadline(long deadlineNanos) {
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    /**
+     * get remaining time.
+     *
+     * @return remaining time [nanosecond]. 0 if expired
+     */
+    public long remainingNanos() {
+        long remaining = deadlineNanos - System.nanoTime();
+        return Math.max(remaining, 0);
+    }
+
+    /**
+     * Whether the deadline has passed.
+     *
+     * @return {@code true} if expired
+     */
+    public boolean isExpired() {
+        return deadlineNanos - System.nanoTime() <= 0;
+    }
+
+    /**
+     * limit timeout by remaining time.
+     *
+     * @param timeoutNanos timeout [nanosecond]
+     * @return {@code min(timeoutNanos, remaining time)} (at least 1)
+     */
+    public long limit(long timeoutNanos) {
+        long remaining = remainingNanos();
+        return Math.max(Math.min(timeoutNanos, remaining), 1);
+    }
+
+    @Override
+    public String toString() {
+        return "TgDeadline(remaining=" + TimeUnit.NANOSECONDS.toMillis(remainingNanos()) + "ms)";
+    }
+}
@@ -0,0 +1,363 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.iceaxe;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.tsurugidb.iceaxe.exception.IceaxeErrorCode;
+import com.tsurugidb.iceaxe.exception.IceaxeIOException;
+import com.tsurugidb.iceaxe.session.TgSessionOption;
+import com.tsurugidb.iceaxe.session.TsurugiSession;
+import com.tsurugidb.iceaxe.test.TestTsurugiSession;
+import com.tsurugidb.iceaxe.test.low.TestFutureResponse;
+import com.tsurugidb.iceaxe.test.low.TestLowSession;
+import com.tsurugidb.tsubakuro.channel.common.connection.Connector;
+import com.tsurugidb.tsubakuro.channel.common.connection.Credential;
+import com.tsurugidb.tsubakuro.channel.common.connection.NullCredential;
+import com.tsurugidb.tsubakuro.common.Session;
+import com.tsurugidb.tsubakuro.util.FutureResponse;
+
+class TsurugiMultiEndpointConnectorTest {
+
+    static class TestEndpointConnector extends TsurugiConnector {
+        boolean down = false;
+        boolean interrupted = false;
+        boolean alive = true;
+        final List<TsurugiSession> sessionList = new ArrayList<>();
+        volatile CountDownLatch connecting = null;
+        volatile CountDownLatch blocker = null;
+
+        TestEndpointConnector(int port) {
+            this(URI.create("tcp://test:" + port));
+        }
+
+        private TestEndpointConnector(URI endpoint) {
+            super(Connector.create(endpoint), endpoint, NullCredential.INSTANCE, TgSessionOption.of());
+            setSesionGenerator((future, option) -> {
+                if (down || interrupted) {
+                    var session = new TsurugiSession(future, option);
+                    sessionList.add(session);
+                    return session;
+                }
+                var blocker = this.blocker;
+                if (blocker != null) {
+                    connecting.countDown();
+                    try {
+                        blocker.await();
+                    } catch (InterruptedException e) {
+                        throw new RuntimeException(e);
+                    }
+                }
+                return new TestTsurugiSession(option) {
+                    @Override
+                    public boolean isAlive() {
+                        return alive;
+                    }
+                };
+            });
+        }
+
+        @Override
+        protected FutureResponse<? extends Session> createLowSession(String label, Credential credential, TgSessionOption sessionOption) throws IOException {
+            return new TestFutureResponse<>() {
+                @Override
+                protected Session getInternal() throws IOException, InterruptedException {
+                    if (down) {
+                        throw new IOException("test: connection refused");
+                    }
+                    if (interrupted) {
+                        throw new InterruptedException("test: interrupted");
+                    }
+                    return new TestLowSession();
+                }
+            };
+        }
+    }
+
+    private static List<TestEndpointConnector> createConnectors(int size) {
+        var list = new ArrayList<TestEndpointConnector>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(new TestEndpointConnector(12345 + i));
+        }
+        return list;
+    }
+
+    @Test
+    void roundRobin() throws Exception {
+        var connectors = createConnectors(3);
+        var target = new TsurugiMultiEndpointConnector(connectors);
+        assertEquals(TgEndpointSelectionType.ROUND_ROBIN, target.getSelectionType());
+
+        var sessionList = new ArrayList<TsurugiSession>();
+        for (int i = 0; i < 6; i++) {
+            sessionList.add(target.createSession());
+        }
+        for (var status : target.getEndpointStatusList()) {
+            assertEquals(2, status.getSelectCount());
+            assertEquals(2, status.getSuccessCount());
+            assertEquals(2, status.getInFlightCount());
+            assertTrue(status.getLatencyNanos() > 0);
+        }
+
+        for (var session : sessionList) {
+            session.close();
+        }
+        for (var status : target.getEndpointStatusList()) {
+            assertEquals(0, status.getInFlightCount());
+        }
+    }
+
+    @Test
+    void leastInFlight() throws Exception {
+        var connectors = createConnectors(3);
+        var target = new TsurugiMultiEndpointConnector(connectors).setSelectionType(TgEndpointSelectionType.LEAST_IN_FLIGHT);
+
+        var sessionList = new ArrayList<TsurugiSession>();
+        for (int i = 0; i < 3; i++) {
+            sessionList.add(target.createSession());
+        }
+        var status1 = target.getEndpointStatusList().get(1);
+        for (var status : target.getEndpointStatusList()) {
+            assertEquals(1, status.getInFlightCount());
+        }
+
+        sessionList.remove(1).close();
+        assertEquals(0, status1.getInFlightCount());
+
+        try (var session = target.createSession()) {
+            assertEquals(1, status1.getInFlightCount());
+            assertEquals(2, status1.getSelectCount());
+        }
+
+        for (var session : sessionList) {
+            session.close();
+        }
+    }
+
+    @Test
+    void latencyWeighted() throws Exception {
+        var connectors = createConnectors(2);
+        var target = new TsurugiMultiEndpointConnector(connectors).setSelectionType(TgEndpointSelectionType.LATENCY_WEIGHTED);
+
+        for (int i = 0; i < 10; i++) {
+            try (var session = target.createSession()) {
+                // do nothing
+            }
+        }
+        long total = 0;
+        for (var status : target.getEndpointStatusList()) {
+            total += status.getSelectCount();
+            assertEquals(0, status.getInFlightCount());
+        }
+        assertEquals(10, total);
+    }
+
+    @Test
+    void failover() throws Exception {
+        var connectors = createConnectors(2);
+        connectors.get(0).down = true;
+        var target = new TsurugiMultiEndpointConnector(connectors).setEjectThreshold(2).setEjectDuration(1, TimeUnit.HOURS);
+        var status0 = target.getEndpointStatusList().get(0);
+        var status1 = target.getEndpointStatusList().get(1);
+
+        try (var session = target.createSession()) {
+            assertEquals(1, status0.getFailureCount());
+            assertEquals(1, status0.getConsecutiveFailureCount());
+            assertFalse(status0.isEjected());
+            assertEquals(1, status1.getInFlightCount());
+        }
+        assertEquals(0, status0.getInFlightCount());
+
+        target.createSession().close(); // select 1
+        target.createSession().close(); // select 0 -> failover to 1
+        assertEquals(2, status0.getFailureCount());
+        assertTrue(status0.isEjected());
+        assertEquals(1, status0.getEjectCount());
+        assertTrue(status0.getLastFailure() instanceof IOException);
+
+        for (int i = 0; i < 4; i++) {
+            target.createSession().close();
+        }
+        assertEquals(2, status0.getSelectCount());
+        assertEquals(7, status1.getSuccessCount());
+    }
+
+    @Test
+    void readmit() throws Exception {
+        var connectors = createConnectors(2);
+        connectors.get(0).down = true;
+        var target = new TsurugiMultiEndpointConnector(connectors).setEjectThreshold(1).setEjectDuration(0, TimeUnit.NANOSECONDS);
+        var status0 = target.getEndpointStatusList().get(0);
+
+        target.createSession().close();
+        assertTrue(status0.isEjected());
+
+        connectors.get(0).down = false;
+        target.createSession().close(); // select 1
+        target.createSession().close(); // select 0 (re-admitted)
+        assertFalse(status0.isEjected());
+        assertEquals(0, status0.getConsecutiveFailureCount());
+        assertEquals(1, status0.getSuccessCount());
+    }
+
+    @Test
+    void readmitOneTrial() throws Exception {
+        var connectors = createConnectors(2);
+        connectors.get(0).down = true;
+        var target = new TsurugiMultiEndpointConnector(connectors).setEjectThreshold(1).setEjectDuration(0, TimeUnit.NANOSECONDS);
+        var status0 = target.getEndpointStatusList().get(0);
+        var status1 = target.getEndpointStatusList().get(1);
+
+        target.createSession().close(); // select 0 -> failover to 1
+        assertTrue(status0.isEjected());
+        target.createSession().close(); // select 1
+
+        var connector0 = connectors.get(0);
+        connector0.down = false;
+        connector0.connecting = new CountDownLatch(1);
+        connector0.blocker = new CountDownLatch(1);
+        var executor = Executors.newSingleThreadExecutor();
+        try {
+            var trial = executor.submit(() -> target.createSession()); // select 0 (trial)
+            connector0.connecting.await();
+
+            // other callers do not connect to the end-point during the trial
+            for (int i = 0; i < 2; i++) {
+                target.createSession().close();
+            }
+            assertEquals(2, status0.getSelectCount());
+            assertEquals(4, status1.getSuccessCount());
+
+            connector0.blocker.countDown();
+            trial.get().close();
+            assertFalse(status0.isEjected());
+            assertEquals(1, status0.getSuccessCount());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void allFailed() throws Exception {
+        var connectors = createConnectors(2);
+        for (var connector : connectors) {
+            connector.down = true;
+        }
+        var target = new TsurugiMultiEndpointConnector(connectors);
+
+        var e = assertThrows(IceaxeIOException.class, () -> target.createSession());
+        assertEquals(IceaxeErrorCode.SESSION_ALL_ENDPOINT_FAILED, e.getDiagnosticCode());
+        assertTrue(e.getCause().getSuppressed().length >= 1);
+        for (var status : target.getEndpointStatusList()) {
+            assertEquals(1, status.getFailureCount());
+            assertEquals(0, status.getInFlightCount());
+        }
+    }
+
+    @Test
+    void interrupted() throws Exception {
+        var connectors = createConnectors(2);
+        connectors.get(0).interrupted = true;
+        var target = new TsurugiMultiEndpointConnector(connectors).setEjectThreshold(1);
+        var status0 = target.getEndpointStatusList().get(0);
+
+        assertThrows(InterruptedException.class, () -> target.createSession());
+        assertEquals(1, connectors.get(0).sessionList.size());
+        assertTrue(connectors.get(0).sessionList.get(0).isClosed());
+        assertEquals(0, status0.getInFlightCount());
+        assertEquals(0, status0.getFailureCount());
+        assertFalse(status0.isEjected());
+    }
+
+    @Test
+    void scheduleHealthCheck() throws Exception {
+        var connectors = createConnectors(1);
+        var target = new TsurugiMultiEndpointConnector(connectors).setEjectThreshold(1);
+        var status0 = target.getEndpointStatusList().get(0);
+
+        var executor = Executors.newSingleThreadScheduledExecutor();
+        try (var session = target.createSession()) {
+            connectors.get(0).alive = false;
+            var future = target.scheduleHealthCheck(executor, 10, TimeUnit.MILLISECONDS);
+            for (int i = 0; i < 500 && !status0.isEjected(); i++) {
+                TimeUnit.MILLISECONDS.sleep(10);
+            }
+            future.cancel(false);
+            assertTrue(status0.isEjected());
+            assertEquals(1, status0.getFailureCount());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void checkHealth() throws Exception {
+        var connectors = createConnectors(2);
+        var target = new TsurugiMultiEndpointConnector(connectors).setEjectThreshold(1);
+        var status0 = target.getEndpointStatusList().get(0);
+        var status1 = target.getEndpointStatusList().get(1);
+
+        try (var session0 = target.createSession(); var session1 = target.createSession()) {
+            target.checkHealth();
+            assertEquals(0, status0.getFailureCount());
+
+            connectors.get(0).alive = false;
+            target.checkHealth();
+            assertEquals(1, status0.getFailureCount());
+            assertTrue(status0.isEjected());
+            assertFalse(status1.isEjected());
+
+            try (var session = target.createSession()) {
+                assertEquals(1, status0.getInFlightCount());
+                assertEquals(2, status1.getInFlightCount());
+            }
+        }
+    }
+
+    @Test
+    void checkHealthCountOnce() throws Exception {
+        var connectors = createConnectors(2);
+        var target = new TsurugiMultiEndpointConnector(connectors).setEjectThreshold(2);
+        var status0 = target.getEndpointStatusList().get(0);
+
+        try (var session0 = target.createSession(); var session1 = target.createSession()) {
+            connectors.get(0).alive = false;
+            target.checkHealth();
+            target.checkHealth();
+            assertEquals(1, status0.getFailureCount());
+            assertFalse(status0.isEjected());
+
+            try (var session = target.createSession()) { // select 0
+                target.checkHealth(); // only the new session is counted
+                assertEquals(2, status0.getFailureCount());
+                assertEquals(1, status0.getConsecutiveFailureCount());
+            }
+        }
+    }
+}
@@ -0,0 +1,249 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.iceaxe.jfr;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import com.tsurugidb.iceaxe.session.TgSessionOption;
+import com.tsurugidb.iceaxe.sql.result.TgResultMapping;
+import com.tsurugidb.iceaxe.test.TestTsurugiSession;
+import com.tsurugidb.iceaxe.test.low.TestFutureResponse;
+import com.tsurugidb.iceaxe.test.low.TestLowTransaction;
+import com.tsurugidb.iceaxe.test.low.TestResultSet;
+import com.tsurugidb.iceaxe.transaction.TgCommitType;
+import com.tsurugidb.iceaxe.transaction.option.TgTxOption;
+import com.tsurugidb.sql.proto.SqlCommon.AtomType;
+import com.tsurugidb.sql.proto.SqlCommon.Column;
+import com.tsurugidb.tsubakuro.sql.ExecuteResult;
+import com.tsurugidb.tsubakuro.sql.ResultSet;
+import com.tsurugidb.tsubakuro.sql.ResultSetMetadata;
+
+class TsurugiJfrEventTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void notRecording() {
+        assertNull(TsurugiSessionConnectJfrEvent.beginIfEnabled());
+        assertNull(TsurugiLobDownloadJfrEvent.beginIfEnabled());
+        TsurugiSessionConnectJfrEvent.emit(null, null, true);
+        TsurugiLobUploadJfrEvent.emit(true, 1, 1);
+    }
+
+    @Test
+    void lobUpload() throws Exception {
+        String name = IceaxeJfr.NAME_PREFIX + "LobUpload";
+        var file = tempDir.resolve("test.jfr");
+        try (var recording = new Recording()) {
+            recording.enable(name).withoutThreshold();
+            recording.start();
+            TsurugiLobUploadJfrEvent.emit(true, 123, 456);
+            TsurugiLobUploadJfrEvent.emit(false, 7, 0);
+            recording.stop();
+            recording.dump(file);
+        }
+
+        var events = RecordingFile.readAllEvents(file);
+        events.removeIf(event -> !event.getEventType().getName().equals(name));
+        assertEquals(2, events.size());
+
+        var event0 = events.get(0);
+        assertTrue(event0.getBoolean("staged"));
+        assertEquals(123, event0.getLong("bytes"));
+        assertEquals(456, event0.getDuration("stageTime").toNanos());
+
+        var event1 = events.get(1);
+        assertFalse(event1.getBoolean("staged"));
+        assertEquals(7, event1.getLong("bytes"));
+    }
+
+    private static TestFutureResponse<ResultSet> resultSetFuture(int size) {
+        return new TestFutureResponse<>() {
+            @Override
+            protected ResultSet getInternal() {
+                return new TestResultSet() {
+                    private int row = -1;
+
+                    @Override
+                    public ResultSetMetadata getMetadata() {
+                        return () -> List.of(Column.newBuilder().setName("v").setAtomType(AtomType.INT4).build());
+                    }
+
+                    @Override
+                    public boolean nextRow() {
+                        return ++this.row < size;
+                    }
+
+                    @Override
+                    public boolean nextColumn() {
+                        return true;
+                    }
+
+                    @Override
+                    public boolean isNull() {
+                        return false;
+                    }
+
+                    @Override
+                    public int fetchInt4Value() {
+                        return row;
+                    }
+                };
+            }
+        };
+    }
+
+    @Test
+    void hooks() throws Exception {
+        var file = tempDir.resolve("hooks.jfr");
+        try (var recording = new Recording()) {
+            for (String name : List.of("SessionConnect", "SessionClose", "TransactionBegin", "TransactionCommit", "TransactionRollback", "SqlExecute", "ResultFetch")) {
+                recording.enable(IceaxeJfr.NAME_PREFIX + name).withoutThreshold();
+            }
+            recording.start();
+            execute();
+            recording.stop();
+            recording.dump(file);
+        }
+
+        var events = RecordingFile.readAllEvents(file).stream() //
+                .filter(event -> event.getEventType().getName().startsWith(IceaxeJfr.NAME_PREFIX)) //
+                .collect(Collectors.groupingBy(event -> event.getEventType().getName().substring(IceaxeJfr.NAME_PREFIX.length())));
+
+        var connect = single(events, "SessionConnect");
+        assertEquals("jfr", connect.getString("sessionLabel"));
+        assertTrue(connect.getBoolean("success"));
+        assertTrue(single(events, "SessionClose").getBoolean("success"));
+
+        var beginList = events.get("TransactionBegin");
+        assertEquals(2, beginList.size());
+        assertTrue(beginList.get(0).getBoolean("success"));
+        var commit = single(events, "TransactionCommit");
+        assertEquals(beginList.get(0).getInt("iceaxeTxId"), commit.getInt("iceaxeTxId"));
+        assertEquals("DEFAULT", commit.getString("commitType"));
+        assertTrue(commit.getBoolean("success"));
+        var rollback = single(events, "TransactionRollback");
+        assertEquals(beginList.get(1).getInt("iceaxeTxId"), rollback.getInt("iceaxeTxId"));
+        assertTrue(rollback.getBoolean("success"));
+
+        var executeMap = events.get("SqlExecute").stream().collect(Collectors.toMap(event -> event.getString("sql"), event -> event));
+        assertEquals(2, executeMap.size());
+        assertEquals("TsurugiStatementResult", executeMap.get("update test set v = 0").getString("resultType"));
+        var query = executeMap.get("select v from test");
+        assertEquals("TsurugiQueryResult", query.getString("resultType"));
+        // the time of the application reading the result is not included
+        assertTrue(query.getDuration().toMillis() < 200, "duration=" + query.getDuration());
+
+        var fetch = single(events, "ResultFetch");
+        assertEquals(query.getInt("iceaxeSqlExecuteId"), fetch.getInt("iceaxeSqlExecuteId"));
+        assertEquals(3, fetch.getInt("readCount"));
+    }
+
+    @Test
+    void commitAsync() throws Exception {
+        String name = IceaxeJfr.NAME_PREFIX + "TransactionCommit";
+        var file = tempDir.resolve("commitAsync.jfr");
+        try (var recording = new Recording()) {
+            recording.enable(name).withoutThreshold();
+            recording.start();
+            try (var session = new TestTsurugiSession(TgSessionOption.of())) {
+                try (var transaction = session.createTransaction(TgTxOption.ofOCC())) {
+                    var lowTransaction = (TestLowTransaction) transaction.getLowTransaction();
+                    lowTransaction.setTestCommitFutureResponse(new TestFutureResponse<>() {
+                        @Override
+                        protected Void getInternal() throws InterruptedException {
+                            TimeUnit.MILLISECONDS.sleep(100);
+                            return null;
+                        }
+                    });
+                    transaction.commitAsync(TgCommitType.ACCEPTED).await();
+                }
+            }
+            recording.stop();
+            recording.dump(file);
+        }
+
+        var events = RecordingFile.readAllEvents(file);
+        events.removeIf(event -> !event.getEventType().getName().equals(name));
+        assertEquals(1, events.size());
+        var commit = events.get(0);
+        assertEquals("ACCEPTED", commit.getString("commitType"));
+        assertTrue(commit.getBoolean("success"));
+        // the wait for the response in the executor is included
+        assertTrue(commit.getDuration().toMillis() >= 100, "duration=" + commit.getDuration());
+    }
+
+    private static RecordedEvent single(Map<String, List<RecordedEvent>> events, String name) {
+        var list = events.get(name);
+        assertEquals(1, list.size(), name);
+        return list.get(0);
+    }
+
+    private static void execute() throws Exception {
+        try (var session = new TestTsurugiSession(TgSessionOption.of().setLabel("jfr")); //
+                var statement = session.createStatement("update test set v = 0"); //
+                var query = session.createQuery("select v from test", TgResultMapping.of(record -> record.nextInt()))) {
+            session.getLowSession();
+
+            try (var transaction = session.createTransaction(TgTxOption.ofOCC())) {
+                var lowTransaction = (TestLowTransaction) transaction.getLowTransaction();
+                lowTransaction.setTestExecuteResultFutureResponse(new TestFutureResponse<>() {
+                    @Override
+                    protected ExecuteResult getInternal() {
+                        return Map::of;
+                    }
+                });
+                transaction.executeAndGetCount(statement);
+
+                lowTransaction.setTestResultSetFutureResponse(resultSetFuture(3));
+                try (var result = transaction.executeQuery(query)) {
+                    var iterator = result.iterator();
+                    assertEquals(0, iterator.next());
+                    TimeUnit.MILLISECONDS.sleep(300);
+                    assertEquals(1, iterator.next());
+                    assertEquals(2, iterator.next());
+                    assertFalse(iterator.hasNext());
+                }
+
+                lowTransaction.setTestCommitFutureResponse(new TestFutureResponse<>());
+                transaction.commit(TgCommitType.DEFAULT);
+            }
+
+            try (var transaction = session.createTransaction(TgTxOption.ofOCC())) {
+                var lowTransaction = (TestLowTransaction) transaction.getLowTransaction();
+                lowTransaction.setTestRollbackFutureResponse(new TestFutureResponse<>());
+                transaction.rollback();
+            }
+        }
+    }
+}
@@ -15,6 +15,8 @@
  */
 package com.tsurugidb.iceaxe.lob;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -22,9 +24,11 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import com.tsurugidb.iceaxe.session.TgLobTransferType;
 import com.tsurugidb.iceaxe.session.TgSessionOption;
@@ -125,4 +129,20 @@ class TsurugiLargeObjectHelperTest {
         assertTrue(remoteBlob.closed);
         assertTrue(remoteClob.closed);
     }
+
+    @Test
+    void createTempFilePathOverride(@TempDir Path tempDir) throws Exception {
+        var file = tempDir.resolve("override.tmp");
+        var helper = new TsurugiPrivilegedLargeObjectHelper() {
+            @Override
+            @SuppressWarnings("deprecation")
+            protected Path createTempFilePath(TsurugiSession session) {
+                return file;
+            }
+        };
+
+        var path = helper.getStaging().stageBlob(null, new byte[] { 1, 2, 3 });
+        assertEquals(file, path);
+        assertArrayEquals(new byte[] { 1, 2, 3 }, Files.readAllBytes(path));
+    }
 }
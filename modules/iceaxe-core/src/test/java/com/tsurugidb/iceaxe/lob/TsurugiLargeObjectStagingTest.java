@@ -0,0 +1,145 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.iceaxe.lob;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class TsurugiLargeObjectStagingTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void directoryStaging() throws Exception {
+        var staging = new TsurugiLargeObjectDirectoryStaging(tempDir);
+
+        byte[] value = { 1, 2, 3 };
+        var path = staging.stageBlob(null, value);
+        assertEquals(tempDir, path.getParent());
+        assertArrayEquals(value, Files.readAllBytes(path));
+        assertEquals(1, staging.getStageCount());
+        assertEquals(3, staging.getStageBytes());
+
+        staging.release(path);
+        assertFalse(Files.exists(path));
+    }
+
+    @Test
+    void pooledStaging() throws Exception {
+        try (var staging = new TsurugiLargeObjectPooledStaging(tempDir, 1, 4)) {
+            staging.preallocate(2, 10);
+            assertEquals(1, staging.getPoolSize());
+            try (var files = Files.list(tempDir)) {
+                var pooled = files.findFirst().get();
+                assertEquals(10, Files.size(pooled));
+            }
+
+            byte[] value = "0123456".getBytes(StandardCharsets.UTF_8);
+            var path1 = staging.stageBlob(null, value);
+            assertEquals(0, staging.getPoolSize());
+            assertArrayEquals(value, Files.readAllBytes(path1));
+
+            staging.release(path1);
+            assertEquals(1, staging.getPoolSize());
+            assertTrue(Files.exists(path1));
+
+            var path2 = staging.stageBlob(null, new ByteArrayInputStream(new byte[] { 9 }));
+            assertEquals(path1, path2);
+            assertArrayEquals(new byte[] { 9 }, Files.readAllBytes(path2));
+
+            String text = "abcあいうxyz";
+            var path3 = staging.stageClob(null, new StringReader(text));
+            assertEquals(text, Files.readString(path3, StandardCharsets.UTF_8));
+
+            staging.release(path2);
+            staging.release(path3);
+            assertEquals(1, staging.getPoolSize());
+            assertFalse(Files.exists(path3));
+
+            assertEquals(3, staging.getStageCount());
+            assertEquals(7 + 1 + text.getBytes(StandardCharsets.UTF_8).length, staging.getStageBytes());
+            assertEquals(1, staging.getBufferCount());
+
+            staging.close();
+            assertEquals(0, staging.getPoolSize());
+            assertEquals(0, staging.getBufferCount());
+            assertFalse(Files.exists(path1));
+        }
+    }
+
+    @Test
+    void pooledStagingBufferBound() throws Exception {
+        try (var staging = new TsurugiLargeObjectPooledStaging(tempDir, 0, 4, 2)) {
+            int size = 4;
+            var start = new CountDownLatch(1);
+            var executor = Executors.newFixedThreadPool(size);
+            try {
+                var futureList = new ArrayList<Future<Path>>();
+                for (int i = 0; i < size; i++) {
+                    futureList.add(executor.submit(() -> {
+                        start.await();
+                        return staging.stageBlob(null, new byte[] { 1, 2, 3, 4, 5 });
+                    }));
+                }
+                start.countDown();
+                for (var future : futureList) {
+                    staging.release(future.get());
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+            assertTrue(staging.getBufferCount() <= 2);
+        }
+    }
+
+    @Test
+    void thresholdStaging() throws Exception {
+        var staging = new TsurugiLargeObjectThresholdStaging(10, new TsurugiLargeObjectDirectoryStaging(tempDir));
+
+        assertTrue(staging.isStream(0));
+        assertTrue(staging.isStream(9));
+        assertFalse(staging.isStream(10));
+        assertFalse(staging.isStream(-1));
+
+        var path = staging.stageClob(null, "abc");
+        assertEquals("abc", Files.readString(path, StandardCharsets.UTF_8));
+        assertEquals(1, staging.getStageCount());
+
+        staging.recordStream(3);
+        assertEquals(1, staging.getStreamCount());
+        assertEquals(3, staging.getStreamBytes());
+
+        staging.resetMetrics();
+        assertEquals(0, staging.getStageCount());
+        assertEquals(0, staging.getStreamCount());
+    }
+}
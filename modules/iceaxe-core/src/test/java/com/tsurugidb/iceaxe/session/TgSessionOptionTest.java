@@ -197,6 +197,15 @@ class TgSessionOptionTest {
         assertEquals(TgSessionShutdownType.GRACEFUL, sessionOption.getCloseShutdownType());
     }
 
+    @Test
+    void lobUploadParallel() {
+        var sessionOption = new TgSessionOption();
+        assertFalse(sessionOption.isLobUploadParallel());
+
+        sessionOption.setLobUploadParallel(true);
+        assertTrue(sessionOption.isLobUploadParallel());
+    }
+
     @Test
     void testOf() {
         var sessionOption = TgSessionOption.of();
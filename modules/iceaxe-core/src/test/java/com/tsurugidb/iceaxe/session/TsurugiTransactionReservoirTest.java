@@ -0,0 +1,81 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.iceaxe.session;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.tsurugidb.iceaxe.test.TestTsurugiSession;
+import com.tsurugidb.iceaxe.transaction.option.TgTxOption;
+
+class TsurugiTransactionReservoirTest {
+
+    private static void awaitAvailable(TsurugiTransactionReservoir reservoir, int count) throws InterruptedException {
+        long start = System.nanoTime();
+        while (reservoir.getAvailableCount() < count) {
+            if (System.nanoTime() - start > TimeUnit.SECONDS.toNanos(10)) {
+                throw new AssertionError("timeout. available=" + reservoir.getAvailableCount());
+            }
+            Thread.sleep(1);
+        }
+    }
+
+    @Test
+    void addOption() {
+        var reservoir = new TsurugiTransactionReservoir(1, 1, TimeUnit.SECONDS);
+        assertThrows(IllegalArgumentException.class, () -> reservoir.addOption(TgTxOption.ofLTX("test")));
+    }
+
+    @Test
+    void hit() throws Exception {
+        var reservoir = new TsurugiTransactionReservoir(2, 1, TimeUnit.HOURS).addOption(TgTxOption.ofOCC());
+        try (var session = new TestTsurugiSession(TgSessionOption.of())) {
+            session.setTransactionReservoir(reservoir);
+            awaitAvailable(reservoir, 2);
+
+            try (var transaction = session.createTransaction(TgTxOption.ofOCC())) {
+                assertEquals(1, reservoir.getHitCount());
+            }
+            try (var transaction = session.createTransaction(TgTxOption.ofRTX())) {
+                assertEquals(1, reservoir.getHitCount());
+                assertEquals(0, reservoir.getMissCount());
+            }
+            awaitAvailable(reservoir, 2);
+            assertTrue(reservoir.getBeginCount() >= 3);
+            assertEquals(1.0, reservoir.getHitRatio());
+        }
+        assertEquals(0, reservoir.getAvailableCount());
+    }
+
+    @Test
+    void stale() throws Exception {
+        var reservoir = new TsurugiTransactionReservoir(1, 1, TimeUnit.NANOSECONDS).addOption(TgTxOption.ofOCC());
+        try (var session = new TestTsurugiSession(TgSessionOption.of())) {
+            session.setTransactionReservoir(reservoir);
+
+            try (var transaction = session.createTransaction(TgTxOption.ofOCC())) {
+                assertEquals(0, reservoir.getHitCount());
+                assertEquals(1, reservoir.getMissCount());
+                assertEquals(0.0, reservoir.getHitRatio());
+            }
+        }
+    }
+}
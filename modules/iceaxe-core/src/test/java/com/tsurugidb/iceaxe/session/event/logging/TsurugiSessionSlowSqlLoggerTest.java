@@ -0,0 +1,199 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.iceaxe.session.event.logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.tsurugidb.iceaxe.session.TgSessionOption;
+import com.tsurugidb.iceaxe.session.TgSessionOption.TgTimeoutKey;
+import com.tsurugidb.iceaxe.sql.TsurugiSql;
+import com.tsurugidb.iceaxe.sql.TsurugiSqlStatement;
+import com.tsurugidb.iceaxe.test.TestTsurugiSession;
+import com.tsurugidb.iceaxe.test.low.TestFutureResponse;
+import com.tsurugidb.iceaxe.test.low.TestLowTransaction;
+import com.tsurugidb.iceaxe.transaction.TsurugiTransaction;
+import com.tsurugidb.iceaxe.transaction.option.TgTxOption;
+import com.tsurugidb.tsubakuro.sql.ExecuteResult;
+
+class TsurugiSessionSlowSqlLoggerTest {
+
+    private static class TestLogger extends TsurugiSessionSlowSqlLogger {
+        final List<String> recordList = new CopyOnWriteArrayList<>();
+
+        TestLogger(long threshold, TimeUnit unit) {
+            super(threshold, unit);
+        }
+
+        @Override
+        protected void writeRecord(String record) {
+            recordList.add(record);
+        }
+    }
+
+    @Test
+    void sampleRate() {
+        var logger = new TsurugiSessionSlowSqlLogger(1, TimeUnit.SECONDS);
+        assertEquals(1000, logger.getThreshold(TimeUnit.MILLISECONDS));
+        assertEquals(0.5, logger.sampleRate(0.5).sampleRate());
+        assertThrows(IllegalArgumentException.class, () -> logger.sampleRate(1.5));
+        assertThrows(IllegalArgumentException.class, () -> logger.explainCacheSize(-1));
+    }
+
+    @Test
+    void slow() throws Exception {
+        var sessionOption = TgSessionOption.of();
+        sessionOption.setTimeout(TgTimeoutKey.DEFAULT, 1, TimeUnit.SECONDS);
+
+        var future = new TestFutureResponse<ExecuteResult>();
+        future.setExpectedCloseTimeout(1, TimeUnit.SECONDS);
+        future.setThrowCloseTimeout(true);
+
+        var slowLogger = new TestLogger(0, TimeUnit.MILLISECONDS);
+        slowLogger.explainCacheSize(0);
+        var fastLogger = new TestLogger(1, TimeUnit.HOURS);
+        try (var session = new TestTsurugiSession(sessionOption)) {
+            session.addEventListener(slowLogger);
+            session.addEventListener(fastLogger);
+
+            try (var transaction = session.createTransaction(TgTxOption.ofOCC())) {
+                var lowTx = (TestLowTransaction) transaction.getLowTransaction();
+                lowTx.setTestExecuteResultFutureResponse(future);
+
+                try (var ps = session.createStatement("update test\n set foo = 1")) {
+                    try (var rs = ps.execute(transaction)) {
+                        assertThrows(Exception.class, () -> rs.close());
+
+                        future.setExpectedCloseTimeout(null);
+                        future.setThrowCloseTimeout(false);
+                    }
+                }
+            }
+        }
+
+        assertEquals(1, slowLogger.recordList.size());
+        String record = slowLogger.recordList.get(0);
+        assertTrue(record.startsWith("{\"type\":\"slow\""), record);
+        assertTrue(record.contains("\"error\":\"RESULT_CLOSE_TIMEOUT\""), record);
+        assertTrue(record.contains("\"sql\":\"update test\\n set foo = 1\""), record);
+
+        assertEquals(0, fastLogger.recordList.size());
+    }
+
+    @Test
+    void explainCached() throws Exception {
+        var explainCount = new AtomicInteger(0);
+        var explainThreadList = new CopyOnWriteArrayList<Thread>();
+        var logger = new TestLogger(0, TimeUnit.MILLISECONDS) {
+            @Override
+            protected String explain(TsurugiSql ps, Object parameter) throws InterruptedException {
+                explainThreadList.add(Thread.currentThread());
+                Thread.sleep(200);
+                return "plan" + explainCount.incrementAndGet();
+            }
+        };
+
+        try (var session = new TestTsurugiSession(TgSessionOption.of())) {
+            session.addEventListener(logger);
+
+            try (var transaction = session.createTransaction(TgTxOption.ofOCC()); //
+                    var ps = session.createStatement("update test set foo = 1")) {
+                long start = System.nanoTime();
+                execute(transaction, ps);
+                long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                assertTrue(elapsed < 200, "explain in the application thread. elapsed=" + elapsed);
+
+                awaitRecord(logger, 1);
+                assertTrue(logger.recordList.get(0).endsWith(",\"plan\":\"plan1\"}"), logger.recordList.get(0));
+
+                execute(transaction, ps);
+                execute(transaction, ps);
+            }
+        }
+
+        assertEquals(3, logger.recordList.size());
+        for (var record : logger.recordList) {
+            assertTrue(record.endsWith(",\"plan\":\"plan1\"}"), record);
+        }
+        assertEquals(1, explainCount.get());
+        assertEquals(1, explainThreadList.size());
+        assertNotEquals(Thread.currentThread(), explainThreadList.get(0));
+    }
+
+    @Test
+    void explainError() throws Exception {
+        var explainCount = new AtomicInteger(0);
+        var logger = new TestLogger(0, TimeUnit.MILLISECONDS) {
+            @Override
+            protected String explain(TsurugiSql ps, Object parameter) {
+                if (explainCount.incrementAndGet() == 1) {
+                    throw new IllegalStateException("test");
+                }
+                return "plan";
+            }
+        };
+
+        try (var session = new TestTsurugiSession(TgSessionOption.of())) {
+            session.addEventListener(logger);
+
+            try (var transaction = session.createTransaction(TgTxOption.ofOCC()); //
+                    var ps = session.createStatement("update test set foo = 1")) {
+                execute(transaction, ps);
+                awaitRecord(logger, 1);
+                assertFalse(logger.recordList.get(0).contains("\"plan\""), logger.recordList.get(0));
+
+                // retry at the next slow execution
+                execute(transaction, ps);
+                awaitRecord(logger, 2);
+                assertTrue(logger.recordList.get(1).endsWith(",\"plan\":\"plan\"}"), logger.recordList.get(1));
+            }
+        }
+
+        assertEquals(2, explainCount.get());
+    }
+
+    private static void execute(TsurugiTransaction transaction, TsurugiSqlStatement ps) throws Exception {
+        var lowTx = (TestLowTransaction) transaction.getLowTransaction();
+        lowTx.setTestExecuteResultFutureResponse(new TestFutureResponse<>() {
+            @Override
+            protected ExecuteResult getInternal() {
+                return Map::of;
+            }
+        });
+        transaction.executeAndGetCount(ps);
+    }
+
+    private static void awaitRecord(TestLogger logger, int size) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (logger.recordList.size() < size) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("record not written. size=" + logger.recordList.size());
+            }
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.iceaxe.session.event.profiling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import com.tsurugidb.iceaxe.exception.IceaxeErrorCode;
+import com.tsurugidb.iceaxe.session.TgSessionOption;
+import com.tsurugidb.iceaxe.session.TgSessionOption.TgTimeoutKey;
+import com.tsurugidb.iceaxe.test.TestTsurugiSession;
+import com.tsurugidb.iceaxe.test.low.TestFutureResponse;
+import com.tsurugidb.iceaxe.test.low.TestLowTransaction;
+import com.tsurugidb.iceaxe.transaction.option.TgTxOption;
+import com.tsurugidb.tsubakuro.sql.ExecuteResult;
+
+class TsurugiSqlProfilerTest {
+
+    @Test
+    void normalizeSql() {
+        assertEquals("select * from test where foo = ?", TsurugiSqlProfiler.normalizeSql("  select *\n  from test\r\n\twhere foo = 1 "));
+        assertEquals("select * from test2 where foo = ? and bar = -?", TsurugiSqlProfiler.normalizeSql("select * from test2 where foo = 'it''s' and bar = -1.5e3"));
+        assertEquals("select * from test where foo in (?) and bar in(?)", TsurugiSqlProfiler.normalizeSql("select * from test where foo in (1, 2, 3) and bar in('a','b')"));
+        assertEquals("select * from test where foo = :foo1", TsurugiSqlProfiler.normalizeSql("select * from test where foo = :foo1"));
+    }
+
+    @Test
+    void maxSize() throws Exception {
+        var profiler = new TsurugiSqlProfiler().setMaxSize(3);
+        try (var session = new TestTsurugiSession(TgSessionOption.of())) {
+            session.addEventListener(profiler);
+
+            for (int i = 0; i < 10; i++) {
+                // the same profile (literals are normalized)
+                session.createStatement("update test1 set foo = " + i).close();
+            }
+            session.createStatement("update test2 set foo = 1").close();
+            for (int i = 0; i < 10; i++) {
+                session.createStatement("update test" + (i + 3) + " set foo = 1").close();
+            }
+        }
+
+        var keyList = profiler.getProfileList().stream().map(TgSqlProfile::getKey).sorted().collect(Collectors.toList());
+        assertEquals(List.of(TsurugiSqlProfiler.OTHERS_KEY, "update test1 set foo = ?", "update test2 set foo = ?"), keyList);
+        assertThrows(IllegalArgumentException.class, () -> profiler.setMaxSize(0));
+    }
+
+    @Test
+    void executeError() throws Exception {
+        var sessionOption = TgSessionOption.of();
+        sessionOption.setTimeout(TgTimeoutKey.DEFAULT, 1, TimeUnit.SECONDS);
+
+        var future = new TestFutureResponse<ExecuteResult>();
+        future.setExpectedCloseTimeout(1, TimeUnit.SECONDS);
+        future.setThrowCloseTimeout(true);
+
+        var profiler = new TsurugiSqlProfiler();
+        try (var session = new TestTsurugiSession(sessionOption)) {
+            session.addEventListener(profiler);
+
+            try (var transaction = session.createTransaction(TgTxOption.ofOCC())) {
+                var lowTx = (TestLowTransaction) transaction.getLowTransaction();
+                lowTx.setTestExecuteResultFutureResponse(future);
+
+                try (var ps1 = session.createStatement("update test\n  set foo = 1"); //
+                        var ps2 = session.createStatement("update test set foo = 2"); //
+                        var ps3 = session.createStatement("update test set bar = 3")) {
+                    try (var rs = ps1.execute(transaction)) {
+                        assertThrows(Exception.class, () -> rs.close());
+
+                        future.setExpectedCloseTimeout(null);
+                        future.setThrowCloseTimeout(false);
+                    }
+                }
+            }
+        }
+
+        var list = profiler.getTopN(10);
+        assertEquals(1, list.size());
+        var profile = list.get(0);
+        assertEquals("update test set foo = ?", profile.getKey());
+        assertEquals(1, profile.getExecuteCount());
+        assertEquals(1, profile.getErrorCount());
+        assertEquals(1L, profile.getErrorCountMap().get(IceaxeErrorCode.RESULT_CLOSE_TIMEOUT));
+        assertTrue(profile.getTotalExecuteNanos() > 0);
+
+        assertEquals(2, profiler.getProfileList().size());
+        profiler.reset();
+        assertEquals(0, profiler.getTopN(10).size());
+    }
+}
@@ -0,0 +1,324 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.iceaxe.sql.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.tsurugidb.iceaxe.session.TgSessionOption;
+import com.tsurugidb.iceaxe.session.TsurugiSession;
+import com.tsurugidb.iceaxe.sql.parameter.TgBindParameters;
+import com.tsurugidb.iceaxe.sql.parameter.TgBindVariable;
+import com.tsurugidb.iceaxe.sql.parameter.TgParameterMapping;
+import com.tsurugidb.iceaxe.sql.result.TgResultMapping;
+import com.tsurugidb.iceaxe.test.TestTsurugiSession;
+import com.tsurugidb.iceaxe.test.low.TestFutureResponse;
+import com.tsurugidb.iceaxe.test.low.TestLowTransaction;
+import com.tsurugidb.iceaxe.test.low.TestPreparedStatement;
+import com.tsurugidb.iceaxe.test.low.TestResultSet;
+import com.tsurugidb.iceaxe.test.low.TestSqlClient;
+import com.tsurugidb.iceaxe.transaction.manager.TgTmSetting;
+import com.tsurugidb.iceaxe.transaction.option.TgTxOption;
+import com.tsurugidb.sql.proto.SqlCommon.AtomType;
+import com.tsurugidb.sql.proto.SqlCommon.Column;
+import com.tsurugidb.sql.proto.SqlRequest.Parameter;
+import com.tsurugidb.sql.proto.SqlRequest.Placeholder;
+import com.tsurugidb.sql.proto.SqlRequest.TransactionOption;
+import com.tsurugidb.tsubakuro.common.Session;
+import com.tsurugidb.tsubakuro.sql.PreparedStatement;
+import com.tsurugidb.tsubakuro.sql.ResultSet;
+import com.tsurugidb.tsubakuro.sql.ResultSetMetadata;
+import com.tsurugidb.tsubakuro.sql.SqlClient;
+import com.tsurugidb.tsubakuro.sql.Transaction;
+import com.tsurugidb.tsubakuro.util.FutureResponse;
+
+class TsurugiQueryCacheTest {
+
+    private static final Object MAPPING = new Object();
+
+    private static TsurugiQueryCache.Key key(String sql, Object... parameters) {
+        return new TsurugiQueryCache.Key(sql, MAPPING, List.of(parameters));
+    }
+
+    private static void put(TsurugiQueryCache target, TsurugiQueryCache.Key key, List<?> value, String... tables) {
+        target.put(key, value, Set.of(tables), target.stamp(Set.of(tables)));
+    }
+
+    @Test
+    void getPut() {
+        var target = new TsurugiQueryCache(100, 1, TimeUnit.HOURS);
+        var key = key("select * from test where k=:k", 1);
+        assertNull(target.get(key));
+
+        put(target, key, List.of("a", "b"), "test");
+        assertEquals(List.of("a", "b"), target.get(key(("select * from test where k=:k"), 1)));
+        assertNull(target.get(key("select * from test where k=:k", 2)));
+        assertNull(target.get(new TsurugiQueryCache.Key("select * from test where k=:k", new Object(), List.of(1))));
+        assertEquals(1, target.size());
+        assertEquals(3, target.getWeight());
+    }
+
+    @Test
+    void expire() {
+        var target = new TsurugiQueryCache(100, 0, TimeUnit.NANOSECONDS);
+        var key = key("select * from test");
+        put(target, key, List.of(1), "test");
+        assertNull(target.get(key));
+        assertEquals(0, target.size());
+    }
+
+    @Test
+    void evict() {
+        var target = new TsurugiQueryCache(10, 1, TimeUnit.HOURS);
+        var key1 = key("sql1");
+        var key2 = key("sql2");
+        var key3 = key("sql3");
+        put(target, key1, List.of(1, 2, 3), "t");
+        put(target, key2, List.of(1, 2, 3), "t");
+        target.get(key1); // protected
+        put(target, key3, List.of(1, 2, 3), "t"); // evict key2 (probation)
+
+        assertEquals(List.of(1, 2, 3), target.get(key1));
+        assertNull(target.get(key2));
+        assertEquals(List.of(1, 2, 3), target.get(key3));
+        assertEquals(1, target.getEvictionCount());
+        assertEquals(8, target.getWeight());
+    }
+
+    @Test
+    void invalidate() {
+        var target = new TsurugiQueryCache(100, 1, TimeUnit.HOURS);
+        var key1 = key("sql1");
+        var key2 = key("sql2");
+        var key3 = key("sql3");
+        put(target, key1, List.of(1), "t1");
+        put(target, key2, List.of(2), "t1", "t2");
+        put(target, key3, List.of(3));
+
+        target.invalidate(List.of("t2"));
+        assertEquals(List.of(1), target.get(key1));
+        assertNull(target.get(key2));
+        assertNull(target.get(key3)); // unknown tables
+        assertEquals(2, target.getInvalidationCount());
+
+        target.invalidateAll();
+        assertEquals(0, target.size());
+        assertEquals(0, target.getWeight());
+    }
+
+    @Test
+    void invalidateWhileExecuting() {
+        var target = new TsurugiQueryCache(100, 1, TimeUnit.HOURS);
+        var key = key("sql");
+        var stamp = target.stamp(Set.of("t"));
+        target.invalidate(List.of("t"));
+        target.put(key, List.of(1), Set.of("t"), stamp);
+        assertNull(target.get(key));
+    }
+
+    @Test
+    void invalidateOtherWhileExecuting() {
+        var target = new TsurugiQueryCache(100, 1, TimeUnit.HOURS);
+        var key = key("sql");
+        var stamp = target.stamp(Set.of("t"));
+        target.invalidate(List.of("other"));
+        target.invalidate(List.of());
+        target.put(key, List.of(1), Set.of("t"), stamp);
+        assertEquals(List.of(1), target.get(key));
+
+        // a query with unknown tables is stale after any write
+        var unknownKey = key("unknown");
+        var unknownStamp = target.stamp(Set.of());
+        target.invalidate(List.of("other"));
+        target.put(unknownKey, List.of(1), Set.of(), unknownStamp);
+        assertNull(target.get(unknownKey));
+    }
+
+    @Test
+    void invalidateNormalizedName() {
+        var target = new TsurugiQueryCache(100, 1, TimeUnit.HOURS);
+        var key = key("sql");
+        put(target, key, List.of(1), "test");
+
+        target.invalidate(List.of("other.test2"));
+        assertEquals(List.of(1), target.get(key));
+        target.invalidate(List.of("S.TEST"));
+        assertNull(target.get(key));
+    }
+
+    @Test
+    void snapshotLag() throws InterruptedException {
+        var target = new TsurugiQueryCache(100, 1, TimeUnit.HOURS).setSnapshotLag(200, TimeUnit.MILLISECONDS);
+        var key = key("sql");
+        target.invalidate(List.of("t"));
+
+        // the snapshot of the query may be before the write
+        put(target, key, List.of(1), "t");
+        assertNull(target.get(key));
+        put(target, key, List.of(1), "other");
+        assertEquals(List.of(1), target.get(key));
+
+        TimeUnit.MILLISECONDS.sleep(200);
+        put(target, key, List.of(2), "t");
+        assertEquals(List.of(2), target.get(key));
+    }
+
+    @Test
+    void invalidateAllWhileExecuting() {
+        var target = new TsurugiQueryCache(100, 1, TimeUnit.HOURS);
+        var key = key("sql");
+        var stamp = target.stamp(Set.of("t"));
+        target.invalidateAll();
+        target.put(key, List.of(1), Set.of("t"), stamp);
+        assertNull(target.get(key));
+    }
+
+    private static TsurugiSession createSession(AtomicInteger queryCount) {
+        return new TestTsurugiSession(TgSessionOption.of()) {
+            @Override
+            protected SqlClient newSqlClient(Session lowSession) {
+                return new TestSqlClient(lowSession) {
+                    @Override
+                    public FutureResponse<PreparedStatement> prepare(String source, Collection<? extends Placeholder> placeholders) throws IOException {
+                        return new TestFutureResponse<>() {
+                            @Override
+                            protected PreparedStatement getInternal() {
+                                return new TestPreparedStatement(true);
+                            }
+                        };
+                    }
+
+                    @Override
+                    public FutureResponse<Transaction> createTransaction(TransactionOption option) throws IOException {
+                        return new TestFutureResponse<>() {
+                            @Override
+                            protected Transaction getInternal() {
+                                var transaction = new TestLowTransaction() {
+                                    @Override
+                                    public FutureResponse<ResultSet> executeQuery(PreparedStatement statement, Collection<? extends Parameter> parameters) throws IOException {
+                                        int count = queryCount.incrementAndGet();
+                                        return new TestFutureResponse<>() {
+                                            @Override
+                                            protected ResultSet getInternal() {
+                                                return rows(count);
+                                            }
+                                        };
+                                    }
+                                };
+                                transaction.setTestCommitFutureResponse(new TestFutureResponse<>());
+                                return transaction;
+                            }
+                        };
+                    }
+                };
+            }
+        };
+    }
+
+    private static ResultSet rows(int value) {
+        return new TestResultSet() {
+            private boolean next = true;
+
+            @Override
+            public ResultSetMetadata getMetadata() {
+                return () -> List.of(Column.newBuilder().setName("v").setAtomType(AtomType.INT4).build());
+            }
+
+            @Override
+            public boolean nextRow() {
+                boolean result = this.next;
+                this.next = false;
+                return result;
+            }
+
+            @Override
+            public boolean nextColumn() {
+                return true;
+            }
+
+            @Override
+            public boolean isNull() {
+                return false;
+            }
+
+            @Override
+            public int fetchInt4Value() {
+                return value;
+            }
+        };
+    }
+
+    @Test
+    void transactionManager() throws Exception {
+        var queryCount = new AtomicInteger();
+        var cache = new TsurugiQueryCache(100, 1, TimeUnit.HOURS).setSnapshotLag(0, TimeUnit.NANOSECONDS);
+        var k = TgBindVariable.ofInt("k");
+        try (var session = createSession(queryCount); //
+                var ps = session.createQuery("select v from test where k=" + k, TgParameterMapping.of(k), TgResultMapping.of(record -> record.nextIntOrNull()))) {
+            var tm = session.createTransactionManager().setQueryCache(cache);
+            var rtx = TgTmSetting.of(TgTxOption.ofRTX());
+            var parameter = TgBindParameters.of(k.bind(1));
+
+            var list1 = tm.executeAndGetList(rtx, ps, parameter);
+            assertEquals(List.of(1), list1);
+            // the list of the caller is not the cached list
+            list1.add(999);
+
+            var list2 = tm.executeAndGetList(rtx, ps, parameter);
+            assertEquals(List.of(1), list2);
+            assertThrows(UnsupportedOperationException.class, () -> list2.add(999));
+            assertEquals(1, queryCount.get());
+            assertEquals(1, cache.getHitCount());
+            assertEquals(1, cache.getMissCount());
+
+            // OCC does not use the cache
+            assertEquals(List.of(2), tm.executeAndGetList(TgTmSetting.of(TgTxOption.ofOCC()), ps, parameter));
+            assertEquals(2, queryCount.get());
+            assertEquals(1, cache.getHitCount());
+            assertEquals(1, cache.getMissCount());
+
+            // a write transaction of another table does not invalidate
+            tm.execute(TgTmSetting.of(TgTxOption.ofLTX("other")), transaction -> {
+            });
+            assertEquals(List.of(1), tm.executeAndGetList(rtx, ps, parameter));
+            assertEquals(2, queryCount.get());
+
+            // a write transaction of the table invalidates
+            tm.execute(TgTmSetting.of(TgTxOption.ofLTX("test")), transaction -> {
+            });
+            assertEquals(List.of(3), tm.executeAndGetList(rtx, ps, parameter));
+            assertEquals(3, queryCount.get());
+            assertEquals(List.of(3), tm.executeAndGetList(rtx, ps, parameter));
+            assertEquals(3, queryCount.get());
+
+            // the table name is compared without schema and case
+            tm.execute(TgTmSetting.of(TgTxOption.ofLTX("s.TEST")), transaction -> {
+            });
+            assertEquals(List.of(4), tm.executeAndGetList(rtx, ps, parameter));
+            assertEquals(4, queryCount.get());
+        }
+    }
+}
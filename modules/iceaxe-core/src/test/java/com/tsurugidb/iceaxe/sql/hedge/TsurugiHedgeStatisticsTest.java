@@ -0,0 +1,48 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.iceaxe.sql.hedge;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+class TsurugiHedgeStatisticsTest {
+
+    @Test
+    void percentile() {
+        var target = new TsurugiHedgeStatistics("test", 100);
+        assertEquals(-1, target.getFirstRowPercentileNanos(0.95));
+
+        for (int i = 100; i >= 1; i--) {
+            target.recordFirstRow(i);
+        }
+        assertEquals(100, target.getSampleSize());
+        assertEquals(95, target.getFirstRowPercentileNanos(0.95));
+        assertEquals(50, target.getFirstRowPercentileNanos(0.5));
+        assertEquals(100, target.getFirstRowPercentileNanos(1.0));
+    }
+
+    @Test
+    void window() {
+        var target = new TsurugiHedgeStatistics("test", 4);
+        for (int i = 1; i <= 10; i++) {
+            target.recordFirstRow(i * 1000);
+        }
+        assertEquals(4, target.getSampleSize());
+        assertEquals(7000, target.getFirstRowPercentileNanos(0));
+        assertEquals(10000, target.getFirstRowPercentileNanos(1.0));
+    }
+}
@@ -0,0 +1,276 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.iceaxe.sql.hedge;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.tsurugidb.iceaxe.session.TgSessionOption;
+import com.tsurugidb.iceaxe.session.TsurugiSession;
+import com.tsurugidb.iceaxe.sql.parameter.TgBindParameters;
+import com.tsurugidb.iceaxe.sql.parameter.TgParameterMapping;
+import com.tsurugidb.iceaxe.sql.result.TgResultMapping;
+import com.tsurugidb.iceaxe.test.TestTsurugiSession;
+import com.tsurugidb.iceaxe.test.low.TestFutureResponse;
+import com.tsurugidb.iceaxe.test.low.TestLowTransaction;
+import com.tsurugidb.iceaxe.test.low.TestPreparedStatement;
+import com.tsurugidb.iceaxe.test.low.TestResultSet;
+import com.tsurugidb.iceaxe.test.low.TestSqlClient;
+import com.tsurugidb.iceaxe.util.TgTimeValue;
+import com.tsurugidb.sql.proto.SqlCommon.AtomType;
+import com.tsurugidb.sql.proto.SqlCommon.Column;
+import com.tsurugidb.sql.proto.SqlRequest.Parameter;
+import com.tsurugidb.sql.proto.SqlRequest.Placeholder;
+import com.tsurugidb.sql.proto.SqlRequest.TransactionOption;
+import com.tsurugidb.tsubakuro.common.Session;
+import com.tsurugidb.tsubakuro.exception.ServerException;
+import com.tsurugidb.tsubakuro.sql.PreparedStatement;
+import com.tsurugidb.tsubakuro.sql.ResultSet;
+import com.tsurugidb.tsubakuro.sql.ResultSetMetadata;
+import com.tsurugidb.tsubakuro.sql.SqlClient;
+import com.tsurugidb.tsubakuro.sql.Transaction;
+import com.tsurugidb.tsubakuro.util.FutureResponse;
+
+class TsurugiHedgedQueryExecutorTest {
+
+    @FunctionalInterface
+    private interface ResultSetFactory {
+        ResultSet create(CountDownLatch closed) throws IOException, ServerException, InterruptedException;
+    }
+
+    private final List<TsurugiSession> sessionList = new ArrayList<>();
+
+    @AfterEach
+    void closeSession() throws Exception {
+        for (var session : sessionList) {
+            session.close();
+        }
+    }
+
+    private TsurugiSession createSession(ResultSetFactory factory) {
+        var session = new TestTsurugiSession(TgSessionOption.of()) {
+            @Override
+            protected SqlClient newSqlClient(Session lowSession) {
+                return new TestSqlClient(lowSession) {
+                    @Override
+                    public FutureResponse<PreparedStatement> prepare(String source, Collection<? extends Placeholder> placeholders) throws IOException {
+                        return new TestFutureResponse<>() {
+                            @Override
+                            protected PreparedStatement getInternal() {
+                                return new TestPreparedStatement(true);
+                            }
+                        };
+                    }
+
+                    @Override
+                    public FutureResponse<Transaction> createTransaction(TransactionOption option) throws IOException {
+                        return new TestFutureResponse<>() {
+                            @Override
+                            protected Transaction getInternal() {
+                                return new TestLowTransaction() {
+                                    @Override
+                                    public FutureResponse<ResultSet> executeQuery(PreparedStatement statement, Collection<? extends Parameter> parameters) throws IOException {
+                                        var closed = new CountDownLatch(1);
+                                        return new TestFutureResponse<>() {
+                                            @Override
+                                            protected ResultSet getInternal() throws IOException, ServerException, InterruptedException {
+                                                return factory.create(closed);
+                                            }
+
+                                            @Override
+                                            public void close() throws IOException, ServerException, InterruptedException {
+                                                closed.countDown();
+                                                super.close();
+                                            }
+                                        };
+                                    }
+                                };
+                            }
+                        };
+                    }
+                };
+            }
+        };
+        sessionList.add(session);
+        return session;
+    }
+
+    private static ResultSet rows(int... values) {
+        return new TestResultSet() {
+            private int row = -1;
+
+            @Override
+            public ResultSetMetadata getMetadata() throws IOException, ServerException, InterruptedException {
+                return () -> List.of(Column.newBuilder().setName("v").setAtomType(AtomType.INT4).build());
+            }
+
+            @Override
+            public boolean nextRow() throws IOException, ServerException, InterruptedException {
+                return ++row < values.length;
+            }
+
+            @Override
+            public boolean nextColumn() throws IOException, ServerException, InterruptedException {
+                return true;
+            }
+
+            @Override
+            public boolean isNull() {
+                return false;
+            }
+
+            @Override
+            public int fetchInt4Value() throws IOException, ServerException, InterruptedException {
+                return values[row];
+            }
+        };
+    }
+
+    private static ResultSetFactory delay(long millis, int... values) {
+        return closed -> {
+            TimeUnit.MILLISECONDS.sleep(millis);
+            return rows(values);
+        };
+    }
+
+    private static List<Integer> execute(TsurugiHedgedQueryExecutor executor) throws Exception {
+        try (var query = executor.createQuery("test", "select v from test", TgParameterMapping.of(), TgResultMapping.of(record -> record.nextIntOrNull()))) {
+            return executor.executeAndGetList(query, TgBindParameters.of());
+        }
+    }
+
+    private static void awaitSampleSize(TsurugiHedgeStatistics statistics, int expected) throws InterruptedException {
+        long end = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (statistics.getSampleSize() < expected && System.nanoTime() < end) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+        assertEquals(expected, statistics.getSampleSize());
+    }
+
+    @Test
+    void primaryWin() throws Exception {
+        var list = List.of(createSession(closed -> rows(1, 2, 3)), createSession(closed -> rows(9)));
+        try (var executor = new TsurugiHedgedQueryExecutor(list)) {
+            executor.setHedgeDelay(TgTimeValue.of(10, TimeUnit.SECONDS));
+
+            assertEquals(List.of(1, 2, 3), execute(executor));
+
+            var statistics = executor.getStatistics("test");
+            assertEquals(1, statistics.getExecuteCount());
+            assertEquals(0, statistics.getHedgeCount());
+            assertEquals(1, statistics.getSampleSize());
+        }
+    }
+
+    @Test
+    void hedgeWin() throws Exception {
+        var list = List.of(createSession(delay(300, 1)), createSession(closed -> rows(2)));
+        try (var executor = new TsurugiHedgedQueryExecutor(list)) {
+            executor.setHedgeDelay(TgTimeValue.of(10, TimeUnit.MILLISECONDS));
+
+            assertEquals(List.of(2), execute(executor));
+
+            var statistics = executor.getStatistics("test");
+            assertEquals(1, statistics.getHedgeCount());
+            assertEquals(1, statistics.getHedgeWinCount());
+            // the first row of the slow loser is also recorded
+            awaitSampleSize(statistics, 2);
+            assertTrue(statistics.getFirstRowPercentileNanos(1.0) >= TimeUnit.MILLISECONDS.toNanos(300));
+        }
+    }
+
+    @Test
+    void loserNeverReturns() throws Exception {
+        var released = new CountDownLatch(2);
+        var list = List.of(createSession(closed -> {
+            // the first row never arrives until the query is closed
+            closed.await();
+            released.countDown();
+            throw new IOException("closed");
+        }), createSession(closed -> rows(2)));
+        try (var executor = new TsurugiHedgedQueryExecutor(list, 2)) {
+            executor.setHedgeDelay(TgTimeValue.of(10, TimeUnit.MILLISECONDS));
+
+            // the primary alternates between the sessions. if the losers kept their threads, the pool would be full at the third query
+            for (int i = 0; i < 4; i++) {
+                assertEquals(List.of(2), execute(executor));
+            }
+            assertTrue(released.await(5, TimeUnit.SECONDS), "the loser is not closed");
+
+            var statistics = executor.getStatistics("test");
+            assertEquals(2, statistics.getHedgeCount());
+            assertEquals(2, statistics.getHedgeWinCount());
+        }
+    }
+
+    @Test
+    void primaryFail() throws Exception {
+        var list = List.of(createSession(closed -> {
+            throw new IOException("primary");
+        }), createSession(closed -> rows(2)));
+        try (var executor = new TsurugiHedgedQueryExecutor(list)) {
+            executor.setHedgeDelay(TgTimeValue.of(10, TimeUnit.SECONDS));
+
+            long start = System.nanoTime();
+            assertEquals(List.of(2), execute(executor));
+            assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(10));
+
+            var statistics = executor.getStatistics("test");
+            assertEquals(1, statistics.getHedgeCount());
+            assertEquals(1, statistics.getHedgeWinCount());
+        }
+    }
+
+    @Test
+    void allFail() throws Exception {
+        var list = List.of(createSession(closed -> {
+            throw new IOException("primary");
+        }), createSession(closed -> {
+            throw new IOException("hedge");
+        }));
+        try (var executor = new TsurugiHedgedQueryExecutor(list)) {
+            executor.setHedgeDelay(TgTimeValue.of(10, TimeUnit.SECONDS));
+
+            var e = assertThrows(IOException.class, () -> execute(executor));
+            assertEquals(1, e.getSuppressed().length);
+        }
+    }
+
+    @Test
+    void executorBusy() throws Exception {
+        var list = List.of(createSession(delay(300, 1)), createSession(closed -> rows(2)));
+        try (var executor = new TsurugiHedgedQueryExecutor(list, 1)) {
+            executor.setHedgeDelay(TgTimeValue.of(10, TimeUnit.MILLISECONDS));
+
+            // the only thread runs the primary query, so the hedge query is not started
+            assertEquals(List.of(1), execute(executor));
+
+            var statistics = executor.getStatistics("test");
+            assertEquals(0, statistics.getHedgeCount());
+        }
+    }
+}
@@ -0,0 +1,247 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.iceaxe.sql.multiget;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.tsurugidb.iceaxe.session.TgSessionOption;
+import com.tsurugidb.iceaxe.session.TsurugiSession;
+import com.tsurugidb.iceaxe.sql.parameter.TgBindVariable;
+import com.tsurugidb.iceaxe.sql.result.TgResultMapping;
+import com.tsurugidb.iceaxe.test.TestTsurugiSession;
+import com.tsurugidb.iceaxe.test.low.TestFutureResponse;
+import com.tsurugidb.iceaxe.test.low.TestLowTransaction;
+import com.tsurugidb.iceaxe.test.low.TestPreparedStatement;
+import com.tsurugidb.iceaxe.test.low.TestResultSet;
+import com.tsurugidb.iceaxe.test.low.TestSqlClient;
+import com.tsurugidb.iceaxe.transaction.manager.TgTmSetting;
+import com.tsurugidb.iceaxe.transaction.option.TgTxOption;
+import com.tsurugidb.sql.proto.SqlCommon.AtomType;
+import com.tsurugidb.sql.proto.SqlCommon.Column;
+import com.tsurugidb.sql.proto.SqlRequest.Parameter;
+import com.tsurugidb.sql.proto.SqlRequest.Placeholder;
+import com.tsurugidb.sql.proto.SqlRequest.TransactionOption;
+import com.tsurugidb.tsubakuro.common.Session;
+import com.tsurugidb.tsubakuro.sql.PreparedStatement;
+import com.tsurugidb.tsubakuro.sql.ResultSet;
+import com.tsurugidb.tsubakuro.sql.ResultSetMetadata;
+import com.tsurugidb.tsubakuro.sql.SqlClient;
+import com.tsurugidb.tsubakuro.sql.Transaction;
+import com.tsurugidb.tsubakuro.util.FutureResponse;
+
+class TsurugiMultiGetTest {
+
+    private static final String SQL = "select * from test where foo in(" + TsurugiMultiGet.KEYS + ")";
+
+    @Test
+    void constructor() throws Exception {
+        try (var session = new TestTsurugiSession(TgSessionOption.of())) {
+            assertThrows(IllegalArgumentException.class, () -> {
+                new TsurugiMultiGet<>(session, "select * from test", TgBindVariable.ofInt("foo"), TgResultMapping.of(record -> 1), r -> r);
+            });
+        }
+    }
+
+    @Test
+    void getBucketSize() throws Exception {
+        try (var session = new TestTsurugiSession(TgSessionOption.of()); //
+                var target = new TsurugiMultiGet<>(session, SQL, TgBindVariable.ofInt("foo"), TgResultMapping.of(record -> 1), r -> r)) {
+            target.setMaxBucketSize(16);
+            assertEquals(1, target.getBucketSize(0));
+            assertEquals(1, target.getBucketSize(1));
+            assertEquals(2, target.getBucketSize(2));
+            assertEquals(4, target.getBucketSize(3));
+            assertEquals(4, target.getBucketSize(4));
+            assertEquals(8, target.getBucketSize(5));
+            assertEquals(16, target.getBucketSize(16));
+            assertEquals(16, target.getBucketSize(17));
+
+            assertThrows(IllegalArgumentException.class, () -> target.setMaxBucketSize(0));
+            assertThrows(IllegalArgumentException.class, () -> target.setMaxBucketSize(12));
+        }
+    }
+
+    @Test
+    void split() throws Exception {
+        try (var session = new TestTsurugiSession(TgSessionOption.of()); //
+                var target = new TsurugiMultiGet<>(session, SQL, TgBindVariable.ofInt("foo"), TgResultMapping.of(record -> 1), r -> r)) {
+            target.setMaxBucketSize(4);
+            var chunkList = target.split(List.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10));
+            assertEquals(List.of(List.of(1, 2, 3, 4), List.of(5, 6, 7, 8), List.of(9, 10)), chunkList);
+
+            var parameter = target.createParameter(List.of(9, 10, 11), 4);
+            assertEquals("TgBindParameters[foo0=9(Integer), foo1=10(Integer), foo2=11(Integer), foo3=11(Integer)]", parameter.toString());
+        }
+    }
+
+    /** rows of test table (foo, bar) */
+    private static final int[][] TABLE = { { 1, 10 }, { 2, 20 }, { 2, 21 }, { 3, 30 }, { 5, 50 } };
+
+    private static TsurugiSession createSession(AtomicInteger prepareCount) {
+        return new TestTsurugiSession(TgSessionOption.of()) {
+            @Override
+            protected SqlClient newSqlClient(Session lowSession) {
+                return new TestSqlClient(lowSession) {
+                    @Override
+                    public FutureResponse<PreparedStatement> prepare(String source, Collection<? extends Placeholder> placeholders) throws IOException {
+                        prepareCount.incrementAndGet();
+                        return new TestFutureResponse<>() {
+                            @Override
+                            protected PreparedStatement getInternal() {
+                                return new TestPreparedStatement(true);
+                            }
+                        };
+                    }
+
+                    @Override
+                    public FutureResponse<Transaction> createTransaction(TransactionOption option) throws IOException {
+                        return new TestFutureResponse<>() {
+                            @Override
+                            protected Transaction getInternal() {
+                                var transaction = new TestLowTransaction() {
+                                    @Override
+                                    public FutureResponse<ResultSet> executeQuery(PreparedStatement statement, Collection<? extends Parameter> parameters) throws IOException {
+                                        var keySet = new HashSet<Integer>();
+                                        for (var parameter : parameters) {
+                                            keySet.add(parameter.getInt4Value());
+                                        }
+                                        var rowList = new ArrayList<int[]>();
+                                        for (var row : TABLE) {
+                                            if (keySet.contains(row[0])) {
+                                                rowList.add(row);
+                                            }
+                                        }
+                                        return new TestFutureResponse<>() {
+                                            @Override
+                                            protected ResultSet getInternal() {
+                                                return rows(rowList);
+                                            }
+                                        };
+                                    }
+                                };
+                                transaction.setTestCommitFutureResponse(new TestFutureResponse<>());
+                                return transaction;
+                            }
+                        };
+                    }
+                };
+            }
+        };
+    }
+
+    private static ResultSet rows(List<int[]> rowList) {
+        return new TestResultSet() {
+            private int row = -1;
+            private int column = -1;
+
+            @Override
+            public ResultSetMetadata getMetadata() {
+                return () -> List.of( //
+                        Column.newBuilder().setName("foo").setAtomType(AtomType.INT4).build(), //
+                        Column.newBuilder().setName("bar").setAtomType(AtomType.INT4).build());
+            }
+
+            @Override
+            public boolean nextRow() {
+                this.column = -1;
+                return ++this.row < rowList.size();
+            }
+
+            @Override
+            public boolean nextColumn() {
+                return ++this.column < 2;
+            }
+
+            @Override
+            public boolean isNull() {
+                return false;
+            }
+
+            @Override
+            public int fetchInt4Value() {
+                return rowList.get(row)[column];
+            }
+        };
+    }
+
+    private static TsurugiMultiGet<Integer, List<Integer>> createMultiGet(TsurugiSession session) {
+        var resultMapping = TgResultMapping.of(record -> List.of(record.nextInt(), record.nextInt()));
+        return new TsurugiMultiGet<>(session, SQL, TgBindVariable.ofInt("foo"), resultMapping, r -> r.get(0));
+    }
+
+    @Test
+    void getList() throws Exception {
+        var prepareCount = new AtomicInteger();
+        try (var session = createSession(prepareCount); //
+                var target = createMultiGet(session)) {
+            target.setMaxBucketSize(2);
+            var tm = session.createTransactionManager(TgTxOption.ofRTX());
+
+            // key order, duplicated keys and keys not found
+            var list = target.getList(tm, List.of(5, 4, 2, 1, 2));
+            assertEquals(List.of(List.of(5, 50), List.of(2, 20), List.of(2, 21), List.of(1, 10)), list);
+            // chunks [5, 4] and [2, 1]
+            assertEquals(1, target.getPreparedCount());
+            assertEquals(1, prepareCount.get());
+
+            // the prepared statements are reused
+            list = target.getList(tm, TgTmSetting.of(TgTxOption.ofRTX()), List.of(3, 1, 2));
+            assertEquals(List.of(List.of(3, 30), List.of(1, 10), List.of(2, 20), List.of(2, 21)), list);
+            // chunks [3, 1] and [2] (bucket size 1)
+            assertEquals(2, target.getPreparedCount());
+            assertEquals(2, prepareCount.get());
+
+            list = target.getList(tm, List.of(2, 3));
+            assertEquals(List.of(List.of(2, 20), List.of(2, 21), List.of(3, 30)), list);
+            assertEquals(2, prepareCount.get());
+
+            assertEquals(List.of(), target.getList(tm, List.of()));
+            assertEquals(2, prepareCount.get());
+        }
+    }
+
+    @Test
+    void getMap() throws Exception {
+        var prepareCount = new AtomicInteger();
+        try (var session = createSession(prepareCount); //
+                var target = createMultiGet(session)) {
+            var tm = session.createTransactionManager(TgTxOption.ofRTX());
+
+            var map = target.getMap(tm, List.of(3, 4, 2, 1));
+            // the first record of the same key is used
+            assertEquals(List.of(3, 2, 1), new ArrayList<>(map.keySet()));
+            assertEquals(List.of(3, 30), map.get(3));
+            assertEquals(List.of(2, 20), map.get(2));
+            assertEquals(List.of(1, 10), map.get(1));
+            assertEquals(1, prepareCount.get());
+
+            map = target.getMap(tm, TgTmSetting.of(TgTxOption.ofRTX()), List.of(5, 2, 6, 1));
+            assertEquals(List.of(5, 2, 1), new ArrayList<>(map.keySet()));
+            assertEquals(1, target.getPreparedCount());
+            assertEquals(1, prepareCount.get());
+        }
+    }
+}
@@ -0,0 +1,310 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.iceaxe.sql.parameter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.tsurugidb.iceaxe.exception.IceaxeErrorCode;
+import com.tsurugidb.iceaxe.exception.IceaxeTimeoutIOException;
+import com.tsurugidb.iceaxe.lob.TsurugiLargeObjectHelper;
+import com.tsurugidb.iceaxe.lob.TsurugiLargeObjectUpload;
+import com.tsurugidb.iceaxe.session.TgSessionOption;
+import com.tsurugidb.iceaxe.session.TgSessionOption.TgTimeoutKey;
+import com.tsurugidb.iceaxe.session.TsurugiSession;
+import com.tsurugidb.iceaxe.sql.type.TgBlob;
+import com.tsurugidb.iceaxe.sql.type.TgClob;
+import com.tsurugidb.iceaxe.sql.type.TgRemoteBlob;
+import com.tsurugidb.iceaxe.sql.type.TgRemoteBlobInfo;
+import com.tsurugidb.iceaxe.sql.type.TgRemoteClob;
+import com.tsurugidb.iceaxe.sql.type.TgRemoteClobInfo;
+import com.tsurugidb.iceaxe.test.low.TestFutureResponse;
+import com.tsurugidb.iceaxe.util.IceaxeCloseableSet;
+import com.tsurugidb.iceaxe.util.IceaxeConvertUtil;
+import com.tsurugidb.iceaxe.util.IceaxeTimeout;
+import com.tsurugidb.tsubakuro.common.LargeObjectInfo;
+import com.tsurugidb.tsubakuro.sql.Parameters;
+
+class IceaxeLowParameterGenerateContextTest {
+
+    private static LargeObjectInfo createLowLargeObjectInfo(String serverPath) {
+        return new LargeObjectInfo() {
+            @Override
+            public InfoType getInfoType() {
+                return InfoType.SERVER_PATH;
+            }
+
+            @Override
+            public String getServerPath() {
+                return serverPath;
+            }
+        };
+    }
+
+    private static class TestSource implements AutoCloseable {
+        private boolean closed = false;
+
+        @Override
+        public void close() {
+            this.closed = true;
+        }
+    }
+
+    private static class TestUploadFuture extends TestFutureResponse<LargeObjectInfo> {
+        private final List<String> eventList;
+        private final String name;
+        private final LargeObjectInfo lowLobInfo;
+        private IOException exception;
+
+        TestUploadFuture(List<String> eventList, String name) {
+            this.eventList = eventList;
+            this.name = name;
+            this.lowLobInfo = createLowLargeObjectInfo("/server/" + name);
+        }
+
+        @Override
+        protected LargeObjectInfo getInternal() throws IOException {
+            eventList.add("get " + name);
+            if (this.exception != null) {
+                throw exception;
+            }
+            return lowLobInfo;
+        }
+    }
+
+    private static class TestHelper extends TsurugiLargeObjectHelper {
+        private final List<String> eventList = new ArrayList<>();
+        private final List<TestUploadFuture> futureList = new ArrayList<>();
+        private final List<TestSource> sourceList = new ArrayList<>();
+
+        private TestUploadFuture startFuture(Path path) {
+            String name = path.getFileName().toString();
+            eventList.add("start " + name);
+            var future = new TestUploadFuture(eventList, name);
+            futureList.add(future);
+            return future;
+        }
+
+        private TestSource newSource() {
+            var source = new TestSource();
+            sourceList.add(source);
+            return source;
+        }
+
+        @Override
+        public TsurugiLargeObjectUpload<TgRemoteBlob> startUploadBlob(TsurugiSession session, TgBlob value, IceaxeTimeout timeout) throws IOException, InterruptedException {
+            var future = startFuture(value.getPath());
+            return startUploadBlob(future, timeout, newSource());
+        }
+
+        @Override
+        public TsurugiLargeObjectUpload<TgRemoteClob> startUploadClob(TsurugiSession session, TgClob value, IceaxeTimeout timeout) throws IOException, InterruptedException {
+            var future = startFuture(value.getPath());
+            return startUploadClob(future, timeout, newSource());
+        }
+
+        @Override
+        public TgRemoteBlob uploadBlob(TsurugiSession session, Path path, IceaxeTimeout timeout) throws IOException, InterruptedException {
+            throw new AssertionError("synchronous upload");
+        }
+
+        @Override
+        public TgRemoteBlob uploadBlob(TsurugiSession session, InputStream is, IceaxeTimeout timeout) throws IOException, InterruptedException {
+            throw new AssertionError("synchronous upload");
+        }
+
+        @Override
+        public TgRemoteBlob uploadBlob(TsurugiSession session, byte[] value, IceaxeTimeout timeout) throws IOException, InterruptedException {
+            throw new AssertionError("synchronous upload");
+        }
+
+        @Override
+        public TgRemoteClob uploadClob(TsurugiSession session, Path path, IceaxeTimeout timeout) throws IOException, InterruptedException {
+            throw new AssertionError("synchronous upload");
+        }
+
+        @Override
+        public TgRemoteClob uploadClob(TsurugiSession session, Reader reader, IceaxeTimeout timeout) throws IOException, InterruptedException {
+            throw new AssertionError("synchronous upload");
+        }
+
+        @Override
+        public TgRemoteClob uploadClob(TsurugiSession session, String value, IceaxeTimeout timeout) throws IOException, InterruptedException {
+            throw new AssertionError("synchronous upload");
+        }
+    }
+
+    private static TsurugiSession createSession(TgSessionOption sessionOption, TestHelper helper) {
+        return new TsurugiSession(null, sessionOption) {
+            @Override
+            public TsurugiLargeObjectHelper getLargeObjectHelper() throws IOException, InterruptedException {
+                return helper;
+            }
+        };
+    }
+
+    private static TgBindParameters createParameter() {
+        return TgBindParameters.of() //
+                .addInt("i", 123) //
+                .addBlob("b1", Path.of("b1.bin")) //
+                .addClob("c1", Path.of("c1.txt")) //
+                .addBlob("b2", Path.of("b2.bin"));
+    }
+
+    @Test
+    void resolveLowParameterList() throws Exception {
+        var helper = new TestHelper();
+        var session = createSession(TgSessionOption.of(), helper);
+        var closeableSet = new IceaxeCloseableSet();
+        var context = new IceaxeLowParameterGenerateContext(session, new IceaxeConvertUtil(), closeableSet, true);
+
+        var lowParameterList = createParameter().toLowParameterList(context);
+        assertEquals(List.of("start b1.bin", "start c1.txt", "start b2.bin"), helper.eventList);
+        assertEquals(Parameters.of("i", 123), lowParameterList.get(0));
+        assertEquals(Parameters.ofNull("b1"), lowParameterList.get(1));
+        assertEquals(Parameters.ofNull("c1"), lowParameterList.get(2));
+        assertEquals(Parameters.ofNull("b2"), lowParameterList.get(3));
+        assertEquals(3, closeableSet.size());
+        for (var closeable : closeableSet.getInternalSet()) {
+            assertInstanceOf(TsurugiLargeObjectUpload.class, closeable);
+        }
+
+        var actual = context.resolveLowParameterList(lowParameterList);
+        assertEquals(List.of("start b1.bin", "start c1.txt", "start b2.bin", "get b1.bin", "get c1.txt", "get b2.bin"), helper.eventList);
+
+        var futureList = helper.futureList;
+        var expected = List.of(Parameters.of("i", 123), //
+                Parameters.blobOf("b1", futureList.get(0).lowLobInfo), //
+                Parameters.clobOf("c1", futureList.get(1).lowLobInfo), //
+                Parameters.blobOf("b2", futureList.get(2).lowLobInfo));
+        assertEquals(expected, actual);
+        for (var future : futureList) {
+            assertTrue(future.isClosed());
+        }
+        for (var source : helper.sourceList) {
+            assertTrue(source.closed);
+        }
+
+        // the uploaded BLOB/CLOB are closed with the execution
+        assertEquals(3, closeableSet.size());
+        var internalSet = closeableSet.getInternalSet();
+        assertEquals(2, internalSet.stream().filter(c -> c instanceof TgRemoteBlobInfo).count());
+        assertEquals(1, internalSet.stream().filter(c -> c instanceof TgRemoteClobInfo).count());
+
+        // resolved only once
+        assertSame(lowParameterList, context.resolveLowParameterList(lowParameterList));
+    }
+
+    @Test
+    void resolveLowParameterListNotParallel() throws Exception {
+        var helper = new TestHelper();
+        var session = createSession(TgSessionOption.of(), helper);
+        var context = new IceaxeLowParameterGenerateContext(session, new IceaxeConvertUtil(), new IceaxeCloseableSet());
+
+        var parameter = TgBindParameters.of().addInt("i", 123);
+        var lowParameterList = parameter.toLowParameterList(context);
+        assertSame(lowParameterList, context.resolveLowParameterList(lowParameterList));
+        assertEquals(List.of(), helper.eventList);
+    }
+
+    @Test
+    void resolveLowParameterListError() throws Exception {
+        var helper = new TestHelper();
+        var session = createSession(TgSessionOption.of(), helper);
+        var closeableSet = new IceaxeCloseableSet();
+        var context = new IceaxeLowParameterGenerateContext(session, new IceaxeConvertUtil(), closeableSet, true);
+
+        var lowParameterList = createParameter().toLowParameterList(context);
+        var futureList = helper.futureList;
+        var exception = new IOException("upload error");
+        futureList.get(1).exception = exception;
+
+        var e = assertThrows(IOException.class, () -> context.resolveLowParameterList(lowParameterList));
+        assertSame(exception, e);
+        assertEquals(List.of("start b1.bin", "start c1.txt", "start b2.bin", "get b1.bin", "get c1.txt"), helper.eventList);
+
+        // all uploads are finished
+        for (var future : futureList) {
+            assertTrue(future.isClosed());
+        }
+        for (var source : helper.sourceList) {
+            assertTrue(source.closed);
+        }
+
+        // only the uploaded BLOB remains, to be closed with the execution
+        assertEquals(1, closeableSet.size());
+        assertInstanceOf(TgRemoteBlobInfo.class, closeableSet.getInternalSet().iterator().next());
+    }
+
+    @Test
+    void resolveLowParameterListTimeout() throws Exception {
+        var sessionOption = TgSessionOption.of().setTimeout(TgTimeoutKey.BLOB_UPLOAD, 1, TimeUnit.SECONDS);
+        var helper = new TestHelper();
+        var session = createSession(sessionOption, helper);
+        var closeableSet = new IceaxeCloseableSet();
+        var context = new IceaxeLowParameterGenerateContext(session, new IceaxeConvertUtil(), closeableSet, true);
+
+        var lowParameterList = createParameter().toLowParameterList(context);
+        var futureList = helper.futureList;
+        futureList.get(0).setExpectedTimeout(1, TimeUnit.SECONDS);
+        futureList.get(0).setThrowTimeout(true);
+
+        var e = assertThrows(IceaxeTimeoutIOException.class, () -> context.resolveLowParameterList(lowParameterList));
+        assertEquals(IceaxeErrorCode.BLOB_UPLOAD_TIMEOUT, e.getDiagnosticCode());
+        for (var future : futureList) {
+            assertTrue(future.isClosed());
+        }
+        assertEquals(0, closeableSet.size());
+    }
+
+    @Test
+    void closeWithoutResolve() throws Exception {
+        var helper = new TestHelper();
+        var session = createSession(TgSessionOption.of(), helper);
+        var closeableSet = new IceaxeCloseableSet();
+        var context = new IceaxeLowParameterGenerateContext(session, new IceaxeConvertUtil(), closeableSet, true);
+
+        createParameter().toLowParameterList(context);
+        for (var future : helper.futureList) {
+            assertFalse(future.isClosed());
+        }
+
+        var exceptionList = closeableSet.close(TimeUnit.SECONDS.toNanos(1));
+        assertEquals(List.of(), exceptionList);
+        assertEquals(0, closeableSet.size());
+        for (var future : helper.futureList) {
+            assertTrue(future.isClosed());
+        }
+        for (var source : helper.sourceList) {
+            assertTrue(source.closed);
+        }
+        assertEquals(List.of("start b1.bin", "start c1.txt", "start b2.bin"), helper.eventList);
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.iceaxe.sql.registry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.net.URI;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.tsurugidb.iceaxe.TsurugiConnector;
+import com.tsurugidb.iceaxe.session.TgSessionOption;
+import com.tsurugidb.iceaxe.session.TsurugiSession;
+import com.tsurugidb.iceaxe.sql.parameter.TgParameterMapping;
+import com.tsurugidb.iceaxe.sql.result.TgResultMapping;
+import com.tsurugidb.iceaxe.test.TestTsurugiSession;
+import com.tsurugidb.iceaxe.test.low.TestFutureResponse;
+import com.tsurugidb.iceaxe.test.low.TestLowSession;
+import com.tsurugidb.iceaxe.test.low.TestPreparedStatement;
+import com.tsurugidb.iceaxe.test.low.TestSqlClient;
+import com.tsurugidb.tsubakuro.channel.common.connection.Connector;
+import com.tsurugidb.tsubakuro.channel.common.connection.Credential;
+import com.tsurugidb.tsubakuro.channel.common.connection.NullCredential;
+import com.tsurugidb.tsubakuro.common.Session;
+import com.tsurugidb.tsubakuro.sql.PreparedStatement;
+import com.tsurugidb.tsubakuro.sql.SqlClient;
+import com.tsurugidb.tsubakuro.util.FutureResponse;
+
+class TsurugiStatementRegistryTest {
+
+    @Test
+    void register() {
+        var target = new TsurugiStatementRegistry();
+        var select = target.registerQuery("select", "select * from test where k=:k", TgParameterMapping.ofSingle("k", int.class), TgResultMapping.ofSingle(int.class));
+        assertSame(select, target.find("select"));
+        assertEquals(1, target.getRegisteredList().size());
+
+        assertThrows(IllegalArgumentException.class, () -> {
+            target.registerStatement("select", "delete from test", TgParameterMapping.ofSingle("k", int.class));
+        });
+    }
+
+    @Test
+    void warm() throws Exception {
+        var target = new TsurugiStatementRegistry().setExecutor(null).setWaitPrepared(false);
+        var select = target.registerQuery("select", "select * from test where k=:k", TgParameterMapping.ofSingle("k", int.class), TgResultMapping.ofSingle(int.class));
+        var insert = target.registerStatement("insert", "insert into test values(:k)", TgParameterMapping.ofSingle("k", int.class));
+
+        try (var session = new TestTsurugiSession(TgSessionOption.of())) {
+            var client = (TestSqlClient) session.getLowSqlClient();
+            client.setTestPreparedStatementFutureResponse(new TestFutureResponse<PreparedStatement>());
+
+            target.accept(session);
+            assertEquals(2, target.getPrepareCount());
+            assertEquals(1, target.getSessionCount());
+
+            var ps1 = target.getQuery(session, select);
+            assertSame(ps1, target.getQuery(session, select));
+            var ps2 = target.getStatement(session, insert);
+            assertEquals("insert into test values(:k)", ps2.getSql());
+            assertEquals(2, target.getPrepareCount());
+
+            ps1.close();
+            var ps3 = target.getQuery(session, select);
+            assertNotSame(ps1, ps3);
+            assertEquals(3, target.getPrepareCount());
+        }
+        assertEquals(0, target.getSessionCount());
+    }
+
+    @Test
+    void warmByConnector() throws Exception {
+        var target = new TsurugiStatementRegistry();
+        var select = target.registerQuery("select", "select * from test where k=:k", TgParameterMapping.ofSingle("k", int.class), TgResultMapping.ofSingle(int.class));
+        target.registerStatement("insert", "insert into test values(:k)", TgParameterMapping.ofSingle("k", int.class));
+
+        var release = new CountDownLatch(1);
+        var prepareFuture = new TestFutureResponse<PreparedStatement>() {
+            @Override
+            protected PreparedStatement getInternal() throws InterruptedException {
+                release.await();
+                return new TestPreparedStatement(true);
+            }
+        };
+        var endpoint = URI.create("tcp://test:12345");
+        var connector = new TsurugiConnector(Connector.create(endpoint), endpoint, NullCredential.INSTANCE, TgSessionOption.of()) {
+            @Override
+            protected FutureResponse<? extends Session> createLowSession(String label, Credential credential, TgSessionOption sessionOption) {
+                return new TestFutureResponse<>() {
+                    @Override
+                    protected Session getInternal() {
+                        return new TestLowSession();
+                    }
+                };
+            }
+        };
+        connector.setSesionGenerator((future, option) -> new TestTsurugiSession(option) {
+            @Override
+            protected SqlClient newSqlClient(Session lowSession) {
+                var client = new TestSqlClient(lowSession);
+                client.setTestPreparedStatementFutureResponse(prepareFuture);
+                return client;
+            }
+        });
+        connector.addEventListener(target);
+
+        // the session is created without waiting for the prepares
+        TsurugiSession session;
+        var executor = Executors.newSingleThreadExecutor();
+        try {
+            session = executor.submit(() -> connector.createSession()).get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+        try {
+            assertEquals(1, target.getSessionCount());
+            release.countDown();
+
+            var ps = target.getQuery(session, select);
+            ps.getLowPreparedStatement();
+            for (int i = 0; i < 500 && target.getPrepareCount() < 2; i++) {
+                TimeUnit.MILLISECONDS.sleep(10);
+            }
+            assertEquals(2, target.getPrepareCount());
+            assertEquals(0, target.getPrepareFailureCount());
+        } finally {
+            release.countDown();
+            session.close();
+        }
+        assertEquals(0, target.getSessionCount());
+    }
+}
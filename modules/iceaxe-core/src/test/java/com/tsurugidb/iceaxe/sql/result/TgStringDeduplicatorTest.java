@@ -0,0 +1,145 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.iceaxe.sql.result;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.tsurugidb.iceaxe.test.low.TestResultSet;
+import com.tsurugidb.iceaxe.util.IceaxeConvertUtil;
+import com.tsurugidb.sql.proto.SqlCommon.AtomType;
+import com.tsurugidb.sql.proto.SqlCommon.Column;
+import com.tsurugidb.tsubakuro.sql.ResultSet;
+import com.tsurugidb.tsubakuro.sql.ResultSetMetadata;
+
+class TgStringDeduplicatorTest {
+
+    @Test
+    void deduplicate() {
+        var target = new TgStringDeduplicator(2);
+        assertNull(target.deduplicate(null));
+
+        String a1 = new String("a");
+        String a2 = new String("a");
+        assertSame(a1, target.deduplicate(a1));
+        assertSame(a1, target.deduplicate(a2));
+        assertEquals(1, target.getHitCount());
+        assertEquals(1, target.getMissCount());
+
+        target.deduplicate(new String("b"));
+        String c1 = new String("c");
+        assertSame(c1, target.deduplicate(c1));
+        assertNotSame(c1, target.deduplicate(new String("c")));
+        assertEquals(2, target.getSize());
+    }
+
+    @Test
+    void adapt() {
+        var target = new TgStringDeduplicator(100, 0.5, 10);
+        for (int i = 0; i < 10; i++) {
+            target.deduplicate(Integer.toString(i));
+        }
+        assertFalse(target.isEnabled());
+        assertEquals(0, target.getSize());
+
+        String x1 = new String("x");
+        assertSame(x1, target.deduplicate(x1));
+        String x2 = new String("x");
+        assertSame(x2, target.deduplicate(x2));
+    }
+
+    @Test
+    void mapping() {
+        var mapping = TgResultMapping.of(record -> record.nextStringOrNull());
+        assertEquals(0, mapping.getStringDeduplication());
+        assertNull(mapping.createStringDeduplicator(0));
+
+        mapping.setStringDeduplication(10);
+        var deduplicator = mapping.createStringDeduplicator(1);
+        assertEquals(10, deduplicator.getMaxSize());
+        assertNotSame(deduplicator, mapping.createStringDeduplicator(1));
+        assertTrue(deduplicator.isEnabled());
+    }
+
+    private static ResultSet stringResultSet(String... values) {
+        return new TestResultSet() {
+            private int row = -1;
+
+            @Override
+            public ResultSetMetadata getMetadata() {
+                return () -> List.of(Column.newBuilder().setName("s").setAtomType(AtomType.CHARACTER).build());
+            }
+
+            @Override
+            public boolean nextRow() {
+                return ++this.row < values.length;
+            }
+
+            @Override
+            public boolean nextColumn() {
+                return true;
+            }
+
+            @Override
+            public boolean isNull() {
+                return false;
+            }
+
+            @Override
+            public String fetchCharacterValue() {
+                return new String(values[row]);
+            }
+        };
+    }
+
+    private static List<String> read(TgResultMapping<?> mapping, ResultSet lowResultSet) throws Exception {
+        var record = new TsurugiResultRecord(null, lowResultSet, IceaxeConvertUtil.INSTANCE) {
+        };
+        record.setResultMapping(mapping);
+        var list = new ArrayList<String>();
+        while (lowResultSet.nextRow()) {
+            record.reset();
+            list.add(record.nextStringOrNull());
+        }
+        return list;
+    }
+
+    @Test
+    void perResult() throws Exception {
+        var mapping = TgResultMapping.of(record -> record.nextStringOrNull()).setStringDeduplication(10);
+
+        var list1 = read(mapping, stringResultSet("a", "a", "b"));
+        assertEquals(List.of("a", "a", "b"), list1);
+        assertSame(list1.get(0), list1.get(1));
+
+        // another result (e.g. another statement sharing the mapping) does not share the intern table
+        var list2 = read(mapping, stringResultSet("a", "a"));
+        assertSame(list2.get(0), list2.get(1));
+        assertNotSame(list1.get(0), list2.get(0));
+
+        var list3 = read(TgResultMapping.of(record -> record.nextStringOrNull()), stringResultSet("a", "a"));
+        assertNotSame(list3.get(0), list3.get(1));
+    }
+}
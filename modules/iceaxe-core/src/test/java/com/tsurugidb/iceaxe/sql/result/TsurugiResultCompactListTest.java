@@ -0,0 +1,93 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.iceaxe.sql.result;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.tsurugidb.iceaxe.sql.TgDataType;
+
+class TsurugiResultCompactListTest {
+
+    private static TsurugiResultCompactList createList() {
+        var nameList = new IceaxeResultNameList(List.of("b", "i", "l", "f", "d", "date", "time", "dec", "s"));
+        var typeList = List.of(TgDataType.BOOLEAN, TgDataType.INT, TgDataType.LONG, TgDataType.FLOAT, TgDataType.DOUBLE, TgDataType.DATE, TgDataType.TIME,
+                TgDataType.DECIMAL, TgDataType.STRING);
+        return new TsurugiResultCompactList(nameList, typeList);
+    }
+
+    @Test
+    void values() {
+        var list = createList();
+        int size = TsurugiResultCompactList.CHUNK_SIZE * 2 + 3;
+        for (int i = 0; i < size; i++) {
+            if (i % 3 == 0) {
+                list.addValues(new Object[9]);
+            } else {
+                list.addValues(new Object[] { i % 2 == 0, i, (long) i * 10, i + 0.5f, i + 0.25, LocalDate.ofEpochDay(i), LocalTime.ofSecondOfDay(i), BigDecimal.valueOf(i),
+                        "s" + i });
+            }
+        }
+        assertEquals(size, list.size());
+
+        for (int i = 0; i < size; i++) {
+            var entity = list.get(i);
+            if (i % 3 == 0) {
+                for (int c = 0; c < 9; c++) {
+                    assertNull(entity.getValueOrNull(c));
+                }
+                final int index = i;
+                assertThrows(NullPointerException.class, () -> list.get(index).getInt(1));
+                assertEquals(-1, entity.getLong(2, -1));
+                continue;
+            }
+            assertEquals(i % 2 == 0, entity.getBoolean("b"));
+            assertEquals(i, entity.getInt(1));
+            assertEquals(i, entity.getInt("i"));
+            assertEquals(Integer.valueOf(i), entity.getValueOrNull(1));
+            assertEquals((long) i * 10, entity.getLong("l"));
+            assertEquals(Long.valueOf(i * 10L), entity.getValueOrNull("l"));
+            assertEquals(i + 0.5f, entity.getFloat("f"));
+            assertEquals(Float.valueOf(i + 0.5f), entity.getValueOrNull("f"));
+            assertEquals(i + 0.25, entity.getDouble("d"));
+            assertEquals(LocalDate.ofEpochDay(i), entity.getDate("date"));
+            assertEquals(LocalTime.ofSecondOfDay(i), entity.getTime("time"));
+            assertEquals(BigDecimal.valueOf(i), entity.getDecimal("dec"));
+            assertEquals("s" + i, entity.getString("s"));
+        }
+    }
+
+    @Test
+    void entity() {
+        var list = createList();
+        list.addValues(new Object[] { true, 1, 2L, null, null, null, null, null, "abc" });
+
+        var entity = list.get(0);
+        assertEquals(List.of("b", "i", "l", "f", "d", "date", "time", "dec", "s"), entity.getNameList());
+        assertEquals("TsurugiResultEntity{b=true, i=1, l=2, f=null, d=null, date=null, time=null, dec=null, s=abc}", entity.toString());
+        assertEquals(entity, list.get(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(1));
+        assertThrows(UnsupportedOperationException.class, () -> list.add(entity));
+    }
+}
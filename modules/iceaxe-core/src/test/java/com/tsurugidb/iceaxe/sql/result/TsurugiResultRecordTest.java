@@ -0,0 +1,110 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.iceaxe.sql.result;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.tsurugidb.iceaxe.sql.TgDataType;
+import com.tsurugidb.iceaxe.test.low.TestResultSet;
+import com.tsurugidb.iceaxe.util.IceaxeConvertUtil;
+import com.tsurugidb.iceaxe.util.TgValueConverter;
+import com.tsurugidb.sql.proto.SqlCommon.AtomType;
+import com.tsurugidb.sql.proto.SqlCommon.Column;
+import com.tsurugidb.tsubakuro.sql.ResultSet;
+import com.tsurugidb.tsubakuro.sql.ResultSetMetadata;
+
+class TsurugiResultRecordTest {
+
+    static ResultSet intResultSet(int rowSize, int columnSize) {
+        var columnList = new ArrayList<Column>(columnSize);
+        for (int i = 0; i < columnSize; i++) {
+            columnList.add(Column.newBuilder().setName("c" + i).setAtomType(AtomType.INT4).build());
+        }
+        return new TestResultSet() {
+            private int row = -1;
+            private int column = -1;
+
+            @Override
+            public ResultSetMetadata getMetadata() {
+                return () -> columnList;
+            }
+
+            @Override
+            public boolean nextRow() {
+                this.column = -1;
+                return ++this.row < rowSize;
+            }
+
+            @Override
+            public boolean nextColumn() {
+                return ++this.column < columnSize;
+            }
+
+            @Override
+            public boolean isNull() {
+                return false;
+            }
+
+            @Override
+            public int fetchInt4Value() {
+                return row * columnSize + column;
+            }
+        };
+    }
+
+    @Test
+    void converterPerColumn() throws Exception {
+        var sourceTypeList = new ArrayList<TgDataType>();
+        var convertUtil = new IceaxeConvertUtil() {
+            @Override
+            public <T> TgValueConverter<Object, T> getConverter(TgDataType sourceType, Class<T> targetType) {
+                sourceTypeList.add(sourceType);
+                return super.getConverter(sourceType, targetType);
+            }
+        };
+        var lowResultSet = intResultSet(3, 2);
+        var record = new TsurugiResultRecord(null, lowResultSet, convertUtil) {
+        };
+
+        var list = new ArrayList<Object>();
+        while (lowResultSet.nextRow()) {
+            record.reset();
+            list.add(record.nextIntOrNull());
+            list.add(record.nextLongOrNull());
+        }
+        assertEquals(List.of(0, 1L, 2, 3L, 4, 5L), list);
+        // looked up once per column
+        assertEquals(List.of(TgDataType.INT, TgDataType.INT), sourceTypeList);
+
+        // another target type
+        var lowResultSet2 = intResultSet(2, 1);
+        var record2 = new TsurugiResultRecord(null, lowResultSet2, convertUtil) {
+        };
+        sourceTypeList.clear();
+        lowResultSet2.nextRow();
+        record2.reset();
+        assertEquals(0, record2.nextIntOrNull());
+        lowResultSet2.nextRow();
+        record2.reset();
+        assertEquals("1", record2.nextStringOrNull());
+        assertEquals(2, sourceTypeList.size());
+    }
+}
@@ -0,0 +1,261 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.iceaxe.sql.result;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.tsurugidb.iceaxe.session.TgSessionOption;
+import com.tsurugidb.iceaxe.session.TsurugiSession;
+import com.tsurugidb.iceaxe.sql.parameter.TgBindParameters;
+import com.tsurugidb.iceaxe.sql.parameter.TgParameterMapping;
+import com.tsurugidb.iceaxe.sql.type.IceaxeObjectFactory;
+import com.tsurugidb.iceaxe.test.TestTsurugiSession;
+import com.tsurugidb.iceaxe.test.low.TestFutureResponse;
+import com.tsurugidb.iceaxe.test.low.TestLowTransaction;
+import com.tsurugidb.iceaxe.test.low.TestPreparedStatement;
+import com.tsurugidb.iceaxe.test.low.TestResultSet;
+import com.tsurugidb.iceaxe.test.low.TestSqlClient;
+import com.tsurugidb.iceaxe.transaction.option.TgTxOption;
+import com.tsurugidb.sql.proto.SqlCommon.AtomType;
+import com.tsurugidb.sql.proto.SqlCommon.Column;
+import com.tsurugidb.sql.proto.SqlRequest.Parameter;
+import com.tsurugidb.sql.proto.SqlRequest.Placeholder;
+import com.tsurugidb.sql.proto.SqlRequest.TransactionOption;
+import com.tsurugidb.tsubakuro.common.Session;
+import com.tsurugidb.tsubakuro.sql.PreparedStatement;
+import com.tsurugidb.tsubakuro.sql.ResultSet;
+import com.tsurugidb.tsubakuro.sql.ResultSetMetadata;
+import com.tsurugidb.tsubakuro.sql.SqlClient;
+import com.tsurugidb.tsubakuro.sql.Transaction;
+import com.tsurugidb.tsubakuro.util.FutureResponse;
+
+class TsurugiResultSpillListTest {
+
+    @TempDir
+    Path tempDir;
+
+    private IceaxeObjectFactory createObjectFactory() {
+        var factory = new IceaxeObjectFactory();
+        factory.setTempDirectory(tempDir);
+        return factory;
+    }
+
+    private static Object[] values(int i) {
+        return new Object[] { i, (long) i, "s" + i, BigDecimal.valueOf(i, 2), new byte[] { (byte) i }, LocalDate.ofEpochDay(i), LocalDateTime.of(2026, 1, 1, 0, 0, i % 60),
+                OffsetDateTime.of(2026, 1, 1, 0, 0, 0, i, ZoneOffset.ofHours(9)), (i % 2 == 0) ? null : i * 0.5 };
+    }
+
+    @Test
+    void spill() throws Exception {
+        var nameList = new IceaxeResultNameList(List.of("i", "l", "s", "dec", "bytes", "date", "dt", "odt", "d"));
+        int size = 100;
+        try (var list = new TsurugiResultSpillList(Long.MAX_VALUE, 10, createObjectFactory())) {
+            for (int i = 0; i < size; i++) {
+                list.addValues(nameList, values(i));
+            }
+            assertEquals(size, list.size());
+            assertEquals(10, list.getMemorySize());
+            assertEquals(size - 10, list.getSpillSize());
+            var file = list.getSpillFile();
+            assertEquals(tempDir, file.getParent());
+
+            int i = 0;
+            for (var entity : list) {
+                assertEntity(i++, entity);
+            }
+            assertEquals(size, i);
+
+            assertEntity(50, list.get(50));
+            assertEntity(51, list.get(51));
+            assertEntity(20, list.get(20));
+            assertEntity(3, list.get(3));
+            assertThrows(IndexOutOfBoundsException.class, () -> list.get(size));
+
+            list.close();
+            assertFalse(Files.exists(file));
+        }
+    }
+
+    private static void assertEntity(int i, TsurugiResultEntity entity) {
+        var expected = values(i);
+        assertEquals(expected[0], entity.getInt("i"));
+        assertEquals(expected[1], entity.getLong("l"));
+        assertEquals(expected[2], entity.getString("s"));
+        assertEquals(expected[3], entity.getDecimal("dec"));
+        assertArrayEquals((byte[]) expected[4], entity.getBytes("bytes"));
+        assertEquals(expected[5], entity.getDate("date"));
+        assertEquals(expected[6], entity.getDateTime("dt"));
+        assertEquals(expected[7], entity.getOffsetDateTime("odt"));
+        if (expected[8] == null) {
+            assertNull(entity.getDoubleOrNull("d"));
+        } else {
+            assertEquals(expected[8], entity.getDouble("d"));
+        }
+    }
+
+    @Test
+    void memoryBytes() throws Exception {
+        var nameList = new IceaxeResultNameList(List.of("s"));
+        try (var list = new TsurugiResultSpillList(1000, Integer.MAX_VALUE, createObjectFactory())) {
+            for (int i = 0; i < 20; i++) {
+                list.addValues(nameList, new Object[] { "0123456789".repeat(10) });
+            }
+            assertTrue(list.getMemorySize() < 20);
+            assertTrue(list.getMemoryBytes() <= 1000);
+            assertEquals(20, list.getMemorySize() + list.getSpillSize());
+        }
+    }
+
+    private static TsurugiSession createSession(AtomType type, int rowSize, int[] fetchCount) {
+        return new TestTsurugiSession(TgSessionOption.of()) {
+            @Override
+            protected SqlClient newSqlClient(Session lowSession) {
+                return new TestSqlClient(lowSession) {
+                    @Override
+                    public FutureResponse<PreparedStatement> prepare(String source, Collection<? extends Placeholder> placeholders) throws IOException {
+                        return new TestFutureResponse<>() {
+                            @Override
+                            protected PreparedStatement getInternal() {
+                                return new TestPreparedStatement(true);
+                            }
+                        };
+                    }
+
+                    @Override
+                    public FutureResponse<Transaction> createTransaction(TransactionOption option) throws IOException {
+                        return new TestFutureResponse<>() {
+                            @Override
+                            protected Transaction getInternal() {
+                                return new TestLowTransaction() {
+                                    @Override
+                                    public FutureResponse<ResultSet> executeQuery(PreparedStatement statement, Collection<? extends Parameter> parameters) throws IOException {
+                                        return new TestFutureResponse<>() {
+                                            @Override
+                                            protected ResultSet getInternal() {
+                                                return rows(type, rowSize, fetchCount);
+                                            }
+                                        };
+                                    }
+                                };
+                            }
+                        };
+                    }
+                };
+            }
+        };
+    }
+
+    private static ResultSet rows(AtomType type, int rowSize, int[] fetchCount) {
+        return new TestResultSet() {
+            private int row = -1;
+            private boolean column;
+
+            @Override
+            public ResultSetMetadata getMetadata() {
+                return () -> List.of(Column.newBuilder().setName("v").setAtomType(type).build());
+            }
+
+            @Override
+            public boolean nextRow() {
+                this.column = true;
+                return ++row < rowSize;
+            }
+
+            @Override
+            public boolean nextColumn() {
+                boolean result = this.column;
+                this.column = false;
+                return result;
+            }
+
+            @Override
+            public boolean isNull() {
+                return false;
+            }
+
+            @Override
+            public int fetchInt4Value() {
+                fetchCount[0]++;
+                return row;
+            }
+        };
+    }
+
+    @Test
+    void deleteOnSessionClose() throws Exception {
+        var fetchCount = new int[1];
+        Path file;
+        try (var session = createSession(AtomType.INT4, 5, fetchCount); //
+                var ps = session.createQuery("select v from test", TgParameterMapping.of(), TgResultMapping.ofSpill(Long.MAX_VALUE, 2)); //
+                var transaction = session.createTransaction(TgTxOption.ofOCC())) {
+            var list = TsurugiResultSpillList.of(transaction.executeAndGetList(ps, TgBindParameters.of()));
+            assertEquals(5, list.size());
+            assertEquals(2, list.getMemorySize());
+            file = list.getSpillFile();
+            assertTrue(Files.exists(file));
+            assertEquals(4, list.get(4).getInt("v"));
+            transaction.rollback();
+        }
+        // the list is not closed by the application
+        assertFalse(Files.exists(file));
+
+        assertThrows(IllegalArgumentException.class, () -> TsurugiResultSpillList.of(List.of()));
+    }
+
+    @Test
+    void unsupportedType() throws Exception {
+        var fetchCount = new int[1];
+        try (var session = createSession(AtomType.BLOB, 5, fetchCount); //
+                var ps = session.createQuery("select v from test", TgParameterMapping.of(), TgResultMapping.ofSpill(Long.MAX_VALUE, 2)); //
+                var transaction = session.createTransaction(TgTxOption.ofOCC())) {
+            var e = assertThrows(UnsupportedOperationException.class, () -> transaction.executeAndGetList(ps, TgBindParameters.of()));
+            assertTrue(e.getMessage().contains("BLOB"), e.getMessage());
+            // fails at the first record (before reading any value)
+            assertEquals(0, fetchCount[0]);
+            transaction.rollback();
+        }
+    }
+
+    @Test
+    void noSpill() throws Exception {
+        var nameList = new IceaxeResultNameList(List.of("i"));
+        try (var list = new TsurugiResultSpillList(Long.MAX_VALUE, 10, createObjectFactory())) {
+            list.addValues(nameList, new Object[] { 1 });
+            assertNull(list.getSpillFile());
+            assertEquals(1, list.size());
+            assertEquals(1, list.iterator().next().getInt("i"));
+        }
+    }
+}
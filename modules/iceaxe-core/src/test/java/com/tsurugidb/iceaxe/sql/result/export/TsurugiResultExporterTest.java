@@ -0,0 +1,191 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.iceaxe.sql.result.export;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.tsurugidb.iceaxe.sql.result.TsurugiResultRecord;
+import com.tsurugidb.iceaxe.test.low.TestResultSet;
+import com.tsurugidb.iceaxe.util.IceaxeConvertUtil;
+import com.tsurugidb.sql.proto.SqlCommon.AtomType;
+import com.tsurugidb.sql.proto.SqlCommon.Column;
+import com.tsurugidb.tsubakuro.sql.ResultSetMetadata;
+
+class TsurugiResultExporterTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static String write(TgExportFormat format, Object... values) throws Exception {
+        var bos = new ByteArrayOutputStream();
+        try (var target = new TsurugiResultExporter(Channels.newChannel(bos), format, 32)) {
+            for (var value : values) {
+                target.writeValue(value);
+                target.flush();
+            }
+        }
+        return bos.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void csv() throws Exception {
+        assertEquals("\"a,\"\"b\"\"\nc\"", write(TgExportFormat.CSV, "a,\"b\"\nc"));
+        assertEquals("", write(TgExportFormat.CSV, (Object) null));
+        assertEquals("123", write(TgExportFormat.CSV, 123));
+        assertEquals("-9223372036854775808", write(TgExportFormat.CSV, Long.MIN_VALUE));
+        assertEquals("-45", write(TgExportFormat.CSV, -45L));
+        assertEquals("0", write(TgExportFormat.CSV, 0));
+        assertEquals("9223372036854775807", write(TgExportFormat.CSV, Long.MAX_VALUE));
+        assertEquals("1.5", write(TgExportFormat.CSV, 1.5));
+        assertEquals("0.000001", write(TgExportFormat.CSV, new BigDecimal("1E-6")));
+        assertEquals("2026-10-19", write(TgExportFormat.CSV, LocalDate.of(2026, 10, 19)));
+        assertEquals("00ff10", write(TgExportFormat.CSV, (Object) new byte[] { 0, -1, 16 }));
+        assertEquals("101", write(TgExportFormat.CSV, (Object) new boolean[] { true, false, true }));
+    }
+
+    @Test
+    void sameAsToString() throws Exception {
+        var values = List.<Object>of(0.0, -0.0, 1.0, -3.0, 1.5, 9999999.0, 1e7, 1e-5, Double.MAX_VALUE, 0f, -0f, 2f, 0.1f, 1e7f, //
+                new BigDecimal("0"), new BigDecimal("-0.05"), new BigDecimal("123.4500"), new BigDecimal("-98765.4321"), new BigDecimal("1E+3"), //
+                new BigDecimal("123456789012345678901234567890.123"), new BigDecimal("0.123456789012345678"), //
+                LocalDate.of(1, 2, 3), LocalDate.of(-5, 1, 1), LocalDate.of(12345, 1, 1), //
+                LocalTime.of(0, 0), LocalTime.of(1, 2, 3), LocalTime.of(1, 2, 0, 100_000_000), LocalTime.of(1, 2, 3, 4_000), LocalTime.of(23, 59, 59, 999_999_999), //
+                LocalDateTime.of(2026, 10, 19, 12, 34, 56, 789_000_000), //
+                OffsetTime.of(1, 2, 3, 0, ZoneOffset.ofHours(9)), OffsetTime.of(1, 2, 0, 0, ZoneOffset.UTC), //
+                OffsetDateTime.of(2026, 10, 19, 1, 2, 3, 5, ZoneOffset.ofHoursMinutesSeconds(-5, -30, -15)));
+        for (var value : values) {
+            String expected = (value instanceof BigDecimal) ? ((BigDecimal) value).toPlainString() : value.toString();
+            assertEquals(expected, write(TgExportFormat.CSV, value), expected);
+        }
+    }
+
+    @Test
+    void writeRecord() throws Exception {
+        var columnList = List.of( //
+                Column.newBuilder().setName("i").setAtomType(AtomType.INT4).build(), //
+                Column.newBuilder().setName("l").setAtomType(AtomType.INT8).build(), //
+                Column.newBuilder().setName("d").setAtomType(AtomType.FLOAT8).build(), //
+                Column.newBuilder().setName("n").setAtomType(AtomType.FLOAT4).build(), //
+                Column.newBuilder().setName("b").setAtomType(AtomType.BOOLEAN).build());
+        var lowResultSet = new TestResultSet() {
+            private int column = -1;
+
+            @Override
+            public ResultSetMetadata getMetadata() {
+                return () -> columnList;
+            }
+
+            @Override
+            public boolean nextColumn() {
+                return ++this.column < columnList.size();
+            }
+
+            @Override
+            public boolean isNull() {
+                return column == 3;
+            }
+
+            @Override
+            public int fetchInt4Value() {
+                return -12;
+            }
+
+            @Override
+            public long fetchInt8Value() {
+                return 1234567890123L;
+            }
+
+            @Override
+            public double fetchFloat8Value() {
+                return 2;
+            }
+
+            @Override
+            public boolean fetchBooleanValue() {
+                return true;
+            }
+        };
+        var record = new TsurugiResultRecord(null, lowResultSet, IceaxeConvertUtil.INSTANCE) {
+        };
+
+        var bos = new ByteArrayOutputStream();
+        try (var target = new TsurugiResultExporter(Channels.newChannel(bos), TgExportFormat.JSON_LINES)) {
+            target.writeRecord(record);
+            assertEquals(1, target.getRowCount());
+        }
+        assertEquals("{\"i\":-12,\"l\":1234567890123,\"d\":2.0,\"n\":null,\"b\":true}\n", bos.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void tsv() throws Exception {
+        assertEquals("a\\tb\\nc\\\\d", write(TgExportFormat.TSV, "a\tb\nc\\d"));
+        assertEquals("\\N", write(TgExportFormat.TSV, (Object) null));
+        assertEquals("true", write(TgExportFormat.TSV, true));
+    }
+
+    @Test
+    void json() throws Exception {
+        assertEquals("\"a\\\"b\\\\c\\n\\u0001\"", write(TgExportFormat.JSON_LINES, "a\"b\\c\n\u0001"));
+        assertEquals("null", write(TgExportFormat.JSON_LINES, (Object) null));
+        assertEquals("\"NaN\"", write(TgExportFormat.JSON_LINES, Double.NaN));
+        assertEquals("\"2026-10-19\"", write(TgExportFormat.JSON_LINES, LocalDate.of(2026, 10, 19)));
+    }
+
+    @Test
+    void utf8() throws Exception {
+        String s = "aéあ😀";
+        assertEquals(s, write(TgExportFormat.TSV, s));
+        assertEquals("?", write(TgExportFormat.TSV, "\uD83D"));
+    }
+
+    @Test
+    void header() throws Exception {
+        var bos = new ByteArrayOutputStream();
+        try (var target = new TsurugiResultExporter(Channels.newChannel(bos), TgExportFormat.CSV)) {
+            target.writeHeader(List.of("k", "v"));
+        }
+        assertEquals("\"k\",\"v\"\n", bos.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void gzip() throws Exception {
+        var file = tempDir.resolve("export.csv.gz");
+        try (var target = TsurugiResultExporter.ofFile(file, TgExportFormat.CSV, true)) {
+            target.writeValue("abc");
+        }
+        try (var is = new GZIPInputStream(Files.newInputStream(file))) {
+            assertEquals("\"abc\"", new String(is.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.iceaxe.transaction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.tsurugidb.iceaxe.session.TgSessionOption;
+import com.tsurugidb.iceaxe.test.TestTsurugiSession;
+import com.tsurugidb.iceaxe.test.low.TestFutureResponse;
+import com.tsurugidb.iceaxe.test.low.TestLowTransaction;
+import com.tsurugidb.iceaxe.transaction.option.TgTxOption;
+import com.tsurugidb.iceaxe.transaction.status.TgTxStatus;
+import com.tsurugidb.iceaxe.transaction.status.TsurugiTransactionStatusHelper;
+import com.tsurugidb.tsubakuro.sql.TransactionStatus;
+
+class TsurugiTransactionCommitAsyncTest {
+
+    private static class LatchFutureResponse extends TestFutureResponse<Void> {
+        final CountDownLatch latch = new CountDownLatch(1);
+
+        @Override
+        protected Void getInternal() throws InterruptedException {
+            latch.await();
+            return null;
+        }
+    }
+
+    @Test
+    void commitAsync() throws Exception {
+        var future = new LatchFutureResponse();
+
+        try (var session = new TestTsurugiSession(TgSessionOption.of())) {
+            try (var transaction = session.createTransaction(TgTxOption.ofOCC())) {
+                var lowTx = (TestLowTransaction) transaction.getLowTransaction();
+                lowTx.setTestCommitFutureResponse(future);
+
+                var commitFuture = transaction.commitAsync(TgCommitType.ACCEPTED);
+                assertSame(commitFuture, transaction.getCommitFuture());
+                assertFalse(transaction.isCommitted());
+                assertTrue(commitFuture.isPending());
+                assertThrows(IllegalStateException.class, () -> transaction.commit(TgCommitType.ACCEPTED));
+
+                future.latch.countDown();
+                commitFuture.await();
+                assertTrue(transaction.isCommitted());
+                assertSame(commitFuture.getFuture(), commitFuture.getFuture(TgCommitType.DEFAULT));
+            }
+        }
+
+        assertTrue(future.isClosed());
+    }
+
+    @Test
+    void deferredClose() throws Exception {
+        var future = new LatchFutureResponse();
+
+        try (var session = new TestTsurugiSession(TgSessionOption.of())) {
+            var transaction = session.createTransaction(TgTxOption.ofOCC());
+            var lowTx = (TestLowTransaction) transaction.getLowTransaction();
+            lowTx.setTestCommitFutureResponse(future);
+
+            var commitFuture = transaction.commitAsync(TgCommitOption.of());
+            transaction.close();
+            assertTrue(transaction.isClosed());
+            assertFalse(lowTx.isClosed());
+
+            future.latch.countDown();
+            commitFuture.await();
+            for (int i = 0; i < 100 && !lowTx.isClosed(); i++) {
+                TimeUnit.MILLISECONDS.sleep(10);
+            }
+            assertTrue(lowTx.isClosed());
+        }
+    }
+
+    @Test
+    void getCommitFuture() throws Exception {
+        var future = new TestFutureResponse<Void>();
+
+        try (var session = new TestTsurugiSession(TgSessionOption.of())) {
+            try (var transaction = session.createTransaction(TgTxOption.ofOCC())) {
+                var lowTx = (TestLowTransaction) transaction.getLowTransaction();
+                lowTx.setTestCommitFutureResponse(future);
+
+                assertNull(transaction.getCommitFuture());
+                transaction.commit(TgCommitOption.of(TgCommitType.STORED).autoDispose(true));
+
+                var commitFuture = transaction.getCommitFuture();
+                assertFalse(commitFuture.isPending());
+                assertTrue(commitFuture.getFuture().isDone());
+                assertSame(commitFuture.getFuture(), commitFuture.getFuture(TgCommitType.AVAILABLE));
+                assertThrowsExactly(IllegalArgumentException.class, () -> commitFuture.getFuture(TgCommitType.PROPAGATED));
+            }
+        }
+    }
+
+    @Test
+    void pollDurability() throws Exception {
+        var statusList = List.of("RUNNING", "COMMITTING", "AVAILABLE", "STORED");
+        var threadNameList = new CopyOnWriteArrayList<String>();
+        var helper = new TsurugiTransactionStatusHelper() {
+            @Override
+            public TgTxStatus getTransactionStatus(TsurugiTransaction transaction) {
+                threadNameList.add(Thread.currentThread().getName());
+                var status = TransactionStatus.valueOf(statusList.get(Math.min(threadNameList.size(), statusList.size()) - 1));
+                return new TgTxStatus(null, null) {
+                    @Override
+                    public TransactionStatus getLowTransactionStatus() {
+                        return status;
+                    }
+                };
+            }
+        };
+
+        try (var session = new TestTsurugiSession(TgSessionOption.of())) {
+            session.setTransactionStatusHelper(helper);
+            try (var transaction = session.createTransaction(TgTxOption.ofOCC())) {
+                var lowTx = (TestLowTransaction) transaction.getLowTransaction();
+                lowTx.setTestCommitFutureResponse(new TestFutureResponse<>());
+
+                var commitFuture = transaction.commitAsync(TgCommitType.ACCEPTED);
+                commitFuture.await(TgCommitType.AVAILABLE);
+                assertEquals(3, threadNameList.size());
+
+                commitFuture.await(TgCommitType.STORED);
+                assertEquals(4, threadNameList.size());
+            }
+        }
+
+        // polling threads are shared and bounded
+        var threadNameSet = new HashSet<>(threadNameList);
+        for (var name : threadNameSet) {
+            assertTrue(name.startsWith("iceaxe-commit-poll-"), name);
+        }
+        assertTrue(threadNameSet.size() <= TsurugiCommitFuture.POLLING_THREAD_SIZE, threadNameSet::toString);
+    }
+
+    @Test
+    void defaultExecutorBounded() throws Exception {
+        int size = TsurugiCommitFuture.DEFAULT_EXECUTOR_THREAD_SIZE * 2;
+        var release = new CountDownLatch(1);
+        var threadNameList = new CopyOnWriteArrayList<String>();
+        try (var session = new TestTsurugiSession(TgSessionOption.of())) {
+            var transactionList = new ArrayList<TsurugiTransaction>();
+            var futureList = new ArrayList<TsurugiCommitFuture>();
+            for (int i = 0; i < size; i++) {
+                var transaction = session.createTransaction(TgTxOption.ofOCC());
+                transactionList.add(transaction);
+                var lowTx = (TestLowTransaction) transaction.getLowTransaction();
+                lowTx.setTestCommitFutureResponse(new TestFutureResponse<>() {
+                    @Override
+                    protected Void getInternal() throws InterruptedException {
+                        threadNameList.add(Thread.currentThread().getName());
+                        release.await();
+                        return null;
+                    }
+                });
+                futureList.add(transaction.commitAsync(TgCommitType.DEFAULT));
+            }
+
+            release.countDown();
+            for (var future : futureList) {
+                future.await();
+            }
+            for (var transaction : transactionList) {
+                assertTrue(transaction.isCommitted());
+                transaction.close();
+            }
+        }
+
+        assertEquals(size, threadNameList.size());
+        var threadNameSet = new HashSet<>(threadNameList);
+        assertTrue(threadNameSet.size() <= TsurugiCommitFuture.DEFAULT_EXECUTOR_THREAD_SIZE, threadNameSet::toString);
+    }
+
+    @Test
+    void level() {
+        assertEquals(TsurugiCommitFuture.level(TgCommitType.DEFAULT), TsurugiCommitFuture.level(TgCommitType.ACCEPTED));
+        assertTrue(TsurugiCommitFuture.level(TgCommitType.ACCEPTED) < TsurugiCommitFuture.level(TgCommitType.AVAILABLE));
+        assertTrue(TsurugiCommitFuture.level(TgCommitType.AVAILABLE) < TsurugiCommitFuture.level(TgCommitType.STORED));
+        assertTrue(TsurugiCommitFuture.level(TgCommitType.STORED) < TsurugiCommitFuture.level(TgCommitType.PROPAGATED));
+    }
+}
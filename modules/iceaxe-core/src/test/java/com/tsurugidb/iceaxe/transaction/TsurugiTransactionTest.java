@@ -16,6 +16,7 @@
 package com.tsurugidb.iceaxe.transaction;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -23,6 +24,9 @@ import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
@@ -32,10 +36,12 @@ import com.tsurugidb.iceaxe.exception.IceaxeErrorCode;
 import com.tsurugidb.iceaxe.exception.IceaxeIOException;
 import com.tsurugidb.iceaxe.session.TgSessionOption;
 import com.tsurugidb.iceaxe.session.TsurugiSession;
+import com.tsurugidb.iceaxe.test.TestTsurugiSession;
 import com.tsurugidb.iceaxe.test.low.TestFutureResponse;
 import com.tsurugidb.iceaxe.test.low.TestLowTransaction;
 import com.tsurugidb.iceaxe.transaction.event.TsurugiTransactionEventListener;
 import com.tsurugidb.iceaxe.transaction.option.TgTxOption;
+import com.tsurugidb.iceaxe.util.IceaxeBackgroundDisposer;
 import com.tsurugidb.tsubakuro.exception.ServerException;
 import com.tsurugidb.tsubakuro.sql.Transaction;
 
@@ -142,4 +148,39 @@ class TsurugiTransactionTest {
             }
         }
     }
+
+    @Test
+    void closeInBackground() throws Exception {
+        var latch = new CountDownLatch(1);
+        try (var disposer = new IceaxeBackgroundDisposer(1, 8)) {
+            var sessionOption = TgSessionOption.of().setBackgroundDisposer(disposer);
+            try (var session = new TestTsurugiSession(sessionOption)) {
+                var transaction = session.createTransaction(TgTxOption.ofOCC());
+                var lowTx = (TestLowTransaction) transaction.getLowTransaction();
+                lowTx.setTestCommitFutureResponse(new TestFutureResponse<>());
+
+                var eventList = new CopyOnWriteArrayList<Boolean>();
+                transaction.addEventListener(new TsurugiTransactionEventListener() {
+                    @Override
+                    public void closeTransaction(TsurugiTransaction transaction, long timeoutNanos, Throwable occurred) {
+                        eventList.add(lowTx.isClosed());
+                    }
+                });
+
+                transaction.commit(TgCommitOption.of().autoDispose(true));
+                assertTrue(disposer.dispose(t -> latch.await(), 0)); // block the disposer thread
+                transaction.close();
+                assertTrue(transaction.isClosed());
+                assertFalse(lowTx.isClosed());
+                assertEquals(List.of(), eventList);
+
+                latch.countDown();
+                assertTrue(disposer.awaitIdle(10, TimeUnit.SECONDS));
+                assertTrue(lowTx.isClosed());
+                assertEquals(List.of(true), eventList);
+            }
+        } finally {
+            latch.countDown();
+        }
+    }
 }
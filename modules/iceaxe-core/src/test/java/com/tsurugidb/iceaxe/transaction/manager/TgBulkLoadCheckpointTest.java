@@ -0,0 +1,72 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.iceaxe.transaction.manager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class TgBulkLoadCheckpointTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void ofMemory() throws Exception {
+        var target = TgBulkLoadCheckpoint.ofMemory();
+        assertEquals(-1, target.getLastCommittedChunk(0));
+        assertNull(target.getLayout());
+
+        target.setLayout("test");
+        assertEquals("test", target.getLayout());
+
+        target.committed(0, 0);
+        target.committed(0, 1);
+        target.committed(2, 5);
+        assertEquals(1, target.getLastCommittedChunk(0));
+        assertEquals(-1, target.getLastCommittedChunk(1));
+        assertEquals(5, target.getLastCommittedChunk(2));
+    }
+
+    @Test
+    void ofFile() throws Exception {
+        var file = tempDir.resolve("checkpoint.txt");
+        var target = (TgBulkLoadFileCheckpoint) TgBulkLoadCheckpoint.ofFile(file);
+        assertEquals(-1, target.getLastCommittedChunk(0));
+
+        target.setLayout("writerCount=2,chunkSize=10");
+        target.committed(0, 3);
+        target.committed(1, 4);
+        assertEquals(3, target.getLastCommittedChunk(0));
+
+        var restart = TgBulkLoadCheckpoint.ofFile(file);
+        assertEquals(3, restart.getLastCommittedChunk(0));
+        assertEquals(4, restart.getLastCommittedChunk(1));
+        assertEquals(-1, restart.getLastCommittedChunk(2));
+        assertEquals("writerCount=2,chunkSize=10", restart.getLayout());
+
+        target.clear();
+        assertFalse(Files.exists(file));
+        assertEquals(-1, target.getLastCommittedChunk(0));
+        assertNull(target.getLayout());
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.iceaxe.transaction.manager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import com.tsurugidb.iceaxe.session.TgSessionOption;
+import com.tsurugidb.iceaxe.sql.TsurugiSqlPreparedStatement;
+import com.tsurugidb.iceaxe.sql.parameter.TgParameterMapping;
+import com.tsurugidb.iceaxe.test.TestTsurugiSession;
+import com.tsurugidb.iceaxe.test.low.TestFutureResponse;
+import com.tsurugidb.iceaxe.test.low.TestLowTransaction;
+import com.tsurugidb.iceaxe.test.low.TestSqlClient;
+import com.tsurugidb.iceaxe.transaction.TsurugiTransaction;
+import com.tsurugidb.tsubakuro.sql.PreparedStatement;
+
+class TsurugiBulkLoaderTest {
+
+    private static class TestBulkLoader extends TsurugiBulkLoader<Integer> {
+        /** partition to chunks */
+        final Map<Integer, List<List<Integer>>> chunkMap = new TreeMap<>();
+        private final Predicate<Integer> failure;
+
+        TestBulkLoader(TestTsurugiSession session, TsurugiSqlPreparedStatement<Integer> ps, Predicate<Integer> failure) {
+            super(session, ps);
+            this.failure = failure;
+        }
+
+        @Override
+        protected void executeChunk(TsurugiTransaction transaction, TsurugiSqlPreparedStatement<Integer> ps, List<Integer> rows) throws IOException, InterruptedException {
+            for (int row : rows) {
+                if (failure.test(row)) {
+                    throw new IOException("test: bad row " + row);
+                }
+            }
+            var lowTx = (TestLowTransaction) transaction.getLowTransaction();
+            lowTx.setTestCommitFutureResponse(new TestFutureResponse<>());
+
+            String name = Thread.currentThread().getName();
+            int partition = Integer.parseInt(name.substring(name.lastIndexOf('-') + 1));
+            synchronized (chunkMap) {
+                chunkMap.computeIfAbsent(partition, k -> new ArrayList<>()).add(List.copyOf(rows));
+            }
+        }
+    }
+
+    private static TsurugiSqlPreparedStatement<Integer> createStatement(TestTsurugiSession session) throws IOException, InterruptedException {
+        var client = (TestSqlClient) session.getLowSqlClient();
+        client.setTestPreparedStatementFutureResponse(new TestFutureResponse<PreparedStatement>());
+        return session.createStatement("insert into test values(:v)", TgParameterMapping.ofSingle("v", int.class));
+    }
+
+    private static IntStream rows(int size) {
+        return IntStream.range(0, size);
+    }
+
+    @Test
+    void partitionInTurn() throws Exception {
+        try (var session = new TestTsurugiSession(TgSessionOption.of()); var ps = createStatement(session)) {
+            var target = new TestBulkLoader(session, ps, row -> false);
+            target.setWriterCount(3).setChunkSize(2);
+
+            assertEquals(10, target.load(rows(10).boxed()));
+
+            var expected = Map.of( //
+                    0, List.of(List.of(0, 3), List.of(6, 9)), //
+                    1, List.of(List.of(1, 4), List.of(7)), //
+                    2, List.of(List.of(2, 5), List.of(8)));
+            assertEquals(expected, target.chunkMap);
+            assertEquals(10, target.getRowCount());
+            assertEquals(6, target.getChunkCount());
+            assertEquals(6, target.getTransactionCount().successCommitCount());
+        }
+    }
+
+    @Test
+    void partitionByKey() throws Exception {
+        try (var session = new TestTsurugiSession(TgSessionOption.of()); var ps = createStatement(session)) {
+            var target = new TestBulkLoader(session, ps, row -> false);
+            target.setWriterCount(2).setChunkSize(3).setPartitionKey(row -> row % 2);
+
+            assertEquals(10, target.load(rows(10).boxed()));
+
+            var expected = Map.of( //
+                    0, List.of(List.of(0, 2, 4), List.of(6, 8)), //
+                    1, List.of(List.of(1, 3, 5), List.of(7, 9)));
+            assertEquals(expected, target.chunkMap);
+        }
+    }
+
+    @Test
+    void resume() throws Exception {
+        var checkpoint = TgBulkLoadCheckpoint.ofMemory();
+        try (var session = new TestTsurugiSession(TgSessionOption.of()); var ps = createStatement(session)) {
+            {
+                var target = new TestBulkLoader(session, ps, row -> row == 7);
+                target.setWriterCount(1).setChunkSize(2).setCheckpoint(checkpoint).setInputId("input1");
+
+                var e = assertThrows(IOException.class, () -> target.load(rows(10).boxed()));
+                assertEquals("test: bad row 7", e.getMessage());
+                assertEquals(6, target.getRowCount());
+                assertEquals(2, checkpoint.getLastCommittedChunk(0));
+            }
+            {
+                var target = new TestBulkLoader(session, ps, row -> false);
+                target.setWriterCount(1).setChunkSize(2).setCheckpoint(checkpoint).setInputId("input1");
+
+                assertEquals(4, target.load(rows(10).boxed()));
+                assertEquals(6, target.getSkipCount());
+                assertEquals(Map.of(0, List.of(List.of(6, 7), List.of(8, 9))), target.chunkMap);
+                assertEquals(4, checkpoint.getLastCommittedChunk(0));
+            }
+        }
+    }
+
+    @Test
+    void resumeLayoutMismatch() throws Exception {
+        var checkpoint = TgBulkLoadCheckpoint.ofMemory();
+        try (var session = new TestTsurugiSession(TgSessionOption.of()); var ps = createStatement(session)) {
+            {
+                var target = new TestBulkLoader(session, ps, row -> row == 3);
+                target.setWriterCount(2).setChunkSize(2).setCheckpoint(checkpoint).setInputId("input1");
+                assertThrows(IOException.class, () -> target.load(rows(10).boxed()));
+            }
+
+            var writerCount = new TestBulkLoader(session, ps, row -> false);
+            writerCount.setWriterCount(3).setChunkSize(2).setCheckpoint(checkpoint).setInputId("input1");
+            assertThrows(IllegalStateException.class, () -> writerCount.load(rows(10).boxed()));
+
+            var chunkSize = new TestBulkLoader(session, ps, row -> false);
+            chunkSize.setWriterCount(2).setChunkSize(3).setCheckpoint(checkpoint).setInputId("input1");
+            assertThrows(IllegalStateException.class, () -> chunkSize.load(rows(10).boxed()));
+
+            var partition = new TestBulkLoader(session, ps, row -> false);
+            partition.setWriterCount(2).setChunkSize(2).setCheckpoint(checkpoint).setInputId("input1").setPartitionKey(row -> row);
+            assertThrows(IllegalStateException.class, () -> partition.load(rows(10).boxed()));
+
+            var input = new TestBulkLoader(session, ps, row -> false);
+            input.setWriterCount(2).setChunkSize(2).setCheckpoint(checkpoint).setInputId("input2");
+            assertThrows(IllegalStateException.class, () -> input.load(rows(10).boxed()));
+
+            assertEquals(0, writerCount.getRowCount() + chunkSize.getRowCount() + partition.getRowCount() + input.getRowCount());
+        }
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.iceaxe.transaction.manager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import com.tsurugidb.iceaxe.exception.IceaxeErrorCode;
+import com.tsurugidb.iceaxe.exception.IceaxeServerExceptionTestMock;
+import com.tsurugidb.iceaxe.exception.IceaxeTimeoutIOException;
+import com.tsurugidb.iceaxe.session.TgSessionOption;
+import com.tsurugidb.iceaxe.session.TgSessionOption.TgTimeoutKey;
+import com.tsurugidb.iceaxe.test.TestTsurugiSession;
+import com.tsurugidb.iceaxe.test.low.TestFutureResponse;
+import com.tsurugidb.iceaxe.test.low.TestLowTransaction;
+import com.tsurugidb.iceaxe.test.low.TestResultSet;
+import com.tsurugidb.iceaxe.test.low.TestSqlClient;
+import com.tsurugidb.iceaxe.transaction.exception.TsurugiTransactionException;
+import com.tsurugidb.iceaxe.transaction.function.TsurugiTransactionAction;
+import com.tsurugidb.iceaxe.transaction.manager.option.TgTmTxOptionSupplier;
+import com.tsurugidb.iceaxe.transaction.manager.retry.TgTmRetryInstruction;
+import com.tsurugidb.iceaxe.transaction.option.TgTxOption;
+import com.tsurugidb.tsubakuro.exception.ServerException;
+import com.tsurugidb.tsubakuro.sql.ExecuteResult;
+import com.tsurugidb.tsubakuro.sql.ResultSet;
+import com.tsurugidb.tsubakuro.sql.ResultSetMetadata;
+import com.tsurugidb.tsubakuro.sql.Transaction;
+
+class TsurugiTransactionManagerDeadlineTest {
+
+    private static TgSessionOption createSessionOption() {
+        var sessionOption = TgSessionOption.of();
+        sessionOption.setTimeout(TgTimeoutKey.DEFAULT, 1, TimeUnit.HOURS);
+        return sessionOption;
+    }
+
+    @Test
+    void retryAfterDeadline() throws Exception {
+        var supplier = TgTmTxOptionSupplier.ofAlways(TgTxOption.ofOCC(), 10);
+        supplier.setRetryPredicate((transaction, exception) -> TgTmRetryInstruction.ofRetryable("test"));
+        var setting = TgTmSetting.of(supplier).executeTimeout(50, TimeUnit.MILLISECONDS);
+
+        var count = new AtomicInteger(0);
+        try (var session = new TestTsurugiSession(createSessionOption())) {
+            var tm = session.createTransactionManager(setting);
+            TsurugiTransactionAction action = transaction -> {
+                count.incrementAndGet();
+                TimeUnit.MILLISECONDS.sleep(100);
+                throw new TsurugiTransactionException(new IceaxeServerExceptionTestMock("abc", 123));
+            };
+            var e = assertThrowsExactly(IceaxeTimeoutIOException.class, () -> tm.execute(action));
+            assertEquals(IceaxeErrorCode.TM_DEADLINE_EXCEEDED, e.getDiagnosticCode());
+            assertInstanceOf(TsurugiTransactionException.class, e.getCause());
+        }
+        assertEquals(1, count.get());
+    }
+
+    @Test
+    void settingReuse() throws Exception {
+        var setting = TgTmSetting.of(TgTxOption.ofOCC()).executeTimeout(100, TimeUnit.MILLISECONDS);
+
+        try (var session = new TestTsurugiSession(createSessionOption())) {
+            var tm = session.createTransactionManager(setting);
+            for (int i = 0; i < 3; i++) {
+                tm.execute(transaction -> {
+                    var deadline = transaction.getDeadline();
+                    assertNotNull(deadline);
+                    assertTrue(deadline.remainingNanos() > TimeUnit.MILLISECONDS.toNanos(50));
+                    TimeUnit.MILLISECONDS.sleep(60);
+                    transaction.rollback();
+                });
+            }
+        }
+    }
+
+    @Test
+    void beginTimeout() throws Exception {
+        var future = new TestFutureResponse<Transaction>() {
+            @Override
+            protected Transaction getInternal() {
+                return new TestLowTransaction();
+            }
+        };
+        future.setExpectedTimeout(1, TimeUnit.SECONDS);
+
+        var setting = TgTmSetting.of(TgTxOption.ofOCC()).executeTimeout(1, TimeUnit.SECONDS);
+        try (var session = new TestTsurugiSession(createSessionOption())) {
+            var client = (TestSqlClient) session.getLowSqlClient();
+            client.setTestTransactionFutureResponse(future);
+
+            var tm = session.createTransactionManager(setting);
+            tm.execute(transaction -> {
+                transaction.getLowTransaction();
+                transaction.rollback();
+            });
+        }
+
+        assertTrue(future.isClosed());
+    }
+
+    @Test
+    void executeTimeout() throws Exception {
+        var future = new TestFutureResponse<ExecuteResult>() {
+            @Override
+            public ExecuteResult get(long timeout, TimeUnit unit) throws IOException, ServerException, InterruptedException, TimeoutException {
+                super.get(timeout, unit);
+                unit.sleep(timeout);
+                throw new TimeoutException("test");
+            }
+        };
+        future.setExpectedTimeout(100, TimeUnit.MILLISECONDS);
+
+        var setting = TgTmSetting.of(TgTxOption.ofOCC()).executeTimeout(100, TimeUnit.MILLISECONDS);
+        try (var session = new TestTsurugiSession(createSessionOption()); //
+                var ps = session.createStatement("SQL")) {
+            var tm = session.createTransactionManager(setting);
+            var e = assertThrowsExactly(IceaxeTimeoutIOException.class, () -> {
+                tm.execute(transaction -> {
+                    var lowTx = (TestLowTransaction) transaction.getLowTransaction();
+                    lowTx.setTestExecuteResultFutureResponse(future);
+                    transaction.executeAndGetCount(ps);
+                });
+            });
+            assertEquals(IceaxeErrorCode.TM_DEADLINE_EXCEEDED, e.getDiagnosticCode());
+            var cause = (IceaxeTimeoutIOException) e.getCause();
+            assertEquals(IceaxeErrorCode.RESULT_CONNECT_TIMEOUT, cause.getDiagnosticCode());
+        }
+
+        assertTrue(future.isClosed());
+    }
+
+    @Test
+    void fetchTimeout() throws Exception {
+        var resultSet = new AtomicReference<TestResultSet>();
+        var future = new TestFutureResponse<ResultSet>() {
+            @Override
+            protected ResultSet getInternal() {
+                var rs = new TestResultSet() {
+                    @Override
+                    public ResultSetMetadata getMetadata() throws IOException, ServerException, InterruptedException {
+                        return () -> List.of();
+                    }
+
+                    @Override
+                    public boolean nextRow() throws IOException, ServerException, InterruptedException {
+                        return false;
+                    }
+                };
+                resultSet.set(rs);
+                return rs;
+            }
+        };
+
+        var setting = TgTmSetting.of(TgTxOption.ofOCC()).executeTimeout(1, TimeUnit.SECONDS);
+        try (var session = new TestTsurugiSession(createSessionOption()); //
+                var ps = session.createQuery("SQL")) {
+            var tm = session.createTransactionManager(setting);
+            tm.execute(transaction -> {
+                var lowTx = (TestLowTransaction) transaction.getLowTransaction();
+                lowTx.setTestResultSetFutureResponse(future);
+                transaction.executeAndGetList(ps);
+                transaction.rollback();
+            });
+        }
+
+        var timeout = resultSet.get().timeout.toNanos();
+        assertTrue(1 <= timeout && timeout <= TimeUnit.SECONDS.toNanos(1), "timeout=" + timeout);
+    }
+}
@@ -15,14 +15,25 @@
  */
 package com.tsurugidb.iceaxe.transaction.manager;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
+import com.tsurugidb.iceaxe.exception.IceaxeServerExceptionTestMock;
 import com.tsurugidb.iceaxe.session.TgSessionOption;
 import com.tsurugidb.iceaxe.session.TsurugiSession;
+import com.tsurugidb.iceaxe.test.TestTsurugiSession;
+import com.tsurugidb.iceaxe.transaction.TsurugiTransaction;
+import com.tsurugidb.iceaxe.transaction.exception.TsurugiTransactionException;
 import com.tsurugidb.iceaxe.transaction.manager.event.TsurugiTmEventListener;
+import com.tsurugidb.iceaxe.transaction.manager.option.TgTmTxOption;
+import com.tsurugidb.iceaxe.transaction.manager.option.TgTmTxOptionSupplier;
+import com.tsurugidb.iceaxe.transaction.manager.retry.TgTmRetryInstruction;
 import com.tsurugidb.iceaxe.transaction.option.TgTxOption;
 
 class TsurugiTransactionManagerTest {
@@ -59,4 +70,50 @@ class TsurugiTransactionManagerTest {
             }
         }
     }
+
+    @Test
+    void retryEventOrder() throws Exception {
+        var eventList = new ArrayList<String>();
+        var listener = new TsurugiTmEventListener() {
+            @Override
+            public void transactionStart(TsurugiTransactionManager tm, int iceaxeTmExecuteId, int attempt, TgTxOption txOption) {
+                eventList.add("start" + attempt);
+            }
+
+            @Override
+            public void transactionStarted(TsurugiTransaction transaction) {
+                eventList.add("started" + transaction.getAttempt());
+            }
+
+            @Override
+            public void transactionRollbacked(TsurugiTransaction transaction, Throwable e) {
+                eventList.add("rollbacked" + transaction.getAttempt() + ":" + transaction.isClosed());
+            }
+
+            @Override
+            public void transactionRetry(TsurugiTransaction transaction, Exception cause, TgTmTxOption nextTmOption) {
+                eventList.add("retry" + transaction.getAttempt());
+            }
+        };
+
+        var supplier = TgTmTxOptionSupplier.ofAlways(TgTxOption.ofOCC(), 2);
+        supplier.setRetryPredicate((transaction, exception) -> TgTmRetryInstruction.ofRetryable("test"));
+        var setting = TgTmSetting.of(supplier).addEventListener(listener);
+
+        var transactionList = new ArrayList<TsurugiTransaction>();
+        try (var session = new TestTsurugiSession(TgSessionOption.of())) {
+            var tm = session.createTransactionManager(setting);
+            tm.execute(transaction -> {
+                transactionList.add(transaction);
+                if (transaction.getAttempt() == 0) {
+                    throw new TsurugiTransactionException(new IceaxeServerExceptionTestMock("abc", 123));
+                }
+                transaction.rollback();
+            });
+        }
+
+        assertEquals(List.of("start0", "started0", "retry0", "start1", "rollbacked0:false", "started1"), eventList);
+        assertEquals(2, transactionList.size());
+        assertTrue(transactionList.get(0).isClosed());
+    }
 }
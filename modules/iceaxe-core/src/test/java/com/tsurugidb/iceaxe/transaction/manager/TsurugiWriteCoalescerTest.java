@@ -0,0 +1,239 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.iceaxe.transaction.manager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.tsurugidb.iceaxe.session.TgSessionOption;
+import com.tsurugidb.iceaxe.sql.TsurugiSqlPreparedStatement;
+import com.tsurugidb.iceaxe.sql.parameter.TgParameterMapping;
+import com.tsurugidb.iceaxe.test.TestTsurugiSession;
+import com.tsurugidb.iceaxe.test.low.TestFutureResponse;
+import com.tsurugidb.iceaxe.test.low.TestLowTransaction;
+import com.tsurugidb.iceaxe.test.low.TestPreparedStatement;
+import com.tsurugidb.iceaxe.test.low.TestSqlClient;
+import com.tsurugidb.sql.proto.SqlRequest.Parameter;
+import com.tsurugidb.tsubakuro.sql.ExecuteResult;
+import com.tsurugidb.tsubakuro.sql.PreparedStatement;
+import com.tsurugidb.tsubakuro.sql.Transaction;
+import com.tsurugidb.tsubakuro.util.FutureResponse;
+
+class TsurugiWriteCoalescerTest {
+
+    private static TsurugiSqlPreparedStatement<Integer> createStatement(TestTsurugiSession session, String sql) throws IOException, InterruptedException {
+        var client = (TestSqlClient) session.getLowSqlClient();
+        client.setTestPreparedStatementFutureResponse(new TestFutureResponse<PreparedStatement>() {
+            @Override
+            protected PreparedStatement getInternal() {
+                return new TestPreparedStatement(false);
+            }
+        });
+        return session.createStatement(sql, TgParameterMapping.ofSingle("v", int.class));
+    }
+
+    @Test
+    void findWritePreserveTable() throws Exception {
+        try (var session = new TestTsurugiSession(TgSessionOption.of())) {
+            assertEquals(List.of("test"), TsurugiWriteCoalescer.findWritePreserveTable(createStatement(session, "insert into test values(:v)")));
+            assertEquals(List.of("test"), TsurugiWriteCoalescer.findWritePreserveTable(createStatement(session, "INSERT OR REPLACE INTO test(v) values(:v)")));
+            assertEquals(List.of("test"), TsurugiWriteCoalescer.findWritePreserveTable(createStatement(session, " upsert into test values(:v)")));
+            assertEquals(List.of("test"), TsurugiWriteCoalescer.findWritePreserveTable(createStatement(session, "update test set v=:v")));
+            assertEquals(List.of("te\"st"), TsurugiWriteCoalescer.findWritePreserveTable(createStatement(session, "delete from \"te\"\"st\" where v=:v")));
+            assertEquals(List.of(), TsurugiWriteCoalescer.findWritePreserveTable(createStatement(session, "select * from test where v=:v")));
+        }
+    }
+
+    @Test
+    void submitUnresolved() throws Exception {
+        var tableList = new ArrayList<Collection<String>>();
+        try (var session = new TestTsurugiSession(TgSessionOption.of())) {
+            var ps = createStatement(session, "with t as (select 1) insert into test select * from t");
+            try (var target = new TsurugiWriteCoalescer(session) {
+                @Override
+                protected int[] executeTransaction(List<TgWriteSubmission<?>> group) {
+                    for (var submission : group) {
+                        tableList.add(submission.getWritePreserveTables());
+                    }
+                    return new int[group.size()];
+                }
+            }) {
+                var e = assertThrows(IllegalArgumentException.class, () -> target.submit(ps, 1));
+                assertTrue(e.getMessage().startsWith("write preserve table not resolved"), e.getMessage());
+
+                target.setWritePreserveResolver(statement -> List.of("test"));
+                assertEquals(0, target.submit(ps, 1).get(5, TimeUnit.SECONDS));
+            }
+        }
+        assertEquals(List.of(List.of("test")), tableList);
+    }
+
+    @Test
+    void pipeline() throws Exception {
+        var eventList = new ArrayList<String>();
+        var lowTransaction = new TestLowTransaction() {
+            @Override
+            public FutureResponse<ExecuteResult> executeStatement(PreparedStatement statement, Collection<? extends Parameter> parameters) {
+                int n;
+                synchronized (eventList) {
+                    n = (int) eventList.stream().filter(s -> s.startsWith("send")).count();
+                    eventList.add("send" + n);
+                }
+                return new TestFutureResponse<>() {
+                    @Override
+                    protected ExecuteResult getInternal() {
+                        synchronized (eventList) {
+                            eventList.add("get" + n);
+                        }
+                        return Map::of;
+                    }
+                };
+            }
+        };
+        lowTransaction.setTestCommitFutureResponse(new TestFutureResponse<>());
+        try (var session = new TestTsurugiSession(TgSessionOption.of())) {
+            var client = (TestSqlClient) session.getLowSqlClient();
+            client.setTestTransactionFutureResponse(new TestFutureResponse<>() {
+                @Override
+                protected Transaction getInternal() {
+                    return lowTransaction;
+                }
+            });
+            var ps = createStatement(session, "insert into test values(:v)");
+            try (var target = new TsurugiWriteCoalescer(session)) {
+                target.setMaxBatchSize(3).setWindow(1, TimeUnit.HOURS);
+                var futureList = new ArrayList<CompletableFuture<Integer>>();
+                for (int i = 0; i < 3; i++) {
+                    futureList.add(target.submit(ps, i));
+                }
+                for (var future : futureList) {
+                    assertEquals(0, future.get(5, TimeUnit.SECONDS));
+                }
+                assertEquals(1, target.getGroupCount());
+            }
+        }
+        assertEquals(List.of("send0", "send1", "send2", "get0", "get1", "get2"), eventList);
+    }
+
+    @Test
+    void split() throws Exception {
+        var groupSizeList = new ArrayList<Integer>();
+        try (var session = new TestTsurugiSession(TgSessionOption.of())) {
+            var ps = createStatement(session, "insert into test values(:v)");
+            var futureList = new ArrayList<CompletableFuture<Integer>>();
+            try (var target = new TsurugiWriteCoalescer(session) {
+                @Override
+                protected int[] executeTransaction(List<TgWriteSubmission<?>> group) throws IOException {
+                    synchronized (groupSizeList) {
+                        groupSizeList.add(group.size());
+                    }
+                    var counts = new int[group.size()];
+                    for (int i = 0; i < counts.length; i++) {
+                        int value = (Integer) group.get(i).getParameter();
+                        if (value == 5) {
+                            throw new IOException("test: bad row");
+                        }
+                        counts[i] = 1;
+                    }
+                    return counts;
+                }
+            }) {
+                target.setMaxBatchSize(8).setWindow(1, TimeUnit.HOURS);
+                for (int i = 0; i < 8; i++) {
+                    futureList.add(target.submit(ps, i));
+                }
+                for (int i = 0; i < 8; i++) {
+                    var future = futureList.get(i);
+                    if (i == 5) {
+                        var e = assertThrows(ExecutionException.class, () -> future.get());
+                        assertTrue(e.getCause() instanceof IOException);
+                    } else {
+                        assertEquals(1, future.get());
+                    }
+                }
+
+                // 8 -> 4 + [4 -> [2 -> 1 + 1] + 2]
+                assertEquals(List.of(8, 4, 4, 2, 1, 1, 2), groupSizeList);
+                assertEquals(7, target.getGroupCount());
+                assertEquals(3, target.getSplitCount());
+                assertEquals(7, target.getRowCount());
+                assertEquals(1, target.getFailureCount());
+            }
+        }
+    }
+
+    @Test
+    void close() throws Exception {
+        try (var session = new TestTsurugiSession(TgSessionOption.of())) {
+            var ps = createStatement(session, "insert into test values(:v)");
+            var target = new TsurugiWriteCoalescer(session) {
+                @Override
+                protected int[] executeTransaction(List<TgWriteSubmission<?>> group) {
+                    return new int[group.size()];
+                }
+            };
+            var future = target.submit(ps, 1);
+            target.close();
+            assertEquals(0, future.get());
+            assertThrows(IllegalStateException.class, () -> target.submit(ps, 2));
+        }
+    }
+
+    @Test
+    void interrupted() throws Exception {
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        try (var session = new TestTsurugiSession(TgSessionOption.of())) {
+            var ps = createStatement(session, "insert into test values(:v)");
+            var target = new TsurugiWriteCoalescer(session) {
+                @Override
+                protected int[] executeTransaction(List<TgWriteSubmission<?>> group) throws InterruptedException {
+                    started.countDown();
+                    release.await();
+                    throw new InterruptedException("test");
+                }
+            };
+            target.setMaxBatchSize(1);
+            var future1 = target.submit(ps, 1);
+            started.await();
+            var future2 = target.submit(ps, 2);
+            var future3 = target.submit(ps, 3);
+            release.countDown();
+
+            var e1 = assertThrows(ExecutionException.class, () -> future1.get(5, TimeUnit.SECONDS));
+            assertTrue(e1.getCause() instanceof InterruptedException);
+            for (var future : List.of(future2, future3)) {
+                var e = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+                assertTrue(e.getCause() instanceof IllegalStateException);
+            }
+            assertThrows(IllegalStateException.class, () -> target.submit(ps, 4));
+            target.close();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.iceaxe.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+class IceaxeBackgroundDisposerTest {
+
+    @Test
+    void dispose() throws Exception {
+        try (var disposer = new IceaxeBackgroundDisposer()) {
+            var closedTimeout = new AtomicLong(-1);
+            assertTrue(disposer.dispose(closedTimeout::set, TimeUnit.SECONDS.toNanos(1)));
+            assertTrue(disposer.awaitIdle(1, TimeUnit.SECONDS));
+
+            assertTrue(0 < closedTimeout.get() && closedTimeout.get() <= TimeUnit.SECONDS.toNanos(1));
+            assertEquals(1, disposer.getSubmittedCount());
+            assertEquals(1, disposer.getDisposedCount());
+            assertEquals(0, disposer.getFailureCount());
+            assertNull(disposer.getLastFailure());
+        }
+    }
+
+    @Test
+    void failure() throws Exception {
+        try (var disposer = new IceaxeBackgroundDisposer()) {
+            var exception = new IOException("test");
+            assertTrue(disposer.dispose(t -> {
+                throw exception;
+            }, 0));
+            assertTrue(disposer.awaitIdle(1, TimeUnit.SECONDS));
+
+            assertEquals(0, disposer.getDisposedCount());
+            assertEquals(1, disposer.getFailureCount());
+            assertSame(exception, disposer.getLastFailure());
+        }
+    }
+
+    @Test
+    void awaitIdle() throws Exception {
+        var latch = new CountDownLatch(1);
+        try (var disposer = new IceaxeBackgroundDisposer(2, 8)) {
+            assertTrue(disposer.awaitIdle(0, TimeUnit.SECONDS));
+
+            for (int i = 0; i < 3; i++) {
+                assertTrue(disposer.dispose(t -> latch.await(), 0));
+            }
+            assertEquals(3, disposer.getBacklogSize());
+            assertFalse(disposer.awaitIdle(10, TimeUnit.MILLISECONDS));
+
+            latch.countDown();
+            assertTrue(disposer.awaitIdle(10, TimeUnit.SECONDS));
+            assertEquals(0, disposer.getBacklogSize());
+            assertEquals(3, disposer.getDisposedCount());
+        }
+    }
+
+    @Test
+    void rejected() throws Exception {
+        var latch = new CountDownLatch(1);
+        var disposer = new IceaxeBackgroundDisposer(1, 1);
+        try {
+            assertTrue(disposer.dispose(t -> latch.await(), 0)); // running
+            assertTrue(disposer.dispose(t -> {
+            }, 0)); // queued
+            assertFalse(disposer.dispose(t -> {
+            }, 0));
+            assertTrue(disposer.getBacklogSize() >= 1);
+            assertEquals(1, disposer.getRejectedCount());
+        } finally {
+            latch.countDown();
+            disposer.close();
+        }
+
+        assertEquals(2, disposer.getDisposedCount());
+        assertFalse(disposer.dispose(t -> {
+        }, 0));
+    }
+}
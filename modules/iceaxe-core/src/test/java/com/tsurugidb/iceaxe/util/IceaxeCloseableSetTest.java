@@ -22,6 +22,8 @@ import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
@@ -500,4 +502,55 @@ class IceaxeCloseableSetTest {
         assertSame(t, e.getCause());
         assertEquals(0, target.size());
     }
+
+    @Test
+    void testConcurrent() throws Exception {
+        var target = new IceaxeCloseableSet();
+        var count = new AtomicInteger(0);
+        // each close waits until all of them are in progress at the same time
+        var allStarted = new CountDownLatch(4);
+        var concurrent = new AtomicInteger(0);
+
+        for (int i = 0; i < 4; i++) {
+            int n = i;
+            target.add(new IceaxeTimeoutCloseable() {
+                @Override
+                public void close(long timeoutNanos) throws Exception {
+                    count.addAndGet(1);
+                    allStarted.countDown();
+                    if (allStarted.await(timeoutNanos, TimeUnit.NANOSECONDS)) {
+                        concurrent.incrementAndGet();
+                    }
+                    target.remove(this);
+                    if (n % 2 == 1) {
+                        throw new IOException("e" + n);
+                    }
+                }
+            });
+        }
+
+        List<Throwable> result = target.close(TimeUnit.SECONDS.toNanos(10), 4);
+        assertEquals(4, count.get());
+        assertEquals(0, target.size());
+        assertEquals(4, concurrent.get());
+
+        assertEquals(2, result.size());
+        assertEquals("e1", result.get(0).getMessage());
+        assertEquals("e3", result.get(1).getMessage());
+    }
+
+    @Test
+    void testConcurrentOverPoolSize() throws Exception {
+        var target = new IceaxeCloseableSet();
+        var count = new AtomicInteger(0);
+        int size = IceaxeCloseableSet.CLOSE_THREAD_SIZE * 3;
+        for (int i = 0; i < size; i++) {
+            target.add(timeoutNanos -> count.incrementAndGet());
+        }
+
+        List<Throwable> result = target.close(TimeUnit.SECONDS.toNanos(10), size);
+        assertEquals(List.of(), result);
+        assertEquals(size, count.get());
+        assertEquals(0, target.size());
+    }
 }
@@ -40,6 +40,7 @@ import java.time.format.DateTimeParseException;
 
 import org.junit.jupiter.api.Test;
 
+import com.tsurugidb.iceaxe.sql.TgDataType;
 import com.tsurugidb.iceaxe.sql.type.TgBlob;
 import com.tsurugidb.iceaxe.sql.type.TgBlobReference;
 import com.tsurugidb.iceaxe.sql.type.TgClob;
@@ -420,4 +421,32 @@ class IceaxeConvertUtilTest {
 
         assertThrowsExactly(UnsupportedOperationException.class, () -> target.toClobReference("aaa"));
     }
+
+    @Test
+    void testGetConverter() {
+        var converter = target.getConverter(TgDataType.INT, Long.class);
+        assertSame(converter, target.getConverter(TgDataType.INT, Long.class));
+        assertEquals(123L, converter.convert(123));
+
+        assertEquals("abc", target.getConverter(TgDataType.STRING, String.class).convert("abc"));
+        var decimal = new BigDecimal("1.5");
+        assertSame(decimal, target.getConverter(TgDataType.DECIMAL, BigDecimal.class).convert(decimal));
+        assertEquals(12, target.getConverter(TgDataType.STRING, Integer.class).convert("12"));
+        assertEquals(12L, target.getConverter(null, Long.class).convert(12));
+
+        assertThrowsExactly(IllegalArgumentException.class, () -> target.getConverter(TgDataType.INT, Object.class));
+    }
+
+    @Test
+    void testGetConverterSubclass() {
+        var convertUtil = new IceaxeConvertUtil() {
+            @Override
+            public Long toLong(Object obj) {
+                return -1L;
+            }
+        };
+
+        assertEquals(-1L, convertUtil.getConverter(TgDataType.INT, Long.class).convert(123));
+        assertEquals(123L, target.getConverter(TgDataType.INT, Long.class).convert(123));
+    }
 }
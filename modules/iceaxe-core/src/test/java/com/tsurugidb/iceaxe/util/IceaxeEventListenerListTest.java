@@ -0,0 +1,127 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.iceaxe.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+import org.junit.jupiter.api.Test;
+
+class IceaxeEventListenerListTest {
+
+    @Test
+    void add() {
+        IceaxeEventListenerList<Consumer<String>> none = IceaxeEventListenerList.none();
+        assertFalse(none.exists());
+        assertEquals(List.of(), none.toList());
+
+        var result = new ArrayList<String>();
+        Consumer<String> listener1 = s -> result.add("1" + s);
+        Consumer<String> listener2 = s -> result.add("2" + s);
+        var list1 = none.add(listener1);
+        var list2 = list1.add(listener2);
+        assertNotSame(none, list1);
+        assertFalse(none.exists());
+        assertEquals(1, list1.size());
+        assertEquals(2, list2.size());
+
+        list2.event(null, listener -> listener.accept("a"));
+        assertEquals(List.of("1a", "2a"), result);
+
+        assertSame(listener2, list2.find(listener -> listener == listener2).get());
+        assertTrue(list1.find(listener -> listener == listener2).isEmpty());
+    }
+
+    @Test
+    void eventException() {
+        IceaxeEventListenerList<Consumer<String>> list = IceaxeEventListenerList.<Consumer<String>>none().add(s -> {
+            throw new IllegalStateException(s);
+        });
+
+        var occurred = new Exception("occurred");
+        var e = assertThrows(IllegalStateException.class, () -> list.event(occurred, listener -> listener.accept("test")));
+        assertEquals("test", e.getMessage());
+        assertSame(occurred, e.getSuppressed()[0]);
+    }
+
+    private static long sink;
+    private static Object escape;
+
+    @FunctionalInterface
+    private interface LoopBody {
+        void run(int i);
+    }
+
+    @Test
+    void guardedDispatchNoAllocation() {
+        var bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+        var threadBean = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(threadBean.isThreadAllocatedMemorySupported() && threadBean.isThreadAllocatedMemoryEnabled());
+
+        IceaxeEventListenerList<IntConsumer> none = IceaxeEventListenerList.none();
+
+        // the identical call without event code
+        LoopBody baseline = i -> {
+            sink += i;
+        };
+        // the guarded dispatch (as the call sites of iceaxe)
+        LoopBody guarded = i -> {
+            sink += i;
+            if (none.exists()) {
+                none.event(null, listener -> listener.accept(i));
+            }
+        };
+        // allocates 16 bytes or more per call (checks that the measurement detects allocation)
+        LoopBody allocating = i -> {
+            sink += i;
+            escape = new long[] { i };
+        };
+
+        int loop = 10_000;
+        long baselineBytes = minAllocated(threadBean, baseline, loop);
+        long guardedBytes = minAllocated(threadBean, guarded, loop);
+        long allocatingBytes = minAllocated(threadBean, allocating, loop);
+
+        assertTrue(allocatingBytes - baselineBytes >= 16L * loop, "baseline=" + baselineBytes + ", allocating=" + allocatingBytes);
+        assertEquals(baselineBytes, guardedBytes, "guarded dispatch allocates");
+    }
+
+    private static long minAllocated(com.sun.management.ThreadMXBean threadBean, LoopBody body, int loop) {
+        long threadId = Thread.currentThread().getId();
+        long min = Long.MAX_VALUE;
+        for (int round = 0; round < 10; round++) {
+            long start = threadBean.getThreadAllocatedBytes(threadId);
+            for (int i = 0; i < loop; i++) {
+                body.run(i);
+            }
+            long allocated = threadBean.getThreadAllocatedBytes(threadId) - start;
+            min = Math.min(min, allocated);
+        }
+        return min;
+    }
+}
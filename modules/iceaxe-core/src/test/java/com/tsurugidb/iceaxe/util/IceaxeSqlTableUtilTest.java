@@ -0,0 +1,62 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.iceaxe.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+class IceaxeSqlTableUtilTest {
+
+    @Test
+    void findWriteTable() {
+        assertEquals("test", IceaxeSqlTableUtil.findWriteTable("insert into test values(1)"));
+        assertEquals("test", IceaxeSqlTableUtil.findWriteTable("INSERT OR IGNORE INTO test(k) values(1)"));
+        assertEquals("test", IceaxeSqlTableUtil.findWriteTable("upsert into test values(1)"));
+        assertEquals("test", IceaxeSqlTableUtil.findWriteTable("update test set v=1"));
+        assertEquals("te\"st", IceaxeSqlTableUtil.findWriteTable("delete from \"te\"\"st\""));
+        assertEquals("s.test", IceaxeSqlTableUtil.findWriteTable("update \"s\".\"test\" set v=1"));
+        assertEquals("s.test", IceaxeSqlTableUtil.findWriteTable("update s.test set v=1"));
+        assertNull(IceaxeSqlTableUtil.findWriteTable("select * from test"));
+    }
+
+    @Test
+    void findReadTables() {
+        assertEquals(Set.of("test"), IceaxeSqlTableUtil.findReadTables("select * from test where k=1"));
+        assertEquals(List.of("t1", "t2"), List.copyOf(IceaxeSqlTableUtil.findReadTables("select * from t1 a join t2 b on a.k=b.k")));
+        assertEquals(List.of("t1", "t2", "t3"), List.copyOf(IceaxeSqlTableUtil.findReadTables("select * from t1 a, t2 as b, t3 where a.k=b.k order by a.x, b.y")));
+        assertEquals(List.of("t1", "t2"), List.copyOf(IceaxeSqlTableUtil.findReadTables("select * from t1 where k in (select k from t2)")));
+        assertEquals(List.of("s.t1", "T2"), List.copyOf(IceaxeSqlTableUtil.findReadTables("select * from s.t1 a, \"T2\" b")));
+
+        assertEquals(List.of("t1", "t2"), List.copyOf(IceaxeSqlTableUtil.findReadTables("select * from /* from x */ t1 -- from y\n, t2 where s='from z--'")));
+
+        // cannot be determined
+        assertEquals(Set.of(), IceaxeSqlTableUtil.findReadTables("select * from /* unterminated test"));
+        assertEquals(Set.of(), IceaxeSqlTableUtil.findReadTables("select * from (select * from t1) a, t2"));
+    }
+
+    @Test
+    void normalizeTableName() {
+        assertEquals("test", IceaxeSqlTableUtil.normalizeTableName("test"));
+        assertEquals("test", IceaxeSqlTableUtil.normalizeTableName("TEST"));
+        assertEquals("test", IceaxeSqlTableUtil.normalizeTableName("s.Test"));
+        assertEquals("test", IceaxeSqlTableUtil.normalizeTableName(IceaxeSqlTableUtil.findWriteTable("update \"S\".\"TEST\" set v=1")));
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.iceaxe.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.tsurugidb.iceaxe.session.TgSessionOption;
+import com.tsurugidb.iceaxe.session.TgSessionOption.TgTimeoutKey;
+
+class TgDeadlineTest {
+
+    @Test
+    void remaining() {
+        var target = TgDeadline.after(1, TimeUnit.HOURS);
+        assertFalse(target.isExpired());
+        long remaining = target.remainingNanos();
+        assertTrue(0 < remaining && remaining <= TimeUnit.HOURS.toNanos(1));
+        assertEquals(123, target.limit(123));
+    }
+
+    @Test
+    void expired() {
+        var target = TgDeadline.after(0, TimeUnit.SECONDS);
+        assertTrue(target.isExpired());
+        assertEquals(0, target.remainingNanos());
+        assertEquals(1, target.limit(TimeUnit.SECONDS.toNanos(1)));
+    }
+
+    @Test
+    void earlier() {
+        var deadline1 = TgDeadline.after(1, TimeUnit.SECONDS);
+        var deadline2 = TgDeadline.after(1, TimeUnit.HOURS);
+        assertSame(deadline1, TgDeadline.earlier(deadline1, deadline2));
+        assertSame(deadline1, TgDeadline.earlier(deadline2, deadline1));
+        assertSame(deadline2, TgDeadline.earlier(null, deadline2));
+        assertSame(deadline1, TgDeadline.earlier(deadline1, null));
+        assertNull(TgDeadline.earlier(null, null));
+    }
+
+    @Test
+    void iceaxeTimeout() {
+        var sessionOption = TgSessionOption.of().setTimeout(TgTimeoutKey.DEFAULT, 1, TimeUnit.HOURS);
+        var timeout = new IceaxeTimeout(sessionOption, TgTimeoutKey.TRANSACTION_COMMIT);
+        assertEquals(TimeUnit.HOURS.toNanos(1), timeout.getNanos());
+
+        timeout.setDeadline(TgDeadline.after(1, TimeUnit.SECONDS));
+        long nanos = timeout.getNanos();
+        assertTrue(0 < nanos && nanos <= TimeUnit.SECONDS.toNanos(1));
+
+        timeout.setDeadline(null);
+        assertEquals(TimeUnit.HOURS.toNanos(1), timeout.getNanos());
+    }
+}
@@ -0,0 +1,477 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.iceaxe.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+
+/**
+ * Annotation processor to generate mapping classes.
+ *
+ * <p>
+ * Generates {@code TgResultMapping} and {@code TgParameterMapping} subclasses for the classes annotated with {@code TgMappingEntity}. The generated classes
+ * fetch and set the column values by straight-line code instead of the lambda chains of {@code TgEntityResultMapping} and {@code TgEntityParameterMapping}.
+ * </p>
+ *
+ * @since 1.17.0
+ */
+public class TgMappingProcessor extends AbstractProcessor {
+
+    /** entity annotation name */
+    public static final String ENTITY_ANNOTATION = "com.tsurugidb.iceaxe.sql.mapping.TgMappingEntity";
+    /** column annotation name */
+    public static final String COLUMN_ANNOTATION = "com.tsurugidb.iceaxe.sql.mapping.TgMappingColumn";
+
+    /** suffix of generated result mapping class name */
+    public static final String RESULT_MAPPING_SUFFIX = "TgResultMapping";
+    /** suffix of generated parameter mapping class name */
+    public static final String PARAMETER_MAPPING_SUFFIX = "TgParameterMapping";
+
+    private static final String GENERATED_ANNOTATION = "javax.annotation.processing.Generated";
+
+    /**
+     * Creates a new instance.
+     */
+    public TgMappingProcessor() {
+        // do nothing
+    }
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Set.of(ENTITY_ANNOTATION);
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (var annotation : annotations) {
+            for (var element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                try {
+                    processEntity(element);
+                } catch (MappingException e) {
+                    error(e.getMessage(), e.element);
+                } catch (IOException e) {
+                    error("generate mapping error. " + e, element);
+                }
+            }
+        }
+        return true;
+    }
+
+    @SuppressWarnings("serial")
+    private static class MappingException extends Exception {
+        private final transient Element element;
+
+        MappingException(String message, Element element) {
+            super(message);
+            this.element = element;
+        }
+    }
+
+    private static class Column {
+        final String columnName;
+        final TgMappingType type;
+        final boolean primitive;
+        final VariableElement field;
+        String setter;
+        String getter;
+
+        Column(String columnName, TgMappingType type, VariableElement field) {
+            this.columnName = columnName;
+            this.type = type;
+            this.primitive = field.asType().getKind().isPrimitive();
+            this.field = field;
+        }
+    }
+
+    private void error(String message, Element element) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    private void processEntity(Element element) throws MappingException, IOException {
+        if (!(element instanceof TypeElement)) {
+            throw new MappingException("@TgMappingEntity must be a class or record", element);
+        }
+        var entity = (TypeElement) element;
+        boolean isRecord = entity.getKind().name().equals("RECORD");
+        if (entity.getKind() != ElementKind.CLASS && !isRecord) {
+            throw new MappingException("@TgMappingEntity must be a class or record", entity);
+        }
+        if (!entity.getTypeParameters().isEmpty()) {
+            throw new MappingException("@TgMappingEntity does not support generic type", entity);
+        }
+        for (Element e = entity; e instanceof TypeElement; e = e.getEnclosingElement()) {
+            if (e.getModifiers().contains(Modifier.PRIVATE)) {
+                throw new MappingException("@TgMappingEntity must not be private", entity);
+            }
+            if (((TypeElement) e).getNestingKind() == NestingKind.MEMBER && e.getKind() == ElementKind.CLASS && !e.getModifiers().contains(Modifier.STATIC)) {
+                throw new MappingException("@TgMappingEntity must not be inner class", entity);
+            }
+        }
+
+        var entityAnnotation = findAnnotation(entity, ENTITY_ANNOTATION);
+        boolean generateResult = (Boolean) getAnnotationValue(entityAnnotation, "resultMapping");
+        boolean generateParameter = (Boolean) getAnnotationValue(entityAnnotation, "parameterMapping");
+        boolean byName = (Boolean) getAnnotationValue(entityAnnotation, "byName");
+
+        var columnList = new ArrayList<Column>();
+        collectColumns(entity, isRecord, columnList, generateResult && isRecord);
+
+        if (generateResult) {
+            if (!isRecord) {
+                checkConstructor(entity);
+                for (var column : columnList) {
+                    column.setter = findSetter(entity, column);
+                }
+            }
+            generateResultMapping(entity, isRecord, byName, columnList);
+        }
+        if (generateParameter) {
+            for (var column : columnList) {
+                column.getter = findGetter(entity, isRecord, column);
+            }
+            generateParameterMapping(entity, columnList);
+        }
+    }
+
+    private void collectColumns(TypeElement type, boolean isRecord, List<Column> columnList, boolean rejectIgnore) throws MappingException {
+        if (!isRecord) {
+            var superType = type.getSuperclass();
+            if (superType.getKind() == TypeKind.DECLARED) {
+                var superElement = (TypeElement) ((DeclaredType) superType).asElement();
+                if (!superElement.getQualifiedName().contentEquals("java.lang.Object")) {
+                    collectColumns(superElement, false, columnList, false);
+                }
+            }
+        }
+
+        for (var field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            var modifiers = field.getModifiers();
+            if (modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.TRANSIENT)) {
+                continue;
+            }
+
+            String columnName = field.getSimpleName().toString();
+            var columnAnnotation = findAnnotation(field, COLUMN_ANNOTATION);
+            if (columnAnnotation != null) {
+                if ((Boolean) getAnnotationValue(columnAnnotation, "ignore")) {
+                    if (rejectIgnore) {
+                        throw new MappingException("ignore is not supported in record with result mapping", field);
+                    }
+                    continue;
+                }
+                String name = (String) getAnnotationValue(columnAnnotation, "name");
+                if (!name.isEmpty()) {
+                    columnName = name;
+                }
+            }
+
+            var type0 = TgMappingType.of(field.asType());
+            if (type0 == null) {
+                throw new MappingException("unsupported column type. type=" + field.asType(), field);
+            }
+            columnList.add(new Column(columnName, type0, field));
+        }
+    }
+
+    private void checkConstructor(TypeElement entity) throws MappingException {
+        if (entity.getModifiers().contains(Modifier.ABSTRACT)) {
+            throw new MappingException("@TgMappingEntity must not be abstract", entity);
+        }
+        for (var constructor : ElementFilter.constructorsIn(entity.getEnclosedElements())) {
+            if (constructor.getParameters().isEmpty() && !constructor.getModifiers().contains(Modifier.PRIVATE)) {
+                return;
+            }
+        }
+        throw new MappingException("@TgMappingEntity requires no-argument constructor", entity);
+    }
+
+    private String findSetter(TypeElement entity, Column column) throws MappingException {
+        var field = column.field;
+        String name = "set" + capitalize(field.getSimpleName().toString());
+        for (var method : ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(entity))) {
+            if (isAccessible(method) && method.getSimpleName().contentEquals(name) && method.getParameters().size() == 1
+                    && processingEnv.getTypeUtils().isSameType(method.getParameters().get(0).asType(), field.asType())) {
+                return name + "(%s)";
+            }
+        }
+        if (isAccessible(field) && !field.getModifiers().contains(Modifier.FINAL)) {
+            return field.getSimpleName() + " = %s";
+        }
+        throw new MappingException("setter not found. setter=" + name, field);
+    }
+
+    private String findGetter(TypeElement entity, boolean isRecord, Column column) throws MappingException {
+        var field = column.field;
+        String fieldName = field.getSimpleName().toString();
+        var nameList = new ArrayList<String>();
+        if (isRecord) {
+            nameList.add(fieldName);
+        } else {
+            nameList.add("get" + capitalize(fieldName));
+            if (field.asType().getKind() == TypeKind.BOOLEAN) {
+                nameList.add("is" + capitalize(fieldName));
+            }
+        }
+        for (var name : nameList) {
+            for (var method : ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(entity))) {
+                if (isAccessible(method) && method.getSimpleName().contentEquals(name) && method.getParameters().isEmpty()
+                        && processingEnv.getTypeUtils().isSameType(method.getReturnType(), field.asType())) {
+                    return name + "()";
+                }
+            }
+        }
+        if (!isRecord && isAccessible(field)) {
+            return fieldName;
+        }
+        throw new MappingException("getter not found. getter=" + nameList.get(0), field);
+    }
+
+    private static boolean isAccessible(Element element) {
+        return !element.getModifiers().contains(Modifier.PRIVATE) && !element.getModifiers().contains(Modifier.STATIC);
+    }
+
+    private static String capitalize(String s) {
+        return Character.toUpperCase(s.charAt(0)) + s.substring(1);
+    }
+
+    private static AnnotationMirror findAnnotation(Element element, String annotationName) {
+        for (var mirror : element.getAnnotationMirrors()) {
+            var type = (TypeElement) mirror.getAnnotationType().asElement();
+            if (type.getQualifiedName().contentEquals(annotationName)) {
+                return mirror;
+            }
+        }
+        return null;
+    }
+
+    private Object getAnnotationValue(AnnotationMirror mirror, String name) {
+        for (var entry : processingEnv.getElementUtils().getElementValuesWithDefaults(mirror).entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(name)) {
+                AnnotationValue value = entry.getValue();
+                return value.getValue();
+            }
+        }
+        throw new IllegalStateException("annotation value not found. name=" + name);
+    }
+
+    // generate
+
+    private static String getPackageName(TypeElement entity) {
+        Element e = entity;
+        while (!(e instanceof PackageElement)) {
+            e = e.getEnclosingElement();
+        }
+        return ((PackageElement) e).getQualifiedName().toString();
+    }
+
+    /**
+     * get generated class simple name.
+     *
+     * @param entity entity
+     * @param suffix suffix
+     * @return class name
+     */
+    static String getGeneratedSimpleName(TypeElement entity, String suffix) {
+        var sb = new StringBuilder();
+        for (Element e = entity; e instanceof TypeElement; e = e.getEnclosingElement()) {
+            if (sb.length() != 0) {
+                sb.insert(0, '_');
+            }
+            sb.insert(0, e.getSimpleName());
+        }
+        return sb.append(suffix).toString();
+    }
+
+    private Writer createSourceWriter(TypeElement entity, String packageName, String simpleName) throws IOException {
+        String name = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+        var file = processingEnv.getFiler().createSourceFile(name, entity);
+        return file.openWriter();
+    }
+
+    private void appendHeader(StringBuilder sb, TypeElement entity, String packageName, String kind) {
+        if (!packageName.isEmpty()) {
+            sb.append("package ").append(packageName).append(";\n\n");
+        }
+        sb.append("/**\n");
+        sb.append(" * ").append(kind).append(" for {@link ").append(entity.getQualifiedName()).append("}.\n");
+        sb.append(" */\n");
+        if (processingEnv.getElementUtils().getTypeElement(GENERATED_ANNOTATION) != null) {
+            sb.append("@").append(GENERATED_ANNOTATION).append("(\"").append(getClass().getName()).append("\")\n");
+        }
+    }
+
+    private void generateResultMapping(TypeElement entity, boolean isRecord, boolean byName, List<Column> columnList) throws IOException {
+        String packageName = getPackageName(entity);
+        String simpleName = getGeneratedSimpleName(entity, RESULT_MAPPING_SUFFIX);
+        String entityName = entity.getQualifiedName().toString();
+
+        var sb = new StringBuilder(1024);
+        appendHeader(sb, entity, packageName, "result mapping");
+        sb.append("public class ").append(simpleName).append(" extends com.tsurugidb.iceaxe.sql.result.TgResultMapping<").append(entityName).append("> {\n\n");
+
+        sb.append("    /**\n");
+        sb.append("     * Creates a new instance.\n");
+        sb.append("     */\n");
+        sb.append("    public ").append(simpleName).append("() {\n");
+        sb.append("        // do nothing\n");
+        sb.append("    }\n\n");
+
+        sb.append("    @Override\n");
+        sb.append("    protected ").append(entityName).append(" convert(com.tsurugidb.iceaxe.sql.result.TsurugiResultRecord record)\n");
+        sb.append("            throws java.io.IOException, java.lang.InterruptedException, com.tsurugidb.iceaxe.transaction.exception.TsurugiTransactionException {\n");
+        if (isRecord) {
+            int i = 0;
+            for (var column : columnList) {
+                sb.append("        var c").append(i++).append(" = ").append(fetchExpression(column, byName)).append(";\n");
+            }
+            sb.append("        return new ").append(entityName).append("(");
+            for (i = 0; i < columnList.size(); i++) {
+                if (i != 0) {
+                    sb.append(", ");
+                }
+                sb.append("c").append(i);
+            }
+            sb.append(");\n");
+        } else {
+            sb.append("        var entity = new ").append(entityName).append("();\n");
+            for (var column : columnList) {
+                sb.append("        entity.").append(String.format(column.setter, fetchExpression(column, byName))).append(";\n");
+            }
+            sb.append("        return entity;\n");
+        }
+        sb.append("    }\n");
+        sb.append("}\n");
+
+        try (var writer = createSourceWriter(entity, packageName, simpleName)) {
+            writer.write(sb.toString());
+        }
+    }
+
+    private static String fetchExpression(Column column, boolean byName) {
+        var sb = new StringBuilder(64);
+        sb.append("record.").append(byName ? "get" : "next").append(column.type.methodSuffix());
+        if (!column.primitive) {
+            sb.append("OrNull");
+        }
+        sb.append("(");
+        if (byName) {
+            sb.append(literal(column.columnName));
+        }
+        sb.append(")");
+        return sb.toString();
+    }
+
+    private void generateParameterMapping(TypeElement entity, List<Column> columnList) throws IOException {
+        String packageName = getPackageName(entity);
+        String simpleName = getGeneratedSimpleName(entity, PARAMETER_MAPPING_SUFFIX);
+        String entityName = entity.getQualifiedName().toString();
+
+        var sb = new StringBuilder(1024);
+        appendHeader(sb, entity, packageName, "parameter mapping");
+        sb.append("public class ").append(simpleName).append(" extends com.tsurugidb.iceaxe.sql.parameter.TgParameterMapping<").append(entityName).append("> {\n\n");
+
+        sb.append("    private static final java.util.List<com.tsurugidb.sql.proto.SqlRequest.Placeholder> LOW_PLACEHOLDER_LIST = java.util.List.of(");
+        boolean first = true;
+        for (var column : columnList) {
+            sb.append(first ? "\n" : ",\n");
+            first = false;
+            sb.append("            com.tsurugidb.tsubakuro.sql.Placeholders.of(").append(literal(column.columnName)).append(", com.tsurugidb.iceaxe.sql.TgDataType.")
+                    .append(column.type.dataTypeName()).append(".getLowDataType())");
+        }
+        sb.append(");\n\n");
+
+        sb.append("    /**\n");
+        sb.append("     * Creates a new instance.\n");
+        sb.append("     */\n");
+        sb.append("    public ").append(simpleName).append("() {\n");
+        sb.append("        // do nothing\n");
+        sb.append("    }\n\n");
+
+        sb.append("    @Override\n");
+        sb.append("    public java.util.List<com.tsurugidb.sql.proto.SqlRequest.Placeholder> toLowPlaceholderList() {\n");
+        sb.append("        return LOW_PLACEHOLDER_LIST;\n");
+        sb.append("    }\n\n");
+
+        sb.append("    @Override\n");
+        sb.append("    public java.util.List<com.tsurugidb.sql.proto.SqlRequest.Parameter> toLowParameterList(").append(entityName)
+                .append(" parameter, com.tsurugidb.iceaxe.sql.parameter.IceaxeLowParameterGenerateContext context) {\n");
+        sb.append("        var list = new java.util.ArrayList<com.tsurugidb.sql.proto.SqlRequest.Parameter>(").append(columnList.size()).append(");\n");
+        for (var column : columnList) {
+            sb.append("        list.add(com.tsurugidb.iceaxe.sql.parameter.IceaxeLowParameterUtil.create(").append(literal(column.columnName)).append(", parameter.")
+                    .append(column.getter).append("));\n");
+        }
+        sb.append("        return list;\n");
+        sb.append("    }\n");
+        sb.append("}\n");
+
+        try (var writer = createSourceWriter(entity, packageName, simpleName)) {
+            writer.write(sb.toString());
+        }
+    }
+
+    private static String literal(String s) {
+        var sb = new StringBuilder(s.length() + 2);
+        sb.append('"');
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            switch (c) {
+            case '"':
+            case '\\':
+                sb.append('\\').append(c);
+                break;
+            case '\n':
+                sb.append("\\n");
+                break;
+            case '\r':
+                sb.append("\\r");
+                break;
+            case '\t':
+                sb.append("\\t");
+                break;
+            default:
+                sb.append(c);
+                break;
+            }
+        }
+        sb.append('"');
+        return sb.toString();
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.iceaxe.processor;
+
+import java.util.Map;
+
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+
+/**
+ * Java type supported by generated mapping.
+ */
+enum TgMappingType {
+    /** boolean */
+    BOOLEAN("BOOLEAN", "Boolean"),
+    /** int */
+    INT("INT", "Int"),
+    /** long */
+    LONG("LONG", "Long"),
+    /** float */
+    FLOAT("FLOAT", "Float"),
+    /** double */
+    DOUBLE("DOUBLE", "Double"),
+    /** decimal */
+    DECIMAL("DECIMAL", "Decimal"),
+    /** String */
+    STRING("STRING", "String"),
+    /** byte[] */
+    BYTES("BYTES", "Bytes"),
+    /** boolean[] */
+    BITS("BITS", "Bits"),
+    /** date */
+    DATE("DATE", "Date"),
+    /** time */
+    TIME("TIME", "Time"),
+    /** dateTime */
+    DATE_TIME("DATE_TIME", "DateTime"),
+    /** offset time */
+    OFFSET_TIME("OFFSET_TIME", "OffsetTime"),
+    /** offset dateTime */
+    OFFSET_DATE_TIME("OFFSET_DATE_TIME", "OffsetDateTime"),
+    //
+    ;
+
+    private static final Map<String, TgMappingType> DECLARED_TYPE_MAP = Map.ofEntries( //
+            Map.entry("java.lang.Boolean", BOOLEAN), //
+            Map.entry("java.lang.Integer", INT), //
+            Map.entry("java.lang.Long", LONG), //
+            Map.entry("java.lang.Float", FLOAT), //
+            Map.entry("java.lang.Double", DOUBLE), //
+            Map.entry("java.math.BigDecimal", DECIMAL), //
+            Map.entry("java.lang.String", STRING), //
+            Map.entry("java.time.LocalDate", DATE), //
+            Map.entry("java.time.LocalTime", TIME), //
+            Map.entry("java.time.LocalDateTime", DATE_TIME), //
+            Map.entry("java.time.OffsetTime", OFFSET_TIME), //
+            Map.entry("java.time.OffsetDateTime", OFFSET_DATE_TIME));
+
+    private final String dataTypeName;
+    private final String methodSuffix;
+
+    TgMappingType(String dataTypeName, String methodSuffix) {
+        this.dataTypeName = dataTypeName;
+        this.methodSuffix = methodSuffix;
+    }
+
+    /**
+     * get TgDataType constant name.
+     *
+     * @return constant name
+     */
+    public String dataTypeName() {
+        return this.dataTypeName;
+    }
+
+    /**
+     * get suffix of record getter method (e.g. {@code Int} of {@code nextIntOrNull}).
+     *
+     * @return method suffix
+     */
+    public String methodSuffix() {
+        return this.methodSuffix;
+    }
+
+    /**
+     * get mapping type.
+     *
+     * @param type Java type
+     * @return mapping type ({@code null} if not supported)
+     */
+    public static TgMappingType of(TypeMirror type) {
+        switch (type.getKind()) {
+        case BOOLEAN:
+            return BOOLEAN;
+        case INT:
+            return INT;
+        case LONG:
+            return LONG;
+        case FLOAT:
+            return FLOAT;
+        case DOUBLE:
+            return DOUBLE;
+        case ARRAY:
+            var componentKind = ((ArrayType) type).getComponentType().getKind();
+            if (componentKind == TypeKind.BYTE) {
+                return BYTES;
+            }
+            if (componentKind == TypeKind.BOOLEAN) {
+                return BITS;
+            }
+            return null;
+        case DECLARED:
+            var element = (TypeElement) ((DeclaredType) type).asElement();
+            return DECLARED_TYPE_MAP.get(element.getQualifiedName().toString());
+        default:
+            return null;
+        }
+    }
+}
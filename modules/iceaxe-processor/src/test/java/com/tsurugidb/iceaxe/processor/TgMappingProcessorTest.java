@@ -0,0 +1,256 @@
+/*
+ * Copyright 2023-2026 Project Tsurugi.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tsurugidb.iceaxe.processor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.tsurugidb.iceaxe.sql.TgDataType;
+import com.tsurugidb.iceaxe.sql.parameter.IceaxeLowParameterGenerateContext;
+import com.tsurugidb.iceaxe.sql.parameter.IceaxeLowParameterUtil;
+import com.tsurugidb.iceaxe.sql.parameter.TgParameterMapping;
+import com.tsurugidb.iceaxe.sql.result.TgResultMapping;
+import com.tsurugidb.iceaxe.util.IceaxeCloseableSet;
+import com.tsurugidb.iceaxe.util.IceaxeConvertUtil;
+import com.tsurugidb.tsubakuro.sql.Placeholders;
+
+class TgMappingProcessorTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static class Source extends SimpleJavaFileObject {
+        private final String code;
+
+        Source(String className, String code) {
+            super(URI.create("string:///" + className.replace('.', '/') + Kind.SOURCE.extension), Kind.SOURCE);
+            this.code = code;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return code;
+        }
+    }
+
+    private Path getSourceDir() {
+        return tempDir.resolve("src");
+    }
+
+    private Path getClassesDir() {
+        return tempDir.resolve("classes");
+    }
+
+    // the generated sources are compiled together with the entity
+    private List<Diagnostic<? extends JavaFileObject>> compile(String className, String code) throws IOException {
+        var sourceDir = Files.createDirectories(getSourceDir());
+        var classesDir = Files.createDirectories(getClassesDir());
+
+        var compiler = ToolProvider.getSystemJavaCompiler();
+        var diagnostics = new DiagnosticCollector<JavaFileObject>();
+        try (var fileManager = compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8)) {
+            var options = List.of("-classpath", System.getProperty("java.class.path"), "-s", sourceDir.toString(), "-d", classesDir.toString());
+            var task = compiler.getTask(null, fileManager, diagnostics, options, null, List.of(new Source(className, code)));
+            task.setProcessors(List.of(new TgMappingProcessor()));
+            task.call();
+        }
+        return diagnostics.getDiagnostics().stream().filter(d -> d.getKind() == Diagnostic.Kind.ERROR).collect(Collectors.toList());
+    }
+
+    private String readGenerated(String path) throws IOException {
+        return Files.readString(getSourceDir().resolve(path), StandardCharsets.UTF_8);
+    }
+
+    private URLClassLoader createClassLoader() throws IOException {
+        var url = getClassesDir().toUri().toURL();
+        return new URLClassLoader(new URL[] { url }, getClass().getClassLoader());
+    }
+
+    private static Object newInstance(Class<?> clazz) throws ReflectiveOperationException {
+        var constructor = clazz.getDeclaredConstructor();
+        constructor.setAccessible(true);
+        return constructor.newInstance();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static TgParameterMapping<Object> newParameterMapping(ClassLoader loader, String className) throws ReflectiveOperationException {
+        return (TgParameterMapping<Object>) newInstance(loader.loadClass(className));
+    }
+
+    private static IceaxeLowParameterGenerateContext createContext() {
+        return new IceaxeLowParameterGenerateContext(null, IceaxeConvertUtil.INSTANCE, new IceaxeCloseableSet());
+    }
+
+    @Test
+    void entityClass() throws Exception {
+        var code = "package test;\n" //
+                + "import com.tsurugidb.iceaxe.sql.mapping.*;\n" //
+                + "@TgMappingEntity\n" //
+                + "public class TestEntity {\n" //
+                + "    private int foo;\n" //
+                + "    @TgMappingColumn(name = \"bar_name\") private String bar;\n" //
+                + "    @TgMappingColumn(ignore = true) private String ignore;\n" //
+                + "    private transient String work;\n" //
+                + "    java.time.LocalDate zzz;\n" //
+                + "    public int getFoo() { return foo; }\n" //
+                + "    public void setFoo(int foo) { this.foo = foo; }\n" //
+                + "    public String getBar() { return bar; }\n" //
+                + "    public void setBar(String bar) { this.bar = bar; }\n" //
+                + "}\n";
+        var errors = compile("test.TestEntity", code);
+        assertEquals(List.of(), errors);
+
+        var result = readGenerated("test/TestEntityTgResultMapping.java");
+        assertTrue(result.contains("entity.setFoo(record.nextInt());"), result);
+        assertTrue(result.contains("entity.setBar(record.nextStringOrNull());"), result);
+        assertTrue(result.contains("entity.zzz = record.nextDateOrNull();"), result);
+        assertFalse(result.contains("ignore"), result);
+        assertFalse(result.contains("work"), result);
+
+        try (var loader = createClassLoader()) {
+            var entityClass = loader.loadClass("test.TestEntity");
+            assertInstanceOf(TgResultMapping.class, newInstance(loader.loadClass("test.TestEntityTgResultMapping")));
+
+            var parameterMapping = newParameterMapping(loader, "test.TestEntityTgParameterMapping");
+            var expectedPlaceholder = List.of(Placeholders.of("foo", TgDataType.INT.getLowDataType()), //
+                    Placeholders.of("bar_name", TgDataType.STRING.getLowDataType()), //
+                    Placeholders.of("zzz", TgDataType.DATE.getLowDataType()));
+            assertEquals(expectedPlaceholder, parameterMapping.toLowPlaceholderList());
+
+            var entity = newInstance(entityClass);
+            entityClass.getMethod("setFoo", int.class).invoke(entity, 123);
+            entityClass.getMethod("setBar", String.class).invoke(entity, "abc");
+            var zzz = entityClass.getDeclaredField("zzz");
+            zzz.setAccessible(true);
+            zzz.set(entity, LocalDate.of(2026, 10, 19));
+
+            var expected = List.of(IceaxeLowParameterUtil.create("foo", 123), //
+                    IceaxeLowParameterUtil.create("bar_name", "abc"), //
+                    IceaxeLowParameterUtil.create("zzz", LocalDate.of(2026, 10, 19)));
+            assertEquals(expected, parameterMapping.toLowParameterList(entity, createContext()));
+        }
+    }
+
+    @Test
+    void entityNestedClassByName() throws Exception {
+        var code = "package test;\n" //
+                + "import com.tsurugidb.iceaxe.sql.mapping.*;\n" //
+                + "public class Outer {\n" //
+                + "    @TgMappingEntity(byName = true, parameterMapping = false)\n" //
+                + "    public static class Inner {\n" //
+                + "        public Long key;\n" //
+                + "        public byte[] value;\n" //
+                + "    }\n" //
+                + "}\n";
+        var errors = compile("test.Outer", code);
+        assertEquals(List.of(), errors);
+
+        var result = readGenerated("test/Outer_InnerTgResultMapping.java");
+        assertTrue(result.contains("extends com.tsurugidb.iceaxe.sql.result.TgResultMapping<test.Outer.Inner>"), result);
+        assertTrue(result.contains("entity.key = record.getLongOrNull(\"key\");"), result);
+        assertTrue(result.contains("entity.value = record.getBytesOrNull(\"value\");"), result);
+        assertFalse(Files.exists(getSourceDir().resolve("test/Outer_InnerTgParameterMapping.java")));
+
+        try (var loader = createClassLoader()) {
+            assertInstanceOf(TgResultMapping.class, newInstance(loader.loadClass("test.Outer_InnerTgResultMapping")));
+        }
+    }
+
+    @Test
+    void entityRecord() throws Exception {
+        assumeTrue(Runtime.version().feature() >= 16, "record is not supported");
+
+        var code = "package test;\n" //
+                + "import com.tsurugidb.iceaxe.sql.mapping.*;\n" //
+                + "@TgMappingEntity(byName = true)\n" //
+                + "public record TestRecord(int foo, @TgMappingColumn(name = \"bar_name\") String bar, boolean flag) {\n" //
+                + "}\n";
+        var errors = compile("test.TestRecord", code);
+        assertEquals(List.of(), errors);
+
+        var result = readGenerated("test/TestRecordTgResultMapping.java");
+        assertTrue(result.contains("var c0 = record.getInt(\"foo\");"), result);
+        assertTrue(result.contains("var c1 = record.getStringOrNull(\"bar_name\");"), result);
+        assertTrue(result.contains("var c2 = record.getBoolean(\"flag\");"), result);
+        assertTrue(result.contains("return new test.TestRecord(c0, c1, c2);"), result);
+
+        try (var loader = createClassLoader()) {
+            var recordClass = loader.loadClass("test.TestRecord");
+            assertInstanceOf(TgResultMapping.class, newInstance(loader.loadClass("test.TestRecordTgResultMapping")));
+
+            var parameterMapping = newParameterMapping(loader, "test.TestRecordTgParameterMapping");
+            var expectedPlaceholder = List.of(Placeholders.of("foo", TgDataType.INT.getLowDataType()), //
+                    Placeholders.of("bar_name", TgDataType.STRING.getLowDataType()), //
+                    Placeholders.of("flag", TgDataType.BOOLEAN.getLowDataType()));
+            assertEquals(expectedPlaceholder, parameterMapping.toLowPlaceholderList());
+
+            var entity = recordClass.getDeclaredConstructor(int.class, String.class, boolean.class).newInstance(123, "abc", true);
+            var expected = List.of(IceaxeLowParameterUtil.create("foo", 123), //
+                    IceaxeLowParameterUtil.create("bar_name", "abc"), //
+                    IceaxeLowParameterUtil.create("flag", true));
+            assertEquals(expected, parameterMapping.toLowParameterList(entity, createContext()));
+        }
+    }
+
+    @Test
+    void unsupportedType() throws Exception {
+        var code = "package test;\n" //
+                + "import com.tsurugidb.iceaxe.sql.mapping.*;\n" //
+                + "@TgMappingEntity\n" //
+                + "public class TestEntity {\n" //
+                + "    public java.util.List<String> list;\n" //
+                + "}\n";
+        var errors = compile("test.TestEntity", code);
+        assertEquals(1, errors.size());
+        assertTrue(errors.get(0).getMessage(null).contains("unsupported column type"));
+    }
+
+    @Test
+    void noSetter() throws Exception {
+        var code = "package test;\n" //
+                + "import com.tsurugidb.iceaxe.sql.mapping.*;\n" //
+                + "@TgMappingEntity(parameterMapping = false)\n" //
+                + "public class TestEntity {\n" //
+                + "    private int foo;\n" //
+                + "}\n";
+        var errors = compile("test.TestEntity", code);
+        assertEquals(1, errors.size());
+        assertTrue(errors.get(0).getMessage(null).contains("setter not found. setter=setFoo"));
+    }
+}